@@ -48,10 +48,17 @@ public final class Events {
 	public static final String EVENT_CLUSTER_DATABASE_CHANGE_STATUS = "mesh.cluster.db.status";
 
 	/**
-	 * Event which is send to update the permission stores.
+	 * Event which is send to update the permission stores. The payload may contain the ids of the affected users and elements. The whole store will be
+	 * cleared if no payload was provided.
 	 */
 	public static final String EVENT_CLEAR_PERMISSION_STORE = "mesh.clear-permission-store";
 
+	/**
+	 * Event which is send to update the path caches. The payload may contain the uuids of the affected nodes and branches. The whole cache will be cleared
+	 * if no payload was provided.
+	 */
+	public static final String EVENT_CLEAR_PATH_CACHE = "mesh.clear-path-cache";
+
 	/* User */
 
 	public static final String EVENT_USER_CREATED = "mesh.user.created";
@@ -176,6 +183,7 @@ public final class Events {
 
 		events.add(EVENT_CLUSTER_DATABASE_CHANGE_STATUS);
 		events.add(EVENT_CLEAR_PERMISSION_STORE);
+		events.add(EVENT_CLEAR_PATH_CACHE);
 
 		/* User */
 
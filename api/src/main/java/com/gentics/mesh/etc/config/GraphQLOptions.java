@@ -0,0 +1,116 @@
+package com.gentics.mesh.etc.config;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import com.gentics.mesh.doc.GenerateDocumentation;
+import com.gentics.mesh.etc.config.env.EnvironmentVariable;
+import com.gentics.mesh.etc.config.env.Option;
+
+/**
+ * GraphQL options are used to limit the resources which a single GraphQL query may use.
+ */
+@GenerateDocumentation
+public class GraphQLOptions implements Option {
+
+	public static final String MESH_GRAPHQL_MAX_QUERY_COST_ENV = "MESH_GRAPHQL_MAX_QUERY_COST";
+	public static final String MESH_GRAPHQL_MAX_QUERY_DEPTH_ENV = "MESH_GRAPHQL_MAX_QUERY_DEPTH";
+	public static final String MESH_GRAPHQL_EXECUTION_TIMEOUT_ENV = "MESH_GRAPHQL_EXECUTION_TIMEOUT";
+
+	public static final long DEFAULT_MAX_QUERY_COST = 0;
+	public static final int DEFAULT_MAX_QUERY_DEPTH = 0;
+	public static final long DEFAULT_EXECUTION_TIMEOUT = 0;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Maximum estimated cost of a query. Queries with a higher cost will be rejected before they are executed. The limit is disabled when set to 0. Default: "
+		+ DEFAULT_MAX_QUERY_COST)
+	@EnvironmentVariable(name = MESH_GRAPHQL_MAX_QUERY_COST_ENV, description = "Override the maximum GraphQL query cost.")
+	private long maxQueryCost = DEFAULT_MAX_QUERY_COST;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Maximum nesting depth of the fields of a query. Queries with a higher depth will be rejected before they are executed. The limit is disabled when set to 0. Default: "
+		+ DEFAULT_MAX_QUERY_DEPTH)
+	@EnvironmentVariable(name = MESH_GRAPHQL_MAX_QUERY_DEPTH_ENV, description = "Override the maximum GraphQL query depth.")
+	private int maxQueryDepth = DEFAULT_MAX_QUERY_DEPTH;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Time in milliseconds after which the execution of a query will be aborted. Fields which were not yet resolved will be returned as null. The limit is disabled when set to 0. Default: "
+		+ DEFAULT_EXECUTION_TIMEOUT)
+	@EnvironmentVariable(name = MESH_GRAPHQL_EXECUTION_TIMEOUT_ENV, description = "Override the GraphQL execution timeout.")
+	private long executionTimeout = DEFAULT_EXECUTION_TIMEOUT;
+
+	/**
+	 * Return the maximum estimated cost of a query.
+	 * 
+	 * @return
+	 */
+	public long getMaxQueryCost() {
+		return maxQueryCost;
+	}
+
+	/**
+	 * Set the maximum estimated cost of a query.
+	 * 
+	 * @param maxQueryCost
+	 *            Maximum cost or 0 to disable the limit
+	 * @return Fluent API
+	 */
+	public GraphQLOptions setMaxQueryCost(long maxQueryCost) {
+		this.maxQueryCost = maxQueryCost;
+		return this;
+	}
+
+	/**
+	 * Return the maximum nesting depth of a query.
+	 * 
+	 * @return
+	 */
+	public int getMaxQueryDepth() {
+		return maxQueryDepth;
+	}
+
+	/**
+	 * Set the maximum nesting depth of a query.
+	 * 
+	 * @param maxQueryDepth
+	 *            Maximum depth or 0 to disable the limit
+	 * @return Fluent API
+	 */
+	public GraphQLOptions setMaxQueryDepth(int maxQueryDepth) {
+		this.maxQueryDepth = maxQueryDepth;
+		return this;
+	}
+
+	/**
+	 * Return the execution timeout in milliseconds.
+	 * 
+	 * @return
+	 */
+	public long getExecutionTimeout() {
+		return executionTimeout;
+	}
+
+	/**
+	 * Set the execution timeout in milliseconds.
+	 * 
+	 * @param executionTimeout
+	 *            Timeout or 0 to disable the timeout
+	 * @return Fluent API
+	 */
+	public GraphQLOptions setExecutionTimeout(long executionTimeout) {
+		this.executionTimeout = executionTimeout;
+		return this;
+	}
+
+	@Override
+	public void validate(MeshOptions meshOptions) {
+		if (maxQueryCost < 0) {
+			throw new IllegalArgumentException("The GraphQL max query cost must not be negative.");
+		}
+		if (maxQueryDepth < 0) {
+			throw new IllegalArgumentException("The GraphQL max query depth must not be negative.");
+		}
+		if (executionTimeout < 0) {
+			throw new IllegalArgumentException("The GraphQL execution timeout must not be negative.");
+		}
+	}
+}
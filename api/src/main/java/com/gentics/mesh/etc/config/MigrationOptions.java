@@ -0,0 +1,80 @@
+package com.gentics.mesh.etc.config;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import com.gentics.mesh.doc.GenerateDocumentation;
+import com.gentics.mesh.etc.config.env.EnvironmentVariable;
+import com.gentics.mesh.etc.config.env.Option;
+
+/**
+ * Migration options are used to tune the node migrations which are executed after a schema update.
+ */
+@GenerateDocumentation
+public class MigrationOptions implements Option {
+
+	public static final String MESH_MIGRATION_BATCH_SIZE_ENV = "MESH_MIGRATION_BATCH_SIZE";
+	public static final String MESH_MIGRATION_WORKER_THREADS_ENV = "MESH_MIGRATION_WORKER_THREADS";
+
+	public static final int DEFAULT_BATCH_SIZE = 50;
+	public static final int DEFAULT_WORKER_THREADS = 1;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Amount of containers which will be migrated within a single transaction. Default: " + DEFAULT_BATCH_SIZE)
+	@EnvironmentVariable(name = MESH_MIGRATION_BATCH_SIZE_ENV, description = "Override the migration batch size.")
+	private int batchSize = DEFAULT_BATCH_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Amount of threads which will be used to migrate the containers of a node migration. Default: " + DEFAULT_WORKER_THREADS)
+	@EnvironmentVariable(name = MESH_MIGRATION_WORKER_THREADS_ENV, description = "Override the amount of migration worker threads.")
+	private int workerThreads = DEFAULT_WORKER_THREADS;
+
+	/**
+	 * Return the amount of containers which will be migrated within a single transaction.
+	 * 
+	 * @return
+	 */
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	/**
+	 * Set the amount of containers which will be migrated within a single transaction.
+	 * 
+	 * @param batchSize
+	 * @return Fluent API
+	 */
+	public MigrationOptions setBatchSize(int batchSize) {
+		this.batchSize = batchSize;
+		return this;
+	}
+
+	/**
+	 * Return the amount of migration worker threads.
+	 * 
+	 * @return
+	 */
+	public int getWorkerThreads() {
+		return workerThreads;
+	}
+
+	/**
+	 * Set the amount of migration worker threads.
+	 * 
+	 * @param workerThreads
+	 * @return Fluent API
+	 */
+	public MigrationOptions setWorkerThreads(int workerThreads) {
+		this.workerThreads = workerThreads;
+		return this;
+	}
+
+	@Override
+	public void validate(MeshOptions meshOptions) {
+		if (batchSize < 1) {
+			throw new IllegalArgumentException("The migration batch size must be at least 1.");
+		}
+		if (workerThreads < 1) {
+			throw new IllegalArgumentException("The amount of migration worker threads must be at least 1.");
+		}
+	}
+}
@@ -25,6 +25,14 @@ public class ElasticSearchOptions implements Option {
 
 	public static final String DEFAULT_PREFIX = "mesh-";
 
+	public static final long DEFAULT_ASYNC_INDEXING_FLUSH_INTERVAL = 500L;
+
+	public static final IndexRefreshMode DEFAULT_REFRESH_MODE = IndexRefreshMode.TOUCHED;
+
+	public static final int DEFAULT_SYNC_PARALLELISM = 4;
+
+	public static final int DEFAULT_HYDRATION_PARALLELISM = 1;
+
 	public static final String DEFAULT_ARGS = "-Xms1g -Xmx1g -XX:+UseConcMarkSweepGC -XX:CMSInitiatingOccupancyFraction=75 -XX:+UseCMSInitiatingOccupancyOnly -XX:+AlwaysPreTouch -client -Xss1m -Djava.awt.headless=true -Dfile.encoding=UTF-8 -Djna.nosys=true -XX:-OmitStackTraceInFastThrow -Dio.netty.noUnsafe=true -Dio.netty.noKeySetOptimization=true -Dio.netty.recycler.maxCapacityPerThread=0 -Dlog4j.shutdownHookEnabled=false -Dlog4j2.disable.jmx=true -XX:+HeapDumpOnOutOfMemoryError";
 
 	public static final String MESH_ELASTICSEARCH_URL_ENV = "MESH_ELASTICSEARCH_URL";
@@ -32,6 +40,10 @@ public class ElasticSearchOptions implements Option {
 	public static final String MESH_ELASTICSEARCH_STARTUP_TIMEOUT_ENV = "MESH_ELASTICSEARCH_STARTUP_TIMEOUT";
 	public static final String MESH_ELASTICSEARCH_START_EMBEDDED_ENV = "MESH_ELASTICSEARCH_START_EMBEDDED";
 	public static final String MESH_ELASTICSEARCH_PREFIX_ENV = "MESH_ELASTICSEARCH_PREFIX";
+	public static final String MESH_ELASTICSEARCH_ASYNC_INDEXING_ENV = "MESH_ELASTICSEARCH_ASYNC_INDEXING";
+	public static final String MESH_ELASTICSEARCH_ASYNC_INDEXING_FLUSH_INTERVAL_ENV = "MESH_ELASTICSEARCH_ASYNC_INDEXING_FLUSH_INTERVAL";
+	public static final String MESH_ELASTICSEARCH_SYNC_PARALLELISM_ENV = "MESH_ELASTICSEARCH_SYNC_PARALLELISM";
+	public static final String MESH_ELASTICSEARCH_HYDRATION_PARALLELISM_ENV = "MESH_ELASTICSEARCH_HYDRATION_PARALLELISM";
 
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("Elasticsearch connection url to be used. Set this setting to null will disable the Elasticsearch support.")
@@ -67,6 +79,32 @@ public class ElasticSearchOptions implements Option {
 	@EnvironmentVariable(name = MESH_ELASTICSEARCH_PREFIX_ENV, description = "Override the configured elasticsearch prefix.")
 	private String prefix = DEFAULT_PREFIX;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Flag which indicates whether search index updates of REST requests should be processed asynchronously. Updates will be queued, coalesced per document and flushed in bulks. Requests can still wait for the index update by setting the waitForIndex query parameter. Default: false")
+	@EnvironmentVariable(name = MESH_ELASTICSEARCH_ASYNC_INDEXING_ENV, description = "Override the async indexing flag.")
+	private boolean asyncIndexing = false;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Maximum time in milliseconds which queued search index updates wait before they are flushed when async indexing is enabled. Default: "
+		+ DEFAULT_ASYNC_INDEXING_FLUSH_INTERVAL + "ms")
+	@EnvironmentVariable(name = MESH_ELASTICSEARCH_ASYNC_INDEXING_FLUSH_INTERVAL_ENV, description = "Override the async indexing flush interval.")
+	private long asyncIndexingFlushInterval = DEFAULT_ASYNC_INDEXING_FLUSH_INTERVAL;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Refresh behaviour which is applied after search index updates have been processed. ALL will refresh all indices, TOUCHED will only refresh the modified indices and NONE will not refresh any index. Default: TOUCHED")
+	private IndexRefreshMode refreshMode = DEFAULT_REFRESH_MODE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Maximum amount of indices which will be synchronized concurrently by the index sync. Default: " + DEFAULT_SYNC_PARALLELISM)
+	@EnvironmentVariable(name = MESH_ELASTICSEARCH_SYNC_PARALLELISM_ENV, description = "Override the index sync parallelism.")
+	private int syncParallelism = DEFAULT_SYNC_PARALLELISM;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Amount of worker threads which are used to load and transform the elements of a search result page. The page will be transformed within a single transaction when set to 1. Default: "
+		+ DEFAULT_HYDRATION_PARALLELISM)
+	@EnvironmentVariable(name = MESH_ELASTICSEARCH_HYDRATION_PARALLELISM_ENV, description = "Override the search result hydration parallelism.")
+	private int hydrationParallelism = DEFAULT_HYDRATION_PARALLELISM;
+
 	public ElasticSearchOptions() {
 
 	}
@@ -160,4 +198,106 @@ public class ElasticSearchOptions implements Option {
 		return this;
 	}
 
+	/**
+	 * Flag which indicates whether search index updates of requests should be queued and processed asynchronously. The flag applies to the updates of the
+	 * REST request handlers. Updates which create or drop indices and the updates of migrations, jobs, the index sync and the intermediate batches of bulk
+	 * deletions are always processed directly. The queue is flushed before these are processed so that the updates are applied in order.
+	 * 
+	 * @return
+	 */
+	public boolean isAsyncIndexing() {
+		return asyncIndexing;
+	}
+
+	/**
+	 * Set the async indexing flag.
+	 * 
+	 * @param asyncIndexing
+	 * @return Fluent API
+	 */
+	public ElasticSearchOptions setAsyncIndexing(boolean asyncIndexing) {
+		this.asyncIndexing = asyncIndexing;
+		return this;
+	}
+
+	/**
+	 * Return the maximum time in milliseconds which queued index updates wait before they get flushed.
+	 * 
+	 * @return
+	 */
+	public long getAsyncIndexingFlushInterval() {
+		return asyncIndexingFlushInterval;
+	}
+
+	/**
+	 * Set the flush interval for queued index updates.
+	 * 
+	 * @param asyncIndexingFlushInterval
+	 * @return Fluent API
+	 */
+	public ElasticSearchOptions setAsyncIndexingFlushInterval(long asyncIndexingFlushInterval) {
+		this.asyncIndexingFlushInterval = asyncIndexingFlushInterval;
+		return this;
+	}
+
+	/**
+	 * Return the refresh behaviour which is applied once search index updates have been processed.
+	 * 
+	 * @return
+	 */
+	public IndexRefreshMode getRefreshMode() {
+		return refreshMode;
+	}
+
+	/**
+	 * Set the refresh behaviour.
+	 * 
+	 * @param refreshMode
+	 * @return Fluent API
+	 */
+	public ElasticSearchOptions setRefreshMode(IndexRefreshMode refreshMode) {
+		this.refreshMode = refreshMode;
+		return this;
+	}
+
+	/**
+	 * Return the maximum amount of indices which are synchronized concurrently.
+	 * 
+	 * @return
+	 */
+	public int getSyncParallelism() {
+		return syncParallelism;
+	}
+
+	/**
+	 * Set the maximum amount of indices which are synchronized concurrently.
+	 * 
+	 * @param syncParallelism
+	 * @return Fluent API
+	 */
+	public ElasticSearchOptions setSyncParallelism(int syncParallelism) {
+		this.syncParallelism = syncParallelism;
+		return this;
+	}
+
+	/**
+	 * Return the amount of worker threads which are used to transform the elements of a search result page.
+	 * 
+	 * @return
+	 */
+	public int getHydrationParallelism() {
+		return hydrationParallelism;
+	}
+
+	/**
+	 * Set the amount of worker threads which are used to transform the elements of a search result page.
+	 * 
+	 * @param hydrationParallelism
+	 * @return Fluent API
+	 */
+	public ElasticSearchOptions setHydrationParallelism(int hydrationParallelism) {
+		this.hydrationParallelism = hydrationParallelism;
+		return this;
+	}
+
 }
@@ -0,0 +1,23 @@
+package com.gentics.mesh.etc.config.search;
+
+/**
+ * Refresh behaviour which is applied once the entries of a search queue batch have been processed.
+ */
+public enum IndexRefreshMode {
+
+	/**
+	 * Refresh all indices of the installation.
+	 */
+	ALL,
+
+	/**
+	 * Only refresh the indices which contain documents that were modified by the batch.
+	 */
+	TOUCHED,
+
+	/**
+	 * Don't refresh any index. Changes will become visible once Elasticsearch refreshes the index by itself.
+	 */
+	NONE;
+
+}
@@ -0,0 +1,44 @@
+package com.gentics.mesh.changelog.changes;
+
+import static com.tinkerpop.blueprints.Direction.IN;
+
+import com.gentics.mesh.changelog.AbstractChange;
+import com.tinkerpop.blueprints.Edge;
+
+public class AddFieldKeyToListEdges extends AbstractChange {
+
+	private static final String FIELD_KEY = "fieldkey";
+
+	@Override
+	public String getName() {
+		return "Add field key to list edges";
+	}
+
+	@Override
+	public String getDescription() {
+		return "Copies the field key of each list into the edges which connect the list with its containers";
+	}
+
+	@Override
+	public void applyInTx() {
+		long count = 0;
+		for (Edge edge : getGraph().getEdges("@class", "HAS_LIST")) {
+			String fieldKey = edge.getVertex(IN).getProperty(FIELD_KEY);
+			if (fieldKey != null) {
+				edge.setProperty(FIELD_KEY, fieldKey);
+			}
+			count++;
+			if (count % 1000 == 0) {
+				log.info("Updated {" + count + "} list edges");
+				getGraph().commit();
+			}
+		}
+		log.info("Updated {" + count + "} list edges");
+	}
+
+	@Override
+	public String getUuid() {
+		return "E7C1A58D3B2F4C0E81A58D3B2F7C0E53";
+	}
+
+}
@@ -0,0 +1,55 @@
+package com.gentics.mesh.changelog.changes;
+
+import static com.tinkerpop.blueprints.Direction.IN;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import com.gentics.mesh.changelog.AbstractChange;
+import com.tinkerpop.blueprints.Edge;
+import com.tinkerpop.blueprints.Vertex;
+
+public class AddNodeChildCounters extends AbstractChange {
+
+	@Override
+	public String getName() {
+		return "Add node child counters";
+	}
+
+	@Override
+	public String getDescription() {
+		return "Stores the amount of children per branch in each node";
+	}
+
+	@Override
+	public void applyInTx() {
+		long count = 0;
+		Iterable<Vertex> it = getGraph().getVertices("@class", "NodeImpl");
+		for (Vertex node : it) {
+			updateCounters(node);
+			count++;
+			if (count % 1000 == 0) {
+				log.info("Updated child counters of {" + count + "} nodes");
+				getGraph().commit();
+			}
+		}
+	}
+
+	private void updateCounters(Vertex node) {
+		Map<String, Long> counts = new HashMap<>();
+		for (Edge childEdge : node.getEdges(IN, "HAS_PARENT_NODE")) {
+			String branchUuid = childEdge.getProperty("branchUuid");
+			counts.merge(branchUuid, 1L, Long::sum);
+		}
+		for (Entry<String, Long> entry : counts.entrySet()) {
+			node.setProperty("childCount_" + entry.getKey(), entry.getValue());
+		}
+	}
+
+	@Override
+	public String getUuid() {
+		return "6A3F0E9B2C7D4E51BF0E9B2C7D5E51A4";
+	}
+
+}
@@ -35,7 +35,10 @@ public final class ChangesList {
 			new BinaryStorageMigration(),
 			new ChangeNumberStringsToNumber(),
 			new RenameReleasesToBranches(),
-			new NodeContentLanguageMigration()
+			new NodeContentLanguageMigration(),
+			new AddNodeChildCounters(),
+			new PackBasicListItems(),
+			new AddFieldKeyToListEdges()
 			// ADD NEW CHANGES HERE!
 		);
 	}
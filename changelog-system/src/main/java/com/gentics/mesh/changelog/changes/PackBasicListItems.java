@@ -0,0 +1,86 @@
+package com.gentics.mesh.changelog.changes;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+
+import com.gentics.mesh.changelog.AbstractChange;
+import com.tinkerpop.blueprints.Vertex;
+
+public class PackBasicListItems extends AbstractChange {
+
+	private static final String ITEM_PREFIX = "item-";
+
+	private static final String ITEMS_PROPERTY_KEY = "items";
+
+	private static final String[] LIST_CLASSES = { "StringGraphFieldListImpl", "NumberGraphFieldListImpl", "DateGraphFieldListImpl",
+		"BooleanGraphFieldListImpl", "HtmlGraphFieldListImpl" };
+
+	@Override
+	public String getName() {
+		return "Pack basic list items";
+	}
+
+	@Override
+	public String getDescription() {
+		return "Moves the items of string, number, date, boolean and html lists into a single embedded list property";
+	}
+
+	@Override
+	public void applyInTx() {
+		for (String listClass : LIST_CLASSES) {
+			long count = 0;
+			for (Vertex list : getGraph().getVertices("@class", listClass)) {
+				packItems(list);
+				count++;
+				if (count % 1000 == 0) {
+					log.info("Migrated {" + count + "} lists of type {" + listClass + "}");
+					getGraph().commit();
+				}
+			}
+			log.info("Migrated {" + count + "} lists of type {" + listClass + "}");
+			getGraph().commit();
+		}
+	}
+
+	private void packItems(Vertex list) {
+		TreeMap<Integer, Object> values = new TreeMap<>();
+		List<String> oldKeys = new ArrayList<>();
+		for (String key : list.getPropertyKeys()) {
+			if (!key.startsWith(ITEM_PREFIX)) {
+				continue;
+			}
+			oldKeys.add(key);
+			int end = key.lastIndexOf("-");
+			if (end <= ITEM_PREFIX.length() || key.endsWith("-field")) {
+				continue;
+			}
+			try {
+				int index = Integer.parseInt(key.substring(ITEM_PREFIX.length(), end));
+				Object value = list.getProperty(key);
+				if (value != null) {
+					values.put(index, value);
+				}
+			} catch (NumberFormatException e) {
+				log.warn("Skipping list property {" + key + "} of vertex {" + list.getId() + "}");
+			}
+		}
+		for (String key : oldKeys) {
+			list.removeProperty(key);
+		}
+		if (!values.isEmpty()) {
+			List<Object> items = new ArrayList<>(values.size());
+			for (Entry<Integer, Object> entry : values.entrySet()) {
+				items.add(entry.getValue());
+			}
+			list.setProperty(ITEMS_PROPERTY_KEY, items);
+		}
+	}
+
+	@Override
+	public String getUuid() {
+		return "B41D7E2A90C34F6A9D7E2A90C3DF6A17";
+	}
+
+}
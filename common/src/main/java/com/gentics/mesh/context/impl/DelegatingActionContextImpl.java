@@ -0,0 +1,169 @@
+package com.gentics.mesh.context.impl;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import com.gentics.mesh.context.AbstractInternalActionContext;
+import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.data.Branch;
+import com.gentics.mesh.core.data.MeshAuthUser;
+import com.gentics.mesh.core.data.Project;
+
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.MultiMap;
+import io.vertx.ext.web.Cookie;
+import io.vertx.ext.web.FileUpload;
+
+/**
+ * Action context which delegates to another context but uses a separate data map. The data map of an action context is used to cache request specific
+ * information and is not safe for concurrent modifications. A dedicated delegating context can be used for each thread when parts of a request are
+ * processed concurrently.
+ */
+public class DelegatingActionContextImpl extends AbstractInternalActionContext {
+
+	private final InternalActionContext delegate;
+
+	private final MeshAuthUser user;
+
+	private final Project project;
+
+	private final Locale locale;
+
+	private final Map<String, Object> data;
+
+	/**
+	 * Create a new context for the given context. This needs to be invoked by the thread which handles the given context since the data of the context will be
+	 * copied.
+	 *
+	 * @param delegate
+	 */
+	public DelegatingActionContextImpl(InternalActionContext delegate) {
+		this.delegate = delegate;
+		// Resolve the lazily loaded values upfront so that the delegate is not modified concurrently
+		this.user = delegate.getUser();
+		this.project = delegate.getProject();
+		this.locale = delegate.getLocale();
+		Map<String, Object> delegateData = delegate.data();
+		synchronized (delegateData) {
+			this.data = new HashMap<>(delegateData);
+		}
+	}
+
+	@Override
+	public Map<String, Object> data() {
+		return data;
+	}
+
+	@Override
+	public MeshAuthUser getUser() {
+		return user;
+	}
+
+	@Override
+	public void setUser(MeshAuthUser user) {
+		throw new UnsupportedOperationException("The user of a delegating action context can't be changed");
+	}
+
+	@Override
+	public Project getProject() {
+		return project;
+	}
+
+	@Override
+	public Branch getBranch(Project project) {
+		return delegate.getBranch(project);
+	}
+
+	@Override
+	public String getParameter(String name) {
+		return delegate.getParameter(name);
+	}
+
+	@Override
+	public MultiMap getParameters() {
+		return delegate.getParameters();
+	}
+
+	@Override
+	public void setParameter(String name, String value) {
+		throw new UnsupportedOperationException("The parameters of a delegating action context can't be changed");
+	}
+
+	@Override
+	public void send(String body, HttpResponseStatus status, String contentType) {
+		delegate.send(body, status, contentType);
+	}
+
+	@Override
+	public void send(HttpResponseStatus status) {
+		delegate.send(status);
+	}
+
+	@Override
+	public String query() {
+		return delegate.query();
+	}
+
+	@Override
+	public void fail(Throwable cause) {
+		delegate.fail(cause);
+	}
+
+	@Override
+	public String getBodyAsString() {
+		return delegate.getBodyAsString();
+	}
+
+	@Override
+	public Locale getLocale() {
+		return locale;
+	}
+
+	@Override
+	public void logout() {
+		delegate.logout();
+	}
+
+	@Override
+	public Set<FileUpload> getFileUploads() {
+		return delegate.getFileUploads();
+	}
+
+	@Override
+	public MultiMap requestHeaders() {
+		return delegate.requestHeaders();
+	}
+
+	@Override
+	public void addCookie(Cookie cookie) {
+		delegate.addCookie(cookie);
+	}
+
+	@Override
+	public void setEtag(String entityTag, boolean isWeak) {
+		delegate.setEtag(entityTag, isWeak);
+	}
+
+	@Override
+	public void setLocation(String basePath) {
+		delegate.setLocation(basePath);
+	}
+
+	@Override
+	public boolean matches(String entityTag, boolean isWeak) {
+		return delegate.matches(entityTag, isWeak);
+	}
+
+	@Override
+	public boolean isMigrationContext() {
+		return delegate.isMigrationContext();
+	}
+
+	@Override
+	public void setWebrootResponseType(String type) {
+		delegate.setWebrootResponseType(type);
+	}
+
+}
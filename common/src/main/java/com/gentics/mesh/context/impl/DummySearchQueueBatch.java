@@ -4,6 +4,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
+import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.ContainerType;
 import com.gentics.mesh.core.data.IndexableElement;
 import com.gentics.mesh.core.data.NodeGraphFieldContainer;
@@ -100,6 +101,16 @@ public class DummySearchQueueBatch implements SearchQueueBatch {
 
 	}
 
+	@Override
+	public Completable processAsync(InternalActionContext ac) {
+		return processAsync();
+	}
+
+	@Override
+	public void processSync(InternalActionContext ac) {
+
+	}
+
 	@Override
 	public void printDebug() {
 
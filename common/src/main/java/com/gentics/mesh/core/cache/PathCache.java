@@ -0,0 +1,283 @@
+package com.gentics.mesh.core.cache;
+
+import static com.gentics.mesh.Events.EVENT_CLEAR_PATH_CACHE;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.RatioGauge;
+import com.codahale.metrics.SharedMetricRegistries;
+import com.gentics.mesh.Mesh;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Central LRU cache for the resolved webroot paths of nodes. The cache is shared across requests and is used to avoid walking up the parent chain whenever
+ * a path is rendered (e.g. for each resolved mesh link).
+ * 
+ * Each cached path records the uuids of the nodes along its ancestor chain. A path is invalidated once the segment, the parent or the publish state of one
+ * of those nodes changes or once the path prefix of its branch changes. Invalidations are distributed via the
+ * {@link com.gentics.mesh.Events#EVENT_CLEAR_PATH_CACHE} event which contains the affected uuids in the payload. An event without payload will clear the
+ * whole cache.
+ * 
+ * Paths are only stored when no invalidation happened while they were resolved. This way paths which were resolved from outdated information will not be
+ * cached.
+ */
+public final class PathCache {
+
+	private static final Logger log = LoggerFactory.getLogger(PathCache.class);
+
+	/**
+	 * Key of the event payload which lists the uuids of the nodes for which the cached paths should be removed.
+	 */
+	public static final String NODE_UUIDS_KEY = "nodeUuids";
+
+	/**
+	 * Key of the event payload which lists the uuids of the branches for which the cached paths should be removed.
+	 */
+	public static final String BRANCH_UUIDS_KEY = "branchUuids";
+
+	private static final Cache<PathCacheKey, CachedPath> PATH_CACHE = Caffeine.newBuilder().maximumSize(50_000).expireAfterWrite(30, TimeUnit.MINUTES)
+		.build();
+
+	/**
+	 * Generation counter which is incremented with each invalidation.
+	 */
+	private static final AtomicLong GENERATION = new AtomicLong();
+
+	private static final MetricRegistry metricRegistry = SharedMetricRegistries.getOrCreate("mesh");
+
+	private static final Counter hitCounter = metricRegistry.counter("cache.path.hit");
+
+	private static final Counter missCounter = metricRegistry.counter("cache.path.miss");
+
+	static {
+		metricRegistry.register("cache.path.hitRatio", new RatioGauge() {
+			@Override
+			protected Ratio getRatio() {
+				return Ratio.of(hitCounter.getCount(), hitCounter.getCount() + missCounter.getCount());
+			}
+		});
+	}
+
+	private PathCache() {
+	}
+
+	/**
+	 * Cached path and the uuids of the nodes on which it depends.
+	 */
+	private static final class CachedPath {
+
+		private final String path;
+
+		private final Set<String> nodeUuids;
+
+		CachedPath(String path, Set<String> nodeUuids) {
+			this.path = path;
+			this.nodeUuids = nodeUuids;
+		}
+	}
+
+	/**
+	 * Return the cached path.
+	 * 
+	 * @param key
+	 * @return Cached path or null if the path is not cached
+	 */
+	public static String get(PathCacheKey key) {
+		CachedPath cached = PATH_CACHE.getIfPresent(key);
+		if (cached == null) {
+			missCounter.inc();
+			return null;
+		}
+		hitCounter.inc();
+		return cached.path;
+	}
+
+	/**
+	 * Return the current generation of the cache. The generation must be loaded before the path is resolved and passed to
+	 * {@link #store(PathCacheKey, String, Set, long)} afterwards.
+	 * 
+	 * @return
+	 */
+	public static long getGeneration() {
+		return GENERATION.get();
+	}
+
+	/**
+	 * Store the resolved path in the cache. The path will not be stored if the cache was invalidated since the given generation was loaded.
+	 * 
+	 * @param key
+	 * @param path
+	 *            Resolved path
+	 * @param nodeUuids
+	 *            Uuids of the node and all its ancestors which were used to resolve the path
+	 * @param generation
+	 *            Generation which was loaded via {@link #getGeneration()} before the path was resolved
+	 */
+	public static void store(PathCacheKey key, String path, Set<String> nodeUuids, long generation) {
+		if (generation != GENERATION.get()) {
+			return;
+		}
+		PATH_CACHE.put(key, new CachedPath(path, nodeUuids));
+		// Remove the entry again if an invalidation happened in the meantime
+		if (generation != GENERATION.get()) {
+			PATH_CACHE.invalidate(key);
+		}
+	}
+
+	/**
+	 * Remove all cached paths which depend on one of the given nodes and optionally notify other instances in the cluster.
+	 * 
+	 * @param nodeUuids
+	 * @param notify
+	 */
+	public static void invalidateNodes(Collection<String> nodeUuids, boolean notify) {
+		invalidate(nodeUuids, Collections.emptyList(), notify);
+	}
+
+	/**
+	 * Remove all cached paths which depend on one of the given nodes and notify other instances in the cluster. This is needed whenever the segment, the
+	 * parent or the publish state of a node changes.
+	 * 
+	 * @param nodeUuids
+	 */
+	public static void invalidateNodes(Collection<String> nodeUuids) {
+		invalidateNodes(nodeUuids, true);
+	}
+
+	/**
+	 * Remove all cached paths of the given branches and optionally notify other instances in the cluster.
+	 * 
+	 * @param branchUuids
+	 * @param notify
+	 */
+	public static void invalidateBranches(Collection<String> branchUuids, boolean notify) {
+		invalidate(Collections.emptyList(), branchUuids, notify);
+	}
+
+	/**
+	 * Remove all cached paths of the given branches and notify other instances in the cluster. This is needed whenever the path prefix of a branch changes.
+	 * 
+	 * @param branchUuids
+	 */
+	public static void invalidateBranches(Collection<String> branchUuids) {
+		invalidateBranches(branchUuids, true);
+	}
+
+	/**
+	 * Clear the cache and optionally notify other instances in the cluster.
+	 * 
+	 * @param notify
+	 */
+	public static void invalidate(boolean notify) {
+		invalidateAllLocally();
+		if (notify) {
+			publish(null);
+		}
+	}
+
+	private static void invalidate(Collection<String> nodeUuids, Collection<String> branchUuids, boolean notify) {
+		if (nodeUuids.isEmpty() && branchUuids.isEmpty()) {
+			return;
+		}
+		Set<String> nodes = nodeUuids.stream().collect(Collectors.toSet());
+		Set<String> branches = branchUuids.stream().collect(Collectors.toSet());
+		invalidateLocally(nodes, branches);
+		if (notify) {
+			publish(new JsonObject()
+				.put(NODE_UUIDS_KEY, new JsonArray(nodes.stream().collect(Collectors.toList())))
+				.put(BRANCH_UUIDS_KEY, new JsonArray(branches.stream().collect(Collectors.toList()))));
+		}
+	}
+
+	/**
+	 * Register the event handler which can be used to invalidate the cache.
+	 */
+	public static void registerEventHandler() {
+		Mesh.vertx().eventBus().<JsonObject>consumer(EVENT_CLEAR_PATH_CACHE, e -> {
+			if (log.isDebugEnabled()) {
+				log.debug("Invalidating path cache due to received event from {" + e.address() + "}");
+			}
+			handleInvalidationEvent(e.body());
+		});
+	}
+
+	/**
+	 * Invalidate the local cache using the payload of a received invalidation event. The whole cache will be cleared if the payload contains no uuids.
+	 * 
+	 * @param payload
+	 *            Event payload which may be null
+	 */
+	public static void handleInvalidationEvent(JsonObject payload) {
+		if (payload == null) {
+			invalidateAllLocally();
+			return;
+		}
+		Set<String> nodeUuids = toUuidSet(payload.getJsonArray(NODE_UUIDS_KEY));
+		Set<String> branchUuids = toUuidSet(payload.getJsonArray(BRANCH_UUIDS_KEY));
+		if (nodeUuids.isEmpty() && branchUuids.isEmpty()) {
+			invalidateAllLocally();
+			return;
+		}
+		invalidateLocally(nodeUuids, branchUuids);
+	}
+
+	private static void invalidateLocally(Set<String> nodeUuids, Set<String> branchUuids) {
+		GENERATION.incrementAndGet();
+		PATH_CACHE.asMap().entrySet().removeIf(entry -> branchUuids.contains(entry.getKey().getBranchUuid())
+			|| !Collections.disjoint(nodeUuids, entry.getValue().nodeUuids));
+	}
+
+	private static void invalidateAllLocally() {
+		GENERATION.incrementAndGet();
+		PATH_CACHE.invalidateAll();
+	}
+
+	private static void publish(JsonObject payload) {
+		Vertx vertx = Mesh.vertx();
+		if (vertx != null) {
+			vertx.eventBus().publish(EVENT_CLEAR_PATH_CACHE, payload);
+		} else {
+			log.error("Can't distribute path cache clear event. Maybe Vert.x is stopping / starting right now");
+		}
+	}
+
+	private static Set<String> toUuidSet(JsonArray uuids) {
+		if (uuids == null) {
+			return Collections.emptySet();
+		}
+		return uuids.stream().map(String::valueOf).collect(Collectors.toSet());
+	}
+
+	/**
+	 * Return the amount of cache hits.
+	 * 
+	 * @return
+	 */
+	public static long getHitCount() {
+		return hitCounter.getCount();
+	}
+
+	/**
+	 * Return the amount of cache misses.
+	 * 
+	 * @return
+	 */
+	public static long getMissCount() {
+		return missCounter.getCount();
+	}
+
+}
@@ -0,0 +1,77 @@
+package com.gentics.mesh.core.cache;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Composite key of the {@link PathCache} which references the node, the branch, the container type and the language fallback chain that was used to resolve
+ * the path.
+ */
+public final class PathCacheKey {
+
+	private final String nodeUuid;
+
+	private final String branchUuid;
+
+	private final String typeCode;
+
+	private final String[] languageTags;
+
+	private final int hash;
+
+	/**
+	 * Create a new key.
+	 * 
+	 * @param nodeUuid
+	 *            Uuid of the node
+	 * @param branchUuid
+	 *            Uuid of the branch
+	 * @param typeCode
+	 *            Code of the container type
+	 * @param languageTags
+	 *            Language fallback chain in the order in which it is applied
+	 */
+	public PathCacheKey(String nodeUuid, String branchUuid, String typeCode, String... languageTags) {
+		this.nodeUuid = nodeUuid;
+		this.branchUuid = branchUuid;
+		this.typeCode = typeCode;
+		this.languageTags = languageTags.clone();
+		this.hash = Objects.hash(nodeUuid, branchUuid, typeCode, Arrays.hashCode(this.languageTags));
+	}
+
+	public String getNodeUuid() {
+		return nodeUuid;
+	}
+
+	public String getBranchUuid() {
+		return branchUuid;
+	}
+
+	public String getTypeCode() {
+		return typeCode;
+	}
+
+	@Override
+	public int hashCode() {
+		return hash;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof PathCacheKey)) {
+			return false;
+		}
+		PathCacheKey other = (PathCacheKey) obj;
+		return hash == other.hash && Objects.equals(nodeUuid, other.nodeUuid) && Objects.equals(branchUuid, other.branchUuid)
+			&& Objects.equals(typeCode, other.typeCode) && Arrays.equals(languageTags, other.languageTags);
+	}
+
+	@Override
+	public String toString() {
+		return nodeUuid + "-" + branchUuid + "-" + typeCode + "-" + Arrays.toString(languageTags);
+	}
+
+}
@@ -0,0 +1,92 @@
+package com.gentics.mesh.core.cache;
+
+import java.util.Objects;
+
+import com.gentics.mesh.core.data.relationship.GraphPermission;
+
+/**
+ * Composite key of the {@link PermissionStore} which references the user id, the element id and the permission ordinal. The hash is computed once when the
+ * key is set so that lookups don't need to compute it again or create intermediate strings.
+ * 
+ * Instances which are used for lookups are reused per thread and thus must never be stored in the cache.
+ */
+public final class PermissionCacheKey {
+
+	private Object userId;
+
+	private Object elementId;
+
+	private int permission;
+
+	private int hash;
+
+	PermissionCacheKey() {
+	}
+
+	/**
+	 * Create a new immutable key.
+	 * 
+	 * @param userId
+	 *            Vertex id of the user
+	 * @param permission
+	 *            Permission of the key
+	 * @param elementId
+	 *            Vertex id of the element
+	 */
+	public PermissionCacheKey(Object userId, GraphPermission permission, Object elementId) {
+		set(userId, permission, elementId);
+	}
+
+	/**
+	 * Update the referenced values of the key. This must only be used for keys which are used for lookups.
+	 * 
+	 * @param userId
+	 * @param permission
+	 * @param elementId
+	 * @return Fluent API
+	 */
+	PermissionCacheKey set(Object userId, GraphPermission permission, Object elementId) {
+		this.userId = userId;
+		this.elementId = elementId;
+		this.permission = permission.ordinal();
+		int h = 31 * userId.hashCode() + elementId.hashCode();
+		this.hash = 31 * h + this.permission;
+		return this;
+	}
+
+	public Object getUserId() {
+		return userId;
+	}
+
+	public Object getElementId() {
+		return elementId;
+	}
+
+	public int getPermissionOrdinal() {
+		return permission;
+	}
+
+	@Override
+	public int hashCode() {
+		return hash;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof PermissionCacheKey)) {
+			return false;
+		}
+		PermissionCacheKey other = (PermissionCacheKey) obj;
+		return hash == other.hash && permission == other.permission && Objects.equals(userId, other.userId)
+			&& Objects.equals(elementId, other.elementId);
+	}
+
+	@Override
+	public String toString() {
+		return userId + "-" + permission + "-" + elementId;
+	}
+
+}
@@ -2,7 +2,14 @@ package com.gentics.mesh.core.cache;
 
 import static com.gentics.mesh.Events.EVENT_CLEAR_PERMISSION_STORE;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import com.gentics.mesh.Mesh;
 import com.gentics.mesh.core.data.relationship.GraphPermission;
@@ -10,17 +17,64 @@ import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 
 import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 
 /**
  * Central LRU permission cache which is used to quickly lookup cached permissions.
+ * 
+ * The cache can either be cleared completely or in a targeted way by user ids or element ids. Targeted invalidations are distributed via the
+ * {@link com.gentics.mesh.Events#EVENT_CLEAR_PERMISSION_STORE} event which contains the affected ids in the payload. An event without payload will clear
+ * the whole cache.
+ * 
+ * Denied permissions are cached separately and are guarded by a generation counter which is incremented whenever a permission is granted.
  */
 public final class PermissionStore {
 
 	private static final Logger log = LoggerFactory.getLogger(PermissionStore.class);
 
-	public static final Cache<String, Boolean> PERM_CACHE = Caffeine.newBuilder().maximumSize(100_000).expireAfterWrite(30, TimeUnit.MINUTES).build();
+	/**
+	 * Key of the event payload which lists the ids of the users for which the cached permissions should be removed.
+	 */
+	public static final String USER_IDS_KEY = "userIds";
+
+	/**
+	 * Key of the event payload which lists the ids of the elements for which the cached permissions should be removed.
+	 */
+	public static final String ELEMENT_IDS_KEY = "elementIds";
+
+	/**
+	 * Key of the event payload which indicates that permissions have been granted and thus all cached denied permissions are no longer valid.
+	 */
+	public static final String GRANTED_KEY = "granted";
+
+	public static final Cache<PermissionCacheKey, Boolean> PERM_CACHE = Caffeine.newBuilder().maximumSize(100_000).expireAfterWrite(30, TimeUnit.MINUTES)
+		.build();
+
+	/**
+	 * Cache for denied permissions. The value is the denied generation which was current when the permission check started. Entries of older generations are
+	 * ignored.
+	 */
+	public static final Cache<PermissionCacheKey, Long> DENIED_CACHE = Caffeine.newBuilder().maximumSize(100_000).expireAfterWrite(10, TimeUnit.MINUTES)
+		.build();
+
+	/**
+	 * Generation counter for denied permissions which is incremented whenever a permission is granted. This way all denied entries can be invalidated at once.
+	 */
+	private static final AtomicLong DENIED_GENERATION = new AtomicLong();
+
+	/**
+	 * Cache for the ids of the roles which are assigned to a user. The key of the cache is the vertex id of the user.
+	 */
+	public static final Cache<Object, Set<Object>> ROLE_CACHE = Caffeine.newBuilder().maximumSize(10_000).expireAfterWrite(30, TimeUnit.MINUTES)
+		.build();
+
+	/**
+	 * Reusable key which is used for lookups to avoid the creation of a new key for each permission check.
+	 */
+	private static final ThreadLocal<PermissionCacheKey> LOOKUP_KEY = ThreadLocal.withInitial(PermissionCacheKey::new);
 
 	/**
 	 * Check whether the granting user permission was stored in the cache.
@@ -34,33 +88,105 @@ public final class PermissionStore {
 	 * @return true, if a granting permission was found or false if the permission could not be found in the cache
 	 */
 	public static boolean hasPermission(Object userId, GraphPermission permission, Object elementId) {
-		String key = createCacheKey(userId, permission, elementId);
+		PermissionCacheKey key = LOOKUP_KEY.get().set(userId, permission, elementId);
 		Boolean cachedPerm = PERM_CACHE.getIfPresent(key);
 		return cachedPerm != null && cachedPerm;
 	}
 
+	/**
+	 * Return the cached permission state.
+	 * 
+	 * @param userId
+	 *            Vertex id of the user
+	 * @param permission
+	 *            Permission to check against
+	 * @param elementId
+	 *            Vertex id of the element to which permissions should be checked
+	 * @return true if a granting permission was cached, false if a denied permission of the current generation was cached or null if nothing was cached
+	 */
+	public static Boolean getCachedPermission(Object userId, GraphPermission permission, Object elementId) {
+		PermissionCacheKey key = LOOKUP_KEY.get().set(userId, permission, elementId);
+		Boolean cachedPerm = PERM_CACHE.getIfPresent(key);
+		if (cachedPerm != null) {
+			return cachedPerm;
+		}
+		Long generation = DENIED_CACHE.getIfPresent(key);
+		if (generation != null && generation == DENIED_GENERATION.get()) {
+			return false;
+		}
+		return null;
+	}
+
+	/**
+	 * Return the current generation of the denied permissions. The generation must be loaded before the permission is checked against the graph and passed to
+	 * {@link #storeDenied(Object, GraphPermission, Object, long)} afterwards. This way denied permissions which were determined while a permission was granted
+	 * will not be used.
+	 * 
+	 * @return
+	 */
+	public static long getDeniedGeneration() {
+		return DENIED_GENERATION.get();
+	}
+
+	/**
+	 * Invalidate all cached denied permissions and optionally notify other instances in the cluster. This needs to be invoked whenever a permission is granted.
+	 * 
+	 * @param notify
+	 */
+	public static void invalidateDenied(boolean notify) {
+		DENIED_GENERATION.incrementAndGet();
+		if (notify) {
+			publish(new JsonObject().put(GRANTED_KEY, true));
+		}
+	}
+
+	/**
+	 * Return the cached ids of the roles which are assigned to the user. The loader will be invoked to resolve the ids if those are not yet cached.
+	 * 
+	 * @param userId
+	 *            Vertex id of the user
+	 * @param loader
+	 *            Loader which resolves the role ids of the user
+	 * @return Set of role vertex ids
+	 */
+	public static Set<Object> getRoleIds(Object userId, Function<Object, Set<Object>> loader) {
+		return ROLE_CACHE.get(userId, loader);
+	}
+
 	/**
 	 * Register the event handler which can be used to invalidate the LRU cache.
 	 */
 	public static void registerEventHandler() {
-		Mesh.vertx().eventBus().consumer(EVENT_CLEAR_PERMISSION_STORE, e -> {
+		Mesh.vertx().eventBus().<JsonObject>consumer(EVENT_CLEAR_PERMISSION_STORE, e -> {
 			if (log.isDebugEnabled()) {
-				log.debug("Clearing permission store due to received event from {" + e.address() + "}");
+				log.debug("Invalidating permission store due to received event from {" + e.address() + "}");
 			}
-			PERM_CACHE.invalidateAll();
+			handleInvalidationEvent(e.body());
 		});
 	}
 
 	/**
-	 * Create the cache key.
+	 * Invalidate the local cache using the payload of a received invalidation event. The whole cache will be cleared if the payload contains no ids.
 	 * 
-	 * @param userId
-	 * @param permission
-	 * @param elementId
-	 * @return
+	 * @param payload
+	 *            Event payload which may be null
 	 */
-	private static String createCacheKey(Object userId, GraphPermission permission, Object elementId) {
-		return userId + "-" + permission.ordinal() + "-" + elementId;
+	public static void handleInvalidationEvent(JsonObject payload) {
+		if (payload == null) {
+			invalidateAllLocally();
+			return;
+		}
+		Set<String> userIds = toIdSet(payload.getJsonArray(USER_IDS_KEY));
+		Set<String> elementIds = toIdSet(payload.getJsonArray(ELEMENT_IDS_KEY));
+		boolean granted = payload.getBoolean(GRANTED_KEY, false);
+		if (userIds.isEmpty() && elementIds.isEmpty() && !granted) {
+			invalidateAllLocally();
+			return;
+		}
+		if (granted) {
+			invalidateDenied(false);
+		}
+		invalidateLocally(userIds, elementIds);
 	}
 
 	/**
@@ -70,15 +196,10 @@ public final class PermissionStore {
 	 */
 	public static void invalidate(boolean notify) {
 		// Invalidate locally
-		PERM_CACHE.invalidateAll();
+		invalidateAllLocally();
 		if (notify) {
 			// Send the event to inform other to purge the stored permissions
-			Vertx vertx = Mesh.vertx();
-			if (vertx != null) {
-				vertx.eventBus().publish(EVENT_CLEAR_PERMISSION_STORE, null);
-			} else {
-				log.error("Can't distribute cache clear event. Maybe Vert.x is stopping / starting right now");
-			}
+			publish(null);
 		}
 	}
 
@@ -89,6 +210,111 @@ public final class PermissionStore {
 		invalidate(true);
 	}
 
+	/**
+	 * Remove all cached permissions and role ids of the given users and optionally notify other instances in the cluster. This is needed whenever the roles
+	 * of a user change (e.g. the user was added to or removed from a group or a role was removed from a group of the user).
+	 * 
+	 * @param userIds
+	 *            Vertex ids of the affected users
+	 * @param notify
+	 */
+	public static void invalidateUsers(Collection<?> userIds, boolean notify) {
+		invalidate(userIds, Collections.emptyList(), notify);
+	}
+
+	/**
+	 * Remove all cached permissions and role ids of the given users and notify other instances in the cluster.
+	 * 
+	 * @param userIds
+	 *            Vertex ids of the affected users
+	 */
+	public static void invalidateUsers(Collection<?> userIds) {
+		invalidateUsers(userIds, true);
+	}
+
+	/**
+	 * Remove all cached permissions which were granted on the given elements and optionally notify other instances in the cluster. This is needed whenever a
+	 * permission on an element is revoked.
+	 * 
+	 * @param elementIds
+	 *            Vertex ids of the affected elements
+	 * @param notify
+	 */
+	public static void invalidateElements(Collection<?> elementIds, boolean notify) {
+		invalidate(Collections.emptyList(), elementIds, notify);
+	}
+
+	/**
+	 * Remove all cached permissions which were granted on the given elements and notify other instances in the cluster.
+	 * 
+	 * @param elementIds
+	 *            Vertex ids of the affected elements
+	 */
+	public static void invalidateElements(Collection<?> elementIds) {
+		invalidateElements(elementIds, true);
+	}
+
+	/**
+	 * Remove the cached permissions of the given users and elements and optionally notify other instances in the cluster.
+	 * 
+	 * @param userIds
+	 * @param elementIds
+	 * @param notify
+	 */
+	private static void invalidate(Collection<?> userIds, Collection<?> elementIds, boolean notify) {
+		if (userIds.isEmpty() && elementIds.isEmpty()) {
+			return;
+		}
+		Set<String> users = userIds.stream().map(String::valueOf).collect(Collectors.toSet());
+		Set<String> elements = elementIds.stream().map(String::valueOf).collect(Collectors.toSet());
+		invalidateLocally(users, elements);
+		if (notify) {
+			publish(new JsonObject()
+				.put(USER_IDS_KEY, new JsonArray(users.stream().collect(Collectors.toList())))
+				.put(ELEMENT_IDS_KEY, new JsonArray(elements.stream().collect(Collectors.toList()))));
+		}
+	}
+
+	/**
+	 * Remove all entries from the local cache which reference one of the given users or elements.
+	 * 
+	 * @param userIds
+	 * @param elementIds
+	 */
+	private static void invalidateLocally(Set<String> userIds, Set<String> elementIds) {
+		Predicate<PermissionCacheKey> affected = key -> userIds.contains(String.valueOf(key.getUserId()))
+			|| elementIds.contains(String.valueOf(key.getElementId()));
+		PERM_CACHE.asMap().keySet().removeIf(affected);
+		if (!userIds.isEmpty()) {
+			// The roles of the users may have changed and thus previously denied permissions may now be granted
+			DENIED_CACHE.asMap().keySet().removeIf(key -> userIds.contains(String.valueOf(key.getUserId())));
+			ROLE_CACHE.asMap().keySet().removeIf(userId -> userIds.contains(String.valueOf(userId)));
+		}
+	}
+
+	private static void invalidateAllLocally() {
+		PERM_CACHE.invalidateAll();
+		DENIED_CACHE.invalidateAll();
+		ROLE_CACHE.invalidateAll();
+		DENIED_GENERATION.incrementAndGet();
+	}
+
+	private static void publish(JsonObject payload) {
+		Vertx vertx = Mesh.vertx();
+		if (vertx != null) {
+			vertx.eventBus().publish(EVENT_CLEAR_PERMISSION_STORE, payload);
+		} else {
+			log.error("Can't distribute cache clear event. Maybe Vert.x is stopping / starting right now");
+		}
+	}
+
+	private static Set<String> toIdSet(JsonArray ids) {
+		if (ids == null) {
+			return Collections.emptySet();
+		}
+		return ids.stream().map(String::valueOf).collect(Collectors.toSet());
+	}
+
 	/**
 	 * Store a granting permission in the cache.
 	 * 
@@ -100,6 +326,22 @@ public final class PermissionStore {
 	 *            Id of the element to which a permission is granted
 	 */
 	public static void store(Object userId, GraphPermission permission, Object elementId) {
-		PERM_CACHE.put(createCacheKey(userId, permission, elementId), true);
+		PERM_CACHE.put(new PermissionCacheKey(userId, permission, elementId), true);
+	}
+
+	/**
+	 * Store a denied permission in the cache.
+	 * 
+	 * @param userId
+	 *            User which has no role which grants him the permission on the element
+	 * @param permission
+	 *            Permission which is denied
+	 * @param elementId
+	 *            Id of the element to which the permission is denied
+	 * @param generation
+	 *            Denied generation which was loaded via {@link #getDeniedGeneration()} before the permission was checked
+	 */
+	public static void storeDenied(Object userId, GraphPermission permission, Object elementId, long generation) {
+		DENIED_CACHE.put(new PermissionCacheKey(userId, permission, elementId), generation);
 	}
 }
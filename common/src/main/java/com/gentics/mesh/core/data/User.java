@@ -4,6 +4,7 @@ import static com.gentics.mesh.Events.EVENT_USER_CREATED;
 import static com.gentics.mesh.Events.EVENT_USER_DELETED;
 import static com.gentics.mesh.Events.EVENT_USER_UPDATED;
 
+import java.util.Collection;
 import java.util.Objects;
 import java.util.Set;
 
@@ -326,6 +327,15 @@ public interface User extends MeshCoreVertex<UserResponse, User>, ReferenceableE
 	 */
 	boolean hasPermissionForId(Object elementId, GraphPermission permission);
 
+	/**
+	 * Check the given permission on all elements with the given ids. The roles of the user will only be resolved once for all elements.
+	 * 
+	 * @param elementIds
+	 * @param permission
+	 * @return Set of the element ids to which the user has the given permission
+	 */
+	Set<Object> hasPermissionForIds(Collection<?> elementIds, GraphPermission permission);
+
 	/**
 	 * Check the read permission on the given container and fail if the needed permission to read the container is not set. This method will not fail if the
 	 * user has READ permission or READ_PUBLISH permission on a published node.
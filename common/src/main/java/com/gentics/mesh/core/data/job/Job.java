@@ -31,6 +31,8 @@ public interface Job extends MeshCoreVertex<JobResponse, Job>, CreatorTrackingVe
 
 	String COMPLETION_COUNT_PROPERTY_KEY = "completionCount";
 
+	String THROUGHPUT_PROPERTY_KEY = "throughput";
+
 	String STATUS_PROPERTY_KEY = "status";
 
 	String NODE_NAME_PROPERTY_KEY = "nodeName";
@@ -267,6 +269,20 @@ public interface Job extends MeshCoreVertex<JobResponse, Job>, CreatorTrackingVe
 	 */
 	void setCompletionCount(long count);
 
+	/**
+	 * Return the amount of elements which have been processed per second.
+	 * 
+	 * @return Throughput or null if the job did not yet report a throughput
+	 */
+	Double getThroughput();
+
+	/**
+	 * Set the amount of elements which have been processed per second.
+	 * 
+	 * @param throughput
+	 */
+	void setThroughput(Double throughput);
+
 	/**
 	 * Get migration status.
 	 * 
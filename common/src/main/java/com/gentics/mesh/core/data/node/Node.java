@@ -64,6 +64,28 @@ public interface Node extends MeshCoreVertex<NodeResponse, Node>, CreatorTrackin
 
 	String BRANCH_UUID_KEY = "branchUuid";
 
+	/**
+	 * Property which stores the stamp of the last change of the node itself (containers, tags, publish state, children or permissions of children).
+	 */
+	String CHANGE_STAMP_PROPERTY_KEY = "changeStamp";
+
+	/**
+	 * Property which stores the stamp of the last change of the node or of any node within its subtree up to {@link #SUBTREE_STAMP_DEPTH} levels below the
+	 * node.
+	 */
+	String SUBTREE_STAMP_PROPERTY_KEY = "subtreeStamp";
+
+	/**
+	 * Amount of ancestor levels to which the subtree stamp is propagated. The propagation is bounded so that nodes close to the base node don't need to be
+	 * written whenever any node of the project changes.
+	 */
+	int SUBTREE_STAMP_DEPTH = 3;
+
+	/**
+	 * Prefix of the properties which store the amount of children of the node per branch. The property name is completed by the branch uuid.
+	 */
+	String CHILD_COUNT_PROPERTY_PREFIX = "childCount_";
+
 	static final TypeInfo TYPE_INFO = new TypeInfo(TYPE, EVENT_NODE_CREATED, EVENT_NODE_UPDATED, EVENT_NODE_DELETED);
 
 	@Override
@@ -322,6 +344,41 @@ public interface Node extends MeshCoreVertex<NodeResponse, Node>, CreatorTrackin
 	 */
 	TraversalResult<? extends Node> getChildren(MeshAuthUser requestUser, String branchUuid, List<String> languageTags, ContainerType type);
 
+	/**
+	 * Return the stamp of the last change of the node. The stamp is updated whenever the containers, tags, publish state or the children of the node
+	 * change.
+	 * 
+	 * @return Stamp or null if the node has not been changed since the stamps were introduced
+	 */
+	String getChangeStamp();
+
+	/**
+	 * Return the stamp of the last change of the node or any of its descendants up to {@link #SUBTREE_STAMP_DEPTH} levels below the node.
+	 * 
+	 * @return Stamp or null if the subtree has not been changed since the stamps were introduced
+	 */
+	String getSubtreeStamp();
+
+	/**
+	 * Update the change stamp of the node and the subtree stamp of the node and its ancestors up to {@link #SUBTREE_STAMP_DEPTH} levels (in all branches).
+	 */
+	void updateChangeStamp();
+
+	/**
+	 * Update the change stamp of the node and of its parent nodes in all branches. This needs to be invoked whenever the change affects the children of the
+	 * parent nodes (e.g. the node was created, moved, deleted or its permissions changed).
+	 */
+	void updateChangeStampWithParents();
+
+	/**
+	 * Return the persisted amount of children of the node in the given branch. The count is maintained whenever a child is created, moved or removed from
+	 * the branch and does not reflect permissions.
+	 * 
+	 * @param branchUuid
+	 * @return
+	 */
+	long getChildCount(String branchUuid);
+
 	/**
 	 * Returns the parent node of this node.
 	 * 
@@ -618,6 +675,12 @@ public interface Node extends MeshCoreVertex<NodeResponse, Node>, CreatorTrackin
 	 */
 	void postfixPathSegment(String releaseUuid, ContainerType type, String languageTag);
 
+	/**
+	 * Remove all cached paths which depend on this node once the current transaction has been committed. This needs to be invoked whenever the segment, the
+	 * parent or the publish state of the node changes. The invalidation is postponed while the node changes are deferred (e.g. during a node migration).
+	 */
+	void invalidatePaths();
+
 	/**
 	 * Delete the node from the given branch. This will also delete children from the branch.
 	 * 
@@ -1,5 +1,7 @@
 package com.gentics.mesh.core.data.node.field.list;
 
+import java.util.List;
+
 import com.gentics.mesh.core.data.node.field.DateGraphField;
 import com.gentics.mesh.core.rest.node.field.list.impl.DateFieldListImpl;
 
@@ -16,6 +18,13 @@ public interface DateGraphFieldList extends ListGraphField<DateGraphField, DateF
 	 */
 	DateGraphField createDate(Long date);
 
+	/**
+	 * Replace all items of the list with the given dates. The items are stored using a single write. Null values will be omitted.
+	 * 
+	 * @param dates
+	 */
+	void setItems(List<Long> dates);
+
 	/**
 	 * Return the date field at the given index of the list.
 	 * 
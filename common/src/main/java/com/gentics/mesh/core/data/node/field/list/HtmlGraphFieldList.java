@@ -1,5 +1,7 @@
 package com.gentics.mesh.core.data.node.field.list;
 
+import java.util.List;
+
 import com.gentics.mesh.core.data.node.field.HtmlGraphField;
 import com.gentics.mesh.core.rest.node.field.list.impl.HtmlFieldListImpl;
 
@@ -15,6 +17,13 @@ public interface HtmlGraphFieldList extends ListGraphField<HtmlGraphField, HtmlF
 	 */
 	HtmlGraphField createHTML(String html);
 
+	/**
+	 * Replace all items of the list with the given html values. The items are stored using a single write. Null values will be omitted.
+	 * 
+	 * @param htmlValues
+	 */
+	void setItems(List<String> htmlValues);
+
 	/**
 	 * Return the html graph field at the given index position.
 	 * 
@@ -1,5 +1,7 @@
 package com.gentics.mesh.core.data.node.field.list;
 
+import java.util.List;
+
 import com.gentics.mesh.core.data.node.field.NumberGraphField;
 import com.gentics.mesh.core.rest.node.field.list.impl.NumberFieldListImpl;
 
@@ -15,6 +17,13 @@ public interface NumberGraphFieldList extends ListGraphField<NumberGraphField, N
 	 */
 	NumberGraphField createNumber(Number value);
 
+	/**
+	 * Replace all items of the list with the given numbers. The items are stored using a single write. Null values will be omitted.
+	 * 
+	 * @param numbers
+	 */
+	void setItems(List<Number> numbers);
+
 	/**
 	 * Return the graph number field at the given position.
 	 * 
@@ -1,5 +1,7 @@
 package com.gentics.mesh.core.data.node.field.list;
 
+import java.util.List;
+
 import com.gentics.mesh.core.data.node.field.StringGraphField;
 import com.gentics.mesh.core.rest.node.field.list.impl.StringFieldListImpl;
 
@@ -15,6 +17,13 @@ public interface StringGraphFieldList extends ListGraphField<StringGraphField, S
 	 */
 	StringGraphField createString(String string);
 
+	/**
+	 * Replace all items of the list with the given strings. The items are stored using a single write. Null values will be omitted.
+	 * 
+	 * @param strings
+	 */
+	void setItems(List<String> strings);
+
 	/**
 	 * Return the string item at the given position.
 	 * 
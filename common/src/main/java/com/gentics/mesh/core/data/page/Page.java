@@ -11,6 +11,11 @@ import com.gentics.mesh.core.rest.common.PagingMetaInfo;
  */
 public interface Page<T> extends Iterable<T> {
 
+	/**
+	 * Total count and page count of pages for which the amount of elements has not been determined.
+	 */
+	long UNKNOWN_COUNT = -1;
+
 	/**
 	 * Return the per page parameter value.
 	 * 
@@ -21,7 +26,7 @@ public interface Page<T> extends Iterable<T> {
 	/**
 	 * Return the total amount of pages which the resources that provided this page could return.
 	 * 
-	 * @return
+	 * @return Page count or {@link #UNKNOWN_COUNT} if the amount of elements has not been determined
 	 */
 	long getPageCount();
 
@@ -35,7 +40,7 @@ public interface Page<T> extends Iterable<T> {
 	/**
 	 * Return the total item count which the resource that provided this page could return.
 	 * 
-	 * @return
+	 * @return Total count or {@link #UNKNOWN_COUNT} if the amount of elements has not been determined
 	 */
 	long getTotalElements();
 
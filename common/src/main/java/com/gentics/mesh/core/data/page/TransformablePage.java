@@ -49,7 +49,7 @@ public interface TransformablePage<T extends TransformableElement<? extends Rest
 	/**
 	 * Return the eTag of the page. The etag is calculated using the following information:
 	 * <ul>
-	 * <li>Number of total elements (all pages)</li>
+	 * <li>Number of total elements (all pages) or the next page flag if the elements were not counted</li>
 	 * <li>All etags for all found elements</li>
 	 * <li>Number of the current page</li>
 	 * </ul>
@@ -59,7 +59,11 @@ public interface TransformablePage<T extends TransformableElement<? extends Rest
 	 */
 	default String getETag(InternalActionContext ac) {
 		StringBuilder builder = new StringBuilder();
-		builder.append(getTotalElements());
+		long totalCount = getTotalElements();
+		builder.append(totalCount);
+		if (totalCount == UNKNOWN_COUNT) {
+			builder.append(hasNextPage());
+		}
 		builder.append(getNumber());
 		builder.append(getPerPage());
 		for (T element : this) {
@@ -5,8 +5,14 @@ import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import com.gentics.mesh.core.data.page.Page;
 import com.gentics.mesh.core.rest.error.GenericRestException;
@@ -37,6 +43,46 @@ public abstract class AbstractDynamicPage<T> implements Page<T> {
 
 	protected Iterator<? extends T> visibleItems;
 
+	/**
+	 * Uuid of the element after which the page starts or null if the page number should be used.
+	 */
+	protected String after;
+
+	/**
+	 * Flag which indicates whether the total amount of elements should be determined.
+	 */
+	protected boolean countTotal;
+
+	/**
+	 * Flag which indicates whether the total amount of elements may be estimated using the stored count.
+	 */
+	protected boolean estimateTotal;
+
+	/**
+	 * Persisted amount of unfiltered elements or null if no such count exists.
+	 */
+	protected Long storedCount;
+
+	/**
+	 * Flag which indicates whether elements are filtered (e.g. by permissions) and the stored count can thus not be used as total count.
+	 */
+	protected boolean filtered = true;
+
+	/**
+	 * Amount of elements which were checked before the filters were applied.
+	 */
+	protected AtomicLong checkedCounter = new AtomicLong();
+
+	/**
+	 * Point in time (see {@link System#nanoTime()}) after which the iteration stops or 0 if no deadline has been set.
+	 */
+	protected long deadline;
+
+	/**
+	 * Flag which indicates whether the iteration was stopped because the deadline was reached.
+	 */
+	protected volatile boolean deadlineReached = false;
+
 	public AbstractDynamicPage(PagingParameters pagingInfo) {
 		if (pagingInfo.getPage() < 1) {
 			throw new GenericRestException(BAD_REQUEST, "error_page_parameter_must_be_positive", String.valueOf(pagingInfo.getPage()));
@@ -46,17 +92,113 @@ public abstract class AbstractDynamicPage<T> implements Page<T> {
 		}
 		this.pageNumber = pagingInfo.getPage();
 		this.perPage = pagingInfo.getPerPage();
+		this.after = pagingInfo.getAfter();
+		// The elements before the cursor are not counted
+		this.countTotal = pagingInfo.isCountTotal() && after == null;
+		this.estimateTotal = pagingInfo.isEstimateTotal();
+		this.deadline = pagingInfo.getDeadline();
 
 		if (perPage == null) {
 			this.lowerBound = null;
 		} else if (perPage == 0) {
 			this.lowerBound = 0L;
+		} else if (after != null) {
+			this.lowerBound = 0L;
 		} else {
 			this.lowerBound = (pageNumber - 1) * perPage;
 		}
 
 	}
 
+	/**
+	 * Skip all elements of the stream up to and including the element which matches the cursor. The skipped elements are neither counted nor checked. The
+	 * stream is not modified when no cursor has been set. A {@link GenericRestException} will be thrown once the resulting stream is iterated and no element
+	 * matches the cursor, unless the iteration was stopped by the deadline.
+	 * 
+	 * @param stream
+	 * @param keyMapper
+	 *            Function which returns the uuid of an element
+	 * @return
+	 */
+	protected <E> Stream<E> applyCursor(Stream<E> stream, Function<? super E, String> keyMapper) {
+		if (after == null) {
+			return stream;
+		}
+		Iterator<E> it = stream.iterator();
+		Iterator<E> cursorIt = new Iterator<E>() {
+
+			private boolean cursorFound = false;
+
+			@Override
+			public boolean hasNext() {
+				while (!cursorFound && it.hasNext()) {
+					cursorFound = after.equals(keyMapper.apply(it.next()));
+				}
+				if (!cursorFound) {
+					// The cursor element may not have been reached before the deadline
+					if (deadlineReached) {
+						return false;
+					}
+					throw new GenericRestException(BAD_REQUEST, "error_paging_cursor_not_found", after);
+				}
+				return it.hasNext();
+			}
+
+			@Override
+			public E next() {
+				if (!cursorFound && !hasNext()) {
+					throw new NoSuchElementException();
+				}
+				return it.next();
+			}
+		};
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(cursorIt, Spliterator.ORDERED), false).onClose(stream::close);
+	}
+
+	/**
+	 * Stop the iteration of the stream once the deadline has been reached. The deadline is checked for each element of the given stream, so the deadline
+	 * should be applied to the unfiltered source stream. The page will only contain the elements which were found until then. The stream is not modified
+	 * when no deadline has been set.
+	 * 
+	 * @param stream
+	 * @return
+	 */
+	protected <E> Stream<E> applyDeadline(Stream<E> stream) {
+		if (deadline == 0) {
+			return stream;
+		}
+		Iterator<E> it = stream.iterator();
+		Iterator<E> deadlineIt = new Iterator<E>() {
+
+			@Override
+			public boolean hasNext() {
+				if (System.nanoTime() > deadline) {
+					deadlineReached = true;
+					return false;
+				}
+				return it.hasNext();
+			}
+
+			@Override
+			public E next() {
+				return it.next();
+			}
+		};
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(deadlineIt, Spliterator.ORDERED), false).onClose(stream::close);
+	}
+
+	/**
+	 * Set the persisted amount of unfiltered elements. The count will be used as total count if no filter applies. Otherwise it will only be used when an
+	 * estimate has been requested.
+	 * 
+	 * @param storedCount
+	 * @return Fluent API
+	 */
+	public AbstractDynamicPage<T> setStoredCount(long storedCount) {
+		this.storedCount = storedCount;
+		return this;
+	}
+
 	@Override
 	public Long getPerPage() {
 		return perPage;
@@ -64,6 +206,9 @@ public abstract class AbstractDynamicPage<T> implements Page<T> {
 
 	@Override
 	public long getPageCount() {
+		if (!countTotal) {
+			return UNKNOWN_COUNT;
+		}
 		if (totalPages == null) {
 			// The totalPages of the list response must be zero if the perPage parameter is also zero.
 			totalPages = 0L;
@@ -83,6 +228,17 @@ public abstract class AbstractDynamicPage<T> implements Page<T> {
 
 	@Override
 	public long getTotalElements() {
+		if (!countTotal) {
+			return UNKNOWN_COUNT;
+		}
+		if (storedCount != null) {
+			if (!filtered) {
+				return storedCount;
+			}
+			if (estimateTotal) {
+				return estimateTotalElements();
+			}
+		}
 		// Iterate over all elements to determine the total count
 		while (visibleItems.hasNext()) {
 			visibleItems.next();
@@ -90,6 +246,24 @@ public abstract class AbstractDynamicPage<T> implements Page<T> {
 		return totalCounter.get();
 	}
 
+	/**
+	 * Estimate the total amount of visible elements by applying the share of visible elements which were found while loading the page to the stored count.
+	 * The exact count is returned if all elements were already checked.
+	 * 
+	 * @return
+	 */
+	private long estimateTotalElements() {
+		// Load the page and check whether a further element exists
+		hasNextPage();
+		long visible = totalCounter.get();
+		long checked = checkedCounter.get();
+		if (!visibleItems.hasNext() || checked == 0) {
+			return visible;
+		}
+		long estimate = Math.round(storedCount * (visible / (double) checked));
+		return Math.max(visible, estimate);
+	}
+
 	@Override
 	public List<? extends T> getWrappedList() {
 		// Iterate over more edges if the page is not yet full and there are any more edges
@@ -108,4 +282,9 @@ public abstract class AbstractDynamicPage<T> implements Page<T> {
 		return hasNextPage.get();
 	}
 
+	@Override
+	public boolean hasPreviousPage() {
+		return after != null || Page.super.hasPreviousPage();
+	}
+
 }
@@ -1,8 +1,11 @@
 package com.gentics.mesh.core.data.page.impl;
 
+import com.gentics.mesh.core.data.node.NodeContent;
+import com.gentics.mesh.graphdb.model.MeshElement;
 import com.gentics.mesh.parameter.PagingParameters;
 
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
@@ -10,7 +13,7 @@ public class DynamicStreamPageImpl<T> extends AbstractDynamicPage<T> {
 
 	public DynamicStreamPageImpl(Stream<? extends T> stream, PagingParameters pagingInfo) {
 		super(pagingInfo);
-		init(stream);
+		init(applyCursor(applyDeadline(stream), DynamicStreamPageImpl::getCursorKey));
 	}
 
 	/**
@@ -25,6 +28,27 @@ public class DynamicStreamPageImpl<T> extends AbstractDynamicPage<T> {
 	 */
 	public DynamicStreamPageImpl(Stream<? extends T> stream, PagingParameters pagingInfo, Predicate<T> filter) {
 		super(pagingInfo);
+		// The deadline and the cursor are applied before the filter so that the skipped elements are not filtered
+		init(applyCursor(applyDeadline(stream), DynamicStreamPageImpl::getCursorKey).filter(filter));
+	}
+
+	/**
+	 * Creates a new page for elements which are mapped from the elements of the source stream. The cursor is matched against the source elements so that the
+	 * elements which are skipped by the cursor are neither mapped nor filtered.
+	 *
+	 * @param source
+	 *            a stream of the source elements to be paged
+	 * @param mapper
+	 *            function which maps the source elements to the elements of the page
+	 * @param pagingInfo
+	 *            paging info the user requested
+	 * @param filter
+	 *            the filter to be applied to the mapped elements
+	 */
+	public <S> DynamicStreamPageImpl(Stream<? extends S> source, Function<? super S, ? extends T> mapper, PagingParameters pagingInfo,
+		Predicate<T> filter) {
+		super(pagingInfo);
+		Stream<? extends T> stream = applyCursor(applyDeadline(source), DynamicStreamPageImpl::getCursorKey).map(mapper);
 		init(stream.filter(filter));
 	}
 
@@ -55,4 +79,20 @@ public class DynamicStreamPageImpl<T> extends AbstractDynamicPage<T> {
 		}).iterator();
 	}
 
+	/**
+	 * Return the uuid which is used to match the element against the paging cursor.
+	 * 
+	 * @param item
+	 * @return Uuid or null if the element has no uuid
+	 */
+	private static String getCursorKey(Object item) {
+		if (item instanceof NodeContent) {
+			return ((NodeContent) item).getNode().getUuid();
+		}
+		if (item instanceof MeshElement) {
+			return ((MeshElement) item).getUuid();
+		}
+		return null;
+	}
+
 }
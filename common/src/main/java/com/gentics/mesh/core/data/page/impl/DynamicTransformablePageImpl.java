@@ -1,5 +1,6 @@
 package com.gentics.mesh.core.data.page.impl;
 
+import com.gentics.mesh.core.data.MeshVertex;
 import com.gentics.mesh.core.data.TransformableElement;
 import com.gentics.mesh.core.data.User;
 import com.gentics.mesh.core.data.page.TransformablePage;
@@ -141,6 +142,11 @@ public class DynamicTransformablePageImpl<T extends TransformableElement<? exten
 		AtomicLong pageCounter = new AtomicLong();
 		FramedGraph graph = Tx.getActive().getGraph();
 
+		// Skip the elements of the previous pages without checking or framing them
+		stream = applyCursor(applyDeadline(stream), item -> item.getProperty(MeshVertex.UUID_KEY));
+		stream = stream.peek(item -> checkedCounter.incrementAndGet());
+		filtered = perm != null || extraFilter != null;
+
 		// Only handle elements which are visible to the user
 		if (perm != null) {
 			stream = stream.filter(item -> requestUser.hasPermissionForId(item.getId(), perm));
@@ -15,6 +15,8 @@ public interface MeshRoot extends MeshVertex {
 
 	public static final String MESH_DB_REV = "meshDatabaseRevision";
 
+	public static final String INDEX_SYNC_CHECKPOINT = "indexSyncCheckpoint";
+
 	/**
 	 * Returns the mesh version which was last used to access the graph. This version is usually updated by the {@link BootstrapInitializer} during startup of
 	 * mesh.
@@ -44,6 +46,22 @@ public interface MeshRoot extends MeshVertex {
 	 */
 	void setDatabaseRevision(String databaseRevision);
 
+	/**
+	 * Return the checkpoint of the currently running or last interrupted index sync. The checkpoint contains the id and start time of the sync run and the
+	 * names of the already synced partitions.
+	 * 
+	 * @return Encoded checkpoint or null if no sync is pending
+	 */
+	String getIndexSyncCheckpoint();
+
+	/**
+	 * Update the stored index sync checkpoint.
+	 * 
+	 * @param checkpoint
+	 *            Encoded checkpoint or null in order to remove the checkpoint
+	 */
+	void setIndexSyncCheckpoint(String checkpoint);
+
 	/**
 	 * Returns the user aggregation vertex.
 	 * 
@@ -6,7 +6,10 @@ import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.FORBIDDEN;
 import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Spliterator;
 import java.util.Stack;
 import java.util.function.Predicate;
@@ -131,7 +134,33 @@ public interface RootVertex<T extends MeshCoreVertex<? extends RestModel, T>> ex
 	 * @return Found element or null if element with the name could not be found
 	 */
 	default T findByName(String name) {
-		return out(getRootLabel()).has("name", name).nextOrDefaultExplicit(getPersistanceClass(), null);
+		return findByProperty("name", name);
+	}
+
+	/**
+	 * Find the element which has the given value for the given property. The element will be located using the vertex index of the property. The edge
+	 * index of the root label will be used to determine whether a located element is part of this root vertex.
+	 * 
+	 * @param key
+	 *            Indexed property key
+	 * @param value
+	 *            Value of the property
+	 * @return Found element or null if the element could not be located
+	 */
+	default T findByProperty(String key, Object value) {
+		FramedGraph graph = Tx.getActive().getGraph();
+		// 1. Find the elements with the given value within the whole graph
+		Iterator<Vertex> it = database().getVertices(getPersistanceClass(), new String[] { key }, new Object[] { value });
+		while (it.hasNext()) {
+			Vertex potentialElement = it.next();
+			// 2. Use the edge index to determine whether the element is part of this root vertex
+			Iterable<Edge> edges = graph.getEdges("e." + getRootLabel().toLowerCase() + "_inout", database().createComposedIndexKey(potentialElement
+				.getId(), id()));
+			if (edges.iterator().hasNext()) {
+				return graph.frameElementExplicit(potentialElement, getPersistanceClass());
+			}
+		}
+		return null;
 	}
 
 	/**
@@ -183,6 +212,49 @@ public interface RootVertex<T extends MeshCoreVertex<? extends RestModel, T>> ex
 		return null;
 	}
 
+	/**
+	 * Find the elements with the given uuids. The elements will be located using a single lookup of the uuid index.
+	 * 
+	 * @param uuids
+	 *            Uuids of the elements to be located
+	 * @return Found elements by uuid. Elements which could not be located will be omitted
+	 */
+	default Map<String, T> findByUuids(Collection<String> uuids) {
+		FramedGraph graph = Tx.getActive().getGraph();
+		Map<String, T> elements = new HashMap<>(uuids.size());
+		Iterator<Vertex> it = database().getVerticesForUuids(getPersistanceClass(), uuids);
+		while (it.hasNext()) {
+			Vertex potentialElement = it.next();
+			// Use the edge index to determine whether the element is part of this root vertex
+			Iterable<Edge> edges = graph.getEdges("e." + getRootLabel().toLowerCase() + "_inout", database().createComposedIndexKey(potentialElement
+				.getId(), id()));
+			if (edges.iterator().hasNext()) {
+				T element = graph.frameElementExplicit(potentialElement, getPersistanceClass());
+				elements.put(element.getUuid(), element);
+			}
+		}
+		return elements;
+	}
+
+	/**
+	 * Stream the elements whose uuid starts with the given prefix. The elements will be located using the uuid index and are loaded while the stream
+	 * advances.
+	 * 
+	 * @param uuidPrefix
+	 *            Prefix of the uuids. Use an empty prefix to stream all elements.
+	 * @return Found elements sorted by uuid
+	 */
+	default Stream<? extends T> findByUuidPrefix(String uuidPrefix) {
+		FramedGraph graph = Tx.getActive().getGraph();
+		Iterator<Vertex> it = database().getVerticesForUuidPrefix(getPersistanceClass(), uuidPrefix);
+		Iterable<Vertex> iterable = () -> it;
+		return StreamSupport.stream(iterable.spliterator(), false)
+			// Use the edge index to determine whether the element is part of this root vertex
+			.filter(vertex -> graph.getEdges("e." + getRootLabel().toLowerCase() + "_inout", database().createComposedIndexKey(vertex.getId(), id()))
+				.iterator().hasNext())
+			.map(vertex -> graph.frameElementExplicit(vertex, getPersistanceClass()));
+	}
+
 	/**
 	 * Load the object by uuid and check the given permission.
 	 * 
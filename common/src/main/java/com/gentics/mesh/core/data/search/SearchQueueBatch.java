@@ -3,6 +3,7 @@ package com.gentics.mesh.core.data.search;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
+import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.ContainerType;
 import com.gentics.mesh.core.data.IndexableElement;
 import com.gentics.mesh.core.data.NodeGraphFieldContainer;
@@ -184,6 +185,23 @@ public interface SearchQueueBatch {
 	 */
 	void processSync();
 
+	/**
+	 * Process this batch for the given request. If asynchronous indexing has been enabled and the request does not wait for the search index, the entries
+	 * will be queued and the returned completable will complete without waiting for the search index.
+	 * 
+	 * @param ac
+	 * @return
+	 */
+	Completable processAsync(InternalActionContext ac);
+
+	/**
+	 * Process this batch for the given request and block until it finishes. If asynchronous indexing has been enabled and the request does not wait for
+	 * the search index, the entries will only be queued.
+	 * 
+	 * @param ac
+	 */
+	void processSync(InternalActionContext ac);
+
 	/**
 	 * Print debug output which contains information about all entries of the batch.
 	 */
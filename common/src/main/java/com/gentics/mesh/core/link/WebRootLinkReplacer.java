@@ -6,7 +6,9 @@ import static org.apache.commons.lang3.StringUtils.isEmpty;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -70,62 +72,84 @@ public class WebRootLinkReplacer {
 			return content;
 		}
 
-		List<String> segments = new ArrayList<>();
-		int pos = 0;
-		int lastPos = 0;
+		int pos = content.indexOf(START_TAG);
+		if (pos == -1) {
+			// Nothing to replace
+			return content;
+		}
+
 		int length = content.length();
+		String[] fallbackLanguageTags = languageTags == null ? null : languageTags.toArray(new String[languageTags.size()]);
+		// Links which occur multiple times are only resolved once
+		Map<String, String> resolvedLinks = new HashMap<>();
+		StringBuilder renderedContent = new StringBuilder(length);
+		int lastPos = 0;
 
-		// 1. Tokenize the content
-		while (lastPos < length) {
-			pos = content.indexOf(START_TAG, lastPos);
-			if (pos == -1) {
-				// add last string segment
-				if (lastPos < length) {
-					segments.add(content.substring(lastPos));
-				}
-				break;
-			}
-			int endPos = content.indexOf(END_TAG, pos);
+		while (pos != -1) {
+			int argStart = pos + START_TAG.length();
+			int endPos = content.indexOf(END_TAG, argStart);
 			if (endPos == -1) {
-				// add last string segment
-				if (lastPos < length) {
-					segments.add(content.substring(lastPos));
-				}
 				break;
 			}
 
-			// add intermediate string segment
-			if (lastPos < pos) {
-				segments.add(content.substring(lastPos, pos));
-			}
+			// Append the content in front of the link
+			renderedContent.append(content, lastPos, pos);
 
-			// 2. Parse the link and invoke resolving
-			String link = content.substring(pos + START_TAG.length(), endPos);
-			// Strip away the quotes. We only care about the argument values
-			// double quotes may be escaped
-			link = link.replaceAll("\\\\\"", "");
-			link = link.replaceAll("'", "");
-			link = link.replaceAll("\"", "");
-			String[] linkArguments = link.split(",");
-			if (linkArguments.length == 2) {
-				segments.add(resolve(ac, branchUuid, edgeType, linkArguments[0], type, projectName, linkArguments[1].trim()));
-			} else if (languageTags != null) {
-				segments.add(resolve(ac, branchUuid, edgeType, linkArguments[0], type, projectName,
-					languageTags.toArray(new String[languageTags.size()])));
-			} else {
-				segments.add(resolve(ac, branchUuid, edgeType, linkArguments[0], type, projectName));
+			String link = content.substring(argStart, endPos);
+			String resolved = resolvedLinks.get(link);
+			if (resolved == null) {
+				String[] linkArguments = parseArguments(link);
+				if (linkArguments.length == 2) {
+					resolved = resolve(ac, branchUuid, edgeType, linkArguments[0], type, projectName, linkArguments[1].trim());
+				} else if (fallbackLanguageTags != null) {
+					resolved = resolve(ac, branchUuid, edgeType, linkArguments[0], type, projectName, fallbackLanguageTags);
+				} else {
+					resolved = resolve(ac, branchUuid, edgeType, linkArguments[0], type, projectName);
+				}
+				resolvedLinks.put(link, resolved);
 			}
+			renderedContent.append(resolved);
 
 			lastPos = endPos + END_TAG.length();
+			pos = content.indexOf(START_TAG, lastPos);
 		}
 
-		// 3.: Buildup the new content
-		StringBuilder renderedContent = new StringBuilder(length);
-		segments.stream().forEachOrdered(obs -> renderedContent.append(obs));
-
+		// Append the remaining content
+		renderedContent.append(content, lastPos, length);
 		return renderedContent.toString();
 	}
 
+	/**
+	 * Parse the arguments of a link. Quotes will be stripped away since we only care about the argument values. Double quotes may be escaped.
+	 * 
+	 * @param link
+	 *            Content between the start and the end tag of the link
+	 * @return Argument values. Trailing empty values are omitted.
+	 */
+	static String[] parseArguments(String link) {
+		List<String> arguments = new ArrayList<>(2);
+		int length = link.length();
+		StringBuilder argument = new StringBuilder(length);
+		for (int i = 0; i < length; i++) {
+			char c = link.charAt(i);
+			if (c == '\\' && i + 1 < length && link.charAt(i + 1) == '"') {
+				i++;
+			} else if (c == ',') {
+				arguments.add(argument.toString());
+				argument.setLength(0);
+			} else if (c != '\'' && c != '"') {
+				argument.append(c);
+			}
+		}
+		arguments.add(argument.toString());
+
+		int size = arguments.size();
+		while (size > 1 && arguments.get(size - 1).isEmpty()) {
+			size--;
+		}
+		return arguments.subList(0, size).toArray(new String[size]);
+	}
+
 	/**
 	 * Resolve the link to the node with uuid (in the given language) into an observable
 	 * 
@@ -9,6 +9,7 @@ import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERR
 import static io.netty.handler.codec.http.HttpResponseStatus.NO_CONTENT;
 import static io.netty.handler.codec.http.HttpResponseStatus.OK;
 
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 
@@ -100,7 +101,7 @@ public class HandlerUtilities {
 				} else {
 					throw error(INTERNAL_SERVER_ERROR, "Could not determine object name");
 				}
-			}).processSync();
+			}).processSync(ac);
 			element.onDeleted(uuid, name);
 			log.info("Deleted element {" + elementUuid + "} for type {" + root.getClass().getSimpleName() + "}");
 			return (RM) null;
@@ -184,7 +185,7 @@ public class HandlerUtilities {
 			// 3. The updating transaction has succeeded. Now lets store it in the index
 			final ResultInfo info2 = info;
 			return database.tx(() -> {
-				info2.getBatch().processSync();
+				info2.getBatch().processSync(ac);
 				return info2.getModel();
 			});
 		}, model -> ac.send(model, created.get() ? CREATED : OK));
@@ -247,7 +248,8 @@ public class HandlerUtilities {
 	}
 
 	/**
-	 * Asynchronously execute the handler within a scope of a no tx transaction.
+	 * Asynchronously execute the handler within a scope of a no tx transaction. Conflicting transactions are retried without blocking a worker thread while
+	 * waiting for the next attempt.
 	 * 
 	 * @param ac
 	 * @param handler
@@ -256,37 +258,59 @@ public class HandlerUtilities {
 	 *            Action which will be invoked once the handler has finished
 	 */
 	public <RM extends RestModel> void asyncTx(InternalActionContext ac, TxAction<RM> handler, Consumer<RM> action) {
-		async(ac, () -> {
-			return database.tx(handler);
-		}, action);
+		singleTx(ac, handler, action);
 	}
 
+	/**
+	 * Asynchronously execute the handler within a scope of a no tx transaction. Ordered handlers are retried within the worker thread since rescheduled
+	 * attempts would not retain the order.
+	 * 
+	 * @param ac
+	 * @param handler
+	 * @param action
+	 * @param order
+	 *            Whether the handler should be executed in order with other ordered handlers of the context
+	 */
 	public <RM extends RestModel> void asyncTx(InternalActionContext ac, TxAction<RM> handler, Consumer<RM> action, boolean order) {
+		if (!order) {
+			singleTx(ac, handler, action);
+			return;
+		}
 		async(ac, () -> {
 			return database.tx(handler);
 		}, action, order);
 	}
 
 	public <RM extends RestModel> void asyncTx(InternalActionContext ac, TxAction0 handler, Consumer<RM> action) {
-		async(ac, () -> {
-			database.tx(handler);
+		singleTx(ac, tx -> {
+			handler.handle();
 			return null;
 		}, action);
 	}
 
 	public <RM extends RestModel> void asyncTx(InternalActionContext ac, TxAction1<RM> handler, Consumer<RM> action) {
-		async(ac, () -> {
-			return database.tx(handler);
-		}, action);
+		singleTx(ac, tx -> handler.handle(), action);
 	}
 
 	public <RM extends RestModel> void asyncTx(InternalActionContext ac, TxAction2 handler, Consumer<RM> action) {
-		async(ac, () -> {
-			database.tx(handler);
+		singleTx(ac, tx -> {
+			handler.handle(tx);
 			return null;
 		}, action);
 	}
 
+	/**
+	 * Execute the handler via {@link Database#singleTx(TxAction)}.
+	 * 
+	 * @param ac
+	 * @param handler
+	 * @param action
+	 */
+	private <RM extends RestModel> void singleTx(InternalActionContext ac, TxAction<RM> handler, Consumer<RM> action) {
+		// A single can't emit null and thus handlers without a result are wrapped
+		database.singleTx(tx -> Optional.ofNullable(handler.handle(tx))).subscribe(result -> action.accept(result.orElse(null)), ac::fail);
+	}
+
 	private <RM extends RestModel> void async(InternalActionContext ac, TxAction1<RM> handler, Consumer<RM> action) {
 		async(ac, handler, action, false);
 	}
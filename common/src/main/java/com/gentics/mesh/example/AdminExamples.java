@@ -12,6 +12,9 @@ import com.gentics.mesh.core.rest.admin.consistency.ConsistencyCheckResponse;
 import com.gentics.mesh.core.rest.admin.consistency.InconsistencyInfo;
 import com.gentics.mesh.core.rest.admin.consistency.InconsistencySeverity;
 import com.gentics.mesh.core.rest.admin.consistency.RepairAction;
+import com.gentics.mesh.core.rest.admin.metric.TransactionConflictInfo;
+import com.gentics.mesh.core.rest.admin.metric.TransactionDurationInfo;
+import com.gentics.mesh.core.rest.admin.metric.TransactionMetricsResponse;
 import com.gentics.mesh.core.rest.admin.status.MeshStatusResponse;
 import com.gentics.mesh.core.rest.plugin.PluginDeploymentRequest;
 import com.gentics.mesh.core.rest.plugin.PluginListResponse;
@@ -28,6 +31,24 @@ public class AdminExamples {
 		return new ClusterStatusResponse();
 	}
 
+	public TransactionMetricsResponse createTransactionMetricsResponse() {
+		TransactionMetricsResponse response = new TransactionMetricsResponse();
+		response.setCount(4211);
+		response.setDuration(new TransactionDurationInfo().setMean(3.2).setP95(11.5).setP99(42.1).setMax(120.4));
+		response.setCommit(new TransactionDurationInfo().setMean(0.8).setP95(2.4).setP99(6.3).setMax(18.9));
+		response.setAsyncCount(1204);
+		response.setAsyncDuration(new TransactionDurationInfo().setMean(5.1).setP95(17.2).setP99(51.6).setMax(140.2));
+		response.setRetries(12);
+		response.setMaxRetries(3);
+		response.setRetriesExhausted(0);
+		response.setConflicts(12);
+		response.getConflictsPerType().put("NodeImpl", 9L);
+		response.getConflictsPerType().put("NodeGraphFieldContainerImpl", 3L);
+		response.getHotspots().add(new TransactionConflictInfo().setElementId("#25:12").setType("NodeImpl").setConflicts(9));
+		response.getHotspots().add(new TransactionConflictInfo().setElementId("#41:3").setType("NodeGraphFieldContainerImpl").setConflicts(3));
+		return response;
+	}
+
 	public PluginResponse createHelloWorldPluginResponse() {
 		return createPluginResponse("Hello World 1", "hello-world1", PLUGIN_1_UUID);
 	}
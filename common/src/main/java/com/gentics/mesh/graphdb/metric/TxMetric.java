@@ -0,0 +1,228 @@
+package com.gentics.mesh.graphdb.metric;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.SharedMetricRegistries;
+import com.codahale.metrics.Snapshot;
+import com.codahale.metrics.Timer;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Container for the transaction duration, commit, retry and conflict metrics. The metrics are registered in the shared mesh metric registry and are thus
+ * also exported via the vert.x dropwizard metrics integration.
+ */
+public final class TxMetric {
+
+	private static final MetricRegistry metricRegistry = SharedMetricRegistries.getOrCreate("mesh");
+
+	private static final Counter retryCounter = metricRegistry.counter("graph.tx.retry");
+
+	private static final Counter conflictCounter = metricRegistry.counter("graph.tx.conflict");
+
+	private static final Counter retryExhaustedCounter = metricRegistry.counter("graph.tx.retry.exhausted");
+
+	/**
+	 * Duration of the transaction including all retries.
+	 */
+	private static final Timer durationTimer = metricRegistry.timer("graph.tx.duration");
+
+	/**
+	 * Duration of the transaction commit.
+	 */
+	private static final Timer commitTimer = metricRegistry.timer("graph.tx.commit");
+
+	/**
+	 * Duration of transactions which were executed via the async transaction methods. This includes the time which the action waited for a worker thread.
+	 */
+	private static final Timer asyncDurationTimer = metricRegistry.timer("graph.tx.async.duration");
+
+	/**
+	 * Amount of retries which were needed per transaction.
+	 */
+	private static final Histogram retriesHistogram = metricRegistry.histogram("graph.tx.retries");
+
+	/**
+	 * Conflict counters for the elements which caused the most recent conflicts. The key is the id of the element.
+	 */
+	private static final Cache<String, AtomicLong> hotspots = Caffeine.newBuilder().maximumSize(1000).expireAfterAccess(1, TimeUnit.HOURS).build();
+
+	private TxMetric() {
+	}
+
+	/**
+	 * Record a conflict which was caused by a concurrent modification.
+	 * 
+	 * @param elementId
+	 *            Id of the element which caused the conflict or null if the element is not known
+	 */
+	public static void conflict(Object elementId) {
+		conflictCounter.inc();
+		if (elementId != null) {
+			hotspots.get(String.valueOf(elementId), key -> new AtomicLong()).incrementAndGet();
+		}
+	}
+
+	/**
+	 * Record a transaction retry.
+	 */
+	public static void retry() {
+		retryCounter.inc();
+	}
+
+	/**
+	 * Record a completed transaction.
+	 * 
+	 * @param durationNanos
+	 *            Duration of the transaction including all retries
+	 * @param retries
+	 *            Amount of retries which were needed
+	 */
+	public static void tx(long durationNanos, int retries) {
+		durationTimer.update(durationNanos, TimeUnit.NANOSECONDS);
+		retriesHistogram.update(retries);
+	}
+
+	/**
+	 * Record the duration of a transaction commit.
+	 * 
+	 * @param durationNanos
+	 */
+	public static void commit(long durationNanos) {
+		commitTimer.update(durationNanos, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Start the timer for an async transaction.
+	 * 
+	 * @return Context which needs to be stopped once the transaction completed
+	 */
+	public static Timer.Context asyncTx() {
+		return asyncDurationTimer.time();
+	}
+
+	/**
+	 * Record a transaction which failed since the retry policy did not allow further retries.
+	 */
+	public static void retryExhausted() {
+		retryExhaustedCounter.inc();
+	}
+
+	/**
+	 * Return the elements which caused the most conflicts.
+	 * 
+	 * @param limit
+	 *            Maximum amount of elements to return
+	 * @return Map of element ids and conflict counts which is ordered by the conflict count
+	 */
+	public static Map<String, Long> getHotspots(int limit) {
+		Map<String, Long> result = new LinkedHashMap<>();
+		hotspots.asMap().entrySet().stream()
+			.sorted(Comparator.comparingLong((Map.Entry<String, AtomicLong> e) -> e.getValue().get()).reversed())
+			.limit(limit)
+			.forEach(e -> result.put(e.getKey(), e.getValue().get()));
+		return result;
+	}
+
+	/**
+	 * Helper method which will load a snapshot of the transaction metrics.
+	 * 
+	 * @return
+	 */
+	public static Map<String, Object> fetch() {
+		Map<String, Object> map = new LinkedHashMap<>();
+		map.put("retry", retryCounter.getCount());
+		map.put("conflict", conflictCounter.getCount());
+		map.put("retry.exhausted", retryExhaustedCounter.getCount());
+		map.put("count", durationTimer.getCount());
+		map.put("duration", toMillis(durationTimer.getSnapshot()));
+		map.put("commit", toMillis(commitTimer.getSnapshot()));
+		map.put("async.count", asyncDurationTimer.getCount());
+		map.put("async.duration", toMillis(asyncDurationTimer.getSnapshot()));
+		map.put("retries.max", retriesHistogram.getSnapshot().getMax());
+		return map;
+	}
+
+	/**
+	 * Convert the snapshot of a timer to a map which contains the common statistic values in milliseconds.
+	 * 
+	 * @param snapshot
+	 * @return
+	 */
+	private static Map<String, Double> toMillis(Snapshot snapshot) {
+		Map<String, Double> map = new LinkedHashMap<>();
+		map.put("mean", nanosToMillis(snapshot.getMean()));
+		map.put("p95", nanosToMillis(snapshot.get95thPercentile()));
+		map.put("p99", nanosToMillis(snapshot.get99thPercentile()));
+		map.put("max", nanosToMillis(snapshot.getMax()));
+		return map;
+	}
+
+	/**
+	 * Return the duration statistics of the transactions in milliseconds.
+	 * 
+	 * @return
+	 */
+	public static Map<String, Double> getDuration() {
+		return toMillis(durationTimer.getSnapshot());
+	}
+
+	/**
+	 * Return the commit duration statistics in milliseconds.
+	 * 
+	 * @return
+	 */
+	public static Map<String, Double> getCommitDuration() {
+		return toMillis(commitTimer.getSnapshot());
+	}
+
+	/**
+	 * Return the duration statistics of async transactions in milliseconds.
+	 * 
+	 * @return
+	 */
+	public static Map<String, Double> getAsyncDuration() {
+		return toMillis(asyncDurationTimer.getSnapshot());
+	}
+
+	public static long getCount() {
+		return durationTimer.getCount();
+	}
+
+	public static long getAsyncCount() {
+		return asyncDurationTimer.getCount();
+	}
+
+	public static long getRetryCount() {
+		return retryCounter.getCount();
+	}
+
+	public static long getConflictCount() {
+		return conflictCounter.getCount();
+	}
+
+	public static long getRetryExhaustedCount() {
+		return retryExhaustedCounter.getCount();
+	}
+
+	/**
+	 * Return the maximum amount of retries which were needed by a single transaction within the histogram window.
+	 * 
+	 * @return
+	 */
+	public static long getMaxRetries() {
+		return retriesHistogram.getSnapshot().getMax();
+	}
+
+	private static double nanosToMillis(double nanos) {
+		return nanos / TimeUnit.MILLISECONDS.toNanos(1);
+	}
+
+}
@@ -1,17 +1,20 @@
 package com.gentics.mesh.graphdb.spi;
 
 import java.io.IOException;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicReference;
 
+import com.codahale.metrics.Timer;
 import com.gentics.mesh.Mesh;
 import com.gentics.mesh.core.data.MeshVertex;
 import com.gentics.mesh.core.rest.admin.cluster.ClusterStatusResponse;
 import com.gentics.mesh.core.rest.error.GenericRestException;
 import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.graphdb.metric.TxMetric;
 import com.gentics.mesh.graphdb.model.MeshElement;
 import com.syncleus.ferma.EdgeFrame;
 import com.syncleus.ferma.ElementFrame;
@@ -84,6 +87,7 @@ public interface Database extends TxFactory {
 		}
 
 		return Completable.create(sub -> {
+			Timer.Context timer = TxMetric.asyncTx();
 			Mesh.vertx().executeBlocking(bc -> {
 				try (Tx tx = tx()) {
 					txHandler.handle();
@@ -95,6 +99,7 @@ public interface Database extends TxFactory {
 					bc.fail(e);
 				}
 			}, false, done -> {
+				timer.stop();
 				if (done.failed()) {
 					sub.onError(done.cause());
 				} else {
@@ -120,6 +125,7 @@ public interface Database extends TxFactory {
 		}
 
 		return Single.create(sub -> {
+			Timer.Context timer = TxMetric.asyncTx();
 			Mesh.vertx().executeBlocking(bc -> {
 				try (Tx tx = tx()) {
 					Single<T> result = trxHandler.handle();
@@ -146,6 +152,7 @@ public interface Database extends TxFactory {
 					bc.fail(e);
 				}
 			}, false, (AsyncResult<T> done) -> {
+				timer.stop();
 				if (done.failed()) {
 					sub.onError(done.cause());
 				} else {
@@ -171,6 +178,7 @@ public interface Database extends TxFactory {
 		}
 
 		return Single.create(sub -> {
+			Timer.Context timer = TxMetric.asyncTx();
 			Mesh.vertx().executeBlocking(bc -> {
 				try (Tx tx = tx()) {
 					Single<T> result = trxHandler.handle(tx);
@@ -197,6 +205,7 @@ public interface Database extends TxFactory {
 					bc.fail(e);
 				}
 			}, false, (AsyncResult<T> done) -> {
+				timer.stop();
 				if (done.failed()) {
 					sub.onError(done.cause());
 				} else {
@@ -206,6 +215,48 @@ public interface Database extends TxFactory {
 		});
 	}
 
+	/**
+	 * Asynchronously execute the txHandler within the scope of a single transaction. The transaction will be committed once the handler returns. Unlike
+	 * {@link #tx(TxAction)} implementations may retry conflicting transactions without blocking a worker thread while waiting for the next attempt. The
+	 * handler thus must not depend on state which is modified by previous attempts.
+	 * 
+	 * @param txHandler
+	 * @return
+	 */
+	default <T> Single<T> singleTx(TxAction<T> txHandler) {
+		return Single.create(sub -> {
+			Mesh.vertx().executeBlocking(bc -> {
+				try {
+					bc.complete(tx(txHandler));
+				} catch (Exception e) {
+					bc.fail(e);
+				}
+			}, false, (AsyncResult<T> done) -> {
+				if (done.failed()) {
+					sub.onError(done.cause());
+				} else {
+					sub.onSuccess(done.result());
+				}
+			});
+		});
+	}
+
+	/**
+	 * Register an action which will be invoked once the currently active transaction has been committed. Nested transactions will defer the action until the
+	 * outermost transaction has been committed. The action will be discarded if the transaction is rolled back and invoked directly if no transaction is
+	 * active. This can be used to invalidate caches without exposing uncommitted changes to concurrent readers.
+	 * 
+	 * @param action
+	 */
+	void afterCommit(Runnable action);
+
+	/**
+	 * Return the policy which is used to retry transactions which failed due to conflicting concurrent modifications.
+	 * 
+	 * @return
+	 */
+	TxRetryPolicy getRetryPolicy();
+
 	/**
 	 * Initialise the database and store the settings.
 	 * 
@@ -415,6 +466,26 @@ public interface Database extends TxFactory {
 	 */
 	Iterator<Vertex> getVertices(Class<?> classOfVertex, String[] fieldNames, Object[] fieldValues);
 
+	/**
+	 * Utilize the uuid index and locate the vertices with the given uuids using a single index lookup. Uuids for which no vertex of the given type could be
+	 * found will be omitted.
+	 * 
+	 * @param classOfVertex
+	 * @param uuids
+	 * @return Found vertices in no particular order
+	 */
+	Iterator<Vertex> getVerticesForUuids(Class<?> classOfVertex, Collection<String> uuids);
+
+	/**
+	 * Utilize the uuid index and stream the vertices of the given type whose uuid starts with the given prefix. The vertices are loaded lazily while the
+	 * iterator advances.
+	 * 
+	 * @param classOfVertex
+	 * @param uuidPrefix
+	 * @return Found vertices sorted by uuid
+	 */
+	Iterator<Vertex> getVerticesForUuidPrefix(Class<?> classOfVertex, String uuidPrefix);
+
 	/**
 	 * Locate all vertices for the given type.
 	 * 
@@ -547,6 +618,15 @@ public interface Database extends TxFactory {
 	 */
 	String getElementVersion(Element element);
 
+	/**
+	 * Return the name of the type of the element with the given id. This is used to aggregate metrics which only reference the element id.
+	 * 
+	 * @param id
+	 *            Id of the element
+	 * @return Name of the type or null if the type could not be determined
+	 */
+	String getElementTypeName(Object id);
+
 	/**
 	 * Change the element type.
 	 * 
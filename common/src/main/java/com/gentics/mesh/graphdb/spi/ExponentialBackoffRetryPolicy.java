@@ -0,0 +1,84 @@
+package com.gentics.mesh.graphdb.spi;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Retry policy which exponentially increases the delay between retries. Half of the delay is randomized (jitter) to prevent conflicting transactions from
+ * being retried at the same time again. The policy will stop retrying once the maximum amount of retries or the total time budget has been reached.
+ */
+public class ExponentialBackoffRetryPolicy implements TxRetryPolicy {
+
+	public static final int DEFAULT_MAX_RETRIES = 10;
+
+	public static final long DEFAULT_BASE_DELAY = 20;
+
+	public static final long DEFAULT_MAX_DELAY = 1000;
+
+	public static final long DEFAULT_MAX_TOTAL_TIME = 20_000;
+
+	private final int maxRetries;
+
+	private final long baseDelay;
+
+	private final long maxDelay;
+
+	private final long maxTotalTime;
+
+	/**
+	 * Create a new policy.
+	 * 
+	 * @param maxRetries
+	 *            Maximum amount of retries
+	 * @param baseDelay
+	 *            Delay in milliseconds for the first retry
+	 * @param maxDelay
+	 *            Upper limit of the delay in milliseconds for a single retry
+	 * @param maxTotalTime
+	 *            Time budget in milliseconds for all attempts. No further retry will be executed once the budget would be exceeded.
+	 */
+	public ExponentialBackoffRetryPolicy(int maxRetries, long baseDelay, long maxDelay, long maxTotalTime) {
+		this.maxRetries = maxRetries;
+		this.baseDelay = baseDelay;
+		this.maxDelay = maxDelay;
+		this.maxTotalTime = maxTotalTime;
+	}
+
+	/**
+	 * Create a new policy which uses the default settings.
+	 */
+	public ExponentialBackoffRetryPolicy() {
+		this(DEFAULT_MAX_RETRIES, DEFAULT_BASE_DELAY, DEFAULT_MAX_DELAY, DEFAULT_MAX_TOTAL_TIME);
+	}
+
+	@Override
+	public long getDelay(int retry, long elapsedMillis) {
+		if (retry >= maxRetries) {
+			return -1;
+		}
+		// Limit the shift to prevent an overflow
+		long delay = Math.min(maxDelay, baseDelay << Math.min(retry, 30));
+		long half = delay / 2;
+		delay = half + ThreadLocalRandom.current().nextLong(half + 1);
+		if (elapsedMillis + delay > maxTotalTime) {
+			return -1;
+		}
+		return delay;
+	}
+
+	public int getMaxRetries() {
+		return maxRetries;
+	}
+
+	public long getBaseDelay() {
+		return baseDelay;
+	}
+
+	public long getMaxDelay() {
+		return maxDelay;
+	}
+
+	public long getMaxTotalTime() {
+		return maxTotalTime;
+	}
+
+}
@@ -0,0 +1,20 @@
+package com.gentics.mesh.graphdb.spi;
+
+/**
+ * A retry policy determines whether and when a transaction which failed due to a conflicting concurrent modification should be retried.
+ */
+@FunctionalInterface
+public interface TxRetryPolicy {
+
+	/**
+	 * Return the delay which should be waited before the given retry is executed.
+	 * 
+	 * @param retry
+	 *            Number of the retry which should be executed next (starting with 0)
+	 * @param elapsedMillis
+	 *            Time in milliseconds which passed since the first attempt was started
+	 * @return Delay in milliseconds or a negative value if no further retry should be executed
+	 */
+	long getDelay(int retry, long elapsedMillis);
+
+}
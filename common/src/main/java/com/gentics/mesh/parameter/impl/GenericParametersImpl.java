@@ -47,6 +47,13 @@ public class GenericParametersImpl extends AbstractParameters implements Generic
 		etagParam.setDefaultValue("true");
 		parameters.put(FIELDS_PARAM_KEY, etagParam);
 
+		QueryParameter waitForIndexParam = new QueryParameter();
+		waitForIndexParam.setDescription(
+			"Parameter which can be used to wait until the search index has been updated. This is only relevant when asynchronous indexing has been enabled.");
+		waitForIndexParam.setType(ParamType.BOOLEAN);
+		waitForIndexParam.setDefaultValue("false");
+		parameters.put(WAIT_FOR_INDEX_PARAM_KEY, waitForIndexParam);
+
 		return parameters;
 	}
 
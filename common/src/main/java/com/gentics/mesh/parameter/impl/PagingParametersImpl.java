@@ -19,6 +19,8 @@ import com.gentics.mesh.parameter.PagingParameters;
  */
 public class PagingParametersImpl extends AbstractParameters implements PagingParameters {
 
+	private long deadline = 0;
+
 	public PagingParametersImpl(ActionContext ac) {
 		super(ac);
 
@@ -70,6 +72,24 @@ public class PagingParametersImpl extends AbstractParameters implements PagingPa
 		this(page, perPage, "uuid", SortOrder.ASCENDING);
 	}
 
+	@Override
+	public long getDeadline() {
+		return deadline;
+	}
+
+	/**
+	 * Set the point in time (see {@link System#nanoTime()}) after which the elements of the page should no longer be iterated. The page will only contain
+	 * the elements which were found until then.
+	 * 
+	 * @param deadline
+	 *            Deadline or 0 to disable the deadline
+	 * @return Fluent API
+	 */
+	public PagingParametersImpl setDeadline(long deadline) {
+		this.deadline = deadline;
+		return this;
+	}
+
 	@Override
 	public void validate() {
 	}
@@ -98,6 +118,35 @@ public class PagingParametersImpl extends AbstractParameters implements PagingPa
 		perPageParameter.setRequired(false);
 		perPageParameter.setType(ParamType.NUMBER);
 		parameters.put(PER_PAGE_PARAMETER_KEY, perPageParameter);
+
+		// after
+		QueryParameter afterParameter = new QueryParameter();
+		afterParameter.setDescription(
+			"Uuid of the last element of the previous page. The page will start after this element and the page parameter will be ignored. The total count and page count will not be determined when this parameter is set.");
+		afterParameter.setExample("5a7a2b8e6b9f4ac8ba2b8e6b9f0ac8b5");
+		afterParameter.setRequired(false);
+		afterParameter.setType(ParamType.STRING);
+		parameters.put(AFTER_PARAMETER_KEY, afterParameter);
+
+		// countTotal
+		QueryParameter countTotalParameter = new QueryParameter();
+		countTotalParameter.setDefaultValue("true");
+		countTotalParameter.setDescription(
+			"Specify whether the total count of elements should be determined. Disabling the count avoids iterating over all elements. The total count and page count will be -1 in this case.");
+		countTotalParameter.setExample("false");
+		countTotalParameter.setRequired(false);
+		countTotalParameter.setType(ParamType.BOOLEAN);
+		parameters.put(COUNT_TOTAL_PARAMETER_KEY, countTotalParameter);
+
+		// estimateTotal
+		QueryParameter estimateTotalParameter = new QueryParameter();
+		estimateTotalParameter.setDefaultValue("false");
+		estimateTotalParameter.setDescription(
+			"Specify whether the total count of elements may be estimated. The estimate is based on the persisted amount of elements and the share of visible elements which were found while loading the page. Only supported when listing the children of a node.");
+		estimateTotalParameter.setExample("true");
+		estimateTotalParameter.setRequired(false);
+		estimateTotalParameter.setType(ParamType.BOOLEAN);
+		parameters.put(ESTIMATE_TOTAL_PARAMETER_KEY, estimateTotalParameter);
 		return parameters;
 	}
 
@@ -0,0 +1,48 @@
+package com.gentics.mesh.parameter.impl;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.raml.model.ParamType;
+import org.raml.model.parameter.QueryParameter;
+
+import com.gentics.mesh.handler.ActionContext;
+import com.gentics.mesh.parameter.AbstractParameters;
+import com.gentics.mesh.parameter.SearchParameters;
+
+public class SearchParametersImpl extends AbstractParameters implements SearchParameters {
+
+	public SearchParametersImpl(ActionContext ac) {
+		super(ac);
+	}
+
+	public SearchParametersImpl() {
+	}
+
+	@Override
+	public void validate() {
+	}
+
+	@Override
+	public String getName() {
+		return "Search parameters";
+	}
+
+	@Override
+	public Map<? extends String, ? extends QueryParameter> getRAMLParameters() {
+		Map<String, QueryParameter> parameters = new HashMap<>();
+
+		// sourceProjection
+		QueryParameter sourceProjectionParameter = new QueryParameter();
+		sourceProjectionParameter.setDefaultValue("false");
+		sourceProjectionParameter.setDescription(
+			"Specify whether the results should directly be created from the indexed documents. The found nodes will not be loaded in this case and the results will only contain the indexed information. Html fields will for example only contain the plain text and node fields only the referenced uuid.");
+		sourceProjectionParameter.setExample("true");
+		sourceProjectionParameter.setRequired(false);
+		sourceProjectionParameter.setType(ParamType.BOOLEAN);
+		parameters.put(SOURCE_PROJECTION_PARAM_KEY, sourceProjectionParameter);
+
+		return parameters;
+	}
+
+}
@@ -1,6 +1,7 @@
 package com.gentics.mesh.search;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -23,6 +24,11 @@ import io.vertx.core.json.JsonObject;
  */
 public class TrackingSearchProvider implements SearchProvider {
 
+	/**
+	 * Name which is recorded when all indices are refreshed.
+	 */
+	public static final String REFRESH_ALL = "*";
+
 	private Map<String, JsonObject> updateEvents = new HashMap<>();
 	private List<String> deleteEvents = new ArrayList<>();
 	private Map<String, JsonObject> storeEvents = new HashMap<>();
@@ -30,6 +36,7 @@ public class TrackingSearchProvider implements SearchProvider {
 	private List<String> dropIndexEvents = new ArrayList<>();
 	private Map<String, JsonObject> createIndexEvents = new HashMap<>();
 	private Map<String, JsonObject> pipelineEvents = new HashMap<>();
+	private List<String> refreshEvents = new ArrayList<>();
 
 	@Override
 	public SearchProvider init() {
@@ -43,7 +50,13 @@ public class TrackingSearchProvider implements SearchProvider {
 
 	@Override
 	public Completable refreshIndex(String... indices) {
-		return Completable.complete();
+		return Completable.fromAction(() -> {
+			if (indices.length == 0) {
+				refreshEvents.add(REFRESH_ALL);
+			} else {
+				refreshEvents.addAll(Arrays.asList(indices));
+			}
+		});
 	}
 
 	@Override
@@ -153,6 +166,7 @@ public class TrackingSearchProvider implements SearchProvider {
 		storeEvents.clear();
 		dropIndexEvents.clear();
 		createIndexEvents.clear();
+		refreshEvents.clear();
 		return Completable.complete();
 	}
 
@@ -186,6 +200,10 @@ public class TrackingSearchProvider implements SearchProvider {
 		return dropIndexEvents;
 	}
 
+	public List<String> getRefreshEvents() {
+		return refreshEvents;
+	}
+
 	@Override
 	public Completable validateCreateViaTemplate(IndexInfo info) {
 		return Completable.complete();
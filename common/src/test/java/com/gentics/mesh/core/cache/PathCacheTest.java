@@ -0,0 +1,92 @@
+package com.gentics.mesh.core.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+public class PathCacheTest {
+
+	private final PathCacheKey childKey = new PathCacheKey("child", "branchA", "D", "en", "de");
+
+	private final PathCacheKey siblingKey = new PathCacheKey("sibling", "branchA", "D", "en");
+
+	private final PathCacheKey otherBranchKey = new PathCacheKey("child", "branchB", "D", "en", "de");
+
+	@Before
+	public void setup() {
+		PathCache.invalidate(false);
+		store(childKey, "/parent/child", "child", "parent");
+		store(siblingKey, "/parent/sibling", "sibling", "parent");
+		store(otherBranchKey, "/other/child", "child", "other");
+	}
+
+	private void store(PathCacheKey key, String path, String... nodeUuids) {
+		PathCache.store(key, path, new HashSet<>(Arrays.asList(nodeUuids)), PathCache.getGeneration());
+	}
+
+	@Test
+	public void testKey() {
+		assertEquals("/parent/child", PathCache.get(new PathCacheKey("child", "branchA", "D", "en", "de")));
+		assertNull("The language fallback chain is part of the key", PathCache.get(new PathCacheKey("child", "branchA", "D", "de", "en")));
+		assertNull(PathCache.get(new PathCacheKey("child", "branchA", "P", "en", "de")));
+	}
+
+	@Test
+	public void testInvalidateNodes() {
+		PathCache.invalidateNodes(Collections.singleton("parent"), false);
+		assertNull(PathCache.get(childKey));
+		assertNull(PathCache.get(siblingKey));
+		assertEquals("/other/child", PathCache.get(otherBranchKey));
+
+		PathCache.invalidateNodes(Collections.singleton("child"), false);
+		assertNull(PathCache.get(otherBranchKey));
+	}
+
+	@Test
+	public void testInvalidateBranches() {
+		PathCache.invalidateBranches(Collections.singleton("branchA"), false);
+		assertNull(PathCache.get(childKey));
+		assertNull(PathCache.get(siblingKey));
+		assertEquals("/other/child", PathCache.get(otherBranchKey));
+	}
+
+	@Test
+	public void testInvalidationEvent() {
+		JsonObject payload = new JsonObject().put(PathCache.NODE_UUIDS_KEY, new JsonArray().add("sibling"));
+		PathCache.handleInvalidationEvent(payload);
+		assertEquals("/parent/child", PathCache.get(childKey));
+		assertNull(PathCache.get(siblingKey));
+
+		PathCache.handleInvalidationEvent(null);
+		assertNull(PathCache.get(childKey));
+		assertNull(PathCache.get(otherBranchKey));
+	}
+
+	@Test
+	public void testOutdatedGeneration() {
+		long generation = PathCache.getGeneration();
+		PathCache.invalidateNodes(Collections.singleton("unrelated"), false);
+		PathCache.store(siblingKey, "/outdated/sibling", Collections.singleton("sibling"), generation);
+		assertEquals("Paths which were resolved during an invalidation must not be stored", "/parent/sibling", PathCache.get(siblingKey));
+	}
+
+	@Test
+	public void testHitCount() {
+		long hits = PathCache.getHitCount();
+		long misses = PathCache.getMissCount();
+		PathCache.get(childKey);
+		PathCache.get(new PathCacheKey("unknown", "branchA", "D", "en"));
+		assertEquals(hits + 1, PathCache.getHitCount());
+		assertEquals(misses + 1, PathCache.getMissCount());
+	}
+
+}
@@ -0,0 +1,84 @@
+package com.gentics.mesh.core.cache;
+
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
+import static com.gentics.mesh.core.data.relationship.GraphPermission.UPDATE_PERM;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+public class PermissionStoreTest {
+
+	@Before
+	public void setup() {
+		PermissionStore.invalidate(false);
+		PermissionStore.store("#10:1", READ_PERM, "#20:1");
+		PermissionStore.store("#10:1", UPDATE_PERM, "#20:2");
+		PermissionStore.store("#10:11", READ_PERM, "#20:1");
+		PermissionStore.store("#10:2", READ_PERM, "#20:11");
+	}
+
+	@Test
+	public void testInvalidateUsers() {
+		PermissionStore.invalidateUsers(Collections.singleton("#10:1"), false);
+		assertFalse(PermissionStore.hasPermission("#10:1", READ_PERM, "#20:1"));
+		assertFalse(PermissionStore.hasPermission("#10:1", UPDATE_PERM, "#20:2"));
+		assertTrue(PermissionStore.hasPermission("#10:11", READ_PERM, "#20:1"));
+		assertTrue(PermissionStore.hasPermission("#10:2", READ_PERM, "#20:11"));
+	}
+
+	@Test
+	public void testInvalidateElements() {
+		PermissionStore.invalidateElements(Collections.singleton("#20:1"), false);
+		assertFalse(PermissionStore.hasPermission("#10:1", READ_PERM, "#20:1"));
+		assertFalse(PermissionStore.hasPermission("#10:11", READ_PERM, "#20:1"));
+		assertTrue(PermissionStore.hasPermission("#10:1", UPDATE_PERM, "#20:2"));
+		assertTrue(PermissionStore.hasPermission("#10:2", READ_PERM, "#20:11"));
+	}
+
+	@Test
+	public void testHandleInvalidationEvent() {
+		JsonObject payload = new JsonObject()
+			.put(PermissionStore.USER_IDS_KEY, new JsonArray(Arrays.asList("#10:2")))
+			.put(PermissionStore.ELEMENT_IDS_KEY, new JsonArray(Arrays.asList("#20:2")));
+		PermissionStore.handleInvalidationEvent(payload);
+		assertTrue(PermissionStore.hasPermission("#10:1", READ_PERM, "#20:1"));
+		assertTrue(PermissionStore.hasPermission("#10:11", READ_PERM, "#20:1"));
+		assertFalse(PermissionStore.hasPermission("#10:1", UPDATE_PERM, "#20:2"));
+		assertFalse(PermissionStore.hasPermission("#10:2", READ_PERM, "#20:11"));
+
+		PermissionStore.handleInvalidationEvent(null);
+		assertFalse(PermissionStore.hasPermission("#10:1", READ_PERM, "#20:1"));
+	}
+
+	@Test
+	public void testDeniedPermissions() {
+		long generation = PermissionStore.getDeniedGeneration();
+		PermissionStore.storeDenied("#10:3", READ_PERM, "#20:1", generation);
+		assertEquals(Boolean.FALSE, PermissionStore.getCachedPermission("#10:3", READ_PERM, "#20:1"));
+		assertEquals(Boolean.TRUE, PermissionStore.getCachedPermission("#10:1", READ_PERM, "#20:1"));
+		assertNull(PermissionStore.getCachedPermission("#10:3", UPDATE_PERM, "#20:1"));
+
+		// Granting a permission must invalidate the denied entries
+		PermissionStore.invalidateDenied(false);
+		assertNull(PermissionStore.getCachedPermission("#10:3", READ_PERM, "#20:1"));
+
+		// Entries which were determined using an outdated generation must be ignored
+		PermissionStore.storeDenied("#10:3", READ_PERM, "#20:1", generation);
+		assertNull(PermissionStore.getCachedPermission("#10:3", READ_PERM, "#20:1"));
+
+		PermissionStore.storeDenied("#10:3", READ_PERM, "#20:1", PermissionStore.getDeniedGeneration());
+		PermissionStore.invalidateUsers(Collections.singleton("#10:3"), false);
+		assertNull(PermissionStore.getCachedPermission("#10:3", READ_PERM, "#20:1"));
+	}
+
+}
@@ -0,0 +1,20 @@
+package com.gentics.mesh.core.link;
+
+import static org.junit.Assert.assertArrayEquals;
+
+import org.junit.Test;
+
+public class WebRootLinkReplacerTest {
+
+	@Test
+	public void testParseArguments() {
+		assertArrayEquals(new String[] { "uuid" }, WebRootLinkReplacer.parseArguments("'uuid'"));
+		assertArrayEquals(new String[] { "uuid" }, WebRootLinkReplacer.parseArguments("\"uuid\""));
+		assertArrayEquals(new String[] { "uuid" }, WebRootLinkReplacer.parseArguments("\\\"uuid\\\""));
+		assertArrayEquals(new String[] { "uuid", " en" }, WebRootLinkReplacer.parseArguments("'uuid', 'en'"));
+		assertArrayEquals(new String[] { "uuid" }, WebRootLinkReplacer.parseArguments("'uuid',''"));
+		assertArrayEquals(new String[] { "" }, WebRootLinkReplacer.parseArguments(""));
+		assertArrayEquals(new String[] { "uu\\id" }, WebRootLinkReplacer.parseArguments("'uu\\id'"));
+	}
+
+}
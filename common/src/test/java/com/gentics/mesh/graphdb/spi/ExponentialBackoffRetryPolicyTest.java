@@ -0,0 +1,28 @@
+package com.gentics.mesh.graphdb.spi;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class ExponentialBackoffRetryPolicyTest {
+
+	@Test
+	public void testDelay() {
+		ExponentialBackoffRetryPolicy policy = new ExponentialBackoffRetryPolicy(10, 20, 1000, 20_000);
+		for (int retry = 0; retry < 10; retry++) {
+			long maxDelay = Math.min(1000, 20L << retry);
+			long delay = policy.getDelay(retry, 0);
+			assertTrue("The delay {" + delay + "} of retry {" + retry + "} is out of bounds", delay >= maxDelay / 2 && delay <= maxDelay);
+		}
+	}
+
+	@Test
+	public void testLimits() {
+		ExponentialBackoffRetryPolicy policy = new ExponentialBackoffRetryPolicy(3, 20, 1000, 500);
+		assertEquals("No retry should be allowed once the retry limit was reached", -1, policy.getDelay(3, 0));
+		assertEquals("No retry should be allowed once the time budget was exceeded", -1, policy.getDelay(0, 500));
+		assertTrue(policy.getDelay(2, 0) >= 0);
+	}
+
+}
@@ -38,6 +38,7 @@ import com.gentics.mesh.MeshVersion;
 import com.gentics.mesh.changelog.ChangelogSystem;
 import com.gentics.mesh.changelog.ReindexAction;
 import com.gentics.mesh.changelog.highlevel.HighLevelChangelogSystem;
+import com.gentics.mesh.core.cache.PathCache;
 import com.gentics.mesh.core.cache.PermissionStore;
 import com.gentics.mesh.core.data.Group;
 import com.gentics.mesh.core.data.Language;
@@ -88,6 +89,7 @@ import com.gentics.mesh.search.DevNullSearchProvider;
 import com.gentics.mesh.search.IndexHandlerRegistry;
 import com.gentics.mesh.search.SearchProvider;
 import com.gentics.mesh.search.TrackingSearchProvider;
+import com.gentics.mesh.search.index.sync.IndexSyncScheduler;
 import com.gentics.mesh.util.MavenVersionNumber;
 import com.hazelcast.core.HazelcastInstance;
 import com.syncleus.ferma.tx.Tx;
@@ -132,6 +134,9 @@ public class BootstrapInitializerImpl implements BootstrapInitializer {
 	@Inject
 	public Lazy<IndexHandlerRegistry> indexHandlerRegistry;
 
+	@Inject
+	public Lazy<IndexSyncScheduler> indexSyncScheduler;
+
 	@Inject
 	public Lazy<CoreVerticleLoader> loader;
 
@@ -162,16 +167,24 @@ public class BootstrapInitializerImpl implements BootstrapInitializer {
 		if (searchProvider.getClient() == null) {
 			return;
 		}
-		// Ensure indices are setup and sync the documents
+		// Ensure indices are setup and sync the documents. A sync run which has been interrupted (e.g. by a crash) is resumed.
+		IndexSyncScheduler syncScheduler = indexSyncScheduler.get();
+		syncScheduler.begin(syncScheduler.getCheckpointSyncId());
 		IndexHandlerRegistry registry = indexHandlerRegistry.get();
-		for (IndexHandler<?> handler : registry.getHandlers()) {
-			String handlerName = handler.getClass().getSimpleName();
-			try (Tx tx = db.tx()) {
-				log.info("Invoking index sync on handler {" + handlerName + "}. This may take some time..");
-				handler.init().andThen(handler.syncIndices()).blockingAwait();
-				log.info("Index sync on handler {" + handlerName + "} completed.");
+		try {
+			for (IndexHandler<?> handler : registry.getHandlers()) {
+				String handlerName = handler.getClass().getSimpleName();
+				try (Tx tx = db.tx()) {
+					log.info("Invoking index sync on handler {" + handlerName + "}. This may take some time..");
+					handler.init().andThen(handler.syncIndices()).blockingAwait();
+					log.info("Index sync on handler {" + handlerName + "} completed.");
+				}
 			}
+		} catch (RuntimeException e) {
+			syncScheduler.abort();
+			throw e;
 		}
+		syncScheduler.finish();
 	});
 
 	@Inject
@@ -462,6 +475,7 @@ public class BootstrapInitializerImpl implements BootstrapInitializer {
 	public void registerEventHandlers() {
 		RouterStorage.registerEventbus();
 		PermissionStore.registerEventHandler();
+		PathCache.registerEventHandler();
 	}
 
 	@Override
@@ -351,11 +351,16 @@ public class MeshImpl implements Mesh {
 		} catch (Exception e) {
 			log.error("One of the plugins could not be undeployed in the allotted time.", e);
 		}
+		MeshComponent meshInternal = MeshInternal.get();
+		try {
+			meshInternal.asyncIndexQueue().flush();
+		} catch (Exception e) {
+			log.error("The queued search index updates could not be flushed", e);
+		}
 		io.vertx.reactivex.core.Vertx rxVertx = getRxVertx();
 		if (rxVertx != null) {
 			rxVertx.rxClose().blockingAwait();
 		}
-		MeshComponent meshInternal = MeshInternal.get();
 		meshInternal.database().stop();
 		try {
 			meshInternal.searchProvider().stop();
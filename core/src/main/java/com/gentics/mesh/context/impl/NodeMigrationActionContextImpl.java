@@ -1,6 +1,7 @@
 package com.gentics.mesh.context.impl;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -251,6 +252,11 @@ public class NodeMigrationActionContextImpl extends AbstractInternalActionContex
 				return true;
 			}
 
+			@Override
+			public Set<Object> hasPermissionForIds(Collection<?> elementIds, GraphPermission permission) {
+				return new HashSet<>(elementIds);
+			}
+
 			@Override
 			public boolean hasPermission(MeshVertex element, GraphPermission permission) {
 				return true;
@@ -3,12 +3,17 @@ package com.gentics.mesh.core.data.container.impl;
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_FIELD;
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_LIST;
 import static com.gentics.mesh.core.rest.error.Errors.error;
+import static com.gentics.mesh.graphdb.spi.FieldType.LINK;
+import static com.gentics.mesh.graphdb.spi.FieldType.STRING;
+import static com.syncleus.ferma.typeresolvers.PolymorphicTypeResolver.TYPE_RESOLUTION_KEY;
+import static com.tinkerpop.blueprints.Direction.IN;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
 
 import java.security.InvalidParameterException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -65,13 +70,35 @@ import com.gentics.mesh.core.rest.node.field.Field;
 import com.gentics.mesh.core.rest.schema.FieldSchema;
 import com.gentics.mesh.core.rest.schema.FieldSchemaContainer;
 import com.gentics.mesh.core.rest.schema.ListFieldSchema;
-import com.syncleus.ferma.traversals.EdgeTraversal;
+import com.gentics.mesh.dagger.MeshInternal;
+import com.gentics.mesh.graphdb.spi.Database;
+import com.syncleus.ferma.EdgeFrame;
+import com.syncleus.ferma.FramedGraph;
+import com.tinkerpop.blueprints.Edge;
+import com.tinkerpop.blueprints.Vertex;
 
 /**
  * Abstract implementation for a field container. A {@link GraphFieldContainer} is used to store {@link GraphField} instances.
  */
 public abstract class AbstractGraphFieldContainerImpl extends AbstractBasicGraphFieldContainerImpl implements GraphFieldContainer {
 
+	/**
+	 * Name of the index which is used to lookup the node, micronode and binary field edges of a container by field key.
+	 */
+	public static final String FIELD_EDGE_INDEX_NAME = "e." + HAS_FIELD.toLowerCase() + "_field";
+
+	/**
+	 * Name of the index which is used to lookup the list field edges of a container by field key.
+	 */
+	public static final String LIST_EDGE_INDEX_NAME = "e." + HAS_LIST.toLowerCase() + "_field";
+
+	public static void init(Database database) {
+		database.addCustomEdgeIndex(HAS_FIELD, "field",
+			com.gentics.mesh.graphdb.spi.FieldMap.create("out", LINK, GraphField.FIELD_KEY_PROPERTY_KEY, STRING), false);
+		database.addCustomEdgeIndex(HAS_LIST, "field",
+			com.gentics.mesh.graphdb.spi.FieldMap.create("out", LINK, GraphField.FIELD_KEY_PROPERTY_KEY, STRING), false);
+	}
+
 	/**
 	 * Return the parent node of the field container.
 	 * 
@@ -104,7 +131,7 @@ public abstract class AbstractGraphFieldContainerImpl extends AbstractBasicGraph
 
 	@Override
 	public NodeGraphField getNode(String key) {
-		return outE(HAS_FIELD).has(GraphField.FIELD_KEY_PROPERTY_KEY, key).nextOrDefaultExplicit(NodeGraphFieldImpl.class, null);
+		return getFieldEdge(key, NodeGraphFieldImpl.class);
 	}
 
 	@Override
@@ -199,7 +226,39 @@ public abstract class AbstractGraphFieldContainerImpl extends AbstractBasicGraph
 
 	@Override
 	public MicronodeGraphField getMicronode(String key) {
-		return outE(HAS_FIELD).has(GraphField.FIELD_KEY_PROPERTY_KEY, key).nextOrDefaultExplicit(MicronodeGraphFieldImpl.class, null);
+		return getFieldEdge(key, MicronodeGraphFieldImpl.class);
+	}
+
+	/**
+	 * Load the field edge with the given key using the field edge index.
+	 * 
+	 * @param key
+	 *            Field key
+	 * @return Found edge or null if no edge exists for the key
+	 */
+	private Edge findFieldEdge(String key) {
+		Iterator<Edge> it = getGraph().getEdges(FIELD_EDGE_INDEX_NAME, MeshInternal.get().database().createComposedIndexKey(id(), key)).iterator();
+		if (it.hasNext()) {
+			return it.next();
+		}
+		return null;
+	}
+
+	/**
+	 * Load and frame the field edge with the given key.
+	 * 
+	 * @param key
+	 *            Field key
+	 * @param classOfT
+	 *            Class used to frame the edge
+	 * @return Framed edge or null if no edge exists for the key
+	 */
+	private <T extends EdgeFrame> T getFieldEdge(String key, Class<T> classOfT) {
+		Edge edge = findFieldEdge(key);
+		if (edge == null) {
+			return null;
+		}
+		return getGraph().frameElementExplicit(edge, classOfT);
 	}
 
 	@Override
@@ -211,7 +270,7 @@ public abstract class AbstractGraphFieldContainerImpl extends AbstractBasicGraph
 
 	@Override
 	public BinaryGraphField getBinary(String key) {
-		return outE(HAS_FIELD).has(GraphField.FIELD_KEY_PROPERTY_KEY, key).nextOrDefaultExplicit(BinaryGraphFieldImpl.class, null);
+		return getFieldEdge(key, BinaryGraphFieldImpl.class);
 	}
 
 	@Override
@@ -286,7 +345,15 @@ public abstract class AbstractGraphFieldContainerImpl extends AbstractBasicGraph
 
 	@Override
 	public <T extends ListGraphField<?, ?, ?>> T getList(Class<T> classOfT, String fieldKey) {
-		return out(HAS_LIST).has(classOfT).has(GraphField.FIELD_KEY_PROPERTY_KEY, fieldKey).nextOrDefaultExplicit(classOfT, null);
+		FramedGraph graph = getGraph();
+		String type = classOfT.getSimpleName();
+		for (Edge edge : graph.getEdges(LIST_EDGE_INDEX_NAME, MeshInternal.get().database().createComposedIndexKey(id(), fieldKey))) {
+			Vertex list = edge.getVertex(IN);
+			if (type.equals(list.getProperty(TYPE_RESOLUTION_KEY))) {
+				return graph.frameElementExplicit(list, classOfT);
+			}
+		}
+		return null;
 	}
 
 	/**
@@ -303,7 +370,7 @@ public abstract class AbstractGraphFieldContainerImpl extends AbstractBasicGraph
 		T existing = getList(classOfT, fieldKey);
 		T list = getGraph().addFramedVertex(classOfT);
 		list.setFieldKey(fieldKey);
-		linkOut(list, HAS_LIST);
+		addFramedEdge(HAS_LIST, list).setProperty(GraphField.FIELD_KEY_PROPERTY_KEY, fieldKey);
 
 		if (existing != null) {
 			unlinkOut(existing, HAS_LIST);
@@ -385,9 +452,9 @@ public abstract class AbstractGraphFieldContainerImpl extends AbstractBasicGraph
 
 	@Override
 	public void deleteFieldEdge(String key) {
-		EdgeTraversal<?, ?, ?> traversal = outE(HAS_FIELD).has(GraphField.FIELD_KEY_PROPERTY_KEY, key);
-		if (traversal.hasNext()) {
-			traversal.next().remove();
+		Edge edge = findFieldEdge(key);
+		if (edge != null) {
+			edge.remove();
 		}
 	}
 
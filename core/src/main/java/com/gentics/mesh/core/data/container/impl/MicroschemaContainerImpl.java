@@ -20,6 +20,7 @@ import com.gentics.mesh.core.rest.schema.MicroschemaReference;
 import com.gentics.mesh.core.rest.schema.impl.MicroschemaReferenceImpl;
 import com.gentics.mesh.dagger.MeshInternal;
 import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.graphdb.spi.FieldType;
 
 /**
  * See {@link MicroschemaContainer}
@@ -40,6 +41,7 @@ public class MicroschemaContainerImpl extends
 
 	public static void init(Database database) {
 		database.addVertexType(MicroschemaContainerImpl.class, MeshVertexImpl.class);
+		database.addVertexIndex(MicroschemaContainerImpl.class, false, "name", FieldType.STRING);
 	}
 
 	@Override
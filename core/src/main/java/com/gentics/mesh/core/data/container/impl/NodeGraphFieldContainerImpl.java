@@ -25,6 +25,7 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -284,6 +285,11 @@ public class NodeGraphFieldContainerImpl extends AbstractGraphFieldContainerImpl
 
 	@Override
 	public void updateWebrootPathInfo(InternalActionContext ac, String branchUuid, String conflictI18n) {
+		// Cached paths only need to be invalidated if the segment differs from the previous version
+		NodeGraphFieldContainer previous = getPreviousVersion();
+		if (previous == null || !Objects.equals(previous.getSegmentFieldValue(), getSegmentFieldValue())) {
+			getParentNode().invalidatePaths();
+		}
 		Set<String> urlFieldValues = getUrlFieldValues();
 		Iterator<? extends GraphFieldContainerEdge> it = getContainerEdge(DRAFT, branchUuid);
 		if (it.hasNext()) {
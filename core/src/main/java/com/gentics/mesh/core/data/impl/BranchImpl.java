@@ -17,12 +17,14 @@ import static com.gentics.mesh.core.rest.error.Errors.conflict;
 import static com.gentics.mesh.graphdb.spi.FieldType.STRING;
 import static com.gentics.mesh.util.URIUtils.encodeSegment;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import com.gentics.mesh.Events;
 import com.gentics.mesh.context.BulkActionContext;
 import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.cache.PathCache;
 import com.gentics.mesh.core.data.Branch;
 import com.gentics.mesh.core.data.Project;
 import com.gentics.mesh.core.data.Tag;
@@ -202,6 +204,8 @@ public class BranchImpl extends AbstractMeshCoreVertex<BranchResponse, Branch> i
 	@Override
 	public Branch setPathPrefix(String pathPrefix) {
 		property(PATH_PREFIX, pathPrefix);
+		String uuid = getUuid();
+		MeshInternal.get().database().afterCommit(() -> PathCache.invalidateBranches(Collections.singleton(uuid)));
 		return this;
 	}
 
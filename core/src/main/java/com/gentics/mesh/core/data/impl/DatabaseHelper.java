@@ -8,6 +8,7 @@ import com.gentics.mesh.core.data.changelog.ChangeMarkerVertexImpl;
 import com.gentics.mesh.core.data.changelog.ChangelogRootImpl;
 import com.gentics.mesh.core.data.container.impl.MicroschemaContainerImpl;
 import com.gentics.mesh.core.data.container.impl.MicroschemaContainerVersionImpl;
+import com.gentics.mesh.core.data.container.impl.AbstractGraphFieldContainerImpl;
 import com.gentics.mesh.core.data.container.impl.NodeGraphFieldContainerImpl;
 import com.gentics.mesh.core.data.generic.AbstractGenericFieldContainerVertex;
 import com.gentics.mesh.core.data.generic.MeshVertexImpl;
@@ -111,6 +112,7 @@ public final class DatabaseHelper {
 
 		// Fields
 		AbstractGenericFieldContainerVertex.init(database);
+		AbstractGraphFieldContainerImpl.init(database);
 		NodeGraphFieldContainerImpl.init(database);
 		StringGraphFieldListImpl.init(database);
 		BooleanGraphFieldListImpl.init(database);
@@ -11,6 +11,8 @@ import static com.gentics.mesh.core.rest.error.Errors.error;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -83,6 +85,10 @@ public class GroupImpl extends AbstractMeshCoreVertex<GroupResponse, Group> impl
 		for (Role role : getRoles()) {
 			user.setUniqueLinkOutTo(role, ASSIGNED_TO_ROLE);
 		}
+		// The cached role ids of the user are no longer valid. The invalidation must only happen once the edges are visible to other transactions since
+		// the outdated role ids could otherwise be cached again in the meantime.
+		Object userId = user.getId();
+		MeshInternal.get().database().afterCommit(() -> PermissionStore.invalidateUsers(Collections.singleton(userId)));
 	}
 
 	@Override
@@ -91,7 +97,8 @@ public class GroupImpl extends AbstractMeshCoreVertex<GroupResponse, Group> impl
 
 		// The user does no longer belong to the group so lets update the shortcut edges
 		user.updateShortcutEdges();
-		PermissionStore.invalidate();
+		Object userId = user.getId();
+		MeshInternal.get().database().afterCommit(() -> PermissionStore.invalidateUsers(Collections.singleton(userId)));
 	}
 
 	@Override
@@ -104,9 +111,13 @@ public class GroupImpl extends AbstractMeshCoreVertex<GroupResponse, Group> impl
 		setUniqueLinkInTo(role, HAS_ROLE);
 
 		// Add shortcut edges from role to users of this group
+		Set<Object> affectedUserIds = new HashSet<>();
 		for (User user : getUsers()) {
 			user.setUniqueLinkOutTo(role, ASSIGNED_TO_ROLE);
+			affectedUserIds.add(user.getId());
 		}
+		// The cached role ids of the users are no longer valid once the edges have been committed
+		MeshInternal.get().database().afterCommit(() -> PermissionStore.invalidateUsers(affectedUserIds));
 
 	}
 
@@ -115,10 +126,12 @@ public class GroupImpl extends AbstractMeshCoreVertex<GroupResponse, Group> impl
 		unlinkIn(role, HAS_ROLE);
 
 		// Update the shortcut edges since the role does no longer belong to the group
+		Set<Object> affectedUserIds = new HashSet<>();
 		for (User user : getUsers()) {
 			user.updateShortcutEdges();
+			affectedUserIds.add(user.getId());
 		}
-		PermissionStore.invalidate();
+		MeshInternal.get().database().afterCommit(() -> PermissionStore.invalidateUsers(affectedUserIds));
 	}
 
 	@Override
@@ -182,13 +195,14 @@ public class GroupImpl extends AbstractMeshCoreVertex<GroupResponse, Group> impl
 		bac.batch().delete(this, true);
 
 		Set<? extends User> affectedUsers = getUsers().stream().collect(Collectors.toSet());
+		Set<Object> affectedUserIds = affectedUsers.stream().map(user -> (Object) user.getId()).collect(Collectors.toSet());
 		getElement().remove();
 		for (User user : affectedUsers) {
 			user.updateShortcutEdges();
 			bac.inc();
 		}
 		bac.process();
-		PermissionStore.invalidate();
+		MeshInternal.get().database().afterCommit(() -> PermissionStore.invalidateUsers(affectedUserIds));
 	}
 
 	@Override
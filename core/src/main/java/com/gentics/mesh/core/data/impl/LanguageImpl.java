@@ -25,10 +25,12 @@ public class LanguageImpl extends AbstractMeshCoreVertex<LanguageResponse, Langu
 	public static final String LANGUAGE_TAG_PROPERTY_KEY = "languageTag";
 	public static final String LANGUAGE_NATIVE_NAME_PROPERTY_KEY = "nativeName";
 	public static final String LANGUAGE_NAME_PROPERTY_KEY = "name";
+	public static final String LANGUAGE_NAME_INDEX_NAME = "languageNameIndex";
 
 	public static void init(Database database) {
 		database.addVertexType(LanguageImpl.class, MeshVertexImpl.class);
 		database.addVertexIndex(LanguageImpl.class, true, LANGUAGE_TAG_PROPERTY_KEY, STRING);
+		database.addVertexIndex(LANGUAGE_NAME_INDEX_NAME, LanguageImpl.class, false, LANGUAGE_NAME_PROPERTY_KEY, STRING);
 	}
 
 	@Override
@@ -2,12 +2,14 @@ package com.gentics.mesh.core.data.impl;
 
 import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
 import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PUBLISHED_PERM;
+import static com.gentics.mesh.core.data.relationship.GraphRelationships.ASSIGNED_TO_ROLE;
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_CREATOR;
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_EDITOR;
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_ROLE;
 import static com.gentics.mesh.core.rest.error.Errors.conflict;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.stream.StreamSupport;
@@ -43,7 +45,9 @@ import com.gentics.mesh.util.ETag;
 import com.syncleus.ferma.FramedGraph;
 import com.syncleus.ferma.traversals.VertexTraversal;
 import com.syncleus.ferma.tx.Tx;
+import com.tinkerpop.blueprints.Direction;
 import com.tinkerpop.blueprints.Edge;
+import com.tinkerpop.blueprints.Vertex;
 
 import io.reactivex.Single;
 
@@ -106,11 +110,19 @@ public class RoleImpl extends AbstractMeshCoreVertex<RoleResponse, Role> impleme
 
 	@Override
 	public void grantPermissions(MeshVertex vertex, GraphPermission... permissions) {
+		boolean granted = false;
 		for (GraphPermission permission : permissions) {
 			if (!hasPermission(permission, vertex)) {
 				addFramedEdge(permission.label(), vertex);
+				granted = true;
 			}
 		}
+		if (granted) {
+			// Previously denied permissions may now be granted. The generation must only be bumped once the edges are visible to other transactions since
+			// denied permissions which are checked in the meantime would otherwise be cached for the new generation. Other instances are notified once the
+			// permission request has been handled.
+			MeshInternal.get().database().afterCommit(() -> PermissionStore.invalidateDenied(false));
+		}
 	}
 
 	@Override
@@ -151,7 +163,9 @@ public class RoleImpl extends AbstractMeshCoreVertex<RoleResponse, Role> impleme
 			.count();
 
 		if (edgesRemoved > 0) {
-			PermissionStore.invalidate();
+			// Invalidate once the removal is visible to other transactions. Otherwise the revoked permission could be cached again in the meantime.
+			Object elementId = vertex.id();
+			MeshInternal.get().database().afterCommit(() -> PermissionStore.invalidateElements(Collections.singleton(elementId)));
 		}
 	}
 
@@ -181,9 +195,14 @@ public class RoleImpl extends AbstractMeshCoreVertex<RoleResponse, Role> impleme
 				}
 			}
 		}
+		// Only users which were assigned to the role may have cached permissions which were granted by the role
+		Set<Object> affectedUserIds = new HashSet<>();
+		for (Vertex user : getVertex().getVertices(Direction.IN, ASSIGNED_TO_ROLE)) {
+			affectedUserIds.add(user.getId());
+		}
 		getVertex().remove();
 		bac.process();
-		PermissionStore.invalidate();
+		MeshInternal.get().database().afterCommit(() -> PermissionStore.invalidateUsers(affectedUserIds));
 	}
 
 	@Override
@@ -44,6 +44,7 @@ import com.gentics.mesh.core.rest.tag.TagFamilyUpdateRequest;
 import com.gentics.mesh.dagger.DB;
 import com.gentics.mesh.dagger.MeshInternal;
 import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.graphdb.spi.FieldType;
 import com.gentics.mesh.parameter.GenericParameters;
 import com.gentics.mesh.parameter.PagingParameters;
 import com.gentics.mesh.parameter.value.FieldsSet;
@@ -68,6 +69,7 @@ public class TagFamilyImpl extends AbstractMeshCoreVertex<TagFamilyResponse, Tag
 	 */
 	public static void init(Database database) {
 		database.addVertexType(TagFamilyImpl.class, MeshVertexImpl.class);
+		database.addVertexIndex(TagFamilyImpl.class, false, "name", FieldType.STRING);
 		database.addEdgeIndex(HAS_TAG, TagEdgeImpl.BRANCH_UUID_KEY);
 		database.addEdgeIndex(HAS_TAG, true, false, true);
 	}
@@ -309,7 +311,7 @@ public class TagFamilyImpl extends AbstractMeshCoreVertex<TagFamilyResponse, Tag
 
 	@Override
 	public Tag findByName(String name) {
-		return out(getRootLabel()).mark().has(TagImpl.TAG_VALUE_KEY, name).back().nextOrDefaultExplicit(TagImpl.class, null);
+		return findByProperty(TagImpl.TAG_VALUE_KEY, name);
 	}
 
 	@Override
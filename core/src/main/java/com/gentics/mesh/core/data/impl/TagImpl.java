@@ -40,6 +40,7 @@ import com.gentics.mesh.core.rest.tag.TagResponse;
 import com.gentics.mesh.core.rest.tag.TagUpdateRequest;
 import com.gentics.mesh.dagger.DB;
 import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.graphdb.spi.FieldType;
 import com.gentics.mesh.madlmigration.TraversalResult;
 import com.gentics.mesh.parameter.GenericParameters;
 import com.gentics.mesh.parameter.PagingParameters;
@@ -63,6 +64,7 @@ public class TagImpl extends AbstractMeshCoreVertex<TagResponse, Tag> implements
 
 	public static void init(Database database) {
 		database.addVertexType(TagImpl.class, MeshVertexImpl.class);
+		database.addVertexIndex(TagImpl.class, false, TAG_VALUE_KEY, FieldType.STRING);
 	}
 
 	@Override
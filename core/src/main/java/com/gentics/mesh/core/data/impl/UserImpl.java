@@ -19,6 +19,9 @@ import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.FORBIDDEN;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -57,6 +60,7 @@ import com.gentics.mesh.core.rest.user.UserUpdateRequest;
 import com.gentics.mesh.dagger.DB;
 import com.gentics.mesh.dagger.MeshInternal;
 import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.graphdb.spi.FieldType;
 import com.gentics.mesh.madlmigration.TraversalResult;
 import com.gentics.mesh.parameter.GenericParameters;
 import com.gentics.mesh.parameter.NodeParameters;
@@ -98,6 +102,7 @@ public class UserImpl extends AbstractMeshCoreVertex<UserResponse, User> impleme
 
 	public static void init(Database database) {
 		database.addVertexType(UserImpl.class, MeshVertexImpl.class);
+		database.addVertexIndex(UserImpl.class, false, USERNAME_PROPERTY_KEY, FieldType.STRING);
 		database.addEdgeIndex(ASSIGNED_TO_ROLE, false, false, true);
 	}
 
@@ -280,39 +285,105 @@ public class UserImpl extends AbstractMeshCoreVertex<UserResponse, User> impleme
 
 	@Override
 	public boolean hasPermissionForId(Object elementId, GraphPermission permission) {
-		if (PermissionStore.hasPermission(getId(), permission, elementId)) {
-			return true;
+		Object userId = getId();
+		Boolean cachedPerm = PermissionStore.getCachedPermission(userId, permission, elementId);
+		if (cachedPerm != null) {
+			return cachedPerm;
 		} else {
+			// Load the generation before checking the graph so that concurrent grants will invalidate the result
+			long deniedGeneration = PermissionStore.getDeniedGeneration();
 			FramedGraph graph = getGraph();
-			// Find all roles that are assigned to the user by checking the
-			// shortcut edge from the index
-			String idxKey = "e." + ASSIGNED_TO_ROLE + "_out";
-			Iterable<Edge> roleEdges = graph.getEdges(idxKey.toLowerCase(), this.id());
-			for (Edge roleEdge : roleEdges) {
-				Vertex role = roleEdge.getVertex(Direction.IN);
+			Database db = MeshInternal.get().database();
+			String roleEdgeIdx = ("e." + permission.label() + "_inout").toLowerCase();
+			for (Object roleId : getRoleIds()) {
 				// Find all permission edges between the found role and target
 				// vertex with the specified label
-				String roleEdgeIdx = "e." + permission.label() + "_inout";
-				Iterable<Edge> edges = graph.getEdges(roleEdgeIdx.toLowerCase(),
-					MeshInternal.get().database().createComposedIndexKey(elementId, role.getId()));
+				Iterable<Edge> edges = graph.getEdges(roleEdgeIdx, db.createComposedIndexKey(elementId, roleId));
 				boolean foundPermEdge = edges.iterator().hasNext();
 				if (foundPermEdge) {
-					// We only store granting permissions in the store in order
-					// reduce the invalidation calls.
-					// This way we do not need to invalidate the cache if a role
-					// is removed from a group or a role is deleted.
-					PermissionStore.store(getId(), permission, elementId);
+					PermissionStore.store(userId, permission, elementId);
 					return true;
 				}
 			}
 			// Fall back to read and check whether the user has read perm. Read permission also includes read published.
-			if (permission == READ_PUBLISHED_PERM) {
-				return hasPermissionForId(elementId, READ_PERM);
+			if (permission == READ_PUBLISHED_PERM && hasPermissionForId(elementId, READ_PERM)) {
+				return true;
+			}
+			PermissionStore.storeDenied(userId, permission, elementId, deniedGeneration);
+			return false;
+		}
+
+	}
+
+	@Override
+	public Set<Object> hasPermissionForIds(Collection<?> elementIds, GraphPermission permission) {
+		Object userId = getId();
+		Set<Object> grantedIds = new HashSet<>();
+		List<Object> uncachedIds = new ArrayList<>();
+		for (Object elementId : elementIds) {
+			Boolean cachedPerm = PermissionStore.getCachedPermission(userId, permission, elementId);
+			if (cachedPerm == null) {
+				uncachedIds.add(elementId);
+			} else if (cachedPerm) {
+				grantedIds.add(elementId);
+			}
+		}
+		if (uncachedIds.isEmpty()) {
+			return grantedIds;
+		}
+
+		long deniedGeneration = PermissionStore.getDeniedGeneration();
+		FramedGraph graph = getGraph();
+		Database db = MeshInternal.get().database();
+		String roleEdgeIdx = ("e." + permission.label() + "_inout").toLowerCase();
+		// The roles are only resolved once for all elements
+		Set<Object> roleIds = getRoleIds();
+		List<Object> deniedIds = new ArrayList<>();
+		for (Object elementId : uncachedIds) {
+			boolean granted = false;
+			for (Object roleId : roleIds) {
+				if (graph.getEdges(roleEdgeIdx, db.createComposedIndexKey(elementId, roleId)).iterator().hasNext()) {
+					granted = true;
+					break;
+				}
+			}
+			if (granted) {
+				PermissionStore.store(userId, permission, elementId);
+				grantedIds.add(elementId);
 			} else {
-				return false;
+				deniedIds.add(elementId);
 			}
 		}
 
+		// Fall back to read and check whether the user has read perm. Read permission also includes read published.
+		if (permission == READ_PUBLISHED_PERM && !deniedIds.isEmpty()) {
+			Set<Object> readableIds = hasPermissionForIds(deniedIds, READ_PERM);
+			grantedIds.addAll(readableIds);
+			deniedIds.removeAll(readableIds);
+		}
+		for (Object elementId : deniedIds) {
+			PermissionStore.storeDenied(userId, permission, elementId, deniedGeneration);
+		}
+		return grantedIds;
+	}
+
+	/**
+	 * Return the vertex ids of the roles which are assigned to the user. The ids will be loaded via the role shortcut edge index and cached in the
+	 * {@link PermissionStore}.
+	 * 
+	 * @return
+	 */
+	private Set<Object> getRoleIds() {
+		return PermissionStore.getRoleIds(getId(), userId -> {
+			Set<Object> roleIds = new HashSet<>();
+			// Find all roles that are assigned to the user by checking the
+			// shortcut edge from the index
+			String idxKey = "e." + ASSIGNED_TO_ROLE + "_out";
+			for (Edge roleEdge : getGraph().getEdges(idxKey.toLowerCase(), userId)) {
+				roleIds.add(roleEdge.getVertex(Direction.IN).getId());
+			}
+			return roleIds;
+		});
 	}
 
 	@Override
@@ -485,9 +556,10 @@ public class UserImpl extends AbstractMeshCoreVertex<UserResponse, User> impleme
 		// }
 		// outE(HAS_USER).removeAll();
 		bac.batch().delete(this, false);
+		Object userId = getId();
 		getElement().remove();
 		bac.process();
-		PermissionStore.invalidate();
+		MeshInternal.get().database().afterCommit(() -> PermissionStore.invalidateUsers(Collections.singleton(userId)));
 	}
 
 	/**
@@ -86,6 +86,7 @@ public abstract class JobImpl extends AbstractMeshCoreVertex<JobResponse, Job> i
 		response.setStopDate(getStopDate());
 		response.setStartDate(getStartDate());
 		response.setCompletionCount(getCompletionCount());
+		response.setThroughput(getThroughput());
 		response.setNodeName(getNodeName());
 
 		JobWarningList warnings = getWarnings();
@@ -189,6 +190,16 @@ public abstract class JobImpl extends AbstractMeshCoreVertex<JobResponse, Job> i
 		property(COMPLETION_COUNT_PROPERTY_KEY, count);
 	}
 
+	@Override
+	public Double getThroughput() {
+		return property(THROUGHPUT_PROPERTY_KEY);
+	}
+
+	@Override
+	public void setThroughput(Double throughput) {
+		property(THROUGHPUT_PROPERTY_KEY, throughput);
+	}
+
 	@Override
 	public Branch getBranch() {
 		return out(HAS_BRANCH).nextOrDefaultExplicit(BranchImpl.class, null);
@@ -304,6 +315,7 @@ public abstract class JobImpl extends AbstractMeshCoreVertex<JobResponse, Job> i
 		setStopTimestamp(null);
 		setErrorDetail(null);
 		setErrorMessage(null);
+		setThroughput(null);
 		setStatus(MigrationStatus.QUEUED);
 	}
 
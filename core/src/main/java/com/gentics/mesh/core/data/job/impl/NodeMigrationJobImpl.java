@@ -101,6 +101,8 @@ public class NodeMigrationJobImpl extends JobImpl {
 
 				BranchSchemaEdge branchVersionEdge = branch.findBranchSchemaEdge(toContainerVersion);
 				status.setVersionEdge(branchVersionEdge);
+				// Continue with the progress of the last checkpoint if the job is resumed
+				status.setCompletionCount(getCompletionCount());
 
 				log.info("Handling node migration request for schema {" + schemaContainer.getUuid() + "} from version {"
 					+ fromContainerVersion.getUuid() + "} to version {" + toContainerVersion.getUuid() + "} for release {" + branch.getUuid()
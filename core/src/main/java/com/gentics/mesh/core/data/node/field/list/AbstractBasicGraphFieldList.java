@@ -3,8 +3,9 @@ package com.gentics.mesh.core.data.node.field.list;
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_LIST;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
+import java.util.Objects;
 
 import com.gentics.mesh.context.BulkActionContext;
 import com.gentics.mesh.core.data.GraphFieldContainer;
@@ -14,8 +15,12 @@ import com.gentics.mesh.core.rest.node.field.Field;
 import com.gentics.mesh.util.CompareUtils;
 
 /**
- * Abstract class for basic graph field lists. Basic graph field lists are stored within dedicated vertices. The values of such lists are stored as properties
- * within the vertex that represents the list.
+ * Abstract class for basic graph field lists. Basic graph field lists are stored within dedicated vertices. The values of such lists are stored in a single
+ * embedded list property within the vertex that represents the list.
+ * 
+ * The item fields access their values using the keys {@code item-<index>-<type>}. Those keys are mapped onto the position within the packed list. This way
+ * the list size can be determined and the items can be loaded without iterating over all properties of the vertex. Unset positions within the packed list
+ * are not counted as items.
  *
  * @param <T>
  *            Field type that represents a list item
@@ -26,6 +31,15 @@ import com.gentics.mesh.util.CompareUtils;
  */
 public abstract class AbstractBasicGraphFieldList<T extends ListableGraphField, RM extends Field, U> extends AbstractGraphFieldList<T, RM, U> {
 
+	/**
+	 * Name of the property which stores the values of all items in order.
+	 */
+	public static final String ITEMS_PROPERTY_KEY = "items";
+
+	private static final String ITEM_KEY_PREFIX = "item-";
+
+	private static final String ITEM_FIELD_KEY_SUFFIX = "field";
+
 	/**
 	 * Create a new field wrapper which is used to handle the field value.
 	 * 
@@ -34,11 +48,6 @@ public abstract class AbstractBasicGraphFieldList<T extends ListableGraphField,
 	 */
 	protected abstract T createField(String key);
 
-	protected T convertBasicValue(String itemKey) {
-		String key = itemKey.substring(0, itemKey.lastIndexOf("-"));
-		return createField(key);
-	}
-
 	/**
 	 * Load the field for the given index.
 	 * 
@@ -46,37 +55,133 @@ public abstract class AbstractBasicGraphFieldList<T extends ListableGraphField,
 	 * @return
 	 */
 	protected T getField(int index) {
-		return createField("item-" + index);
+		return createField(ITEM_KEY_PREFIX + index);
 	}
 
 	protected T createField() {
-		return createField("item-" + (getSize() + 1));
+		return createField(ITEM_KEY_PREFIX + (getItemValues().size() + 1));
+	}
+
+	/**
+	 * Return the stored values of all items in order.
+	 * 
+	 * @return
+	 */
+	protected List<Object> getItemValues() {
+		List<Object> values = super.getProperty(ITEMS_PROPERTY_KEY);
+		if (values == null) {
+			return Collections.emptyList();
+		}
+		return values;
+	}
+
+	/**
+	 * Store the values of all items. The property will be removed if no values are given.
+	 * 
+	 * @param values
+	 */
+	private void setItemValues(List<Object> values) {
+		super.setProperty(ITEMS_PROPERTY_KEY, values.isEmpty() ? null : values);
+	}
+
+	/**
+	 * Replace all items of the list with the given values. The values are stored using a single property write. Null values will be omitted.
+	 * 
+	 * @param items
+	 */
+	public void setItems(List<U> items) {
+		List<Object> values = new ArrayList<>(items.size());
+		for (U item : items) {
+			if (item != null) {
+				values.add(toItemValue(item));
+			}
+		}
+		setItemValues(values);
+	}
+
+	/**
+	 * Return the value which will be stored in the packed list for the given item. The value must match the value which is written by the item field.
+	 * 
+	 * @param item
+	 * @return
+	 */
+	protected Object toItemValue(U item) {
+		return item;
+	}
+
+	/**
+	 * Return the zero based position of the item value which is referenced by the given property key.
+	 * 
+	 * @param key
+	 * @return Position or -1 if the key does not reference an item value
+	 */
+	private int getItemPosition(String key) {
+		if (!key.startsWith(ITEM_KEY_PREFIX)) {
+			return -1;
+		}
+		int end = key.indexOf('-', ITEM_KEY_PREFIX.length());
+		if (end < 0 || key.endsWith("-" + ITEM_FIELD_KEY_SUFFIX)) {
+			return -1;
+		}
+		try {
+			return Integer.parseInt(key.substring(ITEM_KEY_PREFIX.length(), end)) - 1;
+		} catch (NumberFormatException e) {
+			return -1;
+		}
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <E> E getProperty(String name) {
+		int position = getItemPosition(name);
+		if (position < 0) {
+			return super.getProperty(name);
+		}
+		List<Object> values = getItemValues();
+		if (position >= values.size()) {
+			return null;
+		}
+		return (E) values.get(position);
+	}
+
+	@Override
+	public void setProperty(String name, Object value) {
+		int position = getItemPosition(name);
+		if (position < 0) {
+			super.setProperty(name, value);
+			return;
+		}
+		List<Object> values = new ArrayList<>(getItemValues());
+		while (values.size() <= position) {
+			values.add(null);
+		}
+		values.set(position, value);
+		// Remove unset items from the end of the list
+		while (!values.isEmpty() && values.get(values.size() - 1) == null) {
+			values.remove(values.size() - 1);
+		}
+		setItemValues(values);
 	}
 
 	@Override
 	public long getSize() {
-		return getProperties("item").size();
+		return getItemValues().stream().filter(Objects::nonNull).count();
 	}
 
 	@Override
 	public void removeAll() {
-		for (String key : getProperties("item-").keySet()) {
-			setProperty(key, null);
-		}
+		setItemValues(Collections.emptyList());
 	}
 
 	@Override
 	public List<? extends T> getList() {
-		Map<String, String> map = getProperties("item");
-		List<T> list = new ArrayList<>();
-		// TODO sorting is not very efficient, because the keys are transformed to their order too often
-		map.keySet().stream().sorted((key1, key2) -> {
-			int index1 = Integer.parseInt(key1.substring("item-".length(), key1.lastIndexOf("-")));
-			int index2 = Integer.parseInt(key2.substring("item-".length(), key2.lastIndexOf("-")));
-			return index1 - index2;
-		}).forEachOrdered(itemKey -> {
-			list.add(convertBasicValue(itemKey));
-		});
+		List<Object> values = getItemValues();
+		List<T> list = new ArrayList<>(values.size());
+		for (int i = 0; i < values.size(); i++) {
+			if (values.get(i) != null) {
+				list.add(getField(i + 1));
+			}
+		}
 		return list;
 	}
 
@@ -91,7 +196,7 @@ public abstract class AbstractBasicGraphFieldList<T extends ListableGraphField,
 
 	@Override
 	public GraphField cloneTo(GraphFieldContainer container) {
-		container.linkOut(this, HAS_LIST);
+		linkTo(container);
 		return container.getList(getClass(), getFieldKey());
 	}
 
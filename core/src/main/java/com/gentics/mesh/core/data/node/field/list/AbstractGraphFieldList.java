@@ -1,5 +1,8 @@
 package com.gentics.mesh.core.data.node.field.list;
 
+import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_LIST;
+
+import com.gentics.mesh.core.data.GraphFieldContainer;
 import com.gentics.mesh.core.data.generic.MeshVertexImpl;
 import com.gentics.mesh.core.data.node.field.GraphField;
 import com.gentics.mesh.core.data.node.field.nesting.ListableGraphField;
@@ -27,6 +30,15 @@ public abstract class AbstractGraphFieldList<T extends ListableGraphField, RM ex
 		return getProperty(GraphField.FIELD_KEY_PROPERTY_KEY);
 	}
 
+	/**
+	 * Link the list to the given container. The field key is also stored in the edge so that the list can be found via the list edge index of the container.
+	 * 
+	 * @param container
+	 */
+	protected void linkTo(GraphFieldContainer container) {
+		container.addFramedEdge(HAS_LIST, this).setProperty(GraphField.FIELD_KEY_PROPERTY_KEY, getFieldKey());
+	}
+
 	@Override
 	public void addItem(T item) {
 		// TODO Auto-generated method stub
@@ -5,6 +5,7 @@ import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_LIS
 
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import com.gentics.mesh.context.BulkActionContext;
 import com.gentics.mesh.core.data.GraphFieldContainer;
@@ -43,20 +44,26 @@ public abstract class AbstractReferencingGraphFieldList<T extends ListableGraphF
 
 	@Override
 	public List<? extends T> getList() {
-		List<? extends T> list = outE(HAS_ITEM).has(getListType()).toListExplicit(getListType());
-		return list.stream().sorted((a, b) -> {
-			String bk = b.getFieldKey();
-			String ak = a.getFieldKey();
-			if (bk == null) {
-				bk = "0";
-			}
-			if (ak == null) {
-				ak = "0";
+		List<? extends T> items = outE(HAS_ITEM).has(getListType()).toListExplicit(getListType());
+
+		// Determine the position of each item only once. The items are stored in order and thus usually don't need to be sorted.
+		long[] positions = new long[items.size()];
+		boolean sorted = true;
+		for (int i = 0; i < items.size(); i++) {
+			String key = items.get(i).getFieldKey();
+			positions[i] = key == null ? 0 : Long.parseLong(key);
+			if (i > 0 && positions[i] < positions[i - 1]) {
+				sorted = false;
 			}
-			long bv = Long.valueOf(bk);
-			long av = Long.valueOf(ak);
-			return Long.compare(av, bv);
-		}).collect(Collectors.toList());
+		}
+		if (sorted) {
+			return items;
+		}
+		return IntStream.range(0, items.size())
+			.boxed()
+			.sorted((a, b) -> Long.compare(positions[a], positions[b]))
+			.map(items::get)
+			.collect(Collectors.toList());
 	}
 
 	@Override
@@ -72,7 +79,7 @@ public abstract class AbstractReferencingGraphFieldList<T extends ListableGraphF
 
 	@Override
 	public GraphField cloneTo(GraphFieldContainer container) {
-		container.linkOut(this, HAS_LIST);
+		linkTo(container);
 		return container.getList(getClass(), getFieldKey());
 	}
 
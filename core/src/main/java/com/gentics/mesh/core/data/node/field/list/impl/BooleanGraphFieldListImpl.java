@@ -66,14 +66,12 @@ public class BooleanGraphFieldListImpl extends AbstractBasicGraphFieldList<Boole
 		graphBooleanFieldList = container.createBooleanList(fieldKey);
 
 		// Handle Update
-		// Remove all and add the listed items
-		graphBooleanFieldList.removeAll();
 		for (Boolean item : booleanList.getItems()) {
 			if (item == null) {
 				throw error(BAD_REQUEST, "field_list_error_null_not_allowed", fieldKey);
 			}
-			graphBooleanFieldList.createBoolean(item);
 		}
+		graphBooleanFieldList.setItems(booleanList.getItems());
 
 	};
 
@@ -97,6 +95,12 @@ public class BooleanGraphFieldListImpl extends AbstractBasicGraphFieldList<Boole
 		return field;
 	}
 
+	@Override
+	protected Object toItemValue(Boolean flag) {
+		// The boolean field stores the string representation of the value
+		return String.valueOf(flag);
+	}
+
 	@Override
 	protected BooleanGraphField createField(String key) {
 		return new BooleanGraphFieldImpl(key, this);
@@ -5,6 +5,7 @@ import static com.gentics.mesh.util.DateUtils.fromISO8601;
 import static com.gentics.mesh.util.DateUtils.toISO8601;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -67,13 +68,14 @@ public class DateGraphFieldListImpl extends AbstractBasicGraphFieldList<DateGrap
 		graphDateFieldList = container.createDateList(fieldKey);
 
 		// Handle Update
-		graphDateFieldList.removeAll();
+		List<Long> dates = new ArrayList<>(dateList.getItems().size());
 		for (String item : dateList.getItems()) {
 			if (item == null) {
 				throw error(BAD_REQUEST, "field_list_error_null_not_allowed", fieldKey);
 			}
-			graphDateFieldList.createDate(fromISO8601(item));
+			dates.add(fromISO8601(item));
 		}
+		graphDateFieldList.setItems(dates);
 
 	};
 
@@ -92,6 +94,12 @@ public class DateGraphFieldListImpl extends AbstractBasicGraphFieldList<DateGrap
 		return field;
 	}
 
+	@Override
+	protected Object toItemValue(Long date) {
+		// The date field stores the string representation of the timestamp
+		return String.valueOf(date);
+	}
+
 	@Override
 	protected DateGraphField createField(String key) {
 		return new DateGraphFieldImpl(key, this);
@@ -69,8 +69,8 @@ public class HtmlGraphFieldListImpl extends AbstractBasicGraphFieldList<HtmlGrap
 			if (item == null) {
 				throw error(BAD_REQUEST, "field_list_error_null_not_allowed", fieldKey);
 			}
-			graphHtmlFieldList.createHTML(item);
 		}
+		graphHtmlFieldList.setItems(htmlList.getItems());
 	};
 
 	public static FieldGetter HTML_LIST_GETTER = (container, fieldSchema) -> {
@@ -67,13 +67,12 @@ public class NumberGraphFieldListImpl extends AbstractBasicGraphFieldList<Number
 		graphNumberFieldList = container.createNumberList(fieldKey);
 
 		// Handle Update
-		graphNumberFieldList.removeAll();
 		for (Number item : numberList.getItems()) {
 			if (item == null) {
 				throw error(BAD_REQUEST, "field_list_error_null_not_allowed", fieldKey);
 			}
-			graphNumberFieldList.createNumber(item);
 		}
+		graphNumberFieldList.setItems(numberList.getItems());
 
 	};
 
@@ -66,13 +66,12 @@ public class StringGraphFieldListImpl extends AbstractBasicGraphFieldList<String
 		graphStringList = container.createStringList(fieldKey);
 
 		// Handle Update
-		graphStringList.removeAll();
 		for (String item : stringList.getItems()) {
 			if (item == null) {
 				throw error(BAD_REQUEST, "field_list_error_null_not_allowed", fieldKey);
 			}
-			graphStringList.createString(item);
 		}
+		graphStringList.setItems(stringList.getItems());
 	};
 
 	public static FieldGetter STRING_LIST_GETTER = (container, fieldSchema) -> {
@@ -0,0 +1,104 @@
+package com.gentics.mesh.core.data.node.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.gentics.mesh.core.cache.PathCache;
+import com.gentics.mesh.dagger.MeshInternal;
+import com.gentics.mesh.util.UUIDUtil;
+import com.syncleus.ferma.FramedGraph;
+import com.syncleus.ferma.tx.Tx;
+import com.tinkerpop.blueprints.Vertex;
+
+/**
+ * Collector for node changes whose effects on other nodes are deferred. A change of a node normally propagates its stamp as subtree stamp to the ancestors
+ * and invalidates the cached paths of the node. Threads which change many nodes concurrently (e.g. the workers of a node migration) would thus write the
+ * same ancestor vertices. While a collector is active for a thread only the changed node itself will be updated. The remaining work is done once by
+ * {@link #apply()}.
+ */
+public class DeferredNodeChanges {
+
+	private static final ThreadLocal<DeferredNodeChanges> ACTIVE = new ThreadLocal<>();
+
+	private final Set<Object> stampedNodeIds = ConcurrentHashMap.newKeySet();
+
+	private final Set<String> pathNodeUuids = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * Return the collector which is active for the current thread.
+	 *
+	 * @return Collector or null if the changes are not deferred
+	 */
+	static DeferredNodeChanges getActive() {
+		return ACTIVE.get();
+	}
+
+	/**
+	 * Run the action and collect the node changes of the current thread. The collector may be used by multiple threads at the same time.
+	 *
+	 * @param action
+	 */
+	public void run(Runnable action) {
+		DeferredNodeChanges previous = ACTIVE.get();
+		ACTIVE.set(this);
+		try {
+			action.run();
+		} finally {
+			if (previous == null) {
+				ACTIVE.remove();
+			} else {
+				ACTIVE.set(previous);
+			}
+		}
+	}
+
+	/**
+	 * Add a node whose subtree stamp needs to be propagated to its ancestors.
+	 *
+	 * @param nodeId
+	 */
+	void addStampedNode(Object nodeId) {
+		stampedNodeIds.add(nodeId);
+	}
+
+	/**
+	 * Add a node whose cached paths need to be invalidated.
+	 *
+	 * @param nodeUuid
+	 */
+	void addPathNode(String nodeUuid) {
+		pathNodeUuids.add(nodeUuid);
+	}
+
+	/**
+	 * Propagate a new subtree stamp from the collected nodes to their ancestors and invalidate the cached paths of the collected nodes. This must be invoked
+	 * after the changes have been committed and while no other thread collects changes. The collector is cleared afterwards and can be used again.
+	 */
+	public void apply() {
+		List<Object> nodeIds = new ArrayList<>(stampedNodeIds);
+		stampedNodeIds.clear();
+		if (!nodeIds.isEmpty()) {
+			MeshInternal.get().database().tx(() -> {
+				FramedGraph graph = Tx.getActive().getGraph();
+				List<NodeImpl> nodes = new ArrayList<>(nodeIds.size());
+				for (Object nodeId : nodeIds) {
+					Vertex vertex = graph.getVertex(nodeId);
+					// The node may have been deleted in the meanwhile
+					if (vertex != null) {
+						nodes.add(graph.frameElementExplicit(vertex, NodeImpl.class));
+					}
+				}
+				NodeImpl.updateSubtreeStamps(nodes, UUIDUtil.randomUUID());
+			});
+		}
+
+		List<String> nodeUuids = new ArrayList<>(pathNodeUuids);
+		pathNodeUuids.clear();
+		if (!nodeUuids.isEmpty()) {
+			PathCache.invalidateNodes(nodeUuids);
+		}
+	}
+
+}
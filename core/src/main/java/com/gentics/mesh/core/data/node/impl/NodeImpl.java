@@ -38,6 +38,7 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.Stack;
 import java.util.stream.Collectors;
@@ -49,6 +50,8 @@ import org.apache.commons.lang3.NotImplementedException;
 import com.gentics.mesh.Mesh;
 import com.gentics.mesh.context.BulkActionContext;
 import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.cache.PathCache;
+import com.gentics.mesh.core.cache.PathCacheKey;
 import com.gentics.mesh.core.data.Branch;
 import com.gentics.mesh.core.data.ContainerType;
 import com.gentics.mesh.core.data.GraphFieldContainer;
@@ -123,6 +126,7 @@ import com.gentics.mesh.path.PathSegment;
 import com.gentics.mesh.util.DateUtils;
 import com.gentics.mesh.util.ETag;
 import com.gentics.mesh.util.URIUtils;
+import com.gentics.mesh.util.UUIDUtil;
 import com.gentics.mesh.util.VersionNumber;
 import com.syncleus.ferma.EdgeFrame;
 import com.syncleus.ferma.FramedGraph;
@@ -145,6 +149,11 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 
 	private static final Logger log = LoggerFactory.getLogger(NodeImpl.class);
 
+	/**
+	 * Amount of children whose permissions are checked at once when streaming the children of a node.
+	 */
+	private static final int PERMISSION_CHECK_CHUNK_SIZE = 100;
+
 	public static void init(Database database) {
 		database.addVertexType(NodeImpl.class, MeshVertexImpl.class);
 		database.addEdgeIndex(HAS_PARENT_NODE);
@@ -191,6 +200,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		NodeGraphFieldContainer container = getGraphFieldContainer(languageTag, branchUuid, type);
 		if (container != null) {
 			container.postfixSegmentFieldValue();
+			invalidatePaths();
 		}
 	}
 
@@ -200,67 +210,94 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		// Thus utilise the action context data map to retrieve already handled paths.
 		String cacheKey = getUuid() + branchUuid + type.getCode() + Arrays.toString(languageTag);
 		return (String) ac.data().computeIfAbsent(cacheKey, key -> {
+			// Paths of other requests are cached in the central path cache
+			PathCacheKey pathKey = new PathCacheKey(getUuid(), branchUuid, type.getCode(), languageTag);
+			String path = PathCache.get(pathKey);
+			if (path != null) {
+				return path;
+			}
+			long generation = PathCache.getGeneration();
+			Set<String> nodeUuids = new HashSet<>();
+			path = resolvePath(branchUuid, type, nodeUuids, languageTag);
+			if (path != null) {
+				PathCache.store(pathKey, path, nodeUuids, generation);
+			}
+			return path;
+		});
+
+	}
+
+	/**
+	 * Resolve the path of the node by walking up the parent chain.
+	 * 
+	 * @param branchUuid
+	 * @param type
+	 * @param nodeUuids
+	 *            Set which will be populated with the uuids of the node and its ancestors
+	 * @param languageTag
+	 * @return Resolved path or null if one of the segments could not be resolved
+	 */
+	private String resolvePath(String branchUuid, ContainerType type, Set<String> nodeUuids, String... languageTag) {
+		List<String> segments = new ArrayList<>();
+		nodeUuids.add(getUuid());
+		String segment = getPathSegment(branchUuid, type, languageTag);
+		if (segment == null) {
+			return null;
+		}
+		segments.add(segment);
+
+		// For the path segments of the container, we add all (additional)
+		// project languages to the list of languages for the fallback.
+		List<String> langList = new ArrayList<>();
+		langList.addAll(Arrays.asList(languageTag));
+
+		// TODO maybe we only want to get the project languages?
+		langList.addAll(MeshInternal.get().boot().getAllLanguageTags());
+		String[] projectLanguages = langList.toArray(new String[langList.size()]);
+		Node current = this;
+		while (current != null) {
+			current = current.getParentNode(branchUuid);
+			if (current == null || current.getParentNode(branchUuid) == null) {
+				break;
+			}
+			nodeUuids.add(current.getUuid());
+			// For the path segments of the container, we allow ANY language (of the project)
+			segment = current.getPathSegment(branchUuid, type, projectLanguages);
 
-			List<String> segments = new ArrayList<>();
-			String segment = getPathSegment(branchUuid, type, languageTag);
+			// Abort early if one of the path segments could not be resolved. We
+			// need to return a 404 in those cases.
 			if (segment == null) {
 				return null;
 			}
 			segments.add(segment);
+		}
 
-			// For the path segments of the container, we add all (additional)
-			// project languages to the list of languages for the fallback.
-			List<String> langList = new ArrayList<>();
-			langList.addAll(Arrays.asList(languageTag));
-
-			// TODO maybe we only want to get the project languages?
-			langList.addAll(MeshInternal.get().boot().getAllLanguageTags());
-			String[] projectLanguages = langList.toArray(new String[langList.size()]);
-			Node current = this;
-			while (current != null) {
-				current = current.getParentNode(branchUuid);
-				if (current == null || current.getParentNode(branchUuid) == null) {
-					break;
-				}
-				// For the path segments of the container, we allow ANY language (of the project)
-				segment = current.getPathSegment(branchUuid, type, projectLanguages);
+		Collections.reverse(segments);
 
-				// Abort early if one of the path segments could not be resolved. We
-				// need to return a 404 in those cases.
-				if (segment == null) {
-					return null;
-				}
-				segments.add(segment);
-			}
+		// Finally construct the path from all segments
+		StringBuilder builder = new StringBuilder();
 
-			Collections.reverse(segments);
-
-			// Finally construct the path from all segments
-			StringBuilder builder = new StringBuilder();
-
-			// Append the prefix first
-			Branch branch = getProject().getBranchRoot().findByUuid(branchUuid);
-			if (branch != null) {
-				String prefix = PathPrefixUtil.sanitize(branch.getPathPrefix());
-				if (!prefix.isEmpty()) {
-					String[] prefixSegments = prefix.split("/");
-					for (String prefixSegment : prefixSegments) {
-						if (prefixSegment.isEmpty()) {
-							continue;
-						}
-						builder.append("/").append(URIUtils.encodeSegment(prefixSegment));
+		// Append the prefix first
+		Branch branch = getProject().getBranchRoot().findByUuid(branchUuid);
+		if (branch != null) {
+			String prefix = PathPrefixUtil.sanitize(branch.getPathPrefix());
+			if (!prefix.isEmpty()) {
+				String[] prefixSegments = prefix.split("/");
+				for (String prefixSegment : prefixSegments) {
+					if (prefixSegment.isEmpty()) {
+						continue;
 					}
+					builder.append("/").append(URIUtils.encodeSegment(prefixSegment));
 				}
 			}
+		}
 
-			Iterator<String> it = segments.iterator();
-			while (it.hasNext()) {
-				String currentSegment = it.next();
-				builder.append("/").append(URIUtils.encodeSegment(currentSegment));
-			}
-			return builder.toString();
-		});
-
+		Iterator<String> it = segments.iterator();
+		while (it.hasNext()) {
+			String currentSegment = it.next();
+			builder.append("/").append(URIUtils.encodeSegment(currentSegment));
+		}
+		return builder.toString();
 	}
 
 	@Override
@@ -437,6 +474,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 			initialEdge.setType(INITIAL);
 		}
 
+		updateChangeStamp();
 		return newContainer;
 	}
 
@@ -469,16 +507,19 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		removeTag(tag, branch);
 		TagEdge edge = addFramedEdge(HAS_TAG, tag, TagEdgeImpl.class);
 		edge.setBranchUuid(branch.getUuid());
+		updateChangeStamp();
 	}
 
 	@Override
 	public void removeTag(Tag tag, Branch branch) {
 		outE(HAS_TAG).has(TagEdgeImpl.BRANCH_UUID_KEY, branch.getUuid()).mark().inV().retain(tag).back().removeAll();
+		updateChangeStamp();
 	}
 
 	@Override
 	public void removeAllTags(Branch branch) {
 		outE(HAS_TAG).has(TagEdgeImpl.BRANCH_UUID_KEY, branch.getUuid()).removeAll();
+		updateChangeStamp();
 	}
 
 	@Override
@@ -521,14 +562,35 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		Iterable<Edge> edges = graph.getEdges("e." + HAS_PARENT_NODE.toLowerCase() + "_branch",
 			db.createComposedIndexKey(id(), ac.getBranch().getUuid()));
 		Iterator<Edge> it = edges.iterator();
-		Iterable<Edge> iterable = () -> it;
-		Stream<Edge> stream = StreamSupport.stream(iterable.spliterator(), false);
-		return stream
-			.map(edge -> edge.getVertex(OUT))
-			.filter(vertex -> {
-				Object id = vertex.getId();
-				return user.hasPermissionForId(id, READ_PERM) || user.hasPermissionForId(id, READ_PUBLISHED_PERM);
-			})
+		// Check the permissions of the children in chunks while the stream advances so that consumers which only need the first children (e.g. paging)
+		// don't check all children. Read published permission also includes nodes with read permission.
+		Iterator<Vertex> visibleChildren = new Iterator<Vertex>() {
+			private Iterator<Vertex> chunk = Collections.emptyIterator();
+
+			@Override
+			public boolean hasNext() {
+				while (!chunk.hasNext() && it.hasNext()) {
+					List<Vertex> vertices = new ArrayList<>(PERMISSION_CHECK_CHUNK_SIZE);
+					while (vertices.size() < PERMISSION_CHECK_CHUNK_SIZE && it.hasNext()) {
+						vertices.add(it.next().getVertex(OUT));
+					}
+					Set<Object> visibleIds = user.hasPermissionForIds(vertices.stream().map(Vertex::getId).collect(Collectors.toList()),
+						READ_PUBLISHED_PERM);
+					chunk = vertices.stream().filter(vertex -> visibleIds.contains(vertex.getId())).iterator();
+				}
+				return chunk.hasNext();
+			}
+
+			@Override
+			public Vertex next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				return chunk.next();
+			}
+		};
+		Iterable<Vertex> iterable = () -> visibleChildren;
+		return StreamSupport.stream(iterable.spliterator(), false)
 			.map(vertex -> graph.frameElementExplicit(vertex, NodeImpl.class));
 	}
 
@@ -548,8 +610,119 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 
 	@Override
 	public void setParentNode(String branchUuid, Node parent) {
+		Node oldParent = getParentNode(branchUuid);
+		if (oldParent != null) {
+			// The children of the old parent change
+			oldParent.updateChangeStamp();
+			((NodeImpl) oldParent).adjustChildCount(branchUuid, -1);
+		}
 		outE(HAS_PARENT_NODE).has(BRANCH_UUID_KEY, branchUuid).removeAll();
 		addFramedEdge(HAS_PARENT_NODE, parent).setProperty(BRANCH_UUID_KEY, branchUuid);
+		((NodeImpl) parent).adjustChildCount(branchUuid, 1);
+		updateChangeStampWithParents();
+		invalidatePaths();
+	}
+
+	@Override
+	public long getChildCount(String branchUuid) {
+		Long count = property(CHILD_COUNT_PROPERTY_PREFIX + branchUuid);
+		return count == null ? 0 : count;
+	}
+
+	/**
+	 * Adjust the persisted amount of children of the node in the given branch.
+	 * 
+	 * @param branchUuid
+	 * @param delta
+	 */
+	private void adjustChildCount(String branchUuid, long delta) {
+		property(CHILD_COUNT_PROPERTY_PREFIX + branchUuid, Math.max(0, getChildCount(branchUuid) + delta));
+	}
+
+	/**
+	 * Decrement the child counters of all parents of the node. This needs to be invoked before the node is removed.
+	 */
+	private void decrementParentChildCounts() {
+		FramedGraph graph = getGraph();
+		for (Edge edge : getElement().getEdges(OUT, HAS_PARENT_NODE)) {
+			String branchUuid = edge.getProperty(BRANCH_UUID_KEY);
+			graph.frameElementExplicit(edge.getVertex(IN), NodeImpl.class).adjustChildCount(branchUuid, -1);
+		}
+	}
+
+	@Override
+	public String getChangeStamp() {
+		return property(CHANGE_STAMP_PROPERTY_KEY);
+	}
+
+	@Override
+	public String getSubtreeStamp() {
+		return property(SUBTREE_STAMP_PROPERTY_KEY);
+	}
+
+	@Override
+	public void updateChangeStamp() {
+		updateChangeStamp(false);
+	}
+
+	@Override
+	public void updateChangeStampWithParents() {
+		updateChangeStamp(true);
+	}
+
+	/**
+	 * Set a new change stamp and propagate it as subtree stamp to the ancestors up to {@link Node#SUBTREE_STAMP_DEPTH} levels. The ancestors of all branches
+	 * are updated since the subtree stamp is not branch specific. The propagation is deferred when a {@link DeferredNodeChanges} collector is active.
+	 * 
+	 * @param includeParents
+	 *            Whether to also update the change stamp of the direct parents
+	 */
+	private void updateChangeStamp(boolean includeParents) {
+		String stamp = UUIDUtil.randomUUID();
+		property(CHANGE_STAMP_PROPERTY_KEY, stamp);
+
+		DeferredNodeChanges deferred = DeferredNodeChanges.getActive();
+		if (deferred != null && !includeParents) {
+			// The ancestors will be updated once the collected changes are applied
+			property(SUBTREE_STAMP_PROPERTY_KEY, stamp);
+			deferred.addStampedNode(id());
+			return;
+		}
+
+		// Changed parents are handled like the node itself and thus propagate the stamp to the same amount of levels
+		List<NodeImpl> level = new ArrayList<>();
+		level.add(this);
+		if (includeParents) {
+			for (NodeImpl parent : out(HAS_PARENT_NODE).toListExplicit(NodeImpl.class)) {
+				parent.property(CHANGE_STAMP_PROPERTY_KEY, stamp);
+				level.add(parent);
+			}
+		}
+		updateSubtreeStamps(level, stamp);
+	}
+
+	/**
+	 * Set the given stamp as subtree stamp of the given nodes and of their ancestors up to {@link Node#SUBTREE_STAMP_DEPTH} levels.
+	 * 
+	 * @param nodes
+	 * @param stamp
+	 */
+	static void updateSubtreeStamps(List<NodeImpl> nodes, String stamp) {
+		List<NodeImpl> level = nodes;
+		Set<Object> visited = new HashSet<>();
+		for (int depth = 0; depth <= SUBTREE_STAMP_DEPTH && !level.isEmpty(); depth++) {
+			List<NodeImpl> nextLevel = new ArrayList<>();
+			for (NodeImpl current : level) {
+				if (!visited.add(current.id())) {
+					continue;
+				}
+				current.property(SUBTREE_STAMP_PROPERTY_KEY, stamp);
+				if (depth < SUBTREE_STAMP_DEPTH) {
+					nextLevel.addAll(current.out(HAS_PARENT_NODE).toListExplicit(NodeImpl.class));
+				}
+			}
+			level = nextLevel;
+		}
 	}
 
 	@Override
@@ -809,8 +982,10 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 	 */
 	private void setChildrenInfo(InternalActionContext ac, Branch branch, NodeResponse restNode) {
 		Map<String, NodeChildrenInfo> childrenInfo = new HashMap<>();
-		for (Node child : getChildren(branch.getUuid())) {
-			if (ac.getUser().hasPermission(child, READ_PERM)) {
+		List<? extends Node> children = getChildren(branch.getUuid()).list();
+		Set<Object> readableIds = ac.getUser().hasPermissionForIds(children.stream().map(child -> child.id()).collect(Collectors.toList()), READ_PERM);
+		for (Node child : children) {
+			if (readableIds.contains(child.id())) {
 				String schemaName = child.getSchemaContainer().getName();
 				NodeChildrenInfo info = childrenInfo.get(schemaName);
 				if (info == null) {
@@ -930,8 +1105,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 			if (!getSchemaContainer().getLatestVersion().getSchema().isContainer()) {
 				throw error(BAD_REQUEST, "navigation_error_no_container");
 			}
-			String etagKey = buildNavigationEtagKey(ac, this, parameters.getMaxDepth(), 0, ac.getBranch(getProject()).getUuid(), forVersion(ac
-				.getVersioningParameters().getVersion()));
+			String etagKey = buildNavigationEtagKey(ac, this, parameters.getMaxDepth(), forVersion(ac.getVersioningParameters().getVersion()));
 			String etag = ETag.hash(etagKey);
 			ac.setEtag(etag, true);
 			if (ac.matches(etag, true)) {
@@ -945,40 +1119,51 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 	}
 
 	/**
-	 * Generate the etag key for the requested navigation.
+	 * Generate the etag key for the requested navigation. The subtree stamp of the node changes whenever any node within the first
+	 * {@link Node#SUBTREE_STAMP_DEPTH} levels of the subtree changes and thus only the descendants of deeper navigations need to be traversed.
 	 * 
 	 * @param ac
 	 * @param node
 	 *            Current node to start building the navigation
 	 * @param maxDepth
 	 *            Maximum depth of navigation
-	 * @param level
-	 *            Current level of recursion
-	 * @param branchUuid
-	 *            Branch uuid used to extract selected tree structure
 	 * @param type
 	 * @return
 	 */
-	private String buildNavigationEtagKey(InternalActionContext ac, Node node, int maxDepth, int level, String branchUuid, ContainerType type) {
+	private String buildNavigationEtagKey(InternalActionContext ac, Node node, int maxDepth, ContainerType type) {
 		NavigationParametersImpl parameters = new NavigationParametersImpl(ac);
 		StringBuilder builder = new StringBuilder();
 		builder.append(node.getETag(ac));
+		builder.append("-subtree:");
+		appendSubtreeStamps(builder, node, ac.getBranch(getProject()).getUuid(), maxDepth);
+		builder.append("-depth:");
+		builder.append(maxDepth);
+		builder.append("-includeAll:");
+		builder.append(parameters.isIncludeAll());
+		builder.append("-type:");
+		builder.append(type.getCode());
+		return builder.toString();
+	}
 
-		TraversalResult<? extends Node> nodes = node.getChildren(ac.getUser(), branchUuid, null, type);
-
-		// Abort recursion when we reach the max level or when no more children
-		// can be found.
-		if (level == maxDepth || !nodes.iterator().hasNext()) {
-			return builder.toString();
+	/**
+	 * Append the subtree stamps which cover the changes of all descendants up to the given depth. The stamp of a node only covers the descendants up to
+	 * {@link Node#SUBTREE_STAMP_DEPTH} levels and thus the stamps of the children are added for deeper subtrees.
+	 * 
+	 * @param builder
+	 * @param node
+	 * @param branchUuid
+	 * @param depth
+	 *            Depth of the subtree which should be covered
+	 */
+	private void appendSubtreeStamps(StringBuilder builder, Node node, String branchUuid, int depth) {
+		builder.append(node.getSubtreeStamp());
+		if (depth <= SUBTREE_STAMP_DEPTH) {
+			return;
 		}
-		for (Node child : nodes) {
-			if (child.getSchemaContainer().getLatestVersion().getSchema().isContainer()) {
-				builder.append(buildNavigationEtagKey(ac, child, maxDepth, level + 1, branchUuid, type));
-			} else if (parameters.isIncludeAll()) {
-				builder.append(buildNavigationEtagKey(ac, child, maxDepth, level, branchUuid, type));
-			}
+		for (Node child : node.getChildren(branchUuid)) {
+			builder.append(",");
+			appendSubtreeStamps(builder, child, branchUuid, depth - 1);
 		}
-		return builder.toString();
 	}
 
 	/**
@@ -1173,6 +1358,8 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		// Remove the published edge for each found container
 		TraversalResult<? extends NodeGraphFieldContainer> publishedContainers = getGraphFieldContainers(branchUuid, PUBLISHED);
 		getGraphFieldContainerEdges(branchUuid, PUBLISHED).stream().forEach(EdgeFrame::remove);
+		updateChangeStamp();
+		invalidatePaths();
 
 		assertPublishConsistency(ac, branch);
 
@@ -1255,6 +1442,8 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		}
 		// 2. Remove the "published" edge
 		getGraphFieldContainerEdge(languageTag, branchUuid, PUBLISHED).remove();
+		updateChangeStamp();
+		invalidatePaths();
 		assertPublishConsistency(ac, branch);
 
 		// 3. Invoke a delete on the document since it must be removed from the published index
@@ -1284,6 +1473,8 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		edge.setBranchUuid(branchUuid);
 		edge.setType(PUBLISHED);
 		container.updateWebrootPathInfo(branchUuid, "node_conflicting_segmentfield_publish");
+		updateChangeStamp();
+		invalidatePaths();
 	}
 
 	@Override
@@ -1369,6 +1560,9 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		if (log.isDebugEnabled()) {
 			log.debug("Deleting node {" + getUuid() + "} vertex.");
 		}
+		updateParentChangeStamps();
+		decrementParentChildCounts();
+		invalidatePaths();
 		getElement().remove();
 		bac.process();
 	}
@@ -1392,6 +1586,9 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		}
 
 		// Finally remove the node element itself
+		updateParentChangeStamps();
+		decrementParentChildCounts();
+		invalidatePaths();
 		getElement().remove();
 		bac.process();
 	}
@@ -1423,7 +1620,13 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 			// Otherwise we need to remove the "parent" edge for the branch
 			// first remove the "parent" edge (because the node itself will
 			// probably not be deleted, but just removed from the branch)
+			Node parent = getParentNode(branchUuid);
+			if (parent != null) {
+				parent.updateChangeStamp();
+				((NodeImpl) parent).adjustChildCount(branchUuid, -1);
+			}
 			outE(HAS_PARENT_NODE).has(BRANCH_UUID_KEY, branchUuid).removeAll();
+			invalidatePaths();
 		}
 	}
 
@@ -1484,10 +1687,11 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		Object indexKey = DB.get().createComposedIndexKey(id(), branchUuid);
 
 		GraphPermission perm = type == PUBLISHED ? READ_PUBLISHED_PERM : READ_PERM;
+		DynamicTransformablePageImpl<NodeImpl> page;
 		if (languageTags == null) {
-			return new DynamicTransformablePageImpl<>(ac.getUser(), indexName, indexKey, NodeImpl.class, pagingInfo, perm, null, true);
+			page = new DynamicTransformablePageImpl<>(ac.getUser(), indexName, indexKey, NodeImpl.class, pagingInfo, perm, null, true);
 		} else {
-			return new DynamicTransformablePageImpl<>(ac.getUser(), indexName, indexKey, NodeImpl.class, pagingInfo, perm, (item) -> {
+			page = new DynamicTransformablePageImpl<>(ac.getUser(), indexName, indexKey, NodeImpl.class, pagingInfo, perm, (item) -> {
 				// Filter out nodes which do not provide one of the specified language tags and type
 				for (String languageTag : languageTags) {
 					if (item.getGraphFieldContainerEdge(languageTag, branchUuid, type) != null) {
@@ -1497,6 +1701,8 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 				return false;
 			}, true);
 		}
+		page.setStoredCount(getChildCount(branchUuid));
+		return page;
 	}
 
 	@Override
@@ -1515,6 +1721,29 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 			}
 		}
 		super.applyPermissions(batch, role, recursive, permissionsToGrant, permissionsToRevoke);
+		// The permissions affect the children which are visible in the parent node
+		updateChangeStampWithParents();
+	}
+
+	@Override
+	public void invalidatePaths() {
+		String uuid = getUuid();
+		DeferredNodeChanges deferred = DeferredNodeChanges.getActive();
+		if (deferred != null) {
+			deferred.addPathNode(uuid);
+			return;
+		}
+		// Paths which are resolved before the commit would otherwise be cached again using the outdated state
+		MeshInternal.get().database().afterCommit(() -> PathCache.invalidateNodes(Collections.singleton(uuid)));
+	}
+
+	/**
+	 * Update the change stamps of the parent nodes of all branches before the node gets removed.
+	 */
+	private void updateParentChangeStamps() {
+		for (NodeImpl parent : out(HAS_PARENT_NODE).toListExplicit(NodeImpl.class)) {
+			parent.updateChangeStamp();
+		}
 	}
 
 	@Override
@@ -1773,6 +2002,8 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 			throw error(NOT_FOUND, "node_no_language_found", languageTag);
 		}
 		container.deleteFromBranch(branch, context);
+		updateChangeStamp();
+		invalidatePaths();
 		// No need to delete the published variant because if the container was published the take offline call handled it
 
 		// starting with the old draft, delete all GFC that have no next and are not draft (for other branches)
@@ -1888,9 +2119,9 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 	 * <li>uuid of the node</li>
 	 * <li>parent node uuid (which is branch specific)</li>
 	 * <li>version and language specific etag of the field container</li>
-	 * <li>availableLanguages</li>
-	 * <li>breadcrumb</li>
-	 * <li>webroot path &amp; language paths</li>
+	 * <li>change stamp of the node which covers availableLanguages, publish state, tags and children</li>
+	 * <li>change stamps of the ancestors which cover the breadcrumb, webroot path &amp; language paths</li>
+	 * <li>roles of the user which define the visible children</li>
 	 * <li>permissions</li>
 	 * </ul>
 	 */
@@ -1901,9 +2132,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		// Parameters
 		Branch branch = ac.getBranch(getProject());
 		VersioningParameters versioiningParameters = ac.getVersioningParameters();
-		ContainerType type = forVersion(versioiningParameters.getVersion());
 
-		Node parentNode = getParentNode(branch.getUuid());
 		NodeGraphFieldContainer container = findVersion(ac.getNodeParameters().getLanguageList(), branch.getUuid(), ac.getVersioningParameters()
 			.getVersion());
 
@@ -1916,8 +2145,6 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		keyBuilder.append(branch.getUuid());
 		keyBuilder.append("-");
 
-		// TODO version, language list
-
 		// We can omit further etag keys since this would return a 404 anyhow
 		// since the requested container could not be found.
 		if (container == null) {
@@ -1925,21 +2152,18 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 			return keyBuilder.toString();
 		}
 
+		// fields version
+		keyBuilder.append("-");
+		keyBuilder.append(container.getETag(ac));
+
 		/**
-		 * Parent node
+		 * Version and language list
 		 * 
-		 * The node can be moved and this would also affect the response. The etag must also be changed when the node is moved.
+		 * Both parameters affect the containers which are used to render the breadcrumb and the paths.
 		 */
-		if (parentNode != null) {
-			keyBuilder.append("-");
-			keyBuilder.append(parentNode.getUuid());
-		}
-
-		// fields version
-		if (container != null) {
-			keyBuilder.append("-");
-			keyBuilder.append(container.getETag(ac));
-		}
+		keyBuilder.append("-");
+		keyBuilder.append(versioiningParameters.getVersion());
+		keyBuilder.append(ac.getNodeParameters().getLanguageList());
 
 		/**
 		 * Expansion (all)
@@ -1957,68 +2181,61 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		keyBuilder.append("expandFields:");
 		keyBuilder.append(expandedFields);
 
-		// branch specific tags
+		// branch specific tags. Tags can be renamed without changing the node.
 		for (Tag tag : getTags(branch)) {
 			// Tags can't be moved across branches thus we don't need to add the
 			// tag family etag
 			keyBuilder.append(tag.getETag(ac));
 		}
 
-		// branch specific children
-		for (Node child : getChildren(branch.getUuid())) {
-			if (ac.getUser().hasPermission(child, READ_PERM)) {
-				keyBuilder.append("-");
-				keyBuilder.append(child.getSchemaContainer().getName());
-			}
-		}
+		/**
+		 * Change stamp
+		 * 
+		 * The stamp is updated whenever the containers, the publish state, the tags or the children of the node change.
+		 */
+		keyBuilder.append("-stamp:");
+		keyBuilder.append(getChangeStamp());
 
-		// Publish state & availableLanguages
-		for (NodeGraphFieldContainer c : getGraphFieldContainers(branch, PUBLISHED)) {
-			keyBuilder.append(c.getLanguageTag() + "published");
-		}
-		for (NodeGraphFieldContainer c : getGraphFieldContainers(branch, DRAFT)) {
-			keyBuilder.append(c.getLanguageTag() + "draft");
+		/**
+		 * Roles of the user
+		 * 
+		 * The visible children depend on the roles of the user.
+		 */
+		keyBuilder.append("-roles:");
+		for (Role role : ac.getUser().getRolesViaShortcut()) {
+			keyBuilder.append(role.getUuid());
 		}
 
-		// breadcrumb
+		/**
+		 * Parent nodes (breadcrumb, webroot path & language paths)
+		 * 
+		 * The node can be moved and the display name or segment of any parent node can change. Both would affect the response. The change stamps of the
+		 * ancestors are thus included in the etag computation.
+		 */
 		keyBuilder.append("-");
 		Node current = getParentNode(branch.getUuid());
-		if (current != null) {
-			while (current != null) {
-
-				String key = current.getUuid() + current.getDisplayName(ac);
-				keyBuilder.append(key);
-				if (LinkType.OFF != ac.getNodeParameters().getResolveLinks()) {
-					WebRootLinkReplacer linkReplacer = MeshInternal.get().webRootLinkReplacer();
-					String url = linkReplacer.resolve(ac, branch.getUuid(), type, current.getUuid(), ac.getNodeParameters().getResolveLinks(),
-						getProject().getName(), container.getLanguageTag());
-					keyBuilder.append(url);
-				}
-				current = current.getParentNode(branch.getUuid());
-
-			}
+		while (current != null) {
+			keyBuilder.append(current.getUuid());
+			keyBuilder.append(":");
+			keyBuilder.append(current.getChangeStamp());
+			current = current.getParentNode(branch.getUuid());
 		}
 
 		/**
-		 * webroot path & language paths
+		 * Resolved links
 		 * 
-		 * The webroot and language paths must be included in the etag computation in order to invalidate the etag once a node language gets updated or once the
-		 * display name of any parent node changes.
+		 * The type of the resolved links affects the breadcrumb, webroot path and language paths.
 		 */
-		if (ac.getNodeParameters().getResolveLinks() != LinkType.OFF) {
-
-			WebRootLinkReplacer linkReplacer = MeshInternal.get().webRootLinkReplacer();
-			String path = linkReplacer.resolve(ac, branch.getUuid(), type, getUuid(), ac.getNodeParameters().getResolveLinks(), getProject()
-				.getName(), container.getLanguageTag());
-			keyBuilder.append(path);
-
-			// languagePaths
-			for (GraphFieldContainer currentFieldContainer : getGraphFieldContainers(branch, forVersion(versioiningParameters.getVersion()))) {
-				String currLanguage = currentFieldContainer.getLanguageTag();
-				keyBuilder.append(currLanguage + "=" + linkReplacer.resolve(ac, branch.getUuid(), type, this, ac.getNodeParameters()
-					.getResolveLinks(), currLanguage));
+		LinkType linkType = ac.getNodeParameters().getResolveLinks();
+		if (linkType != LinkType.OFF) {
+			keyBuilder.append("-links:");
+			keyBuilder.append(linkType);
+			keyBuilder.append(getProject().getName());
+			if (linkType == LinkType.FULL) {
+				keyBuilder.append(branch.getHostname());
+				keyBuilder.append(branch.getSsl());
+				keyBuilder.append(branch.getPathPrefix());
 			}
-
 		}
 
 		/**
@@ -214,6 +214,12 @@ public class BranchRootImpl extends AbstractRootVertex<Branch> implements Branch
 		return getUuid() + "-" + name;
 	}
 
+	@Override
+	public Branch findByName(String name) {
+		// The unique name key already contains the uuid of the root
+		return findByProperty(BranchImpl.UNIQUENAME_PROPERTY_KEY, getUniqueNameKey(name));
+	}
+
 	@Override
 	public void delete(BulkActionContext bac) {
 		if (log.isDebugEnabled()) {
@@ -98,6 +98,16 @@ public class MeshRootImpl extends MeshVertexImpl implements MeshRoot {
 		property(MESH_DB_REV, rev);
 	}
 
+	@Override
+	public String getIndexSyncCheckpoint() {
+		return property(INDEX_SYNC_CHECKPOINT);
+	}
+
+	@Override
+	public void setIndexSyncCheckpoint(String checkpoint) {
+		property(INDEX_SYNC_CHECKPOINT, checkpoint);
+	}
+
 	@Override
 	public BinaryRoot getBinaryRoot() {
 		if (binaryRoot == null) {
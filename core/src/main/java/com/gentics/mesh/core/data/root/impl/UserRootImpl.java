@@ -100,13 +100,16 @@ public class UserRootImpl extends AbstractRootVertex<User> implements UserRoot {
 
 	@Override
 	public User findByUsername(String username) {
-		return out(HAS_USER).has(UserImpl.USERNAME_PROPERTY_KEY, username).nextOrDefaultExplicit(UserImpl.class, null);
+		return findByProperty(UserImpl.USERNAME_PROPERTY_KEY, username);
 	}
 
 	@Override
 	public MeshAuthUser findMeshAuthUserByUsername(String username) {
-		// TODO use index
-		return out(HAS_USER).has(UserImpl.USERNAME_PROPERTY_KEY, username).nextOrDefaultExplicit(MeshAuthUserImpl.class, null);
+		User user = findByUsername(username);
+		if (user == null) {
+			return null;
+		}
+		return user.reframeExplicit(MeshAuthUserImpl.class);
 	}
 
 	@Override
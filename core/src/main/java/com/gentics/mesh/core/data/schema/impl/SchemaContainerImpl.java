@@ -27,6 +27,7 @@ import com.gentics.mesh.core.rest.schema.impl.SchemaReferenceImpl;
 import com.gentics.mesh.core.rest.schema.impl.SchemaResponse;
 import com.gentics.mesh.dagger.MeshInternal;
 import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.graphdb.spi.FieldType;
 
 /**
  * @see SchemaContainer
@@ -47,6 +48,7 @@ public class SchemaContainerImpl extends
 
 	public static void init(Database database) {
 		database.addVertexType(SchemaContainerImpl.class, MeshVertexImpl.class);
+		database.addVertexIndex(SchemaContainerImpl.class, false, "name", FieldType.STRING);
 	}
 
 	@Override
@@ -0,0 +1,232 @@
+package com.gentics.mesh.core.data.search.impl;
+
+import static com.gentics.mesh.core.data.search.SearchQueueEntryAction.UPDATE_ROLE_PERM_ACTION;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.Mesh;
+import com.gentics.mesh.core.data.search.BulkSearchQueueEntry;
+import com.gentics.mesh.core.data.search.UpdateDocumentEntry;
+import com.gentics.mesh.core.data.search.context.GenericEntryContext;
+import com.gentics.mesh.core.data.search.bulk.BulkEntry;
+import com.gentics.mesh.etc.config.search.ElasticSearchOptions;
+import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.search.SearchProvider;
+import com.syncleus.ferma.tx.Tx;
+
+import io.reactivex.Observable;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Queue which collects the bulk entries of search queue batches when asynchronous indexing has been enabled. Multiple updates of the same document are
+ * coalesced so that only the latest update will be sent to the search provider. The queue is flushed once the bulk limit has been reached or once the
+ * configured flush interval has passed.
+ * 
+ * The queue is only held in memory. Updates which could not be flushed (e.g. due to a crash) can be restored via the index sync.
+ */
+@Singleton
+public class AsyncIndexQueue {
+
+	private static final Logger log = LoggerFactory.getLogger(AsyncIndexQueue.class);
+
+	/**
+	 * Timeout for the processing of a single flush.
+	 */
+	private static final long FLUSH_TIMEOUT = 120;
+
+	/**
+	 * Maximum time in seconds to wait for a concurrent flush to finish.
+	 */
+	private static final long FLUSH_LOCK_TIMEOUT = 10;
+
+	private final Database db;
+
+	private final SearchProvider searchProvider;
+
+	private final ReentrantLock flushLock = new ReentrantLock();
+
+	private final AtomicLong keyCounter = new AtomicLong();
+
+	/**
+	 * Pending entries by their coalescing key. The map is ordered by the time of the latest update of the key.
+	 */
+	private Map<String, BulkSearchQueueEntry<?>> pending = new LinkedHashMap<>();
+
+	private boolean flushScheduled = false;
+
+	@Inject
+	public AsyncIndexQueue(Database db, SearchProvider searchProvider) {
+		this.db = db;
+		this.searchProvider = searchProvider;
+	}
+
+	/**
+	 * Add the given entries to the queue. Entries which update a document which already has a pending update will replace the pending update.
+	 * 
+	 * @param entries
+	 */
+	public void addAll(List<BulkSearchQueueEntry<?>> entries) {
+		if (entries.isEmpty()) {
+			return;
+		}
+		boolean flushNow;
+		boolean scheduleFlush;
+		synchronized (this) {
+			for (BulkSearchQueueEntry<?> entry : entries) {
+				add(entry);
+			}
+			flushNow = pending.size() >= getOptions().getBulkLimit();
+			scheduleFlush = !flushNow && !flushScheduled;
+			if (scheduleFlush) {
+				flushScheduled = true;
+			}
+		}
+		if (flushNow) {
+			flushInBackground();
+		} else if (scheduleFlush) {
+			scheduleFlush();
+		}
+	}
+
+	/**
+	 * Flush the pending entries once the flush interval has passed.
+	 */
+	private void scheduleFlush() {
+		// Timers require a delay of at least one millisecond
+		long interval = Math.max(1, getOptions().getAsyncIndexingFlushInterval());
+		Mesh.vertx().setTimer(interval, id -> flushInBackground());
+	}
+
+	private void add(BulkSearchQueueEntry<?> entry) {
+		String key = coalescingKey(entry);
+		BulkSearchQueueEntry<?> previous = pending.remove(key);
+		// A permission update is already covered by a pending store or delete of the same document
+		if (previous != null && entry.getElementAction() == UPDATE_ROLE_PERM_ACTION && previous.getElementAction() != UPDATE_ROLE_PERM_ACTION) {
+			entry = previous;
+		}
+		pending.put(key, entry);
+	}
+
+	/**
+	 * Return the key which identifies the document that is updated by the entry. Entries which can't be coalesced get a unique key.
+	 * 
+	 * @param entry
+	 * @return
+	 */
+	private String coalescingKey(BulkSearchQueueEntry<?> entry) {
+		if (entry instanceof UpdateDocumentEntry) {
+			UpdateDocumentEntry updateEntry = (UpdateDocumentEntry) entry;
+			GenericEntryContext context = updateEntry.getContext();
+			StringBuilder key = new StringBuilder(updateEntry.getElementUuid());
+			if (context != null) {
+				key.append(':').append(context.getProjectUuid());
+				key.append(':').append(context.getBranchUuid());
+				key.append(':').append(context.getContainerType());
+				key.append(':').append(context.getLanguageTag());
+				key.append(':').append(context.getSchemaContainerVersionUuid());
+			}
+			return key.toString();
+		}
+		return "#" + keyCounter.incrementAndGet();
+	}
+
+	/**
+	 * Return the amount of pending entries.
+	 * 
+	 * @return
+	 */
+	public synchronized int size() {
+		return pending.size();
+	}
+
+	/**
+	 * Flush the pending entries using a worker thread.
+	 */
+	private void flushInBackground() {
+		Mesh.vertx().executeBlocking(bc -> {
+			flush();
+			bc.complete();
+		}, false, rh -> {
+			if (rh.failed()) {
+				log.error("Error while flushing the index queue", rh.cause());
+			}
+		});
+	}
+
+	/**
+	 * Process all pending entries and block until the search provider has handled the resulting bulk requests. Entries which fail to process are logged
+	 * and skipped. The flush waits for a concurrent flush for at most {@value #FLUSH_LOCK_TIMEOUT} seconds. The pending entries will be flushed later if the
+	 * concurrent flush did not finish in time.
+	 */
+	public void flush() {
+		boolean locked;
+		try {
+			locked = flushLock.tryLock(FLUSH_LOCK_TIMEOUT, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			locked = false;
+		}
+		if (!locked) {
+			log.warn("The index queue could not be flushed since a concurrent flush did not finish within {" + FLUSH_LOCK_TIMEOUT + "} seconds");
+			boolean schedule;
+			synchronized (this) {
+				schedule = !pending.isEmpty() && !flushScheduled;
+				if (schedule) {
+					flushScheduled = true;
+				}
+			}
+			if (schedule) {
+				scheduleFlush();
+			}
+			return;
+		}
+		try {
+			Map<String, BulkSearchQueueEntry<?>> entries;
+			synchronized (this) {
+				entries = pending;
+				pending = new LinkedHashMap<>();
+				flushScheduled = false;
+			}
+			if (entries.isEmpty()) {
+				return;
+			}
+			if (log.isDebugEnabled()) {
+				log.debug("Flushing {" + entries.size() + "} queued index entries");
+			}
+			List<BulkSearchQueueEntry<?>> list = new ArrayList<>(entries.values());
+			int bulkLimit = getOptions().getBulkLimit();
+			try (Tx tx = db.tx()) {
+				Observable<BulkEntry> bulks = Observable.fromIterable(list)
+					.flatMap(entry -> entry.process().cast(BulkEntry.class).doOnError(error -> {
+						log.error("Error while processing queued entry {" + entry + "}", error);
+					}).onErrorResumeNext(Observable.empty()));
+				boolean completed = bulks
+					.buffer(bulkLimit)
+					.flatMapCompletable(bulk -> searchProvider.processBulk(bulk).doOnError(error -> {
+						log.error("Error while processing bulk of {" + bulk.size() + "} queued index entries", error);
+					}).onErrorComplete())
+					.blockingAwait(FLUSH_TIMEOUT, TimeUnit.SECONDS);
+				if (!completed) {
+					log.error("Flushing of {" + list.size() + "} queued index entries did not finish within {" + FLUSH_TIMEOUT + "} seconds");
+				}
+			}
+		} finally {
+			flushLock.unlock();
+		}
+	}
+
+	private ElasticSearchOptions getOptions() {
+		return Mesh.mesh().getOptions().getSearchOptions();
+	}
+
+}
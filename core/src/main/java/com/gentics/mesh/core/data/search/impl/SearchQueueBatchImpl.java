@@ -7,6 +7,8 @@ import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERR
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
@@ -15,6 +17,7 @@ import java.util.stream.Stream;
 import javax.inject.Inject;
 
 import com.gentics.mesh.Mesh;
+import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.ContainerType;
 import com.gentics.mesh.core.data.IndexableElement;
 import com.gentics.mesh.core.data.NodeGraphFieldContainer;
@@ -38,6 +41,7 @@ import com.gentics.mesh.core.data.search.context.MoveEntryContext;
 import com.gentics.mesh.core.data.search.context.impl.GenericEntryContextImpl;
 import com.gentics.mesh.core.data.search.context.impl.MoveEntryContextImpl;
 import com.gentics.mesh.core.rest.schema.Schema;
+import com.gentics.mesh.etc.config.search.IndexRefreshMode;
 import com.gentics.mesh.search.IndexHandlerRegistry;
 import com.gentics.mesh.search.SearchProvider;
 import com.gentics.mesh.search.index.common.CreateIndexEntryImpl;
@@ -84,6 +88,9 @@ public class SearchQueueBatchImpl implements SearchQueueBatch {
 	@Inject
 	SearchProvider searchProvider;
 
+	@Inject
+	AsyncIndexQueue indexQueue;
+
 	@Inject
 	public SearchQueueBatchImpl() {
 	}
@@ -268,16 +275,19 @@ public class SearchQueueBatchImpl implements SearchQueueBatch {
 			});
 		}
 		return Completable.defer(() -> {
-			Completable obs = Completable.complete();
+			// Queued entries of earlier requests must be applied first so that the batch is not overridden by older updates
+			Completable obs = isAsyncIndexing() ? Completable.fromAction(indexQueue::flush) : Completable.complete();
 
 			if (!seperateEntries.isEmpty()) {
 				List<Completable> seperateEntryList = seperateEntries.stream().map(entry -> entry.process()).collect(Collectors.toList());
 				obs = Completable.concat(Flowable.fromIterable(seperateEntryList), 1);
 			}
 			int bulkLimit = Mesh.mesh().getOptions().getSearchOptions().getBulkLimit();
+			Set<String> touchedIndices = ConcurrentHashMap.newKeySet();
 			if (!bulkEntries.isEmpty()) {
 				Observable<BulkEntry> bulks = Observable.fromIterable(bulkEntries)
-					.flatMap(BulkSearchQueueEntry::process);
+					.flatMap(BulkSearchQueueEntry::process)
+					.doOnNext(entry -> touchedIndices.add(entry.getIndexName()));
 
 				AtomicLong counter = new AtomicLong();
 				Completable bulkProcessing = bulks
@@ -288,7 +298,7 @@ public class SearchQueueBatchImpl implements SearchQueueBatch {
 				obs = obs.andThen(bulkProcessing);
 			}
 
-			return obs.andThen(searchProvider.refreshIndex()).doOnComplete(() -> {
+			return obs.andThen(Completable.defer(() -> refreshIndices(touchedIndices))).doOnComplete(() -> {
 				if (log.isDebugEnabled()) {
 					log.debug("Handled all search queue items.");
 				}
@@ -304,6 +314,32 @@ public class SearchQueueBatchImpl implements SearchQueueBatch {
 		});
 	}
 
+	/**
+	 * Refresh the indices according to the configured refresh mode.
+	 * 
+	 * @param touchedIndices
+	 *            Names of the indices which were modified by the batch
+	 * @return
+	 */
+	private Completable refreshIndices(Set<String> touchedIndices) {
+		IndexRefreshMode mode = Mesh.mesh().getOptions().getSearchOptions().getRefreshMode();
+		if (mode == null) {
+			mode = IndexRefreshMode.TOUCHED;
+		}
+		switch (mode) {
+		case ALL:
+			return searchProvider.refreshIndex();
+		case TOUCHED:
+			// Invoking the refresh without any index would refresh all indices
+			if (touchedIndices.isEmpty()) {
+				return Completable.complete();
+			}
+			return searchProvider.refreshIndex(touchedIndices.toArray(new String[touchedIndices.size()]));
+		default:
+			return Completable.complete();
+		}
+	}
+
 	@Override
 	public void processSync(long timeout, TimeUnit unit) {
 		if (searchProvider.isActive()) {
@@ -322,6 +358,46 @@ public class SearchQueueBatchImpl implements SearchQueueBatch {
 		processSync(120, TimeUnit.SECONDS);
 	}
 
+	@Override
+	public Completable processAsync(InternalActionContext ac) {
+		if (!isAsyncIndexing()) {
+			return processAsync();
+		}
+		if (ac.getGenericParameters().isWaitForIndex()) {
+			// The direct processing applies the previously queued entries first so that the request can read all of its writes
+			return processAsync();
+		}
+		return Completable.fromAction(this::enqueue);
+	}
+
+	@Override
+	public void processSync(InternalActionContext ac) {
+		if (!isAsyncIndexing()) {
+			processSync();
+		} else if (ac.getGenericParameters().isWaitForIndex()) {
+			processSync();
+		} else {
+			enqueue();
+		}
+	}
+
+	private boolean isAsyncIndexing() {
+		return searchProvider.isActive() && Mesh.mesh().getOptions().getSearchOptions().isAsyncIndexing();
+	}
+
+	/**
+	 * Hand the entries of the batch over to the async index queue.
+	 */
+	private void enqueue() {
+		if (!seperateEntries.isEmpty()) {
+			// Index creations and deletions must not be reordered with the queued document updates. The direct processing flushes the queue first.
+			processSync();
+			return;
+		}
+		indexQueue.addAll(bulkEntries);
+		clear();
+	}
+
 	@Override
 	public void clear() {
 		bulkEntries.clear();
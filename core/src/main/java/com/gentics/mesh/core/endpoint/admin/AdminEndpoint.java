@@ -59,6 +59,7 @@ public class AdminEndpoint extends AbstractInternalEndpoint {
 		addBackupHandler();
 		addRestoreHandler();
 		addClusterStatusHandler();
+		addTransactionMetricsHandler();
 		addConsistencyCheckHandler();
 		// addImportHandler();
 		// addExportHandler();
@@ -131,6 +132,18 @@ public class AdminEndpoint extends AbstractInternalEndpoint {
 		});
 	}
 
+	private void addTransactionMetricsHandler() {
+		InternalEndpointRoute endpoint = createRoute();
+		endpoint.path("/metrics/transactions");
+		endpoint.method(GET);
+		endpoint.description("Loads the transaction metrics of the graph database. The response also lists the elements which caused the most conflicts.");
+		endpoint.produces(APPLICATION_JSON);
+		endpoint.exampleResponse(OK, adminExamples.createTransactionMetricsResponse(), "Transaction metrics.");
+		endpoint.handler(rc -> {
+			adminHandler.handleTransactionMetrics(wrap(rc));
+		});
+	}
+
 	private void addConsistencyCheckHandler() {
 		InternalEndpointRoute endpoint = createRoute();
 		endpoint.path("/consistency/check");
@@ -12,6 +12,8 @@ import static java.util.Comparator.comparing;
 import java.io.File;
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.Map;
+import java.util.Map.Entry;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -23,8 +25,12 @@ import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.cache.PermissionStore;
 import com.gentics.mesh.core.data.root.impl.MeshRootImpl;
 import com.gentics.mesh.core.endpoint.handler.AbstractHandler;
+import com.gentics.mesh.core.rest.admin.metric.TransactionConflictInfo;
+import com.gentics.mesh.core.rest.admin.metric.TransactionDurationInfo;
+import com.gentics.mesh.core.rest.admin.metric.TransactionMetricsResponse;
 import com.gentics.mesh.core.rest.admin.status.MeshStatusResponse;
 import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.graphdb.metric.TxMetric;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.router.RouterStorage;
 import com.syncleus.ferma.tx.Tx;
@@ -41,6 +47,11 @@ public class AdminHandler extends AbstractHandler {
 
 	private static final Logger log = LoggerFactory.getLogger(AdminHandler.class);
 
+	/**
+	 * Maximum amount of conflict hotspots which will be returned by the transaction metrics.
+	 */
+	private static final int MAX_TRANSACTION_HOTSPOTS = 50;
+
 	private Database db;
 
 	private RouterStorage routerStorage;
@@ -172,4 +183,43 @@ public class AdminHandler extends AbstractHandler {
 		}).subscribe(model -> ac.send(model, OK), ac::fail);
 	}
 
+	/**
+	 * Return the transaction metrics of the graph database. Conflicts are aggregated by the type of the elements which caused them.
+	 * 
+	 * @param ac
+	 */
+	public void handleTransactionMetrics(InternalActionContext ac) {
+		db.asyncTx(() -> {
+			if (!ac.getUser().hasAdminRole()) {
+				throw error(FORBIDDEN, "error_admin_permission_required");
+			}
+			TransactionMetricsResponse response = new TransactionMetricsResponse();
+			response.setCount(TxMetric.getCount());
+			response.setDuration(toDurationInfo(TxMetric.getDuration()));
+			response.setCommit(toDurationInfo(TxMetric.getCommitDuration()));
+			response.setAsyncCount(TxMetric.getAsyncCount());
+			response.setAsyncDuration(toDurationInfo(TxMetric.getAsyncDuration()));
+			response.setRetries(TxMetric.getRetryCount());
+			response.setMaxRetries(TxMetric.getMaxRetries());
+			response.setRetriesExhausted(TxMetric.getRetryExhaustedCount());
+			response.setConflicts(TxMetric.getConflictCount());
+
+			Map<String, Long> perType = response.getConflictsPerType();
+			for (Entry<String, Long> entry : TxMetric.getHotspots(MAX_TRANSACTION_HOTSPOTS).entrySet()) {
+				String type = db.getElementTypeName(entry.getKey());
+				response.getHotspots().add(new TransactionConflictInfo().setElementId(entry.getKey()).setType(type).setConflicts(entry.getValue()));
+				perType.merge(type == null ? "unknown" : type, entry.getValue(), Long::sum);
+			}
+			return Single.just(response);
+		}).subscribe(model -> ac.send(model, OK), ac::fail);
+	}
+
+	private static TransactionDurationInfo toDurationInfo(Map<String, Double> stats) {
+		return new TransactionDurationInfo()
+			.setMean(stats.get("mean"))
+			.setP95(stats.get("p95"))
+			.setP99(stats.get("p99"))
+			.setMax(stats.get("max"));
+	}
+
 }
@@ -134,7 +134,7 @@ public class BranchCrudHandler extends AbstractCrudHandler<Branch, BranchRespons
 			});
 
 			// 1. Process batch and create need indices
-			tuple.v2().processSync();
+			tuple.v2().processSync(ac);
 
 			// 2. Invoke migrations which will populate the created index
 			Events.triggerJobWorker();
@@ -396,7 +396,7 @@ public class BranchCrudHandler extends AbstractCrudHandler<Branch, BranchRespons
 				return Tuple.tuple(tags, batch);
 			});
 
-			return tuple.v2().processAsync().andThen(tuple.v1().transformToRest(ac, 0));
+			return tuple.v2().processAsync(ac).andThen(tuple.v1().transformToRest(ac, 0));
 		}).subscribe(model -> ac.send(model, OK), ac::fail);
 	}
 }
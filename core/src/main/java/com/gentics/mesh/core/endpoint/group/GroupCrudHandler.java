@@ -103,7 +103,7 @@ public class GroupCrudHandler extends AbstractCrudHandler<Group, GroupResponse>
 					return Tuple.tuple(group, batch);
 				});
 			}
-			return tuple.v2().processAsync().andThen(tuple.v1().transformToRest(ac, 0));
+			return tuple.v2().processAsync(ac).andThen(tuple.v1().transformToRest(ac, 0));
 		}).subscribe(model -> ac.send(model, OK), ac::fail);
 
 	}
@@ -134,7 +134,7 @@ public class GroupCrudHandler extends AbstractCrudHandler<Group, GroupResponse>
 				// No need to update users as well. Those documents are not affected by this modification
 				batch.store(group, false);
 				return batch;
-			}).processAsync().andThen(Single.just(Optional.empty()));
+			}).processAsync(ac).andThen(Single.just(Optional.empty()));
 
 		}).subscribe(model -> ac.send(NO_CONTENT), ac::fail);
 	}
@@ -181,7 +181,7 @@ public class GroupCrudHandler extends AbstractCrudHandler<Group, GroupResponse>
 				GroupResponse model = group.transformToRestSync(ac, 0);
 				return new ResultInfo(model, batch);
 			});
-			return info.getBatch().processAsync().andThen(Single.just(info.getModel()));
+			return info.getBatch().processAsync(ac).andThen(Single.just(info.getModel()));
 		}).subscribe(model -> ac.send(model, OK), ac::fail);
 
 	}
@@ -209,7 +209,7 @@ public class GroupCrudHandler extends AbstractCrudHandler<Group, GroupResponse>
 				batch.store(user, false);
 				group.removeUser(user);
 				return batch;
-			}).processAsync().toSingleDefault(Optional.empty());
+			}).processAsync(ac).toSingleDefault(Optional.empty());
 		}).subscribe(model -> ac.send(NO_CONTENT), ac::fail);
 	}
 
@@ -107,7 +107,7 @@ public class MicroschemaCrudHandler extends AbstractCrudHandler<MicroschemaConta
 				return Tuple.tuple(batch, createdVersion.getVersion());
 			});
 
-			info.v1().processSync();
+			info.v1().processSync(ac);
 			if (updateParams.getUpdateAssignedBranches()) {
 				Events.triggerJobWorker();
 				return message(ac, "schema_updated_migration_invoked", name, info.v2());
@@ -150,7 +150,7 @@ public class MicroschemaCrudHandler extends AbstractCrudHandler<MicroschemaConta
 				SearchQueueBatch batch = searchQueue.create();
 				schema.getLatestVersion().applyChanges(ac, batch);
 				return batch;
-			}).processSync();
+			}).processSync(ac);
 			return message(ac, "migration_invoked", schema.getName());
 		}, model -> ac.send(model, OK));
 
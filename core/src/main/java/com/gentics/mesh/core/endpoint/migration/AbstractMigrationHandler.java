@@ -2,12 +2,25 @@ package com.gentics.mesh.core.endpoint.migration;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
 import javax.annotation.ParametersAreNonnullByDefault;
 import javax.script.ScriptEngine;
 import com.gentics.mesh.context.impl.NodeMigrationActionContextImpl;
 import com.gentics.mesh.core.data.GraphFieldContainer;
+import com.gentics.mesh.core.data.MeshVertex;
 import com.gentics.mesh.core.data.node.handler.TypeConverter;
 import com.gentics.mesh.core.data.schema.GraphFieldSchemaContainerVersion;
 import com.gentics.mesh.core.data.schema.RemoveFieldChange;
@@ -19,6 +32,7 @@ import com.gentics.mesh.core.endpoint.handler.AbstractHandler;
 import com.gentics.mesh.core.endpoint.node.BinaryFieldHandler;
 import com.gentics.mesh.core.rest.common.FieldContainer;
 import com.gentics.mesh.core.rest.common.RestModel;
+import com.gentics.mesh.etc.config.MigrationOptions;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.json.JsonUtil;
 import com.gentics.mesh.util.Tuple;
@@ -33,6 +47,26 @@ public abstract class AbstractMigrationHandler extends AbstractHandler implement
 
 	private static final Logger log = LoggerFactory.getLogger(AbstractMigrationHandler.class);
 
+	/**
+	 * Amount of search queue entries which will be collected by a worker before they are processed.
+	 */
+	private static final int SEARCH_QUEUE_SYNC_SIZE = 500;
+
+	/**
+	 * Amount of batches per worker which are loaded in a single round of a batched migration.
+	 */
+	private static final int BATCHES_PER_ROUND = 10;
+
+	/**
+	 * Minimum interval in milliseconds between two updates of the stored migration progress.
+	 */
+	private static final long STATUS_STORE_INTERVAL_MS = 1000;
+
+	/**
+	 * Maximum time in milliseconds to wait for the migration workers of an aborted round.
+	 */
+	private static final long WORKER_TERMINATION_TIMEOUT_MS = 60_000;
+
 	/**
 	 * Script engine factory.
 	 */
@@ -186,6 +220,283 @@ public abstract class AbstractMigrationHandler extends AbstractHandler implement
 		return errorsDetected;
 	}
 
+	/**
+	 * Migrate the elements in batches. Each batch is migrated within a single transaction. The batches are distributed over the configured amount of
+	 * worker threads. Elements with the same partition key are always migrated by the same worker in order to prevent concurrent modifications of shared
+	 * vertices (e.g. the node of multiple containers).
+	 * 
+	 * The ids of the elements are read once before the migration starts. The elements are then migrated in rounds. The elements of a round are loaded
+	 * by their ids within a short transaction while no worker is active and the next round is only loaded once all batches of the round were committed.
+	 * This way the iteration is never affected by the modifications of the workers and each element is only read once. Migrated elements must no longer
+	 * be returned by the iterator so that an interrupted migration which is invoked again only handles the remaining elements.
+	 * 
+	 * The completion count and the throughput are stored in the migration status while the migration is running.
+	 * 
+	 * @param elements
+	 *            Supplier for an iterator over the elements which need to be migrated. The supplier is invoked once within a transaction.
+	 * @param loader
+	 *            Function which loads the element with the given id. The function must return null if the element no longer needs to be migrated.
+	 * @param partitionKey
+	 *            Function which returns the partition key of an element
+	 * @param options
+	 *            Options which contain the batch size and the amount of workers
+	 * @param status
+	 *            Status which will be updated while the migration is running
+	 * @param migratorFactory
+	 *            Factory for the migrators. Each worker uses its own migrator.
+	 * @param roundHandler
+	 *            Action which is invoked after the batches of a round were migrated or the round was aborted. No worker is active while the action is
+	 *            running.
+	 * @return Errors which were detected during the migration
+	 */
+	protected <T extends MeshVertex> List<Exception> migrateBatched(Supplier<Iterator<? extends T>> elements, Function<Object, T> loader,
+		Function<T, Object> partitionKey, MigrationOptions options, MigrationStatusHandler status,
+		Supplier<TriConsumer<SearchQueueBatch, T, List<Exception>>> migratorFactory, Runnable roundHandler) {
+		int workerCount = options.getWorkerThreads();
+		int batchSize = options.getBatchSize();
+		int roundSize = batchSize * workerCount * BATCHES_PER_ROUND;
+		List<Exception> errorsDetected = Collections.synchronizedList(new ArrayList<>());
+		MigrationCheckpoint checkpoint = new MigrationCheckpoint(status);
+
+		// Only the ids are kept. The elements are loaded again for each round.
+		List<Object> ids = db.tx(() -> {
+			List<Object> result = new ArrayList<>();
+			Iterator<? extends T> it = elements.get();
+			while (it.hasNext()) {
+				result.add(it.next().id());
+			}
+			return result;
+		});
+
+		// Each worker has a single thread so that the batches of a worker are never migrated concurrently
+		List<ExecutorService> workers = new ArrayList<>(workerCount);
+		List<TriConsumer<SearchQueueBatch, T, List<Exception>>> migrators = new ArrayList<>(workerCount);
+		List<SearchQueueBatch> searchQueueBatches = new ArrayList<>(workerCount);
+		for (int i = 0; i < workerCount; i++) {
+			workers.add(Executors.newSingleThreadExecutor());
+			migrators.add(migratorFactory.get());
+			searchQueueBatches.add(searchQueue.create());
+		}
+
+		boolean roundRunning = false;
+		boolean interrupted = false;
+		try {
+			for (int roundStart = 0; roundStart < ids.size(); roundStart += roundSize) {
+				List<Object> roundIds = ids.subList(roundStart, Math.min(roundStart + roundSize, ids.size()));
+
+				// Load and partition the elements of the round by worker
+				List<List<T>> partitions = db.tx(() -> {
+					List<List<T>> result = new ArrayList<>(workerCount);
+					for (int i = 0; i < workerCount; i++) {
+						result.add(new ArrayList<>());
+					}
+					for (Object id : roundIds) {
+						T element = loader.apply(id);
+						if (element != null) {
+							result.get(Math.floorMod(partitionKey.apply(element).hashCode(), workerCount)).add(element);
+						}
+					}
+					return result;
+				});
+
+				roundRunning = true;
+				List<Future<?>> futures = new ArrayList<>();
+				for (int i = 0; i < workerCount; i++) {
+					List<T> partition = partitions.get(i);
+					TriConsumer<SearchQueueBatch, T, List<Exception>> migrator = migrators.get(i);
+					SearchQueueBatch sqb = searchQueueBatches.get(i);
+					for (int from = 0; from < partition.size(); from += batchSize) {
+						List<T> batch = partition.subList(from, Math.min(from + batchSize, partition.size()));
+						futures.add(workers.get(i).submit(() -> migrateBatch(batch, migrator, sqb, checkpoint, errorsDetected)));
+					}
+				}
+				for (Future<?> future : futures) {
+					future.get();
+				}
+				roundRunning = false;
+				roundHandler.run();
+			}
+			for (SearchQueueBatch sqb : searchQueueBatches) {
+				if (sqb.size() > 0) {
+					log.info("Syncing last batch with size: " + sqb.size());
+					db.tx(() -> {
+						sqb.processSync();
+					});
+				}
+			}
+		} catch (InterruptedException e) {
+			interrupted = true;
+			errorsDetected.add(e);
+		} catch (ExecutionException e) {
+			errorsDetected.add(e);
+		} finally {
+			for (ExecutorService worker : workers) {
+				worker.shutdownNow();
+			}
+			if (roundRunning) {
+				// The batches of the aborted round which were already committed still need to be handled
+				interrupted |= awaitTermination(workers);
+				roundHandler.run();
+			}
+		}
+		checkpoint.store();
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+
+		log.info("Migration of " + checkpoint.getCompleted() + " elements done. Throughput: " + checkpoint.getThroughput() + " elements/s");
+		log.info("Encountered {" + errorsDetected.size() + "} errors during migration.");
+		return new ArrayList<>(errorsDetected);
+	}
+
+	/**
+	 * Wait until the given workers have terminated. The wait is bounded by {@link #WORKER_TERMINATION_TIMEOUT_MS}.
+	 * 
+	 * @param workers
+	 * @return true if the current thread has been interrupted while waiting
+	 */
+	private boolean awaitTermination(List<ExecutorService> workers) {
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(WORKER_TERMINATION_TIMEOUT_MS);
+		// Wait even if the current thread has been interrupted since the workers may still modify the elements of the round
+		boolean interrupted = Thread.interrupted();
+		for (ExecutorService worker : workers) {
+			while (true) {
+				try {
+					long remaining = deadline - System.nanoTime();
+					if (remaining <= 0 || worker.awaitTermination(remaining, TimeUnit.NANOSECONDS)) {
+						break;
+					}
+				} catch (InterruptedException e) {
+					interrupted = true;
+				}
+			}
+		}
+		if (interrupted) {
+			log.warn("Interrupted while waiting for the termination of the migration workers.");
+		}
+		return interrupted;
+	}
+
+	/**
+	 * Migrate the batch within a single transaction.
+	 * 
+	 * @param batch
+	 * @param migrator
+	 * @param sqb
+	 *            Search queue batch of the worker
+	 * @param checkpoint
+	 * @param errorsDetected
+	 */
+	private <T extends MeshVertex> void migrateBatch(List<T> batch, TriConsumer<SearchQueueBatch, T, List<Exception>> migrator, SearchQueueBatch sqb,
+		MigrationCheckpoint checkpoint, List<Exception> errorsDetected) {
+		try {
+			// Each batch has its own search queue batch and error list. The transaction may be retried and failed transactions must not add entries.
+			Tuple<SearchQueueBatch, List<Exception>> result = db.tx(() -> {
+				SearchQueueBatch batchSqb = searchQueue.create();
+				List<Exception> batchErrors = new ArrayList<>();
+				for (T element : batch) {
+					migrator.accept(batchSqb, element, batchErrors);
+				}
+				return Tuple.tuple(batchSqb, batchErrors);
+			});
+			sqb.addAll(result.v1());
+			errorsDetected.addAll(result.v2());
+			checkpoint.completed(batch.size());
+		} catch (Exception e) {
+			errorsDetected.add(e);
+		}
+
+		if (sqb.size() >= SEARCH_QUEUE_SYNC_SIZE) {
+			log.info("Syncing batch with size: " + sqb.size());
+			db.tx(() -> {
+				sqb.processSync();
+				sqb.clear();
+			});
+		}
+	}
+
+	/**
+	 * Tracks the progress of a batched migration and stores it in the migration status. The workers record their progress without waiting for each other.
+	 * The progress is stored by at most one worker at a time and not more often than {@link #STATUS_STORE_INTERVAL_MS}.
+	 */
+	private class MigrationCheckpoint {
+
+		private final MigrationStatusHandler status;
+
+		private final long start = System.nanoTime();
+
+		private final AtomicLong completed = new AtomicLong();
+
+		private final ReentrantLock storeLock = new ReentrantLock();
+
+		private volatile long lastStored = System.nanoTime();
+
+		/**
+		 * Amount of elements which were already added to the status. Only accessed while holding the lock.
+		 */
+		private long stored = 0;
+
+		MigrationCheckpoint(MigrationStatusHandler status) {
+			this.status = status;
+		}
+
+		/**
+		 * Record the migrated elements. The progress is stored if the interval has passed and no other worker is currently storing it.
+		 * 
+		 * @param count
+		 *            Amount of elements which were migrated by a committed batch
+		 */
+		void completed(long count) {
+			completed.addAndGet(count);
+			if (System.nanoTime() - lastStored >= TimeUnit.MILLISECONDS.toNanos(STATUS_STORE_INTERVAL_MS) && storeLock.tryLock()) {
+				try {
+					storeProgress();
+				} finally {
+					storeLock.unlock();
+				}
+			}
+		}
+
+		/**
+		 * Store the current progress in the migration status.
+		 */
+		void store() {
+			storeLock.lock();
+			try {
+				storeProgress();
+			} finally {
+				storeLock.unlock();
+			}
+		}
+
+		private void storeProgress() {
+			long current = completed.get();
+			for (; stored < current; stored++) {
+				status.incCompleted();
+			}
+			status.setThroughput(getThroughput());
+			db.tx(() -> {
+				status.commit();
+			});
+			lastStored = System.nanoTime();
+			log.info("Migrated elements: " + current);
+		}
+
+		long getCompleted() {
+			return completed.get();
+		}
+
+		/**
+		 * Return the amount of elements which were migrated per second by this run.
+		 * 
+		 * @return
+		 */
+		double getThroughput() {
+			double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+			return seconds > 0 ? Math.round(completed.get() / seconds * 100) / 100.0 : 0;
+		}
+	}
+
 	/**
 	 * Sandbox classfilter that filters all classes
 	 */
@@ -62,6 +62,13 @@ public interface MigrationStatusHandler {
 	 */
 	void incCompleted();
 
+	/**
+	 * Set the amount of elements which have been migrated per second.
+	 * 
+	 * @param throughput
+	 */
+	void setThroughput(double throughput);
+
 	default Exception fail(HttpResponseStatus status, String message) {
 		GenericRestException ex = Errors.error(status, message);
 		error(ex, message);
@@ -39,6 +39,8 @@ public class MigrationStatusHandlerImpl implements MigrationStatusHandler {
 
 	private long completionCount = 0;
 
+	private Double throughput;
+
 	private MigrationStatus status;
 
 	public MigrationStatusHandlerImpl(Job job, Vertx vertx, MigrationType type) {
@@ -56,6 +58,9 @@ public class MigrationStatusHandlerImpl implements MigrationStatusHandler {
 			versionEdge.setMigrationStatus(status);
 		}
 		job.setCompletionCount(completionCount);
+		if (throughput != null) {
+			job.setThroughput(throughput);
+		}
 		job.setStatus(status);
 
 		Tx.getActive().getGraph().commit();
@@ -142,4 +147,9 @@ public class MigrationStatusHandlerImpl implements MigrationStatusHandler {
 		completionCount++;
 	}
 
+	@Override
+	public void setThroughput(double throughput) {
+		this.throughput = throughput;
+	}
+
 }
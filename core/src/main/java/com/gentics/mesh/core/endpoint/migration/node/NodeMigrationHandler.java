@@ -8,7 +8,6 @@ import static com.gentics.mesh.core.rest.admin.migration.MigrationStatus.RUNNING
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 
@@ -16,11 +15,14 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 import javax.validation.constraints.NotNull;
 
+import com.gentics.mesh.Mesh;
 import com.gentics.mesh.context.impl.NodeMigrationActionContextImpl;
 import com.gentics.mesh.core.data.Branch;
 import com.gentics.mesh.core.data.NodeGraphFieldContainer;
 import com.gentics.mesh.core.data.Project;
+import com.gentics.mesh.core.data.container.impl.NodeGraphFieldContainerImpl;
 import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.data.node.impl.DeferredNodeChanges;
 import com.gentics.mesh.core.data.schema.SchemaContainerVersion;
 import com.gentics.mesh.core.data.search.SearchQueue;
 import com.gentics.mesh.core.data.search.SearchQueueBatch;
@@ -30,11 +32,13 @@ import com.gentics.mesh.core.endpoint.node.BinaryFieldHandler;
 import com.gentics.mesh.core.rest.node.NodeResponse;
 import com.gentics.mesh.core.rest.node.NodeUpdateRequest;
 import com.gentics.mesh.core.rest.schema.SchemaModel;
+import com.gentics.mesh.etc.config.MigrationOptions;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.util.Tuple;
 import com.gentics.mesh.util.VersionNumber;
-import com.google.common.collect.Lists;
+import com.syncleus.ferma.FramedGraph;
 import com.syncleus.ferma.tx.Tx;
+import com.tinkerpop.blueprints.Vertex;
 
 import io.reactivex.Completable;
 import io.reactivex.exceptions.CompositeException;
@@ -94,15 +98,14 @@ public class NodeMigrationHandler extends AbstractMigrationHandler {
 			return Completable.error(e);
 		}
 
-		// Get the draft containers that need to be transformed. Containers which need to be transformed are those which are still linked to older schema
-		// versions. We'll work on drafts. The migration code will later on also handle publish versions.
-		List<? extends NodeGraphFieldContainer> containers = db.tx(() -> {
-			Iterator<? extends NodeGraphFieldContainer> it = fromVersion.getDraftFieldContainers(branch.getUuid());
-			return Lists.newArrayList(it);
-		});
+		// Load the draft containers that need to be transformed. Containers which need to be transformed are those which are still linked to older
+		// schema versions. We'll work on drafts. The migration code will later on also handle publish versions. Migrated containers are no longer drafts
+		// of the old version. A migration which was interrupted will thus only handle the remaining containers.
+		String branchUuid = db.tx(() -> branch.getUuid());
+		boolean hasContainers = db.tx(() -> fromVersion.getDraftFieldContainers(branchUuid).hasNext());
 
 		// No field containers, migration is done
-		if (containers.isEmpty()) {
+		if (!hasContainers) {
 			if (status != null) {
 				db.tx(() -> {
 					status.setStatus(COMPLETED);
@@ -112,9 +115,39 @@ public class NodeMigrationHandler extends AbstractMigrationHandler {
 			return Completable.complete();
 		}
 
-		List<Exception> errorsDetected = migrateLoop(containers, status, (batch, container, errors) ->
-			migrateContainer(ac, batch, container, toVersion, migrationScripts, branch, newSchema, errors, touchedFields)
-		);
+		MigrationOptions options = Mesh.mesh().getOptions().getMigrationOptions();
+		List<NodeMigrationActionContextImpl> workerContexts = new ArrayList<>();
+		// The workers only update the migrated nodes. The stamps of the ancestors and the cached paths are updated after each round so that the workers
+		// don't write the same ancestor vertices.
+		DeferredNodeChanges deferredChanges = new DeferredNodeChanges();
+		Object fromVersionId = db.tx(() -> fromVersion.id());
+		// The containers of a node are migrated by the same worker since the migration also modifies the node
+		List<Exception> errorsDetected = migrateBatched(() -> fromVersion.getDraftFieldContainers(branchUuid), id -> {
+			FramedGraph graph = Tx.getActive().getGraph();
+			Vertex vertex = graph.getVertex(id);
+			if (vertex == null) {
+				return null;
+			}
+			// The container may have been changed since the migration has been started
+			NodeGraphFieldContainer container = graph.frameElementExplicit(vertex, NodeGraphFieldContainerImpl.class);
+			if (!fromVersionId.equals(container.getSchemaContainerVersion().id()) || !container.isDraft(branchUuid)) {
+				return null;
+			}
+			return container;
+		}, container -> container.getParentNode().id(), options, status, () -> {
+			// Each worker needs its own context since the context is modified during the migration of a container
+			NodeMigrationActionContextImpl workerContext = new NodeMigrationActionContextImpl();
+			db.tx(() -> {
+				workerContext.setProject(project);
+				workerContext.setBranch(branch);
+			});
+			workerContexts.add(workerContext);
+			return (batch, container, errors) -> deferredChanges.run(() -> migrateContainer(workerContext, batch, container, toVersion,
+				migrationScripts, branch, newSchema, errors, touchedFields));
+		}, deferredChanges::apply);
+		for (NodeMigrationActionContextImpl workerContext : workerContexts) {
+			ac.getConflicts().addAll(workerContext.getConflicts());
+		}
 
 		// TODO prepare errors. They should be easy to understand and to grasp
 		Completable result = Completable.complete();
@@ -299,7 +299,7 @@ public class BinaryFieldHandler extends AbstractHandler {
 				newDraftVersion.updateWebrootPathInfo(branch.getUuid(), "node_conflicting_segmentfield_upload");
 			}
 
-			return batch.store(node, branch.getUuid(), DRAFT, false).processAsync().andThen(node.transformToRest(ac, 0));
+			return batch.store(node, branch.getUuid(), DRAFT, false).processAsync(ac).andThen(node.transformToRest(ac, 0));
 		}).subscribe(model -> ac.send(model, CREATED), ac::fail);
 	}
 
@@ -470,7 +470,7 @@ public class BinaryFieldHandler extends AbstractHandler {
 					return batch;
 				});
 				// Finally update the search index and return the updated node
-				return sqb.processAsync().andThen(node.transformToRest(ac, 0));
+				return sqb.processAsync(ac).andThen(node.transformToRest(ac, 0));
 			} catch (GenericRestException e) {
 				throw e;
 			} catch (Exception e) {
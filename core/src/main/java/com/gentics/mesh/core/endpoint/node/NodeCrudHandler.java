@@ -90,7 +90,7 @@ public class NodeCrudHandler extends AbstractCrudHandler<Node, NodeResponse> {
 				BulkActionContext bac = searchQueue.createBulkContext();
 				node.deleteFromBranch(ac, ac.getBranch(), bac, false);
 				return bac.batch();
-			}).processSync();
+			}).processSync(ac);
 			node.onDeleted(uuid, name, schema, null);
 
 			return null;
@@ -123,7 +123,7 @@ public class NodeCrudHandler extends AbstractCrudHandler<Node, NodeResponse> {
 				BulkActionContext bac = searchQueue.createBulkContext();
 				node.deleteLanguageContainer(ac, ac.getBranch(), languageTag, bac, true);
 				return bac.batch();
-			}).processSync();
+			}).processSync(ac);
 			node.onDeleted(uuid, name, schema, languageTag);
 			return null;
 		}, m -> ac.send(NO_CONTENT));
@@ -160,7 +160,7 @@ public class NodeCrudHandler extends AbstractCrudHandler<Node, NodeResponse> {
 				SearchQueueBatch batch = searchQueue.create();
 				sourceNode.moveTo(ac, targetNode, batch);
 				return batch;
-			}).processSync();
+			}).processSync(ac);
 			return null;
 		}, m -> ac.send(NO_CONTENT));
 
@@ -280,7 +280,7 @@ public class NodeCrudHandler extends AbstractCrudHandler<Node, NodeResponse> {
 				batch.store(node, branch.getUuid(), DRAFT, false);
 				return Tuple.tuple(node, batch);
 			});
-			return tuple.v2().processAsync().andThen(tuple.v1().transformToRest(ac, 0));
+			return tuple.v2().processAsync(ac).andThen(tuple.v1().transformToRest(ac, 0));
 		}).subscribe(model -> ac.send(model, OK), ac::fail);
 
 	}
@@ -311,7 +311,7 @@ public class NodeCrudHandler extends AbstractCrudHandler<Node, NodeResponse> {
 				batch.store(node, branch.getUuid(), DRAFT, false);
 				node.removeTag(tag, branch);
 				return batch;
-			}).processAsync().andThen(Single.just(Optional.empty()));
+			}).processAsync(ac).andThen(Single.just(Optional.empty()));
 		}).subscribe(model -> ac.send(NO_CONTENT), ac::fail);
 	}
 
@@ -350,7 +350,7 @@ public class NodeCrudHandler extends AbstractCrudHandler<Node, NodeResponse> {
 				node.publish(ac, bac);
 				return bac.batch();
 			});
-			return sqb.processAsync().andThen(Single.just(node.transformToPublishStatus(ac)));
+			return sqb.processAsync(ac).andThen(Single.just(node.transformToPublishStatus(ac)));
 		}).subscribe(model -> ac.send(model, OK), ac::fail);
 	}
 
@@ -369,7 +369,7 @@ public class NodeCrudHandler extends AbstractCrudHandler<Node, NodeResponse> {
 			Node node = getRootVertex(ac).loadObjectByUuid(ac, uuid, PUBLISH_PERM);
 			BulkActionContext bac = searchQueue.createBulkContext();
 			node.takeOffline(ac, bac);
-			return bac.batch().processAsync().andThen(Single.just(Optional.empty()));
+			return bac.batch().processAsync(ac).andThen(Single.just(Optional.empty()));
 		}).subscribe(model -> ac.send(NO_CONTENT), ac::fail);
 	}
 
@@ -412,7 +412,7 @@ public class NodeCrudHandler extends AbstractCrudHandler<Node, NodeResponse> {
 				node.publish(ac, bac, languageTag);
 				return bac.batch();
 			});
-			return sqb.processAsync().andThen(Single.just(node.transformToPublishStatus(ac, languageTag)));
+			return sqb.processAsync(ac).andThen(Single.just(node.transformToPublishStatus(ac, languageTag)));
 		}).subscribe(model -> ac.send(model, OK), ac::fail);
 	}
 
@@ -436,7 +436,7 @@ public class NodeCrudHandler extends AbstractCrudHandler<Node, NodeResponse> {
 				Branch branch = ac.getBranch(ac.getProject());
 				node.takeOffline(ac, bac, branch, languageTag);
 				return bac.batch();
-			}).processAsync().andThen(Single.just(Optional.empty()));
+			}).processAsync(ac).andThen(Single.just(Optional.empty()));
 		}).subscribe(model -> ac.send(NO_CONTENT), ac::fail);
 	}
 
@@ -485,7 +485,7 @@ public class NodeCrudHandler extends AbstractCrudHandler<Node, NodeResponse> {
 				return Tuple.tuple(tags, batch);
 			});
 
-			return tuple.v2().processAsync().andThen(tuple.v1().transformToRest(ac, 0));
+			return tuple.v2().processAsync(ac).andThen(tuple.v1().transformToRest(ac, 0));
 		}).subscribe(model -> ac.send(model, OK), ac::fail);
 
 	}
@@ -18,6 +18,7 @@ import org.apache.commons.lang3.BooleanUtils;
 
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.cache.PermissionStore;
 import com.gentics.mesh.core.data.MeshVertex;
 import com.gentics.mesh.core.data.Role;
 import com.gentics.mesh.core.data.relationship.GraphPermission;
@@ -163,7 +164,9 @@ public class RoleCrudHandler extends AbstractCrudHandler<Role, RoleResponse> {
 					return Tuple.tuple(batch, role.getName());
 				});
 
-				tuple.v1().processSync();
+				// Inform the other instances about the granted permissions once those have been committed
+				db.afterCommit(() -> PermissionStore.invalidateDenied(true));
+				tuple.v1().processSync(ac);
 				String name = tuple.v2();
 				return Single.just(message(ac, "role_updated_permission", name));
 
@@ -161,7 +161,7 @@ public class SchemaCrudHandler extends AbstractCrudHandler<SchemaContainer, Sche
 				return Tuple.tuple(batch, createdVersion.getVersion());
 			});
 
-			info.v1().processSync();
+			info.v1().processSync(ac);
 			if (updateParams.getUpdateAssignedBranches()) {
 				Events.triggerJobWorker();
 				return message(ac, "schema_updated_migration_invoked", schemaName, info.v2());
@@ -235,7 +235,7 @@ public class SchemaCrudHandler extends AbstractCrudHandler<SchemaContainer, Sche
 				batch.createNodeIndex(projectUuid, branchUuid, schemaContainerVersion.getUuid(), PUBLISHED, schemaContainerVersion.getSchema());
 				return Tuple.tuple(batch, schema.transformToRest(ac, 0));
 			});
-			tuple.v1().processSync();
+			tuple.v1().processSync(ac);
 			return tuple.v2();
 		}).subscribe(model -> ac.send(model, OK), ac::fail);
 
@@ -290,7 +290,7 @@ public class SchemaCrudHandler extends AbstractCrudHandler<SchemaContainer, Sche
 				SchemaContainerVersion newVersion = schema.getLatestVersion().applyChanges(ac, batch);
 				return Tuple.tuple(batch, newVersion.getVersion());
 			});
-			info.v1().processSync();
+			info.v1().processSync(ac);
 			return message(ac, "schema_changes_applied", schema.getName(), info.v2());
 		}, model -> ac.send(model, OK));
 
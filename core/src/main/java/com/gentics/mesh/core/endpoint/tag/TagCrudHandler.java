@@ -112,7 +112,7 @@ public class TagCrudHandler extends AbstractHandler {
 			String path = info.getProperty("path");
 			ac.setLocation(path);
 			// TODO don't wait forever in order to prevent locking the thread
-			info.getBatch().processSync();
+			info.getBatch().processSync(ac);
 			return info.getModel();
 		}, model -> ac.send(model, CREATED));
 
@@ -10,6 +10,7 @@ import com.gentics.mesh.auth.provider.MeshJWTAuthProvider;
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.core.data.schema.handler.SchemaComparator;
 import com.gentics.mesh.core.data.search.SearchQueue;
+import com.gentics.mesh.core.data.search.impl.AsyncIndexQueue;
 import com.gentics.mesh.core.data.service.ServerSchemaStorage;
 import com.gentics.mesh.core.endpoint.migration.branch.BranchMigrationHandler;
 import com.gentics.mesh.core.endpoint.migration.micronode.MicronodeMigrationHandler;
@@ -61,6 +62,8 @@ public interface MeshComponent {
 
 	SearchProvider searchProvider();
 
+	AsyncIndexQueue asyncIndexQueue();
+
 	BCryptPasswordEncoder passwordEncoder();
 
 	Provider<RouterStorage> routerStorageProvider();
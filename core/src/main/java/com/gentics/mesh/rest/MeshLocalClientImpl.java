@@ -30,6 +30,7 @@ import com.gentics.mesh.core.endpoint.webroot.WebRootHandler;
 import com.gentics.mesh.core.rest.MeshServerInfoModel;
 import com.gentics.mesh.core.rest.admin.cluster.ClusterStatusResponse;
 import com.gentics.mesh.core.rest.admin.consistency.ConsistencyCheckResponse;
+import com.gentics.mesh.core.rest.admin.metric.TransactionMetricsResponse;
 import com.gentics.mesh.core.rest.admin.status.MeshStatusResponse;
 import com.gentics.mesh.core.rest.branch.BranchCreateRequest;
 import com.gentics.mesh.core.rest.branch.BranchListResponse;
@@ -997,6 +998,13 @@ public class MeshLocalClientImpl implements MeshRestClient {
 		return new MeshLocalRequestImpl<>(ac.getFuture());
 	}
 
+	@Override
+	public MeshRequest<TransactionMetricsResponse> transactionMetrics() {
+		LocalActionContextImpl<TransactionMetricsResponse> ac = createContext(TransactionMetricsResponse.class);
+		adminHandler.handleTransactionMetrics(ac);
+		return new MeshLocalRequestImpl<>(ac.getFuture());
+	}
+
 	@Override
 	public MeshRequest<MicroschemaResponse> createMicroschema(MicroschemaCreateRequest request) {
 		LocalActionContextImpl<MicroschemaResponse> ac = createContext(MicroschemaResponse.class);
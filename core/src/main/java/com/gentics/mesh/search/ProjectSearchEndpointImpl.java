@@ -18,6 +18,7 @@ import com.gentics.mesh.core.rest.common.RestModel;
 import com.gentics.mesh.core.rest.node.NodeListResponse;
 import com.gentics.mesh.core.rest.tag.TagFamilyListResponse;
 import com.gentics.mesh.core.rest.tag.TagListResponse;
+import com.gentics.mesh.parameter.impl.SearchParametersImpl;
 import com.gentics.mesh.rest.InternalEndpointRoute;
 import com.gentics.mesh.router.route.AbstractProjectEndpoint;
 import com.gentics.mesh.search.index.node.NodeSearchHandler;
@@ -64,7 +65,7 @@ public class ProjectSearchEndpointImpl extends AbstractProjectEndpoint implement
 	 */
 	private void addSearchEndpoints() {
 		registerSearchHandler("nodes", () -> boot.meshRoot().getNodeRoot(), NodeListResponse.class, nodeSearchHandler, nodeExamples
-			.getNodeListResponse(), true);
+			.getNodeListResponse(), true).addQueryParameters(SearchParametersImpl.class);
 		registerSearchHandler("tags", () -> boot.meshRoot().getTagRoot(), TagListResponse.class, tagSearchHandler, tagExamples
 			.createTagListResponse(), false);
 		registerSearchHandler("tagFamilies", () -> boot.meshRoot().getTagFamilyRoot(), TagFamilyListResponse.class, tagFamilySearchHandler,
@@ -87,9 +88,10 @@ public class ProjectSearchEndpointImpl extends AbstractProjectEndpoint implement
 	 *            Example list response used for RAML generation
 	 * @param filterByLanguage
 	 *            Whether to append the language filter
+	 * @return Created route
 	 */
-	private <T extends MeshCoreVertex<TR, T>, TR extends RestModel, RL extends ListResponse<TR>> void registerSearchHandler(String typeName,
-		Supplier<RootVertex<T>> root, Class<RL> classOfRL, SearchHandler<T, TR> searchHandler, RL exampleResponse, boolean filterByLanguage) {
+	private <T extends MeshCoreVertex<TR, T>, TR extends RestModel, RL extends ListResponse<TR>> InternalEndpointRoute registerSearchHandler(
+		String typeName, Supplier<RootVertex<T>> root, Class<RL> classOfRL, SearchHandler<T, TR> searchHandler, RL exampleResponse, boolean filterByLanguage) {
 		InternalEndpointRoute endpoint = createRoute();
 		endpoint.path("/" + typeName);
 		endpoint.method(POST);
@@ -106,5 +108,6 @@ public class ProjectSearchEndpointImpl extends AbstractProjectEndpoint implement
 				rc.fail(e);
 			}
 		});
+		return endpoint;
 	}
 }
@@ -26,6 +26,7 @@ import com.gentics.mesh.core.rest.tag.TagFamilyListResponse;
 import com.gentics.mesh.core.rest.tag.TagListResponse;
 import com.gentics.mesh.core.rest.user.UserListResponse;
 import com.gentics.mesh.parameter.impl.PagingParametersImpl;
+import com.gentics.mesh.parameter.impl.SearchParametersImpl;
 import com.gentics.mesh.rest.InternalEndpointRoute;
 import com.gentics.mesh.router.route.AbstractInternalEndpoint;
 import com.gentics.mesh.search.index.AdminIndexHandler;
@@ -109,7 +110,7 @@ public class SearchEndpointImpl extends AbstractInternalEndpoint implements Sear
 			.getRoleListResponse(), false);
 
 		registerHandler("nodes", () -> boot.get().meshRoot().getNodeRoot(), NodeListResponse.class, nodeSearchHandler, nodeExamples
-			.getNodeListResponse(), true);
+			.getNodeListResponse(), true).addQueryParameters(SearchParametersImpl.class);
 		registerHandler("tags", () -> boot.get().meshRoot().getTagRoot(), TagListResponse.class, tagSearchHandler, tagExamples
 			.createTagListResponse(), false);
 		registerHandler("tagFamilies", () -> boot.get().meshRoot().getTagFamilyRoot(), TagFamilyListResponse.class, tagFamilySearchHandler,
@@ -182,9 +183,10 @@ public class SearchEndpointImpl extends AbstractInternalEndpoint implements Sear
 	 *            Class of matching list response
 	 * @param indexHandlerKey
 	 *            key of the index handlers
+	 * @return Created route
 	 */
-	private <T extends MeshCoreVertex<TR, T>, TR extends RestModel, RL extends ListResponse<TR>> void registerHandler(String typeName,
-		Supplier<RootVertex<T>> root, Class<RL> classOfRL, SearchHandler<T, TR> searchHandler, RL exampleListResponse, boolean filterByLanguage) {
+	private <T extends MeshCoreVertex<TR, T>, TR extends RestModel, RL extends ListResponse<TR>> InternalEndpointRoute registerHandler(
+		String typeName, Supplier<RootVertex<T>> root, Class<RL> classOfRL, SearchHandler<T, TR> searchHandler, RL exampleListResponse, boolean filterByLanguage) {
 		InternalEndpointRoute endpoint = createRoute();
 		endpoint.path("/" + typeName);
 		endpoint.method(POST);
@@ -203,6 +205,7 @@ public class SearchEndpointImpl extends AbstractInternalEndpoint implements Sear
 				rc.fail(e);
 			}
 		});
+		return endpoint;
 	}
 
 }
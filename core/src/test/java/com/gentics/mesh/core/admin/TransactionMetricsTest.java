@@ -0,0 +1,50 @@
+package com.gentics.mesh.core.admin;
+
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestSize.PROJECT;
+import static io.netty.handler.codec.http.HttpResponseStatus.FORBIDDEN;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import org.junit.Test;
+
+import com.gentics.mesh.core.rest.admin.metric.TransactionConflictInfo;
+import com.gentics.mesh.core.rest.admin.metric.TransactionMetricsResponse;
+import com.gentics.mesh.graphdb.metric.TxMetric;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+import com.syncleus.ferma.tx.Tx;
+
+@MeshTestSetting(useElasticsearch = false, testSize = PROJECT, startServer = true)
+public class TransactionMetricsTest extends AbstractMeshTest {
+
+	@Test
+	public void testLoadMetricsWithoutPerm() {
+		call(() -> client().transactionMetrics(), FORBIDDEN, "error_admin_permission_required");
+	}
+
+	@Test
+	public void testLoadMetrics() {
+		String nodeId;
+		try (Tx tx = tx()) {
+			group().addRole(roles().get("admin"));
+			Object id = folder("2015").getId();
+			nodeId = id.toString();
+			tx.success();
+		}
+		TxMetric.conflict(nodeId);
+
+		TransactionMetricsResponse response = call(() -> client().transactionMetrics());
+		assertThat(response.getCount()).isGreaterThan(0);
+		assertThat(response.getConflicts()).isGreaterThan(0);
+		assertNotNull(response.getDuration());
+		assertNotNull(response.getCommit());
+
+		TransactionConflictInfo info = response.getHotspots().stream().filter(h -> nodeId.equals(h.getElementId())).findFirst().get();
+		assertEquals("NodeImpl", info.getType());
+		assertThat(info.getConflicts()).isGreaterThan(0);
+		assertThat(response.getConflictsPerType()).containsKey("NodeImpl");
+	}
+
+}
@@ -3,12 +3,22 @@ package com.gentics.mesh.core.data.root;
 import static com.gentics.mesh.mock.Mocks.getMockedInternalActionContext;
 import static com.gentics.mesh.test.TestSize.PROJECT_AND_NODE;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
 
 import org.junit.Test;
 
 import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.data.page.Page;
 import com.gentics.mesh.core.data.page.TransformablePage;
+import com.gentics.mesh.core.data.page.impl.DynamicStreamPageImpl;
 import com.gentics.mesh.core.data.page.impl.DynamicTransformablePageImpl;
 import com.gentics.mesh.parameter.impl.PagingParametersImpl;
 import com.gentics.mesh.test.context.AbstractMeshTest;
@@ -44,4 +54,39 @@ public class DynamicTransformablePageTest extends AbstractMeshTest {
 		}
 	}
 
+	@Test
+	public void testDeadline() {
+		try (Tx tx = tx()) {
+			NodeRoot root = boot().nodeRoot();
+			// Use a deadline which has already passed
+			PagingParametersImpl pagingInfo = new PagingParametersImpl(1, 2L).setDeadline(System.nanoTime() - 1);
+			InternalActionContext ac = getMockedInternalActionContext("", user(), project());
+			TransformablePage<?> page = new DynamicTransformablePageImpl<>(ac.getUser(), root, pagingInfo);
+			assertTrue(page.getWrappedList().isEmpty());
+			assertFalse(page.hasNextPage());
+
+			// The iteration of an endless stream must stop although no element passes the filter
+			Page<Integer> streamPage = new DynamicStreamPageImpl<>(Stream.iterate(0, i -> i + 1), pagingInfo, i -> false);
+			assertTrue(streamPage.getWrappedList().isEmpty());
+		}
+	}
+
+	@Test
+	public void testCursorSkipsMapping() {
+		try (Tx tx = tx()) {
+			List<Node> nodes = Arrays.asList(folder("2014"), folder("2015"), content("concorde"));
+			PagingParametersImpl pagingInfo = new PagingParametersImpl(1, 10L);
+			pagingInfo.setAfter(folder("2014").getUuid());
+
+			// The elements up to the cursor must neither be mapped nor filtered
+			List<String> mapped = new ArrayList<>();
+			Page<String> page = new DynamicStreamPageImpl<>(nodes.stream(), node -> {
+				mapped.add(node.getUuid());
+				return node.getUuid();
+			}, pagingInfo, uuid -> !uuid.equals(folder("2014").getUuid()));
+			assertEquals(Arrays.asList(folder("2015").getUuid(), content("concorde").getUuid()), page.getWrappedList());
+			assertEquals(Arrays.asList(folder("2015").getUuid(), content("concorde").getUuid()), mapped);
+		}
+	}
+
 }
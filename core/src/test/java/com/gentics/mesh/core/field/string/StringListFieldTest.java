@@ -9,6 +9,9 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.junit.Test;
 
 import com.syncleus.ferma.tx.Tx;
@@ -17,7 +20,9 @@ import com.gentics.mesh.core.data.NodeGraphFieldContainer;
 import com.gentics.mesh.core.data.container.impl.NodeGraphFieldContainerImpl;
 import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.node.field.GraphField;
+import com.gentics.mesh.core.data.node.field.list.AbstractBasicGraphFieldList;
 import com.gentics.mesh.core.data.node.field.list.StringGraphFieldList;
+import com.gentics.mesh.core.data.node.field.list.impl.StringGraphFieldListImpl;
 import com.gentics.mesh.core.field.AbstractFieldTest;
 import com.gentics.mesh.core.rest.node.NodeResponse;
 import com.gentics.mesh.core.rest.node.field.Field;
@@ -89,6 +94,51 @@ public class StringListFieldTest extends AbstractFieldTest<ListFieldSchema> {
 		}
 	}
 
+	@Test
+	public void testPackedStorage() {
+		try (Tx tx = tx()) {
+			NodeGraphFieldContainer container = tx.getGraph().addFramedVertex(NodeGraphFieldContainerImpl.class);
+			StringGraphFieldListImpl list = (StringGraphFieldListImpl) container.createStringList("dummyList");
+			for (int i = 0; i < 12; i++) {
+				list.createString("value" + i);
+			}
+			assertThat(list.getPropertyKeys()).as("Property keys").contains(AbstractBasicGraphFieldList.ITEMS_PROPERTY_KEY);
+			for (String key : list.getPropertyKeys()) {
+				assertFalse("The items must not be stored in separate properties", key.startsWith("item-"));
+			}
+			List<Object> values = list.getProperty(AbstractBasicGraphFieldList.ITEMS_PROPERTY_KEY);
+			assertEquals(12, values.size());
+			assertEquals("The items must be loaded in order", "value10", list.getList().get(10).getString());
+			assertEquals("value11", list.getString(12).getString());
+
+			list.getString(2).setString("changed");
+			assertEquals(Arrays.asList("value0", "changed", "value2"), list.getValues().subList(0, 3));
+
+			list.removeAll();
+			assertThat(list.getPropertyKeys()).doesNotContain(AbstractBasicGraphFieldList.ITEMS_PROPERTY_KEY);
+		}
+	}
+
+	@Test
+	public void testSetItems() {
+		try (Tx tx = tx()) {
+			NodeGraphFieldContainer container = tx.getGraph().addFramedVertex(NodeGraphFieldContainerImpl.class);
+			StringGraphFieldList list = container.createStringList("dummyList");
+			list.setItems(Arrays.asList("A", null, "B", "C"));
+			assertEquals("Null values must be omitted", Arrays.asList("A", "B", "C"), list.getValues());
+			assertEquals(3, list.getSize());
+
+			// Unset an item in the middle of the list
+			list.getString(2).setString(null);
+			assertEquals(2, list.getSize());
+			assertEquals(Arrays.asList("A", "C"), list.getValues());
+
+			// New items are appended after the last item
+			list.createString("D");
+			assertEquals(Arrays.asList("A", "C", "D"), list.getValues());
+		}
+	}
+
 	@Test
 	@Override
 	public void testClone() {
@@ -11,9 +11,14 @@ import java.io.IOException;
 import org.json.JSONException;
 import org.junit.Test;
 
+import com.gentics.mesh.FieldUtil;
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.data.relationship.GraphPermission;
 import com.gentics.mesh.core.data.schema.MicroschemaContainer;
 import com.gentics.mesh.core.rest.graphql.GraphQLRequest;
 import com.gentics.mesh.core.rest.graphql.GraphQLResponse;
+import com.gentics.mesh.core.rest.schema.impl.SchemaCreateRequest;
+import com.gentics.mesh.core.rest.schema.impl.SchemaResponse;
 import com.gentics.mesh.test.TestSize;
 import com.gentics.mesh.test.context.AbstractMeshTest;
 import com.gentics.mesh.test.context.MeshTestSetting;
@@ -23,6 +28,7 @@ import com.syncleus.ferma.tx.Tx;
 import io.reactivex.Completable;
 import io.reactivex.Flowable;
 import io.reactivex.Single;
+import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 
 @MeshTestSetting(useElasticsearch = false, testSize = TestSize.FULL, startServer = true)
@@ -60,6 +66,23 @@ public class GraphQLEndpointBasicTest extends AbstractMeshTest {
 		assertEquals(1, response.getErrors().stream().filter(error -> error.getType().equals("ValidationError")).count());
 	}
 
+	@Test
+	public void testSchemaChange() throws Throwable {
+		String query = "{ node(path: \"/News\") { fields { ... on dummy { content } } } }";
+		GraphQLResponse response = call(() -> client().graphqlQuery(PROJECT_NAME, query));
+		assertEquals("The type must be unknown before the schema is assigned", 1,
+			response.getErrors().stream().filter(error -> error.getType().equals("ValidationError")).count());
+
+		SchemaCreateRequest request = new SchemaCreateRequest();
+		request.setName("dummy");
+		request.addField(FieldUtil.createHtmlFieldSchema("content"));
+		SchemaResponse schema = call(() -> client().createSchema(request));
+		call(() -> client().assignSchemaToProject(PROJECT_NAME, schema.getUuid()));
+
+		response = call(() -> client().graphqlQuery(PROJECT_NAME, query));
+		assertThat(response.getErrors()).as("Errors after the schema was assigned").isNullOrEmpty();
+	}
+
 	@Test
 	public void testVariables() throws Throwable {
 		GraphQLRequest request = new GraphQLRequest();
@@ -70,6 +93,44 @@ public class GraphQLEndpointBasicTest extends AbstractMeshTest {
 		assertThat(uuid).isNotEmpty();
 	}
 
+	@Test
+	public void testBatchedParentLoading() {
+		GraphQLResponse response = call(() -> client().graphqlQuery(PROJECT_NAME,
+			"{ nodes(perPage: 1000) { elements { uuid parent { uuid } breadcrumb { uuid } } } }"));
+		JsonArray elements = response.getData().getJsonObject("nodes").getJsonArray("elements");
+		assertThat(elements.size()).isGreaterThan(1);
+		try (Tx tx = tx()) {
+			String branchUuid = project().getLatestBranch().getUuid();
+			for (int i = 0; i < elements.size(); i++) {
+				JsonObject element = elements.getJsonObject(i);
+				Node node = project().getNodeRoot().findByUuid(element.getString("uuid"));
+				Node parent = node.getParentNode(branchUuid);
+				if (parent == null) {
+					assertThat(element.getJsonObject("parent")).as("Parent of the base node").isNull();
+				} else {
+					assertEquals(parent.getUuid(), element.getJsonObject("parent").getString("uuid"));
+				}
+				JsonArray breadcrumb = element.getJsonArray("breadcrumb");
+				assertEquals(node.getUuid(), breadcrumb.getJsonObject(breadcrumb.size() - 1).getString("uuid"));
+			}
+		}
+	}
+
+	@Test
+	public void testMissingParentPermission() {
+		String newsUuid;
+		String childUuid;
+		try (Tx tx = tx()) {
+			newsUuid = folder("news").getUuid();
+			childUuid = folder("2015").getUuid();
+			role().revokePermissions(folder("news"), GraphPermission.READ_PERM, GraphPermission.READ_PUBLISHED_PERM);
+			tx.success();
+		}
+		GraphQLResponse response = call(() -> client().graphqlQuery(PROJECT_NAME, "{ node(uuid: \"" + childUuid + "\") { parent { uuid } } }"));
+		assertThat(response.getErrors()).as("Errors").isNotEmpty();
+		assertEquals("The permission error of the batched parent must be reported", newsUuid, response.getErrors().get(0).getElementId());
+	}
+
 	@Test
 	public void testConcurrentQuery() {
 		Flowable<Completable> calls = Single.fromCallable(() ->
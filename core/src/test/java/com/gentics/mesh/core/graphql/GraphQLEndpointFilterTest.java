@@ -27,4 +27,42 @@ public class GraphQLEndpointFilterTest extends AbstractMeshTest {
 			assertThat(nodeObj.getBoolean("isContainer")).isTrue();
 		});
 	}
+
+	@Test
+	public void testSchemaFilter() {
+		JsonArray nodes = queryNodes("{schema: {is: folder}}");
+		assertThat(nodes.size()).isGreaterThan(0);
+		nodes.forEach(node -> {
+			assertThat(((JsonObject) node).getJsonObject("schema").getString("name")).isEqualTo("folder");
+		});
+		// Filters within an or operator are not resolved via the index
+		assertThat(nodes.size()).isEqualTo(queryNodes("{or: [{schema: {is: folder}}]}").size());
+	}
+
+	@Test
+	public void testUuidFilter() {
+		String uuid = tx(() -> folder("news").getUuid());
+		JsonArray nodes = queryNodes("{uuid: {equals: \"" + uuid + "\"}, schema: {is: folder}}");
+		assertThat(nodes.size()).isEqualTo(1);
+		assertThat(nodes.getJsonObject(0).getString("uuid")).isEqualTo(uuid);
+
+		// The remaining parts of the filter must still be applied
+		nodes = queryNodes("{uuid: {equals: \"" + uuid + "\"}, schema: {is: content}}");
+		assertThat(nodes.size()).isEqualTo(0);
+	}
+
+	@Test
+	public void testCreatorFilter() {
+		String creatorUuid = tx(() -> folder("news").getCreator().getUuid());
+		JsonArray nodes = queryNodes("{creator: {uuid: {equals: \"" + creatorUuid + "\"}}}");
+		assertThat(nodes.size()).isGreaterThan(0);
+		assertThat(nodes.size()).isEqualTo(queryNodes("{or: [{creator: {uuid: {equals: \"" + creatorUuid + "\"}}}]}").size());
+	}
+
+	private JsonArray queryNodes(String filter) {
+		String query = "{ nodes(perPage: 1000, filter: " + filter + ") { elements { uuid schema { name } } } }";
+		GraphQLResponse response = call(() -> client().graphqlQuery(PROJECT_NAME, query));
+		JsonObject json = new JsonObject(response.toJson());
+		return json.getJsonObject("data").getJsonObject("nodes").getJsonArray("elements");
+	}
 }
@@ -0,0 +1,79 @@
+package com.gentics.mesh.core.graphql;
+
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.gentics.mesh.Mesh;
+import com.gentics.mesh.core.rest.graphql.GraphQLRequest;
+import com.gentics.mesh.core.rest.graphql.GraphQLResponse;
+import com.gentics.mesh.etc.config.GraphQLOptions;
+import com.gentics.mesh.test.TestSize;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+import io.vertx.core.json.JsonObject;
+
+@MeshTestSetting(useElasticsearch = false, testSize = TestSize.FULL, startServer = true)
+public class GraphQLQueryCostTest extends AbstractMeshTest {
+
+	@After
+	public void resetOptions() {
+		Mesh.mesh().getOptions().setGraphQLOptions(new GraphQLOptions());
+	}
+
+	@Test
+	public void testCostAnalysis() {
+		GraphQLResponse response = query("{ me { firstname } }", true);
+		JsonObject cost = response.getExtensions().getJsonObject("cost");
+		assertEquals("One element field and one scalar field", 3L, cost.getLong("estimated").longValue());
+		assertEquals(2, cost.getInteger("depth").intValue());
+		assertThat(cost.getJsonObject("fields").fieldNames()).contains("Query.me", "User.firstname");
+		assertThat(cost.getDouble("executionTime")).isGreaterThanOrEqualTo(0);
+
+		assertNull("The extensions must only be returned on request", query("{ me { firstname } }", false).getExtensions());
+	}
+
+	@Test
+	public void testPageSizeMultiplier() {
+		long small = query("{ nodes(perPage: 2) { elements { uuid } } }", true).getExtensions().getJsonObject("cost").getLong("estimated");
+		long large = query("{ nodes(perPage: 20) { elements { uuid } } }", true).getExtensions().getJsonObject("cost").getLong("estimated");
+		assertEquals(2 + 2 * 3, small);
+		assertEquals(2 + 20 * 3, large);
+	}
+
+	@Test
+	public void testCostLimit() {
+		Mesh.mesh().getOptions().getGraphQLOptions().setMaxQueryCost(100);
+		GraphQLResponse response = query("{ nodes { elements { uuid children { elements { uuid } } } } }", false);
+		assertNull("The query must not be executed", response.getData());
+		assertEquals("QueryLimitExceeded", response.getErrors().get(0).getType());
+
+		response = query("{ me { firstname } }", false);
+		assertThat(response.getErrors()).isNullOrEmpty();
+		assertEquals("Joe", response.getData().getJsonObject("me").getString("firstname"));
+	}
+
+	@Test
+	public void testDepthLimit() {
+		Mesh.mesh().getOptions().getGraphQLOptions().setMaxQueryDepth(2);
+		GraphQLResponse response = query("{ nodes { elements { uuid } } }", false);
+		assertNull("The query must not be executed", response.getData());
+		assertEquals("QueryLimitExceeded", response.getErrors().get(0).getType());
+
+		response = query("{ me { firstname } }", false);
+		assertThat(response.getErrors()).isNullOrEmpty();
+	}
+
+	private GraphQLResponse query(String query, boolean analyzeCost) {
+		GraphQLRequest request = new GraphQLRequest();
+		request.setQuery(query);
+		request.setAnalyzeCost(analyzeCost);
+		return call(() -> client().graphql(PROJECT_NAME, request));
+	}
+}
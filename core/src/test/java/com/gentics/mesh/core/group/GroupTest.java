@@ -8,6 +8,8 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.junit.Test;
 import com.gentics.mesh.context.BulkActionContext;
 import com.gentics.mesh.context.InternalActionContext;
@@ -164,6 +166,24 @@ public class GroupTest extends AbstractMeshTest implements BasicObjectTestcases
 		}
 	}
 
+	@Test
+	public void testRemoveRolePermissionCache() throws Exception {
+		try (Tx tx = tx()) {
+			assertTrue(user().hasPermission(project(), GraphPermission.READ_PERM));
+		}
+		try (Tx tx = tx()) {
+			group().removeRole(role());
+			// Check the permission in another transaction while the removal has not yet been committed
+			boolean granted = CompletableFuture.supplyAsync(() -> db().tx(() -> user().hasPermission(project(), GraphPermission.READ_PERM))).get();
+			assertTrue("The removal is not yet visible to other transactions", granted);
+			tx.success();
+		}
+		try (Tx tx = tx()) {
+			assertFalse("The cached permission must be invalidated once the removal was committed", user().hasPermission(project(),
+				GraphPermission.READ_PERM));
+		}
+	}
+
 	@Test
 	@Override
 	public void testRead() {
@@ -6,6 +6,7 @@ import static com.gentics.mesh.test.ClientHelper.call;
 import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
 import static com.gentics.mesh.test.TestSize.FULL;
 import static com.gentics.mesh.test.util.TestUtils.size;
+import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.FORBIDDEN;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -13,6 +14,7 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -154,6 +156,82 @@ public class NodeChildrenEndpointTest extends AbstractMeshTest {
 		}
 	}
 
+	@Test
+	public void testReadNodeChildrenWithCursor() throws Exception {
+		String uuid = tx(() -> folder("news").getUuid());
+		NodeListResponse allChildren = call(() -> client().findNodeChildren(PROJECT_NAME, uuid, new PagingParametersImpl().setPerPage(20000L),
+			new VersioningParametersImpl().draft()));
+		List<String> expectedUuids = allChildren.getData().stream().map(NodeResponse::getUuid).collect(Collectors.toList());
+		assertTrue("The folder must contain multiple children", expectedUuids.size() > 1);
+
+		// Page through the children using the uuid of the last element of each page
+		List<String> uuids = new ArrayList<>();
+		String after = null;
+		boolean hasNextPage = true;
+		while (hasNextPage) {
+			PagingParametersImpl paging = new PagingParametersImpl(1, 1L);
+			if (after != null) {
+				paging.setAfter(after);
+			}
+			NodeListResponse page = call(() -> client().findNodeChildren(PROJECT_NAME, uuid, paging, new VersioningParametersImpl().draft()));
+			assertEquals(1, page.getData().size());
+			if (after != null) {
+				assertEquals("The total count is not determined when a cursor is used", -1, page.getMetainfo().getTotalCount());
+			}
+			after = page.getData().get(0).getUuid();
+			uuids.add(after);
+			hasNextPage = uuids.size() < expectedUuids.size();
+		}
+		assertEquals(expectedUuids, uuids);
+
+		// The page after the last element is empty
+		String lastUuid = after;
+		NodeListResponse emptyPage = call(() -> client().findNodeChildren(PROJECT_NAME, uuid, new PagingParametersImpl(1, 1L).setAfter(lastUuid),
+			new VersioningParametersImpl().draft()));
+		assertThat(emptyPage.getData()).isEmpty();
+
+		// An unknown cursor is rejected
+		call(() -> client().findNodeChildren(PROJECT_NAME, uuid, new PagingParametersImpl(1, 1L).setAfter(userUuid()),
+			new VersioningParametersImpl().draft()), BAD_REQUEST, "error_paging_cursor_not_found", userUuid());
+
+		// Skip the total count
+		NodeListResponse uncounted = call(() -> client().findNodeChildren(PROJECT_NAME, uuid, new PagingParametersImpl(1, 1L).setCountTotal(false),
+			new VersioningParametersImpl().draft()));
+		assertEquals(expectedUuids.get(0), uncounted.getData().get(0).getUuid());
+		assertEquals(-1, uncounted.getMetainfo().getTotalCount());
+		assertEquals(-1, uncounted.getMetainfo().getPageCount());
+	}
+
+	@Test
+	public void testReadNodeChildrenWithEstimatedTotal() throws Exception {
+		String uuid = tx(() -> folder("news").getUuid());
+		String branchUuid = tx(() -> project().getLatestBranch().getUuid());
+		NodeListResponse allChildren = call(() -> client().findNodeChildren(PROJECT_NAME, uuid, new PagingParametersImpl().setPerPage(20000L),
+			new VersioningParametersImpl().draft()));
+		long expectedCount = allChildren.getMetainfo().getTotalCount();
+		assertEquals("The persisted counter must match the amount of children", expectedCount,
+			(long) tx(() -> folder("news").getChildCount(branchUuid)));
+
+		// All children are visible and thus the estimate must match the exact count
+		NodeListResponse estimated = call(() -> client().findNodeChildren(PROJECT_NAME, uuid, new PagingParametersImpl(1, 1L).setEstimateTotal(true),
+			new VersioningParametersImpl().draft()));
+		assertEquals(1, estimated.getData().size());
+		assertEquals(expectedCount, estimated.getMetainfo().getTotalCount());
+
+		// Create and delete a child
+		NodeCreateRequest create = new NodeCreateRequest();
+		create.setParentNodeUuid(uuid);
+		create.setLanguage("en");
+		create.setSchema(new SchemaReferenceImpl().setName("folder"));
+		create.getFields().put("name", FieldUtil.createStringField("counted"));
+		create.getFields().put("slug", FieldUtil.createStringField("counted"));
+		NodeResponse created = call(() -> client().createNode(PROJECT_NAME, create));
+		assertEquals(expectedCount + 1, (long) tx(() -> folder("news").getChildCount(branchUuid)));
+
+		call(() -> client().deleteNode(PROJECT_NAME, created.getUuid()));
+		assertEquals(expectedCount, (long) tx(() -> folder("news").getChildCount(branchUuid)));
+	}
+
 	@Test
 	public void testReadNodeChildrenWithoutChildPermission() throws Exception {
 		Node node = folder("news");
@@ -140,6 +140,32 @@ public class NodeEndpointETagTest extends AbstractMeshTest {
 
 	}
 
+	@Test
+	public void testParentChange() {
+		String folderUuid = tx(() -> folder("2015").getUuid());
+
+		NodeCreateRequest request = new NodeCreateRequest();
+		request.setLanguage("en");
+		request.setParentNode(new NodeReference().setUuid(folderUuid));
+		request.setSchema(new SchemaReferenceImpl().setName("content"));
+		request.getFields().put("teaser", FieldUtil.createStringField("someTeaser"));
+		request.getFields().put("slug", FieldUtil.createStringField("someSlug"));
+		String uuid = call(() -> client().createNode(PROJECT_NAME, request)).getUuid();
+
+		String etag = callETag(() -> client().findNodeByUuid(PROJECT_NAME, uuid));
+		callETag(() -> client().findNodeByUuid(PROJECT_NAME, uuid), etag, true, 304);
+
+		// Update the parent folder - The breadcrumb of the child changes and thus the etag must change
+		NodeResponse folder = call(() -> client().findNodeByUuid(PROJECT_NAME, folderUuid));
+		NodeUpdateRequest updateRequest = new NodeUpdateRequest();
+		updateRequest.setLanguage("en");
+		updateRequest.setVersion(folder.getVersion());
+		updateRequest.getFields().put("slug", FieldUtil.createStringField("2015-renamed"));
+		call(() -> client().updateNode(PROJECT_NAME, folderUuid, updateRequest));
+
+		callETag(() -> client().findNodeByUuid(PROJECT_NAME, uuid), etag, true, 200);
+	}
+
 	@Test
 	public void testReadOne() {
 		Node node = content();
@@ -3,13 +3,20 @@ package com.gentics.mesh.core.node;
 import static com.gentics.mesh.http.HttpConstants.ETAG;
 import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
 import static com.gentics.mesh.test.TestSize.FULL;
+import static com.gentics.mesh.test.ClientHelper.call;
 import static com.gentics.mesh.test.ClientHelper.callETag;
 import static com.gentics.mesh.test.util.MeshAssert.latchFor;
+import static org.junit.Assert.assertNotEquals;
 
 import org.junit.Test;
 
 import com.syncleus.ferma.tx.Tx;
+import com.gentics.mesh.FieldUtil;
+import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.rest.navigation.NavigationResponse;
+import com.gentics.mesh.core.rest.node.NodeCreateRequest;
+import com.gentics.mesh.core.rest.schema.impl.SchemaReferenceImpl;
+import com.gentics.mesh.core.rest.user.NodeReference;
 import com.gentics.mesh.rest.client.MeshResponse;
 import com.gentics.mesh.test.context.AbstractMeshTest;
 import com.gentics.mesh.test.context.MeshTestSetting;
@@ -28,4 +35,55 @@ public class NodeNavigationEndpointETagTest extends AbstractMeshTest {
 		}
 	}
 
+	@Test
+	public void testDescendantChange() {
+		String baseNodeUuid = tx(() -> project().getBaseNode().getUuid());
+		String folderUuid = tx(() -> folder("2015").getUuid());
+		String etag = callETag(() -> client().loadNavigation(PROJECT_NAME, baseNodeUuid));
+		callETag(() -> client().loadNavigation(PROJECT_NAME, baseNodeUuid), etag, true, 304);
+
+		// Create a new node deep within the subtree
+		NodeCreateRequest request = new NodeCreateRequest();
+		request.setLanguage("en");
+		request.setParentNode(new NodeReference().setUuid(folderUuid));
+		request.setSchema(new SchemaReferenceImpl().setName("folder"));
+		request.getFields().put("name", FieldUtil.createStringField("subfolder"));
+		request.getFields().put("slug", FieldUtil.createStringField("subfolder"));
+		call(() -> client().createNode(PROJECT_NAME, request));
+
+		// The subtree of the base node changed and thus the etag must change
+		String newEtag = callETag(() -> client().loadNavigation(PROJECT_NAME, baseNodeUuid), etag, true, 200);
+		assertNotEquals(etag, newEtag);
+		callETag(() -> client().loadNavigation(PROJECT_NAME, baseNodeUuid), newEtag, true, 304);
+	}
+
+	@Test
+	public void testChangeBelowSubtreeStampDepth() {
+		String baseNodeUuid = tx(() -> project().getBaseNode().getUuid());
+
+		// Create a chain of folders which is deeper than the levels covered by the subtree stamp of the base node
+		String parentUuid = baseNodeUuid;
+		for (int i = 0; i <= Node.SUBTREE_STAMP_DEPTH; i++) {
+			parentUuid = createFolder(parentUuid, "level" + i);
+		}
+		String etag = callETag(() -> client().loadNavigation(PROJECT_NAME, baseNodeUuid));
+		callETag(() -> client().loadNavigation(PROJECT_NAME, baseNodeUuid), etag, true, 304);
+
+		createFolder(parentUuid, "deepest");
+
+		// The navigation includes the new folder and thus the etag must change
+		String newEtag = callETag(() -> client().loadNavigation(PROJECT_NAME, baseNodeUuid), etag, true, 200);
+		assertNotEquals(etag, newEtag);
+	}
+
+	private String createFolder(String parentUuid, String name) {
+		NodeCreateRequest request = new NodeCreateRequest();
+		request.setLanguage("en");
+		request.setParentNode(new NodeReference().setUuid(parentUuid));
+		request.setSchema(new SchemaReferenceImpl().setName("folder"));
+		request.getFields().put("name", FieldUtil.createStringField(name));
+		request.getFields().put("slug", FieldUtil.createStringField(name));
+		return call(() -> client().createNode(PROJECT_NAME, request)).getUuid();
+	}
+
 }
@@ -17,6 +17,7 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -25,6 +26,7 @@ import org.junit.Before;
 import org.junit.Test;
 
 import com.gentics.mesh.FieldUtil;
+import com.gentics.mesh.Mesh;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.context.impl.InternalRoutingActionContextImpl;
 import com.gentics.mesh.core.data.Branch;
@@ -47,6 +49,7 @@ import com.gentics.mesh.core.data.schema.impl.SchemaContainerImpl;
 import com.gentics.mesh.core.data.schema.impl.SchemaContainerVersionImpl;
 import com.gentics.mesh.core.data.schema.impl.UpdateFieldChangeImpl;
 import com.gentics.mesh.core.rest.job.JobListResponse;
+import com.gentics.mesh.core.rest.job.JobResponse;
 import com.gentics.mesh.core.rest.microschema.impl.MicroschemaModelImpl;
 import com.gentics.mesh.core.rest.microschema.impl.MicroschemaUpdateRequest;
 import com.gentics.mesh.core.rest.node.NodeCreateRequest;
@@ -66,6 +69,7 @@ import com.gentics.mesh.core.rest.schema.impl.SchemaReferenceImpl;
 import com.gentics.mesh.core.rest.schema.impl.SchemaResponse;
 import com.gentics.mesh.core.rest.schema.impl.SchemaUpdateRequest;
 import com.gentics.mesh.dagger.MeshInternal;
+import com.gentics.mesh.etc.config.MigrationOptions;
 import com.gentics.mesh.json.JsonUtil;
 import com.gentics.mesh.parameter.impl.PublishParametersImpl;
 import com.gentics.mesh.parameter.impl.VersioningParametersImpl;
@@ -343,6 +347,58 @@ public class NodeMigrationEndpointTest extends AbstractMeshTest {
 		assertThat(status).listsAll(COMPLETED).hasInfos(1).containsJobs(jobUuid);
 	}
 
+	@Test
+	public void testBatchedParallelSchemaMigration() throws Throwable {
+		MigrationOptions options = Mesh.mesh().getOptions().getMigrationOptions();
+		options.setBatchSize(2).setWorkerThreads(3);
+		try {
+			SchemaContainerVersion versionB;
+			List<Node> nodes = new ArrayList<>();
+			String fieldName = "changedfield";
+			String jobUuid;
+
+			try (Tx tx = tx()) {
+				SchemaContainer container = createDummySchemaWithChanges(fieldName, false);
+				versionB = container.getLatestVersion();
+				SchemaContainerVersion versionA = versionB.getPreviousVersion();
+				User user = user();
+				project().getLatestBranch().assignSchemaVersion(user, versionA);
+
+				// Create nodes with multiple containers. The containers of a node must be migrated by the same worker.
+				Node parentNode = folder("2015");
+				for (int i = 0; i < 7; i++) {
+					Node node = parentNode.create(user, versionA, project());
+					node.createGraphFieldContainer(english(), project().getLatestBranch(), user).createString(fieldName).setString("en " + i);
+					node.createGraphFieldContainer(german(), project().getLatestBranch(), user).createString(fieldName).setString("de " + i);
+					nodes.add(node);
+				}
+
+				jobUuid = project().getLatestBranch().assignSchemaVersion(user, versionB).getUuid();
+				tx.success();
+			}
+
+			triggerAndWaitForJob(jobUuid);
+
+			try (Tx tx = tx()) {
+				for (int i = 0; i < nodes.size(); i++) {
+					Node node = nodes.get(i);
+					assertThat(node.getGraphFieldContainer("en")).as("Migrated field container").isOf(versionB).hasVersion("0.2");
+					assertThat(node.getGraphFieldContainer("en").getString(fieldName).getString()).isEqualTo("modified en " + i);
+					assertThat(node.getGraphFieldContainer("de")).as("Migrated field container").isOf(versionB).hasVersion("0.2");
+					assertThat(node.getGraphFieldContainer("de").getString(fieldName).getString()).isEqualTo("modified de " + i);
+				}
+			}
+
+			JobListResponse status = call(() -> client().findJobs());
+			assertThat(status).listsAll(COMPLETED).containsJobs(jobUuid);
+			JobResponse job = status.getData().stream().filter(j -> j.getUuid().equals(jobUuid)).findFirst().get();
+			assertEquals("All containers should have been migrated", 14, job.getCompletionCount());
+			assertNotNull("The throughput should have been reported", job.getThroughput());
+		} finally {
+			options.setBatchSize(MigrationOptions.DEFAULT_BATCH_SIZE).setWorkerThreads(MigrationOptions.DEFAULT_WORKER_THREADS);
+		}
+	}
+
 	@Test
 	public void testMigrateAddRawField() throws Throwable {
 
@@ -49,4 +49,9 @@ public class DummyMigrationStatus implements MigrationStatusHandler {
 	public void incCompleted() {
 
 	}
+
+	@Override
+	public void setThroughput(double throughput) {
+
+	}
 }
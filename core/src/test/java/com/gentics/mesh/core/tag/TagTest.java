@@ -361,6 +361,19 @@ public class TagTest extends AbstractMeshTest implements BasicObjectTestcases {
 		}
 	}
 
+	@Test
+	public void testFindByNameInTagFamily() {
+		try (Tx tx = tx()) {
+			Tag basicTag = tagFamily("basic").create("shared", project(), user());
+			Tag colorTag = tagFamily("colors").create("shared", project(), user());
+			assertEquals(basicTag.getUuid(), tagFamily("basic").findByName("shared").getUuid());
+			assertEquals(colorTag.getUuid(), tagFamily("colors").findByName("shared").getUuid());
+			basicTag.setName("renamed");
+			assertNull("The renamed tag should no longer be found by the old name", tagFamily("basic").findByName("shared"));
+			assertEquals(basicTag.getUuid(), tagFamily("basic").findByName("renamed").getUuid());
+		}
+	}
+
 	@Test
 	@Override
 	public void testFindByUUID() throws Exception {
@@ -19,6 +19,12 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 import org.junit.Test;
 
 import com.gentics.mesh.context.BulkActionContext;
@@ -94,6 +100,21 @@ public class UserTest extends AbstractMeshTest implements BasicObjectTestcases {
 		}
 	}
 
+	@Test
+	public void testFindByUuidPrefix() {
+		try (Tx tx = tx()) {
+			UserRoot root = meshRoot().getUserRoot();
+			List<String> uuids = root.findAll().stream().map(User::getUuid).sorted().collect(Collectors.toList());
+			assertEquals("All users should be returned in the order of their uuids", uuids, root.findByUuidPrefix("").map(User::getUuid).collect(
+				Collectors.toList()));
+
+			String prefix = user().getUuid().substring(0, 2);
+			List<String> matching = root.findByUuidPrefix(prefix).map(User::getUuid).collect(Collectors.toList());
+			assertEquals(uuids.stream().filter(uuid -> uuid.startsWith(prefix)).collect(Collectors.toList()), matching);
+			assertTrue(matching.contains(user().getUuid()));
+		}
+	}
+
 	@Test
 	public void testHasPermission() {
 		try (Tx tx = tx()) {
@@ -259,6 +280,22 @@ public class UserTest extends AbstractMeshTest implements BasicObjectTestcases {
 		}
 	}
 
+	@Test
+	public void testHasPermissionForIds() {
+		try (Tx tx = tx()) {
+			User user = user();
+			User newUser = meshRoot().getUserRoot().create("Anton", user());
+			Set<Object> ids = new HashSet<>(Arrays.asList(content().id(), folder("news").id(), newUser.id()));
+			Set<Object> grantedIds = user.hasPermissionForIds(ids, READ_PERM);
+			for (Object id : ids) {
+				assertEquals("The bulk check result for element {" + id + "} did not match the single check.", user.hasPermissionForId(id, READ_PERM),
+					grantedIds.contains(id));
+			}
+			assertTrue(grantedIds.contains(content().id()));
+			assertTrue(newUser.hasPermissionForIds(ids, READ_PERM).isEmpty());
+		}
+	}
+
 	@Test
 	@Override
 	public void testCRUDPermissions() {
@@ -12,6 +12,7 @@ import org.junit.Before;
 import org.junit.Test;
 
 import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.cache.PathCache;
 import com.gentics.mesh.core.data.ContainerType;
 import com.gentics.mesh.core.data.NodeGraphFieldContainer;
 import com.gentics.mesh.core.data.binary.Binary;
@@ -93,6 +94,66 @@ public class LinkRendererTest extends AbstractMeshTest {
 		}
 	}
 
+	@Test
+	public void testLinkAfterMove() {
+		String uuid = tx(() -> content("news overview").getUuid());
+		String branchUuid = tx(() -> project().getLatestBranch().getUuid());
+		final String content = "{{mesh.link('" + uuid + "')}}";
+
+		try (Tx tx = tx()) {
+			assertEquals("/News/News%20Overview.en.html", replacer.replace(mockActionContext(), branchUuid, ContainerType.DRAFT, content,
+					LinkType.SHORT, null, null));
+			long hits = PathCache.getHitCount();
+			assertEquals("The path of the second request should be loaded from the cache", "/News/News%20Overview.en.html", replacer.replace(
+					mockActionContext(), branchUuid, ContainerType.DRAFT, content, LinkType.SHORT, null, null));
+			assertEquals(hits + 1, PathCache.getHitCount());
+		}
+
+		// Moving the node must invalidate the cached path once the move has been committed
+		tx(() -> {
+			content("news overview").setParentNode(branchUuid, folder("2015"));
+		});
+		try (Tx tx = tx()) {
+			assertEquals("/News/2015/News%20Overview.en.html", replacer.replace(mockActionContext(), branchUuid, ContainerType.DRAFT, content,
+					LinkType.SHORT, null, null));
+		}
+
+		// Changing the path prefix must invalidate the cached paths of the branch
+		tx(() -> {
+			project().getLatestBranch().setPathPrefix("prefix");
+		});
+		try (Tx tx = tx()) {
+			assertEquals("/prefix/News/2015/News%20Overview.en.html", replacer.replace(mockActionContext(), branchUuid, ContainerType.DRAFT,
+					content, LinkType.SHORT, null, null));
+		}
+	}
+
+	@Test
+	public void testLinkAfterUpdateWithoutSegmentChange() {
+		String uuid = tx(() -> content("news overview").getUuid());
+		String branchUuid = tx(() -> project().getLatestBranch().getUuid());
+		final String content = "{{mesh.link('" + uuid + "')}}";
+
+		try (Tx tx = tx()) {
+			assertEquals("/News/News%20Overview.en.html", replacer.replace(mockActionContext(), branchUuid, ContainerType.DRAFT, content,
+					LinkType.SHORT, null, null));
+		}
+
+		// A new version with the same segment must not invalidate the cached path
+		tx(() -> {
+			Node node = content("news overview");
+			NodeGraphFieldContainer container = node.getLatestDraftFieldContainer(english());
+			NodeGraphFieldContainer newContainer = node.createGraphFieldContainer(english(), project().getLatestBranch(), user(), container, true);
+			newContainer.updateWebrootPathInfo(branchUuid, "node_conflicting_segmentfield_update");
+		});
+		try (Tx tx = tx()) {
+			long hits = PathCache.getHitCount();
+			assertEquals("/News/News%20Overview.en.html", replacer.replace(mockActionContext(), branchUuid, ContainerType.DRAFT, content,
+					LinkType.SHORT, null, null));
+			assertEquals("The cached path should still be used", hits + 1, PathCache.getHitCount());
+		}
+	}
+
 	@Test
 	public void testLinkAtStart() {
 		try (Tx tx = tx()) {
@@ -0,0 +1,77 @@
+package com.gentics.mesh.search;
+
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gentics.mesh.Mesh;
+import com.gentics.mesh.core.data.search.impl.AsyncIndexQueue;
+import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.core.rest.node.NodeUpdateRequest;
+import com.gentics.mesh.parameter.client.GenericParametersImpl;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+import com.gentics.mesh.util.FieldUtil;
+
+@MeshTestSetting(useElasticsearch = false, testSize = FULL, startServer = true)
+public class AsyncIndexingTest extends AbstractMeshTest {
+
+	@Before
+	public void enableAsyncIndexing() {
+		// Use a long interval so that the queue is only flushed by the test
+		Mesh.mesh().getOptions().getSearchOptions().setAsyncIndexing(true).setAsyncIndexingFlushInterval(60_000);
+	}
+
+	@After
+	public void disableAsyncIndexing() {
+		meshDagger().asyncIndexQueue().flush();
+		Mesh.mesh().getOptions().getSearchOptions().setAsyncIndexing(false);
+	}
+
+	@Test
+	public void testCoalesceUpdates() {
+		AsyncIndexQueue queue = meshDagger().asyncIndexQueue();
+		String uuid = tx(() -> content("concorde").getUuid());
+		searchProvider().clear().blockingAwait();
+
+		NodeResponse response = call(() -> client().updateNode(PROJECT_NAME, uuid, updateRequest("0.1", "first")));
+		assertTrue("The update must not be processed before the queue is flushed", trackingSearchProvider().getStoreEvents().isEmpty());
+		int pending = queue.size();
+		assertTrue(pending > 0);
+
+		call(() -> client().updateNode(PROJECT_NAME, uuid, updateRequest(response.getVersion(), "second")));
+		assertEquals("The second update of the same document should have been coalesced", pending, queue.size());
+		assertTrue(trackingSearchProvider().getStoreEvents().isEmpty());
+
+		queue.flush();
+		assertEquals(0, queue.size());
+		assertTrue(trackingSearchProvider().getStoreEvents().values().stream()
+			.anyMatch(doc -> "second".equals(doc.getJsonObject("fields").getString("slug"))));
+	}
+
+	@Test
+	public void testWaitForIndex() {
+		String uuid = tx(() -> content("concorde").getUuid());
+		searchProvider().clear().blockingAwait();
+
+		call(() -> client().updateNode(PROJECT_NAME, uuid, updateRequest("0.1", "waited"), new GenericParametersImpl().setWaitForIndex(true)));
+		assertEquals(0, meshDagger().asyncIndexQueue().size());
+		assertTrue(trackingSearchProvider().getStoreEvents().values().stream()
+			.anyMatch(doc -> "waited".equals(doc.getJsonObject("fields").getString("slug"))));
+	}
+
+	private NodeUpdateRequest updateRequest(String version, String slug) {
+		NodeUpdateRequest request = new NodeUpdateRequest();
+		request.setLanguage("en");
+		request.setVersion(version);
+		request.getFields().put("slug", FieldUtil.createStringField(slug));
+		return request;
+	}
+
+}
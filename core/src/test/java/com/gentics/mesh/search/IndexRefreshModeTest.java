@@ -0,0 +1,76 @@
+package com.gentics.mesh.search;
+
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.gentics.mesh.Mesh;
+import com.gentics.mesh.core.data.ContainerType;
+import com.gentics.mesh.core.data.NodeGraphFieldContainer;
+import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.core.rest.node.NodeUpdateRequest;
+import com.gentics.mesh.etc.config.search.ElasticSearchOptions;
+import com.gentics.mesh.etc.config.search.IndexRefreshMode;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+import com.gentics.mesh.util.FieldUtil;
+
+@MeshTestSetting(useElasticsearch = false, testSize = FULL, startServer = true)
+public class IndexRefreshModeTest extends AbstractMeshTest {
+
+	@After
+	public void resetRefreshMode() {
+		Mesh.mesh().getOptions().getSearchOptions().setRefreshMode(ElasticSearchOptions.DEFAULT_REFRESH_MODE);
+	}
+
+	@Test
+	public void testRefreshTouched() {
+		setRefreshMode(IndexRefreshMode.TOUCHED);
+		String uuid = tx(() -> content("concorde").getUuid());
+		String indexName = tx(() -> {
+			NodeGraphFieldContainer container = content("concorde").getLatestDraftFieldContainer(english());
+			return NodeGraphFieldContainer.composeIndexName(project().getUuid(), project().getLatestBranch().getUuid(),
+				container.getSchemaContainerVersion().getUuid(), ContainerType.DRAFT);
+		});
+
+		updateSlug(uuid, "0.1", "touched");
+		assertThat(trackingSearchProvider().getRefreshEvents()).contains(indexName).doesNotContain(TrackingSearchProvider.REFRESH_ALL);
+	}
+
+	@Test
+	public void testRefreshAll() {
+		setRefreshMode(IndexRefreshMode.ALL);
+		String uuid = tx(() -> content("concorde").getUuid());
+
+		updateSlug(uuid, "0.1", "all");
+		assertThat(trackingSearchProvider().getRefreshEvents()).containsOnly(TrackingSearchProvider.REFRESH_ALL);
+	}
+
+	@Test
+	public void testRefreshNone() {
+		setRefreshMode(IndexRefreshMode.NONE);
+		String uuid = tx(() -> content("concorde").getUuid());
+
+		updateSlug(uuid, "0.1", "none");
+		assertThat(trackingSearchProvider().getRefreshEvents()).isEmpty();
+		assertThat(trackingSearchProvider().getStoreEvents()).isNotEmpty();
+	}
+
+	private void setRefreshMode(IndexRefreshMode mode) {
+		Mesh.mesh().getOptions().getSearchOptions().setRefreshMode(mode);
+		trackingSearchProvider().clear().blockingAwait();
+	}
+
+	private NodeResponse updateSlug(String uuid, String version, String slug) {
+		NodeUpdateRequest request = new NodeUpdateRequest();
+		request.setLanguage("en");
+		request.setVersion(version);
+		request.getFields().put("slug", FieldUtil.createStringField(slug));
+		return call(() -> client().updateNode(PROJECT_NAME, uuid, request));
+	}
+
+}
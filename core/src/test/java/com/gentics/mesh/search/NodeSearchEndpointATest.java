@@ -21,6 +21,7 @@ import com.gentics.mesh.core.rest.schema.impl.SchemaResponse;
 import com.gentics.mesh.core.rest.schema.impl.SchemaUpdateRequest;
 import com.gentics.mesh.core.rest.schema.impl.StringFieldSchemaImpl;
 import com.gentics.mesh.parameter.client.SchemaUpdateParametersImpl;
+import com.gentics.mesh.parameter.client.SearchParametersImpl;
 import com.gentics.mesh.parameter.impl.VersioningParametersImpl;
 import com.gentics.mesh.test.context.MeshTestSetting;
 import com.syncleus.ferma.tx.Tx;
@@ -108,4 +109,32 @@ public class NodeSearchEndpointATest extends AbstractNodeSearchEndpointTest {
 
 		assertThat(newCount).isEqualTo(oldCount);
 	}
+
+	@Test
+	public void testSearchWithSourceProjection() throws Exception {
+		try (Tx tx = tx()) {
+			recreateIndices();
+		}
+
+		String query = getSimpleQuery("fields.content", "supersonic");
+		VersioningParametersImpl draft = new VersioningParametersImpl().draft();
+		NodeListResponse hydrated = call(() -> client().searchNodes(PROJECT_NAME, query, draft));
+		NodeListResponse projected = call(() -> client().searchNodes(PROJECT_NAME, query, draft, new SearchParametersImpl().setSourceProjection(true)));
+
+		assertThat(hydrated.getData()).as("Hydrated search result").hasSize(1);
+		assertThat(projected.getMetainfo().getTotalCount()).isEqualTo(hydrated.getMetainfo().getTotalCount());
+		assertThat(projected.getData()).as("Projected search result").usingElementComparatorOnFields("uuid", "language").containsExactlyElementsOf(
+			hydrated.getData());
+
+		NodeResponse expected = hydrated.getData().get(0);
+		NodeResponse node = projected.getData().get(0);
+		assertThat(node.getSchema().getName()).isEqualTo(expected.getSchema().getName());
+		assertThat(node.getProject().getName()).isEqualTo(PROJECT_NAME);
+		assertThat(node.getParentNode().getUuid()).isEqualTo(expected.getParentNode().getUuid());
+		assertThat(node.getCreator().getUuid()).isEqualTo(expected.getCreator().getUuid());
+		assertThat(node.getDisplayName()).isEqualTo(expected.getDisplayName());
+		assertThat(node.getFields().getStringField("slug").getString()).isEqualTo(expected.getFields().getStringField("slug").getString());
+		assertThat(node.getFields().getHtmlField("content").getHTML()).as("Html fields only contain the indexed plain text").contains("supersonic");
+	}
+
 }
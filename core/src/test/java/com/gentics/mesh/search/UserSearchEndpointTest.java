@@ -14,6 +14,7 @@ import java.io.IOException;
 import org.codehaus.jettison.json.JSONException;
 import org.junit.Test;
 
+import com.gentics.mesh.Mesh;
 import com.gentics.mesh.core.rest.group.GroupResponse;
 import com.gentics.mesh.core.rest.user.UserCreateRequest;
 import com.gentics.mesh.core.rest.user.UserListResponse;
@@ -26,6 +27,9 @@ import com.gentics.mesh.test.context.MeshTestSetting;
 import com.gentics.mesh.test.definition.BasicSearchCrudTestcases;
 import com.syncleus.ferma.tx.Tx;
 
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
 @MeshTestSetting(useElasticsearch = true, testSize = TestSize.PROJECT_AND_NODE, startServer = true)
 public class UserSearchEndpointTest extends AbstractMeshTest implements BasicSearchCrudTestcases {
 
@@ -63,6 +67,33 @@ public class UserSearchEndpointTest extends AbstractMeshTest implements BasicSea
 
 	}
 
+	@Test
+	public void testParallelHydration() throws IOException {
+		String username = "testuser";
+		try (Tx tx = tx()) {
+			for (int i = 0; i < 50; i++) {
+				createUser(username + String.format("%02d", i));
+			}
+		}
+
+		JsonObject query = new JsonObject(getESText("userWildcard.es"));
+		query.put("sort", new JsonArray().add(new JsonObject().put("username.raw", "desc")));
+
+		int parallelism = Mesh.mesh().getOptions().getSearchOptions().getHydrationParallelism();
+		try {
+			Mesh.mesh().getOptions().getSearchOptions().setHydrationParallelism(4);
+			UserListResponse list = call(() -> client().searchUsers(query.encode(), new PagingParametersImpl(1, 30L)));
+			assertEquals(30, list.getData().size());
+			assertEquals(50, list.getMetainfo().getTotalCount());
+			for (int i = 0; i < 30; i++) {
+				assertEquals("The order of the hits was not preserved.", username + String.format("%02d", 49 - i), list.getData().get(i)
+					.getUsername());
+			}
+		} finally {
+			Mesh.mesh().getOptions().getSearchOptions().setHydrationParallelism(parallelism);
+		}
+	}
+
 	@Test
 	public void testBogusQuery() throws IOException {
 		String username = "testuser42a";
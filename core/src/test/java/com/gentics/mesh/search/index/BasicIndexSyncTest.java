@@ -6,6 +6,7 @@ import static com.gentics.mesh.test.ClientHelper.call;
 import static io.netty.handler.codec.http.HttpResponseStatus.FORBIDDEN;
 import static io.netty.handler.codec.http.HttpResponseStatus.SERVICE_UNAVAILABLE;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 
 import java.util.Map;
 
@@ -18,6 +19,7 @@ import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.SharedMetricRegistries;
 import com.gentics.mesh.context.impl.BulkActionContextImpl;
 import com.gentics.mesh.core.data.ContainerType;
+import com.gentics.mesh.core.data.Group;
 import com.gentics.mesh.core.data.NodeGraphFieldContainer;
 import com.gentics.mesh.core.data.Project;
 import com.gentics.mesh.core.data.node.Node;
@@ -38,6 +40,9 @@ import com.gentics.mesh.test.TestSize;
 import com.gentics.mesh.test.context.AbstractMeshTest;
 import com.gentics.mesh.test.context.MeshTestSetting;
 
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
 /**
  * Test differential sync of elasticsearch.
  */
@@ -343,6 +348,80 @@ public class BasicIndexSyncTest extends AbstractMeshTest {
 		assertMetrics("microschema", 0, 0, 1);
 	}
 
+	@Test
+	public void testResumeInterruptedSync() throws Exception {
+		tx(() -> {
+			for (int i = 0; i < 10; i++) {
+				boot().groupRoot().create("group_" + i, user(), null);
+			}
+		});
+
+		// Simulate a sync which was interrupted after the group index had been synced
+		String syncId = "interruptedSync";
+		setInterruptedSyncCheckpoint(syncId);
+		waitForEvent(INDEX_SYNC_EVENT, () -> ElasticsearchSyncVerticle.resumeSync(syncId));
+		assertMetrics("group", 0, 0, 0);
+		MetricRegistry registry = SharedMetricRegistries.getOrCreate("mesh");
+		assertEquals(1, registry.getCounters().get("index.sync.group.partition.skipped").getCount());
+		assertEquals(0, registry.getCounters().get("index.sync.group.partition.completed").getCount());
+		tx(() -> {
+			assertNull("The checkpoint should have been removed after the sync finished.", boot().meshRoot().getIndexSyncCheckpoint());
+		});
+
+		// The next sync must handle the group index again
+		waitForEvent(INDEX_SYNC_EVENT, ElasticsearchSyncVerticle::invokeSync);
+		assertMetrics("group", 10, 0, 0);
+		assertEquals(1, registry.getCounters().get("index.sync.group.partition.completed").getCount());
+	}
+
+	@Test
+	public void testSyncResumesStoredCheckpoint() throws Exception {
+		tx(() -> {
+			for (int i = 0; i < 10; i++) {
+				boot().groupRoot().create("group_" + i, user(), null);
+			}
+		});
+
+		// The regular sync event must resume the interrupted run
+		setInterruptedSyncCheckpoint("interruptedSync");
+		waitForEvent(INDEX_SYNC_EVENT, ElasticsearchSyncVerticle::invokeSync);
+		assertMetrics("group", 0, 0, 0);
+		MetricRegistry registry = SharedMetricRegistries.getOrCreate("mesh");
+		assertEquals(1, registry.getCounters().get("index.sync.group.partition.skipped").getCount());
+		tx(() -> {
+			assertNull("The checkpoint should have been removed after the sync finished.", boot().meshRoot().getIndexSyncCheckpoint());
+		});
+	}
+
+	@Test
+	public void testNewSyncDiscardsCheckpoint() throws Exception {
+		tx(() -> {
+			for (int i = 0; i < 10; i++) {
+				boot().groupRoot().create("group_" + i, user(), null);
+			}
+		});
+
+		// A new sync must not skip the partitions of an older run
+		setInterruptedSyncCheckpoint("interruptedSync");
+		waitForEvent(INDEX_SYNC_EVENT, ElasticsearchSyncVerticle::invokeFullSync);
+		assertMetrics("group", 10, 0, 0);
+		MetricRegistry registry = SharedMetricRegistries.getOrCreate("mesh");
+		assertEquals(0, registry.getCounters().get("index.sync.group.partition.skipped").getCount());
+		tx(() -> {
+			assertNull("The checkpoint should have been removed after the sync finished.", boot().meshRoot().getIndexSyncCheckpoint());
+		});
+	}
+
+	private void setInterruptedSyncCheckpoint(String syncId) {
+		tx(() -> {
+			JsonObject checkpoint = new JsonObject()
+				.put("syncId", syncId)
+				.put("started", System.currentTimeMillis())
+				.put("partitions", new JsonArray().add(Group.composeIndexName()));
+			boot().meshRoot().setIndexSyncCheckpoint(checkpoint.encode());
+		});
+	}
+
 	private void assertMetrics(String type, int inserted, int updated, int deleted) {
 		assertMetrics(type, "insert", inserted);
 		assertMetrics(type, "update", updated);
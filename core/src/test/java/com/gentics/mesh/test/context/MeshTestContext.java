@@ -12,6 +12,7 @@ import org.testcontainers.containers.wait.Wait;
 
 import com.gentics.mesh.Mesh;
 import com.gentics.mesh.cli.BootstrapInitializerImpl;
+import com.gentics.mesh.core.cache.PathCache;
 import com.gentics.mesh.core.cache.PermissionStore;
 import com.gentics.mesh.core.data.impl.DatabaseHelper;
 import com.gentics.mesh.core.data.search.IndexHandler;
@@ -246,6 +247,7 @@ public class MeshTestContext extends TestWatcher {
 			FileUtils.deleteDirectory(folder);
 		}
 		PermissionStore.invalidate(false);
+		PathCache.invalidate(false);
 	}
 
 	public TestDataProvider getData() {
@@ -17,17 +17,23 @@ import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.NoSuchElementException;
+import java.util.Set;
 import java.util.regex.Matcher;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringEscapeUtils;
 
+import com.gentics.mesh.Mesh;
 import com.gentics.mesh.changelog.Change;
 import com.gentics.mesh.changelog.changes.ChangesList;
 import com.gentics.mesh.core.data.MeshVertex;
@@ -38,9 +44,12 @@ import com.gentics.mesh.etc.config.ClusterOptions;
 import com.gentics.mesh.etc.config.GraphStorageOptions;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.graphdb.model.MeshElement;
+import com.gentics.mesh.graphdb.metric.TxMetric;
 import com.gentics.mesh.graphdb.spi.AbstractDatabase;
+import com.gentics.mesh.graphdb.spi.ExponentialBackoffRetryPolicy;
 import com.gentics.mesh.graphdb.spi.FieldMap;
 import com.gentics.mesh.graphdb.spi.FieldType;
+import com.gentics.mesh.graphdb.spi.TxRetryPolicy;
 import com.gentics.mesh.graphdb.tx.OrientStorage;
 import com.gentics.mesh.graphdb.tx.impl.OrientLocalStorageImpl;
 import com.gentics.mesh.graphdb.tx.impl.OrientServerStorageImpl;
@@ -53,8 +62,10 @@ import com.orientechnologies.orient.core.OConstants;
 import com.orientechnologies.orient.core.Orient;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.exception.OConcurrentModificationException;
 import com.orientechnologies.orient.core.exception.OSchemaException;
 import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
 import com.orientechnologies.orient.core.index.OCompositeKey;
 import com.orientechnologies.orient.core.index.OIndex;
 import com.orientechnologies.orient.core.index.OIndexCursor;
@@ -94,6 +105,10 @@ import com.tinkerpop.blueprints.impls.orient.OrientVertexType;
 import com.tinkerpop.blueprints.util.wrappers.wrapped.WrappedVertex;
 import com.tinkerpop.pipes.util.FastNoSuchElementException;
 
+import io.reactivex.Single;
+import io.reactivex.SingleEmitter;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Vertx;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 
@@ -126,7 +141,7 @@ public class OrientDBDatabase extends AbstractDatabase {
 
 	private OHazelcastPlugin hazelcastPlugin;
 
-	private int maxRetry = 10;
+	private TxRetryPolicy retryPolicy = new ExponentialBackoffRetryPolicy();
 
 	private OrientStorage txProvider;
 
@@ -175,12 +190,52 @@ public class OrientDBDatabase extends AbstractDatabase {
 
 		// resolver = new OrientDBTypeResolver(basePaths);
 		resolver = new MeshTypeResolver(basePaths);
-		if (options != null && storageOptions.getParameters() != null && storageOptions.getParameters().get("maxTransactionRetry") != null) {
-			this.maxRetry = Integer.valueOf(storageOptions.getParameters().get("maxTransactionRetry"));
-			log.info("Using {" + this.maxRetry + "} transaction retries before failing");
+		if (options != null && storageOptions.getParameters() != null) {
+			this.retryPolicy = createRetryPolicy(storageOptions.getParameters());
 		}
 	}
 
+	/**
+	 * Create the transaction retry policy using the given graph storage parameters.
+	 * 
+	 * @param parameters
+	 * @return
+	 */
+	private TxRetryPolicy createRetryPolicy(Map<String, String> parameters) {
+		int maxRetry = ExponentialBackoffRetryPolicy.DEFAULT_MAX_RETRIES;
+		long baseDelay = ExponentialBackoffRetryPolicy.DEFAULT_BASE_DELAY;
+		long maxDelay = ExponentialBackoffRetryPolicy.DEFAULT_MAX_DELAY;
+		long maxTime = ExponentialBackoffRetryPolicy.DEFAULT_MAX_TOTAL_TIME;
+		if (parameters.get("maxTransactionRetry") != null) {
+			maxRetry = Integer.valueOf(parameters.get("maxTransactionRetry"));
+			log.info("Using {" + maxRetry + "} transaction retries before failing");
+		}
+		if (parameters.get("transactionRetryBaseDelay") != null) {
+			baseDelay = Long.valueOf(parameters.get("transactionRetryBaseDelay"));
+		}
+		if (parameters.get("transactionRetryMaxDelay") != null) {
+			maxDelay = Long.valueOf(parameters.get("transactionRetryMaxDelay"));
+		}
+		if (parameters.get("transactionRetryMaxTime") != null) {
+			maxTime = Long.valueOf(parameters.get("transactionRetryMaxTime"));
+		}
+		return new ExponentialBackoffRetryPolicy(maxRetry, baseDelay, maxDelay, maxTime);
+	}
+
+	@Override
+	public TxRetryPolicy getRetryPolicy() {
+		return retryPolicy;
+	}
+
+	/**
+	 * Set the policy which is used to retry conflicting transactions.
+	 * 
+	 * @param retryPolicy
+	 */
+	public void setRetryPolicy(TxRetryPolicy retryPolicy) {
+		this.retryPolicy = retryPolicy;
+	}
+
 	@Override
 	public void setMassInsertIntent() {
 		txProvider.setMassInsertIntent();
@@ -642,6 +697,120 @@ public class OrientDBDatabase extends AbstractDatabase {
 		return orientBaseGraph.getVertices(classOfVertex.getSimpleName(), fieldNames, fieldValues).iterator();
 	}
 
+	@Override
+	public Iterator<Vertex> getVerticesForUuids(Class<?> classOfVertex, Collection<String> uuids) {
+		OrientBaseGraph orientBaseGraph = unwrapCurrentGraph();
+		List<Vertex> vertices = new ArrayList<>(uuids.size());
+		OrientVertexType vertexType = orientBaseGraph.getVertexType(classOfVertex.getSimpleName());
+		if (vertexType == null || uuids.isEmpty()) {
+			return vertices.iterator();
+		}
+
+		OIndex<?> uuidIndex = findUuidIndex(vertexType);
+		if (uuidIndex == null) {
+			// Fallback to separate lookups
+			for (String uuid : uuids) {
+				Iterator<Vertex> it = getVertices(classOfVertex, new String[] { MeshVertex.UUID_KEY }, new Object[] { uuid });
+				if (it.hasNext()) {
+					vertices.add(it.next());
+				}
+			}
+			return vertices.iterator();
+		}
+
+		// Load the index via the index manager in order to also consider the changes of the current transaction
+		OIndex<?> txIndex = orientBaseGraph.getRawGraph().getMetadata().getIndexManager().getIndex(uuidIndex.getName());
+		OIndexCursor cursor = txIndex.iterateEntries(uuids, false);
+		Entry<Object, OIdentifiable> entry;
+		while ((entry = cursor.nextEntry()) != null) {
+			OrientVertex vertex = orientBaseGraph.getVertex(entry.getValue().getIdentity());
+			// The index also contains the vertices of other types
+			if (vertex != null && vertex.getType().isSubClassOf(vertexType.getName())) {
+				vertices.add(vertex);
+			}
+		}
+		return vertices.iterator();
+	}
+
+	@Override
+	public Iterator<Vertex> getVerticesForUuidPrefix(Class<?> classOfVertex, String uuidPrefix) {
+		OrientBaseGraph orientBaseGraph = unwrapCurrentGraph();
+		OrientVertexType vertexType = orientBaseGraph.getVertexType(classOfVertex.getSimpleName());
+		if (vertexType == null) {
+			return Collections.emptyIterator();
+		}
+
+		OIndex<?> uuidIndex = findUuidIndex(vertexType);
+		if (uuidIndex == null) {
+			// Fallback to a scan of all vertices of the type
+			List<Vertex> vertices = new ArrayList<>();
+			for (Vertex vertex : orientBaseGraph.getVerticesOfClass(vertexType.getName())) {
+				String uuid = vertex.getProperty(MeshVertex.UUID_KEY);
+				if (uuid != null && uuid.startsWith(uuidPrefix)) {
+					vertices.add(vertex);
+				}
+			}
+			vertices.sort(Comparator.comparing((Vertex vertex) -> vertex.<String>getProperty(MeshVertex.UUID_KEY)));
+			return vertices.iterator();
+		}
+
+		// The index also contains the vertices of other types. Those are skipped by their cluster without loading the records.
+		Set<Integer> clusterIds = new HashSet<>();
+		for (int clusterId : vertexType.getPolymorphicClusterIds()) {
+			clusterIds.add(clusterId);
+		}
+		// Load the index via the index manager in order to also consider the changes of the current transaction
+		OIndex<?> txIndex = orientBaseGraph.getRawGraph().getMetadata().getIndexManager().getIndex(uuidIndex.getName());
+		OIndexCursor cursor = txIndex.iterateEntriesBetween(uuidPrefix, true, uuidPrefix + Character.MAX_VALUE, true, true);
+		return new Iterator<Vertex>() {
+			private Vertex next = fetchNext();
+
+			private Vertex fetchNext() {
+				Entry<Object, OIdentifiable> entry;
+				while ((entry = cursor.nextEntry()) != null) {
+					ORID rid = entry.getValue().getIdentity();
+					if (clusterIds.contains(rid.getClusterId())) {
+						OrientVertex vertex = orientBaseGraph.getVertex(rid);
+						if (vertex != null) {
+							return vertex;
+						}
+					}
+				}
+				return null;
+			}
+
+			@Override
+			public boolean hasNext() {
+				return next != null;
+			}
+
+			@Override
+			public Vertex next() {
+				if (next == null) {
+					throw new NoSuchElementException();
+				}
+				Vertex current = next;
+				next = fetchNext();
+				return current;
+			}
+		};
+	}
+
+	/**
+	 * Return the unique uuid index which covers the given type. The index is defined on a super type of the vertex.
+	 * 
+	 * @param vertexType
+	 * @return Found index or null
+	 */
+	private OIndex<?> findUuidIndex(OrientVertexType vertexType) {
+		for (OIndex<?> index : vertexType.getInvolvedIndexes(MeshVertex.UUID_KEY)) {
+			if (index.isUnique() && index.getDefinition().getFields().size() == 1) {
+				return index;
+			}
+		}
+		return null;
+	}
+
 	@Override
 	public <T extends MeshVertex> Iterator<? extends T> getVerticesForType(Class<T> classOfVertex) {
 		OrientBaseGraph orientBaseGraph = unwrapCurrentGraph();
@@ -943,25 +1112,39 @@ public class OrientDBDatabase extends AbstractDatabase {
 		 */
 		T handlerResult = null;
 		boolean handlerFinished = false;
-		for (int retry = 0; retry < maxRetry; retry++) {
+		long start = System.currentTimeMillis();
+		long startNanos = System.nanoTime();
+		long commitStart = 0;
+		for (int retry = 0;; retry++) {
 
 			try (Tx tx = tx()) {
 				handlerResult = txHandler.handle(tx);
 				handlerFinished = true;
 				tx.success();
+				// The commit happens when the tx gets closed
+				commitStart = System.nanoTime();
 			} catch (OSchemaException e) {
 				log.error("OrientDB schema exception detected.");
 				// TODO maybe we should invoke a metadata getschema reload?
 				// factory.getTx().getRawGraph().getMetadata().getSchema().reload();
 				// Database.getThreadLocalGraph().getMetadata().getSchema().reload();
+				if (retryPolicy.getDelay(retry, System.currentTimeMillis() - start) < 0) {
+					throw new RuntimeException("Retry limit {" + retry + "} for trx exceeded", e);
+				}
 			} catch (ONeedRetryException | FastNoSuchElementException e) {
 				if (log.isTraceEnabled()) {
 					log.trace("Error while handling transaction. Retrying " + retry, e);
 				}
-				int rnd = (int) (Math.random() * 6000.0);
+				recordConflict(e);
+				long delay = retryPolicy.getDelay(retry, System.currentTimeMillis() - start);
+				if (delay < 0) {
+					TxMetric.retryExhausted();
+					throw new RuntimeException("Retry limit {" + retry + "} for trx exceeded", e);
+				}
+				TxMetric.retry();
 				try {
-					// Increase the delay for each retry by 25ms to give the other transaction a chance to finish
-					Thread.sleep(50 + (retry * 25) + rnd);
+					// Give the other transaction a chance to finish
+					Thread.sleep(delay);
 				} catch (InterruptedException e1) {
 					e1.printStackTrace();
 				}
@@ -989,10 +1172,110 @@ public class OrientDBDatabase extends AbstractDatabase {
 				log.debug("Retrying .. {" + retry + "}");
 			}
 			if (handlerFinished) {
+				long end = System.nanoTime();
+				TxMetric.commit(end - commitStart);
+				TxMetric.tx(end - startNanos, retry);
 				return handlerResult;
 			}
 		}
-		throw new RuntimeException("Retry limit {" + maxRetry + "} for trx exceeded");
+	}
+
+	@Override
+	public void afterCommit(Runnable action) {
+		OrientDBTx.afterCommit(action);
+	}
+
+	@Override
+	public <T> Single<T> singleTx(TxAction<T> txHandler) {
+		return Single.create(sub -> singleTxAttempt(sub, txHandler, 0, System.currentTimeMillis(), System.nanoTime()));
+	}
+
+	/**
+	 * Execute a single attempt of the transaction handler in a worker thread. Conflicting attempts will be rescheduled using a timer so that no worker
+	 * thread is blocked while waiting for the next attempt.
+	 * 
+	 * @param sub
+	 * @param txHandler
+	 * @param retry
+	 * @param start
+	 * @param startNanos
+	 */
+	private <T> void singleTxAttempt(SingleEmitter<T> sub, TxAction<T> txHandler, int retry, long start, long startNanos) {
+		Vertx vertx = Mesh.vertx();
+		vertx.executeBlocking(bc -> {
+			T result;
+			long commitStart;
+			try (Tx tx = tx()) {
+				result = txHandler.handle(tx);
+				tx.success();
+				commitStart = System.nanoTime();
+			} catch (ORecordDuplicatedException e) {
+				log.error(e);
+				bc.fail(error(INTERNAL_SERVER_ERROR, "error_internal"));
+				return;
+			} catch (Exception e) {
+				bc.fail(e);
+				return;
+			}
+			// Only complete once the transaction has been committed
+			long end = System.nanoTime();
+			TxMetric.commit(end - commitStart);
+			TxMetric.tx(end - startNanos, retry);
+			bc.complete(result);
+		}, false, (AsyncResult<T> done) -> {
+			if (done.succeeded()) {
+				sub.onSuccess(done.result());
+				return;
+			}
+			Throwable cause = done.cause();
+			if (!(cause instanceof ONeedRetryException || cause instanceof FastNoSuchElementException)) {
+				sub.onError(cause);
+				return;
+			}
+			recordConflict(cause);
+			long delay = retryPolicy.getDelay(retry, System.currentTimeMillis() - start);
+			if (delay < 0) {
+				TxMetric.retryExhausted();
+				sub.onError(new RuntimeException("Retry limit {" + retry + "} for trx exceeded", cause));
+				return;
+			}
+			TxMetric.retry();
+			if (log.isDebugEnabled()) {
+				log.debug("Retrying .. {" + retry + "} in {" + delay + "} ms");
+			}
+			// Timers require a delay of at least one millisecond
+			vertx.setTimer(Math.max(1, delay), id -> singleTxAttempt(sub, txHandler, retry + 1, start, startNanos));
+		});
+	}
+
+	/**
+	 * Record the conflict which caused the given exception in the transaction metrics.
+	 * 
+	 * @param e
+	 */
+	private void recordConflict(Throwable e) {
+		Object rid = null;
+		if (e instanceof OConcurrentModificationException) {
+			rid = ((OConcurrentModificationException) e).getRid();
+		}
+		TxMetric.conflict(rid);
+	}
+
+	@Override
+	public String getElementTypeName(Object id) {
+		ORecordId rid;
+		try {
+			rid = new ORecordId(String.valueOf(id));
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
+		OrientGraph tx = txProvider.rawTx();
+		try {
+			OClass clazz = tx.getRawGraph().getMetadata().getSchema().getClassByClusterId(rid.getClusterId());
+			return clazz == null ? null : clazz.getName();
+		} finally {
+			tx.shutdown();
+		}
 	}
 
 	@Override
@@ -1,5 +1,8 @@
 package com.syncleus.ferma.ext.orientdb;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import com.gentics.mesh.graphdb.tx.OrientStorage;
 import com.orientechnologies.common.concur.ONeedRetryException;
 import com.syncleus.ferma.FramedTransactionalGraph;
@@ -9,8 +12,18 @@ import com.syncleus.ferma.typeresolvers.TypeResolver;
 import com.tinkerpop.blueprints.impls.orient.OrientGraph;
 import com.tinkerpop.blueprints.impls.orient.OrientGraphFactory;
 
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
 public class OrientDBTx extends AbstractTx<FramedTransactionalGraph> {
 
+	private static final Logger log = LoggerFactory.getLogger(OrientDBTx.class);
+
+	/**
+	 * Actions which will be invoked once the outermost transaction of the current thread has been committed.
+	 */
+	private static final ThreadLocal<List<Runnable>> AFTER_COMMIT_ACTIONS = new ThreadLocal<>();
+
 	boolean isWrapped = false;
 
 	public OrientDBTx(OrientGraphFactory factory, TypeResolver typeResolver) {
@@ -22,6 +35,7 @@ public class OrientDBTx extends AbstractTx<FramedTransactionalGraph> {
 		} else {
 			DelegatingFramedOrientGraph transaction = new DelegatingFramedOrientGraph(factory.getTx(), typeResolver);
 			init(transaction);
+			AFTER_COMMIT_ACTIONS.set(new ArrayList<>());
 		}
 	}
 
@@ -35,15 +49,34 @@ public class OrientDBTx extends AbstractTx<FramedTransactionalGraph> {
 		} else {
 			DelegatingFramedOrientGraph transaction = new DelegatingFramedOrientGraph((OrientGraph) provider.rawTx(), typeResolver);
 			init(transaction);
+			AFTER_COMMIT_ACTIONS.set(new ArrayList<>());
+		}
+	}
+
+	/**
+	 * Register an action which will be invoked once the outermost transaction of the current thread has been committed. The action will be discarded if the
+	 * transaction is rolled back. The action will be invoked directly if no transaction is active.
+	 * 
+	 * @param action
+	 */
+	public static void afterCommit(Runnable action) {
+		List<Runnable> actions = AFTER_COMMIT_ACTIONS.get();
+		if (Tx.getActive() == null || actions == null) {
+			action.run();
+		} else {
+			actions.add(action);
 		}
 	}
 
 	@Override
 	public void close() {
+		boolean committed = false;
+		List<Runnable> actions = null;
 		try {
 			if (isSuccess()) {
 				try {
 					commit();
+					committed = true;
 				} catch (Exception e) {
 					rollback();
 					throw e;
@@ -59,6 +92,17 @@ public class OrientDBTx extends AbstractTx<FramedTransactionalGraph> {
 				// Restore the old graph that was previously swapped with the current graph
 				getGraph().shutdown();
 				Tx.setActive(null);
+				actions = AFTER_COMMIT_ACTIONS.get();
+				AFTER_COMMIT_ACTIONS.remove();
+			}
+		}
+		if (committed && actions != null) {
+			for (Runnable action : actions) {
+				try {
+					action.run();
+				} catch (Exception e) {
+					log.error("Error while invoking action after commit", e);
+				}
 			}
 		}
 	}
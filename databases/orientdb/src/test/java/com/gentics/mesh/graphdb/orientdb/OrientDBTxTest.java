@@ -48,6 +48,28 @@ public class OrientDBTxTest extends AbstractOrientDBTest {
 	//
 	//	}
 
+	@Test
+	public void testAfterCommit() {
+		AtomicInteger invocations = new AtomicInteger(0);
+		try (Tx tx = db.tx()) {
+			try (Tx nestedTx = db.tx()) {
+				db.afterCommit(invocations::incrementAndGet);
+				nestedTx.success();
+			}
+			assertEquals("The action must only be invoked once the outer transaction was committed", 0, invocations.get());
+			tx.success();
+		}
+		assertEquals(1, invocations.get());
+
+		try (Tx tx = db.tx()) {
+			db.afterCommit(invocations::incrementAndGet);
+		}
+		assertEquals("The action must be discarded on rollback", 1, invocations.get());
+
+		db.afterCommit(invocations::incrementAndGet);
+		assertEquals("The action must be invoked directly without a transaction", 2, invocations.get());
+	}
+
 	@Test
 	@Ignore
 	public void testAsyncTxRetryHandling2() throws Exception {
@@ -61,21 +61,21 @@ public class DistributedEventManager {
 		});
 
 		// Register for events which are send whenever the permission store must be invalidated.
-		eb.consumer(EVENT_CLEAR_PERMISSION_STORE, handler -> {
+		eb.consumer(EVENT_CLEAR_PERMISSION_STORE, (Message<JsonObject> handler) -> {
 			log.debug("Received permissionstore clear event");
-			PermissionStore.invalidate(false);
+			PermissionStore.handleInvalidationEvent(handler.body());
 		});
 
-		// React on project creates
+		// React on project creates. Project changes do not affect permissions so the permission store can be kept.
 		eb.consumer(Project.TYPE_INFO.getOnCreatedAddress(), (Message<JsonObject> handler) -> {
 			log.info("Received project create event");
-			handleClusterTopologyUpdate(handler);
+			handleProjectUpdate(handler);
 		});
 
 		// React on project updates
 		eb.consumer(Project.TYPE_INFO.getOnUpdatedAddress(), (Message<JsonObject> handler) -> {
 			log.info("Received project update event.");
-			handleClusterTopologyUpdate(handler);
+			handleProjectUpdate(handler);
 		});
 
 		eb.consumer(EVENT_CLUSTER_DATABASE_CHANGE_STATUS, (Message<JsonObject> handler) -> {
@@ -91,6 +91,12 @@ public class DistributedEventManager {
 	}
 
 	private void handleClusterTopologyUpdate(Message<?> handler) {
+		handleProjectUpdate(handler);
+		// Invalidate permission store since the permissions may have changed
+		PermissionStore.invalidate();
+	}
+
+	private void handleProjectUpdate(Message<?> handler) {
 		if (log.isDebugEnabled()) {
 			log.debug("Synchronizing the project routers");
 		}
@@ -100,8 +106,6 @@ public class DistributedEventManager {
 			log.error("Error while handling synchronizing projects during topology update event.", e);
 			handler.fail(400, "Could not initialize projects.");
 		}
-		// Invalidate permission store since the permissions may have changed
-		PermissionStore.invalidate();
 	}
 
 	private void synchronizeProjectRoutes() throws InvalidNameException {
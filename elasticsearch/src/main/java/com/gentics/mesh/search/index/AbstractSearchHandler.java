@@ -10,17 +10,21 @@ import static io.netty.handler.codec.http.HttpResponseStatus.SERVICE_UNAVAILABLE
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
 
 import com.gentics.elasticsearch.client.HttpErrorException;
 import com.gentics.elasticsearch.client.okhttp.RequestBuilder;
+import com.gentics.mesh.Mesh;
 import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.context.impl.DelegatingActionContextImpl;
 import com.gentics.mesh.core.data.MeshCoreVertex;
 import com.gentics.mesh.core.data.Role;
 import com.gentics.mesh.core.data.page.Page;
@@ -47,11 +51,13 @@ import com.syncleus.ferma.tx.Tx;
 
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.reactivex.Observable;
+import io.reactivex.Scheduler;
 import io.reactivex.Single;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
+import io.vertx.reactivex.RxHelper;
 
 /**
  * Abstract implementation for a mesh search handler.
@@ -219,58 +225,30 @@ public abstract class AbstractSearchHandler<T extends MeshCoreVertex<RM, T>, RM
 		log.debug("Using options {" + queryOption.encodePrettily() + "}");
 
 		RequestBuilder<JsonObject> requestBuilder = client.multiSearch(queryOption, request);
-		requestBuilder.async().flatMapObservable(response -> {
+		requestBuilder.async().flatMap(response -> {
 			JsonArray responses = response.getJsonArray("responses");
 			JsonObject firstResponse = responses.getJsonObject(0);
 
 			// Process the nested error
 			JsonObject errorInfo = firstResponse.getJsonObject("error");
 			if (errorInfo != null) {
-				return Observable.error(mapError(errorInfo));
+				return Single.error(mapError(errorInfo));
 			}
 
-			JsonObject hitsInfo = firstResponse.getJsonObject("hits");
+			return Single.just(firstResponse.getJsonObject("hits"));
+		}).onErrorResumeNext(error -> {
+			return Single.error(mapToMeshError(error));
+		}).flatMap(hitsInfo -> {
 			JsonArray hits = hitsInfo.getJsonArray("hits");
-
-			List<Tuple<T, String>> list = new ArrayList<>();
-			db.tx(() -> {
-				for (int i = 0; i < hits.size(); i++) {
-					JsonObject hit = hits.getJsonObject(i);
-					String id = hit.getString("_id");
-					int pos = id.indexOf("-");
-
-					String language = pos > 0 ? id.substring(pos + 1) : null;
-					String uuid = pos > 0 ? id.substring(0, pos) : id;
-
-					// Locate the node
-					T element = rootVertex.get().findByUuid(uuid);
-					if (element == null) {
-						log.warn("Object could not be found for uuid {" + uuid + "} in root vertex {" + rootVertex.get().getRootLabel()
-							+ "}. The element will be omitted.");
-						// Reduce the total count
-						hitsInfo.put("total", hitsInfo.getLong("total") - 1);
-					} else {
-						// TODO maybe it would be better to directly transform the element here.
-						list.add(Tuple.tuple(element, language));
-					}
-				}
+			return processHits(ac, rootVertex, hits).map(models -> {
+				// Reduce the total count by the amount of omitted elements
+				hitsInfo.put("total", hitsInfo.getLong("total") - (hits.size() - models.size()));
+				// Set meta information to the rest response
+				listResponse.setMetainfo(extractMetaInfo(hitsInfo, pagingInfo));
+				return models;
 			});
-
-			// Set meta information to the rest response
-			listResponse.setMetainfo(extractMetaInfo(hitsInfo, pagingInfo));
-
-			return Observable.fromIterable(list);
-		}).onErrorResumeNext(error -> {
-			return Observable.error(mapToMeshError(error));
-		}).flatMapSingle(element -> {
-			// TODO add resume next to omit the item if it can't be transformed for some reason.
-			// This would be better than to just fail the whole request
-			// TODO maybe add extra permission filtering? This would not be very costly for smaller pages and ensure perm consistency?
-			// TODO it would be good to batch the transformation of the elements to save the overhead of creating transactions and use the L1 cache.
-			return db.tx(() -> Single.just(element.v1().transformToRestSync(ac, 0, element.v2())));
-		}).collect(() -> listResponse.getData(), (x, y) -> {
-			x.add(y);
-		}).subscribe(list -> {
+		}).subscribe(models -> {
+			listResponse.getData().addAll(models);
 			ac.send(listResponse.toJson(), OK);
 		}, error -> {
 			log.error("Error while processing search response items", error);
@@ -278,6 +256,95 @@ public abstract class AbstractSearchHandler<T extends MeshCoreVertex<RM, T>, RM
 		});
 	}
 
+	/**
+	 * Transform the hits of the search response into rest models. By default the elements of the hits will be loaded and transformed via
+	 * {@link #hydrate(InternalActionContext, Supplier, List)}. Hits which could not be transformed will be omitted.
+	 * 
+	 * @param ac
+	 * @param rootVertex
+	 * @param hits
+	 *            Hits of the search response
+	 * @return
+	 */
+	protected Single<List<RM>> processHits(InternalActionContext ac, Supplier<RootVertex<T>> rootVertex, JsonArray hits) {
+		List<Tuple<String, String>> list = new ArrayList<>(hits.size());
+		for (int i = 0; i < hits.size(); i++) {
+			JsonObject hit = hits.getJsonObject(i);
+			String id = hit.getString("_id");
+			int pos = id.indexOf("-");
+
+			String language = pos > 0 ? id.substring(pos + 1) : null;
+			String uuid = pos > 0 ? id.substring(0, pos) : id;
+			list.add(Tuple.tuple(uuid, language));
+		}
+		return hydrate(ac, rootVertex, list);
+	}
+
+	/**
+	 * Load the elements of the given search hits and transform them into rest models. The elements of each chunk of hits are located using a single uuid
+	 * lookup and are transformed within a single transaction. The hits will be split into multiple chunks which are transformed concurrently when a
+	 * hydration parallelism greater than one has been configured. Each concurrently transformed chunk uses a dedicated {@link DelegatingActionContextImpl}
+	 * since the data of the action context must not be modified concurrently. The order of the hits is preserved and hits for which no element could be
+	 * found will be omitted.
+	 * 
+	 * @param ac
+	 * @param rootVertex
+	 * @param hits
+	 *            Uuid and language of the hits
+	 * @return
+	 */
+	protected Single<List<RM>> hydrate(InternalActionContext ac, Supplier<RootVertex<T>> rootVertex, List<Tuple<String, String>> hits) {
+		int parallelism = Math.max(1, Mesh.mesh().getOptions().getSearchOptions().getHydrationParallelism());
+		if (parallelism == 1 || hits.size() <= 1) {
+			return Single.fromCallable(() -> transformHits(ac, rootVertex, hits));
+		}
+		int chunkSize = (int) Math.ceil(hits.size() / (double) parallelism);
+		List<List<Tuple<String, String>>> chunks = new ArrayList<>();
+		for (int i = 0; i < hits.size(); i += chunkSize) {
+			chunks.add(hits.subList(i, Math.min(i + chunkSize, hits.size())));
+		}
+		Scheduler scheduler = RxHelper.blockingScheduler(Mesh.vertx(), false);
+		// The contexts are created upfront by the calling thread which is the only thread that accesses the given context
+		List<InternalActionContext> contexts = new ArrayList<>(chunks.size());
+		for (int i = 0; i < chunks.size(); i++) {
+			contexts.add(new DelegatingActionContextImpl(ac));
+		}
+		// The eager concat subscribes to all chunks at once but emits the results in the order of the chunks
+		return Observable.range(0, chunks.size())
+			.concatMapEager(i -> Single.fromCallable(() -> transformHits(contexts.get(i), rootVertex, chunks.get(i))).subscribeOn(scheduler)
+				.toObservable())
+			.collect(() -> new ArrayList<>(hits.size()), (list, models) -> list.addAll(models));
+	}
+
+	/**
+	 * Load and transform the elements of the hits within a single transaction.
+	 * 
+	 * @param ac
+	 * @param rootVertex
+	 * @param hits
+	 * @return
+	 */
+	private List<RM> transformHits(InternalActionContext ac, Supplier<RootVertex<T>> rootVertex, List<Tuple<String, String>> hits) {
+		return db.tx(() -> {
+			RootVertex<T> root = rootVertex.get();
+			Map<String, T> elements = root.findByUuids(hits.stream().map(Tuple::v1).collect(Collectors.toSet()));
+			List<RM> models = new ArrayList<>(hits.size());
+			for (Tuple<String, String> hit : hits) {
+				T element = elements.get(hit.v1());
+				if (element == null) {
+					log.warn("Object could not be found for uuid {" + hit.v1() + "} in root vertex {" + root.getRootLabel()
+						+ "}. The element will be omitted.");
+					continue;
+				}
+				// TODO add resume next to omit the item if it can't be transformed for some reason.
+				// This would be better than to just fail the whole request
+				// TODO maybe add extra permission filtering? This would not be very costly for smaller pages and ensure perm consistency?
+				models.add(element.transformToRestSync(ac, 0, hit.v2()));
+			}
+			return models;
+		});
+	}
+
 	/**
 	 * Add the paging parameters to the request.
 	 * 
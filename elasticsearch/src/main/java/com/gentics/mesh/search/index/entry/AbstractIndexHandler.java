@@ -1,19 +1,22 @@
 package com.gentics.mesh.search.index.entry;
 
-import static com.gentics.mesh.core.data.search.SearchQueueEntryAction.DELETE_ACTION;
-import static com.gentics.mesh.core.data.search.SearchQueueEntryAction.STORE_ACTION;
 import static com.gentics.mesh.core.rest.error.Errors.error;
 import static com.gentics.mesh.search.SearchProvider.DEFAULT_TYPE;
+import static com.gentics.mesh.search.index.MappingHelper.UUID_KEY;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
 
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
-import com.gentics.elasticsearch.client.HttpErrorException;
-import com.gentics.elasticsearch.client.okhttp.RequestBuilder;
+import javax.inject.Inject;
+
+import com.gentics.mesh.Mesh;
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.core.data.MeshCoreVertex;
 import com.gentics.mesh.core.data.search.CreateIndexEntry;
@@ -33,14 +36,16 @@ import com.gentics.mesh.search.impl.SearchClient;
 import com.gentics.mesh.search.index.MappingProvider;
 import com.gentics.mesh.search.index.Transformer;
 import com.gentics.mesh.search.index.metric.SyncMetric;
-import com.google.common.collect.MapDifference;
-import com.google.common.collect.Maps;
+import com.gentics.mesh.search.index.sync.IndexSyncScheduler;
+import com.gentics.mesh.search.index.sync.IndexVersionIterator;
+import com.gentics.mesh.search.index.sync.SyncBatchHandler;
+import com.gentics.mesh.search.index.sync.UuidBuckets;
+import com.gentics.mesh.search.index.sync.VersionDiff;
 import com.syncleus.ferma.tx.Tx;
 
 import io.reactivex.Completable;
 import io.reactivex.Flowable;
 import io.reactivex.Observable;
-import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
@@ -58,6 +63,11 @@ public abstract class AbstractIndexHandler<T extends MeshCoreVertex<?, T>> imple
 
 	public static final int ES_SYNC_FETCH_BATCH_SIZE = 1000;
 
+	/**
+	 * Maximum amount of elements for which the versions are loaded from the graph at once during the index sync.
+	 */
+	public static final int SYNC_BUCKET_SIZE = 100_000;
+
 	protected SearchProvider searchProvider;
 
 	protected Database db;
@@ -66,6 +76,9 @@ public abstract class AbstractIndexHandler<T extends MeshCoreVertex<?, T>> imple
 
 	protected SearchQueue searchQueue;
 
+	@Inject
+	public IndexSyncScheduler syncScheduler;
+
 	public AbstractIndexHandler(SearchProvider searchProvider, Database db, BootstrapInitializer boot, SearchQueue searchQueue) {
 		this.searchProvider = searchProvider;
 		this.db = db;
@@ -177,151 +190,96 @@ public abstract class AbstractIndexHandler<T extends MeshCoreVertex<?, T>> imple
 	/**
 	 * Diff the source (graph) with the sink (ES index) and create {@link SearchQueueBatch} objects add, delete or update entries.
 	 * 
+	 * The sync of the index is executed by the {@link IndexSyncScheduler} and thus runs concurrently to the sync of other indices.
+	 * 
+	 * The diff is done per uuid prefix bucket. The elements of a bucket are streamed from the uuid index within a dedicated transaction while the versions
+	 * of the index are streamed in the same order. This way only the versions of a single bucket need to be held in memory. The found differences are
+	 * processed in batches while the diff is running.
+	 * 
 	 * @param indexName
 	 * @param projectUuid
 	 * @param metric
 	 * @return
-	 * @throws HttpErrorException
 	 */
-	protected Completable diffAndSync(String indexName, String projectUuid, SyncMetric metric) throws HttpErrorException {
-
-		log.info("Handling index sync on handler {" + getClass().getName() + "}");
-
-		try (Tx tx = db.tx()) {
-
-			// 1. Load versions from the local graph (source of truth)
-			Map<String, String> sourceVersions = loadVersionsFromGraph();
-
-			// 2. Load the version from the elasticsearch index (sink)
-			Map<String, String> sinkVersions = loadVersionsFromIndex(indexName);
-
-			// 3. Diff the maps
-			MapDifference<String, String> diff = Maps.difference(sourceVersions, sinkVersions);
-			if (diff.areEqual()) {
-				log.info("No diff detected. Index {" + indexName + "} is in sync.");
-				return Completable.complete();
-			}
+	protected Completable diffAndSync(String indexName, String projectUuid, SyncMetric metric) {
+		return syncScheduler.schedule(indexName, metric, Completable.fromAction(() -> {
+			log.info("Handling index sync of {" + indexName + "} on handler {" + getClass().getName() + "}");
 
-			Set<String> needInsertionInES = diff.entriesOnlyOnLeft().keySet();
-			Set<String> needRemovalInES = diff.entriesOnlyOnRight().keySet();
-			Set<String> needUpdate = diff.entriesDiffering().keySet();
-
-			log.info("Pending insertions on {" + indexName + "}:" + needInsertionInES.size());
-			log.info("Pending removals on {" + indexName + "}:" + needRemovalInES.size());
-			log.info("Pending updates on {" + indexName + "}:" + needUpdate.size());
-
-			metric.incInsert(needInsertionInES.size());
-			metric.incDelete(needRemovalInES.size());
-			metric.incUpdate(needUpdate.size());
-
-			// 4. Create the SQB's
-			SearchQueueBatch storeBatch = searchQueue.create();
-			for (String uuid : needInsertionInES) {
+			SyncBatchHandler handler = new SyncBatchHandler(searchQueue, metric, getSyncBatchSize(), (uuid, action) -> {
 				GenericEntryContext context = new GenericEntryContextImpl();
 				context.setProjectUuid(projectUuid);
-				UpdateDocumentEntry entry = new UpdateDocumentEntryImpl(this, uuid, context, STORE_ACTION);
-				entry.setOnProcessAction(metric::decInsert);
-				storeBatch.addEntry(entry);
-			}
-			SearchQueueBatch removalBatch = searchQueue.create();
-			for (String uuid : needRemovalInES) {
-				GenericEntryContext context = new GenericEntryContextImpl();
-				context.setProjectUuid(projectUuid);
-				UpdateDocumentEntry entry = new UpdateDocumentEntryImpl(this, uuid, context, DELETE_ACTION);
-				entry.setOnProcessAction(metric::decDelete);
-				removalBatch.addEntry(entry);
-			}
-			SearchQueueBatch updateBatch = searchQueue.create();
-			for (String uuid : needUpdate) {
-				GenericEntryContext context = new GenericEntryContextImpl();
-				context.setProjectUuid(projectUuid);
-				UpdateDocumentEntry entry = new UpdateDocumentEntryImpl(this, uuid, context, STORE_ACTION);
-				entry.setOnProcessAction(metric::decUpdate);
-				updateBatch.addEntry(entry);
-			}
+				return new UpdateDocumentEntryImpl(this, uuid, context, action);
+			});
+
+			long count = db.tx(() -> getRootVertex().computeCount());
+			for (String prefix : UuidBuckets.prefixes(count, SYNC_BUCKET_SIZE)) {
+				// 1. Load the sorted versions of the bucket from the local graph (source of truth). Each bucket uses a dedicated transaction.
+				SortedMap<String, String> sourceVersions;
+				try (Tx tx = db.tx()) {
+					sourceVersions = loadVersionsFromGraph(prefix);
+				}
 
-			// 5. Process the SQB's
-			return Completable.mergeArray(removalBatch.processAsync(), storeBatch.processAsync(), updateBatch.processAsync());
+				// 2. Stream the versions from the elasticsearch index (sink) and diff them
+				try (IndexVersionIterator sinkVersions = loadVersionsFromIndex(indexName, prefix, Arrays.asList(UUID_KEY),
+					hit -> hit.getJsonObject("_source").getString(UUID_KEY))) {
+					VersionDiff.diff(sourceVersions.entrySet().iterator(), sinkVersions, handler);
+				}
+			}
 
-		}
+			// 3. Process the remaining entries
+			handler.flush();
+			logSyncResult(indexName, handler);
+		}));
 	}
 
-	private Map<String, String> loadVersionsFromGraph() {
-		Map<String, String> versions = new HashMap<>();
-		for (T element : getRootVertex().findAll()) {
-			String v = generateVersion(element);
-			versions.put(element.getUuid(), v);
+	/**
+	 * Log the result of the sync of the given index.
+	 * 
+	 * @param indexName
+	 * @param handler
+	 */
+	protected void logSyncResult(String indexName, SyncBatchHandler handler) {
+		if (handler.getInserts() == 0 && handler.getDeletes() == 0 && handler.getUpdates() == 0) {
+			log.info("No diff detected. Index {" + indexName + "} is in sync.");
+		} else {
+			log.info("Processed insertions on {" + indexName + "}:" + handler.getInserts());
+			log.info("Processed removals on {" + indexName + "}:" + handler.getDeletes());
+			log.info("Processed updates on {" + indexName + "}:" + handler.getUpdates());
 		}
-		return versions;
 	}
 
-	public Map<String, String> loadVersionsFromIndex(String indexName) throws HttpErrorException {
-		String fullIndexName = searchProvider.installationPrefix() + indexName;
-		Map<String, String> versions = new HashMap<>();
-		log.debug("Loading document info from index {" + fullIndexName + "}");
-		SearchClient client = searchProvider.getClient();
-		JsonObject query = new JsonObject();
-		query.put("size", ES_SYNC_FETCH_BATCH_SIZE);
-		query.put("_source", new JsonArray().add("uuid").add("version"));
-		query.put("query", new JsonObject().put("match_all", new JsonObject()));
-		query.put("sort", new JsonArray().add("_doc"));
-
-		RequestBuilder<JsonObject> builder = client.searchScroll(query, "1m", fullIndexName);
-		JsonObject result = new JsonObject();
-		try {
-			result = builder.sync();
-			if (log.isTraceEnabled()) {
-				log.trace("Got response {" + result.encodePrettily() + "}");
-			}
-			JsonArray hits = result.getJsonObject("hits").getJsonArray("hits");
-			processHits(hits, versions);
-
-			// Check whether we need to process more scrolls
-			if (hits.size() != 0) {
-				String nextScrollId = result.getString("_scroll_id");
-				try {
-					while (true) {
-						final String currentScroll = nextScrollId;
-						log.debug("Fetching scroll result using scrollId {" + currentScroll + "}");
-						JsonObject scrollResult = client.scroll(currentScroll, "1m").sync();
-						JsonArray scrollHits = scrollResult.getJsonObject("hits").getJsonArray("hits");
-						if (log.isTraceEnabled()) {
-							log.trace("Got response {" + scrollHits.encodePrettily() + "}");
-						}
-						if (scrollHits.size() != 0) {
-							processHits(scrollHits, versions);
-							// Update the scrollId for the next fetch
-							nextScrollId = scrollResult.getString("_scroll_id");
-							if (log.isDebugEnabled()) {
-								log.debug("Using scrollId {" + nextScrollId + "} for next fetch.");
-							}
-						} else {
-							// The scroll yields no more data. We are done
-							break;
-						}
-					}
-				} finally {
-					// Clearing used scroll in order to free memory in ES
-					client.clearScroll(nextScrollId).sync();
-				}
-			}
-		} catch (HttpErrorException e) {
-			log.error("Error while loading version information from index {" + indexName + "}", e.toString());
-			log.error(e);
-			throw e;
-		}
+	/**
+	 * Return the amount of sync entries which will be processed at once.
+	 * 
+	 * @return
+	 */
+	protected int getSyncBatchSize() {
+		return Mesh.mesh().getOptions().getSearchOptions().getBulkLimit();
+	}
 
+	private SortedMap<String, String> loadVersionsFromGraph(String uuidPrefix) {
+		SortedMap<String, String> versions = new TreeMap<>();
+		getRootVertex().findByUuidPrefix(uuidPrefix).forEach(element -> versions.put(element.getUuid(), generateVersion(element)));
 		return versions;
 	}
 
-	protected void processHits(JsonArray hits, Map<String, String> versions) {
-		for (int i = 0; i < hits.size(); i++) {
-			JsonObject hit = hits.getJsonObject(i);
-			JsonObject source = hit.getJsonObject("_source");
-			String uuid = source.getString("uuid");
-			String version = source.getString("version");
-			versions.put(uuid, version);
-		}
+	/**
+	 * Return an iterator which streams the versions of the documents of the given index which match the uuid prefix.
+	 * 
+	 * @param indexName
+	 *            Name of the index without the installation prefix
+	 * @param uuidPrefix
+	 * @param sortFields
+	 *            Fields which are used to sort the documents in the order of their keys
+	 * @param keyMapper
+	 *            Function which extracts the key from a search hit
+	 * @return
+	 */
+	protected IndexVersionIterator loadVersionsFromIndex(String indexName, String uuidPrefix, List<String> sortFields,
+		Function<JsonObject, String> keyMapper) {
+		String fullIndexName = searchProvider.installationPrefix() + indexName;
+		SearchClient client = searchProvider.getClient();
+		return new IndexVersionIterator(client, fullIndexName, uuidPrefix, sortFields, keyMapper, ES_SYNC_FETCH_BATCH_SIZE);
 	}
 
 	@Override
@@ -33,6 +33,10 @@ public class SyncMetric {
 	private Counter deleteCount;
 	private Counter updateCount;
 
+	private Counter partitionTotal;
+	private Counter partitionCompleted;
+	private Counter partitionSkipped;
+
 	/**
 	 * Create a new metric object and reset all managed metrics for the given type.
 	 * 
@@ -50,6 +54,10 @@ public class SyncMetric {
 		insertCount = metricRegistry.counter("index.sync." + type + ".insert.pending");
 		deleteCount = metricRegistry.counter("index.sync." + type + ".delete.pending");
 		updateCount = metricRegistry.counter("index.sync." + type + ".update.pending");
+
+		partitionTotal = metricRegistry.counter("index.sync." + type + ".partition.total");
+		partitionCompleted = metricRegistry.counter("index.sync." + type + ".partition.completed");
+		partitionSkipped = metricRegistry.counter("index.sync." + type + ".partition.skipped");
 	}
 
 	/**
@@ -75,6 +83,10 @@ public class SyncMetric {
 		map.put("insert.pending", insertPending);
 		map.put("delete.pending", deletePending);
 		map.put("update.pending", updatePending);
+
+		map.put("partition.total", getCount("index.sync." + type + ".partition.total", 0));
+		map.put("partition.completed", getCount("index.sync." + type + ".partition.completed", 0));
+		map.put("partition.skipped", getCount("index.sync." + type + ".partition.skipped", 0));
 		return map;
 	}
 
@@ -131,4 +143,33 @@ public class SyncMetric {
 		updateCount.dec();
 	}
 
+	/**
+	 * Register a new index partition which needs to be synced.
+	 */
+	public void incPartition() {
+		partitionTotal.inc();
+	}
+
+	/**
+	 * Record a completely synced index partition.
+	 */
+	public void completePartition() {
+		partitionCompleted.inc();
+	}
+
+	/**
+	 * Record an index partition which was skipped since it was already synced by an interrupted sync.
+	 */
+	public void skipPartition() {
+		partitionSkipped.inc();
+	}
+
+	public long getPartitionTotal() {
+		return partitionTotal.getCount();
+	}
+
+	public long getPartitionDone() {
+		return partitionCompleted.getCount() + partitionSkipped.getCount();
+	}
+
 }
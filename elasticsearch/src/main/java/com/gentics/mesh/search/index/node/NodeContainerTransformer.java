@@ -47,10 +47,18 @@ import com.gentics.mesh.core.data.node.field.nesting.NodeGraphField;
 import com.gentics.mesh.core.data.schema.MicroschemaContainerVersion;
 import com.gentics.mesh.core.data.schema.SchemaContainerVersion;
 import com.gentics.mesh.core.rest.common.FieldTypes;
+import com.gentics.mesh.core.rest.node.NodeResponse;
 import com.gentics.mesh.core.rest.node.field.binary.BinaryMetadata;
 import com.gentics.mesh.core.rest.node.field.binary.Location;
+import com.gentics.mesh.core.rest.project.ProjectReference;
 import com.gentics.mesh.core.rest.schema.FieldSchema;
+import com.gentics.mesh.core.rest.schema.SchemaReference;
 import com.gentics.mesh.core.rest.schema.impl.ListFieldSchemaImpl;
+import com.gentics.mesh.core.rest.schema.impl.SchemaReferenceImpl;
+import com.gentics.mesh.core.rest.tag.TagReference;
+import com.gentics.mesh.core.rest.user.NodeReference;
+import com.gentics.mesh.core.rest.user.UserReference;
+import com.gentics.mesh.json.JsonUtil;
 import com.gentics.mesh.search.SearchProvider;
 import com.gentics.mesh.search.index.AbstractTransformer;
 import com.gentics.mesh.util.ETag;
@@ -522,4 +530,68 @@ public class NodeContainerTransformer extends AbstractTransformer<NodeGraphField
 		return document;
 	}
 
+
+	/**
+	 * Create a node response from the given indexed document. The response will only contain the information which is stored in the document. The fields
+	 * contain the indexed values. Html fields will thus only contain the plain text and node fields only the uuid of the referenced node.
+	 * 
+	 * @param document
+	 *            Source of the indexed document
+	 * @return
+	 */
+	public NodeResponse toProjection(JsonObject document) {
+		// The field map of the response directly wraps the indexed field values
+		JsonObject fields = document.getJsonObject("fields", new JsonObject());
+		NodeResponse response = JsonUtil.readValue(new JsonObject().put("fields", fields).encode(), NodeResponse.class);
+		response.setUuid(document.getString("uuid"));
+		response.setLanguage(document.getString("language"));
+		response.setCreated(document.getString("created"));
+		response.setEdited(document.getString("edited"));
+
+		JsonObject creator = document.getJsonObject("creator");
+		if (creator != null) {
+			response.setCreator(new UserReference().setUuid(creator.getString(UUID_KEY)));
+		}
+		JsonObject editor = document.getJsonObject("editor");
+		if (editor != null) {
+			response.setEditor(new UserReference().setUuid(editor.getString(UUID_KEY)));
+		}
+
+		JsonObject project = document.getJsonObject("project");
+		if (project != null) {
+			response.setProject(new ProjectReference().setName(project.getString(NAME_KEY)).setUuid(project.getString(UUID_KEY)));
+		}
+
+		JsonObject parentNode = document.getJsonObject("parentNode");
+		if (parentNode != null) {
+			response.setParentNode(new NodeReference().setUuid(parentNode.getString(UUID_KEY)));
+		}
+
+		JsonObject schema = document.getJsonObject("schema");
+		if (schema != null) {
+			SchemaReference schemaReference = new SchemaReferenceImpl().setName(schema.getString(NAME_KEY)).setUuid(schema.getString(UUID_KEY));
+			schemaReference.setVersion(schema.getString(VERSION_KEY));
+			response.setSchema(schemaReference);
+		}
+
+		JsonObject tagFamilies = document.getJsonObject("tagFamilies");
+		if (tagFamilies != null) {
+			for (String familyName : tagFamilies.fieldNames()) {
+				JsonArray tags = tagFamilies.getJsonObject(familyName).getJsonArray("tags");
+				for (int i = 0; i < tags.size(); i++) {
+					JsonObject tag = tags.getJsonObject(i);
+					response.getTags().add(new TagReference().setName(tag.getString(NAME_KEY)).setUuid(tag.getString(UUID_KEY)).setTagFamily(familyName));
+				}
+			}
+		}
+
+		JsonObject displayField = document.getJsonObject("displayField");
+		if (displayField != null) {
+			response.setDisplayField(displayField.getString("key"));
+			Object displayName = displayField.getValue("value");
+			response.setDisplayName(displayName == null ? null : String.valueOf(displayName));
+		}
+		return response;
+	}
+
 }
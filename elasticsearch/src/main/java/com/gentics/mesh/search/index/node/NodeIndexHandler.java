@@ -2,8 +2,6 @@ package com.gentics.mesh.search.index.node;
 
 import static com.gentics.mesh.core.data.ContainerType.DRAFT;
 import static com.gentics.mesh.core.data.ContainerType.PUBLISHED;
-import static com.gentics.mesh.core.data.search.SearchQueueEntryAction.DELETE_ACTION;
-import static com.gentics.mesh.core.data.search.SearchQueueEntryAction.STORE_ACTION;
 import static com.gentics.mesh.core.rest.error.Errors.error;
 import static com.gentics.mesh.search.SearchProvider.DEFAULT_TYPE;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
@@ -15,12 +13,14 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
-import com.gentics.elasticsearch.client.HttpErrorException;
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.Branch;
@@ -33,7 +33,6 @@ import com.gentics.mesh.core.data.root.RootVertex;
 import com.gentics.mesh.core.data.schema.SchemaContainerVersion;
 import com.gentics.mesh.core.data.search.MoveDocumentEntry;
 import com.gentics.mesh.core.data.search.SearchQueue;
-import com.gentics.mesh.core.data.search.SearchQueueBatch;
 import com.gentics.mesh.core.data.search.UpdateDocumentEntry;
 import com.gentics.mesh.core.data.search.bulk.BulkEntry;
 import com.gentics.mesh.core.data.search.bulk.DeleteBulkEntry;
@@ -50,14 +49,15 @@ import com.gentics.mesh.search.SearchProvider;
 import com.gentics.mesh.search.index.entry.AbstractIndexHandler;
 import com.gentics.mesh.search.index.entry.UpdateDocumentEntryImpl;
 import com.gentics.mesh.search.index.metric.SyncMetric;
-import com.google.common.collect.MapDifference;
-import com.google.common.collect.Maps;
+import com.gentics.mesh.search.index.sync.IndexVersionIterator;
+import com.gentics.mesh.search.index.sync.SyncBatchHandler;
+import com.gentics.mesh.search.index.sync.UuidBuckets;
+import com.gentics.mesh.search.index.sync.VersionDiff;
 import com.syncleus.ferma.tx.Tx;
 
 import io.reactivex.Completable;
 import io.reactivex.Observable;
 import io.reactivex.Single;
-import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
@@ -219,73 +219,65 @@ public class NodeIndexHandler extends AbstractIndexHandler<Node> {
 		});
 	}
 
-	private Map<String, String> loadVersionsFromGraph(Branch branch, SchemaContainerVersion version, ContainerType type) {
-		Map<String, String> versions = new HashMap<>();
-		String branchUuid = branch.getUuid();
-		version.getFieldContainers(branchUuid)
-			.filter(c -> c.getSchemaContainerVersion().equals(version))
-			.filter(c -> c.isType(type, branchUuid))
-			.forEach(c -> {
-				String v = generateVersion(c, branchUuid, type);
-				versions.put(c.getParentNode().getUuid() + "-" + c.getLanguageTag(), v);
-			});
+	/**
+	 * Load the versions of the containers of the given schema version whose node uuid starts with the given prefix. The nodes are streamed from the uuid
+	 * index.
+	 * 
+	 * @param projectUuid
+	 * @param branchUuid
+	 * @param schemaUuid
+	 * @param versionUuid
+	 * @param type
+	 * @param uuidPrefix
+	 * @return Versions by the uuid of the node and the language of the container
+	 */
+	private SortedMap<String, String> loadVersionsFromGraph(String projectUuid, String branchUuid, String schemaUuid, String versionUuid,
+		ContainerType type, String uuidPrefix) {
+		SchemaContainerVersion version = boot.schemaContainerRoot().findByUuid(schemaUuid).findVersionByUuid(versionUuid);
+		Project project = boot.projectRoot().findByUuid(projectUuid);
+		SortedMap<String, String> versions = new TreeMap<>();
+		if (project == null) {
+			return versions;
+		}
+		project.getNodeRoot().findByUuidPrefix(uuidPrefix).forEach(node -> {
+			for (NodeGraphFieldContainer container : node.getGraphFieldContainersIt(branchUuid, type)) {
+				if (container.getSchemaContainerVersion().equals(version)) {
+					versions.put(node.getUuid() + "-" + container.getLanguageTag(), generateVersion(container, branchUuid, type));
+				}
+			}
+		});
 		return versions;
 	}
 
 	/**
-	 * We need to override the default method since the UUID alone is not enough to id a document in the node index. We also need to append the language.
+	 * Find the containers of the given schema version which need to be stored in the index. The schema version will be loaded within the current
+	 * transaction since the sync of the index may be executed on a different thread.
+	 * 
+	 * @param branchUuid
+	 * @param schemaUuid
+	 * @param versionUuid
+	 * @param type
+	 * @return
 	 */
-	@Override
-	protected void processHits(JsonArray hits, Map<String, String> versions) {
-		for (int i = 0; i < hits.size(); i++) {
-			JsonObject hit = hits.getJsonObject(i);
-			JsonObject source = hit.getJsonObject("_source");
-			// The id contains the UUID + language
-			String uuidAndLang = hit.getString("_id");
-			String version = source.getString("version");
-			versions.put(uuidAndLang, version);
-		}
+	private Stream<NodeGraphFieldContainer> findFieldContainers(String branchUuid, String schemaUuid, String versionUuid, ContainerType type) {
+		SchemaContainerVersion version = boot.schemaContainerRoot().findByUuid(schemaUuid).findVersionByUuid(versionUuid);
+		return version.getFieldContainers(branchUuid)
+			.filter(c -> c.getSchemaContainerVersion().equals(version))
+			.filter(c -> c.isType(type, branchUuid));
 	}
 
-	private Completable diffAndSync(Project project, Branch branch, SchemaContainerVersion version, ContainerType type, SyncMetric metric)
-		throws HttpErrorException {
+	private Completable diffAndSync(Project project, Branch branch, SchemaContainerVersion version, ContainerType type, SyncMetric metric) {
 		String indexName = NodeGraphFieldContainer.composeIndexName(project.getUuid(), branch.getUuid(),
 			version.getUuid(), type);
+		String versionUuid = version.getUuid();
+		String projectUuid = project.getUuid();
+		String branchUuid = branch.getUuid();
+		String schemaUuid = version.getSchemaContainer().getUuid();
 
-		log.info("Handling index sync on handler {" + getClass().getName() + "}");
-
-		try (Tx tx = db.tx()) {
-
-			// 1. Load versions from the local graph (source of truth)
-			Map<String, String> sourceVersions = loadVersionsFromGraph(branch, version, type);
-
-			// 2. Load the version from the elasticsearch index (sink)
-			Map<String, String> sinkVersions = loadVersionsFromIndex(indexName);
-
-			// 3. Diff the maps
-			MapDifference<String, String> diff = Maps.difference(sourceVersions, sinkVersions);
-			if (diff.areEqual()) {
-				return Completable.complete();
-			}
-			Set<String> needInsertionInES = diff.entriesOnlyOnLeft().keySet();
-			Set<String> needRemovalInES = diff.entriesOnlyOnRight().keySet();
-			Set<String> needUpdate = diff.entriesDiffering().keySet();
-
-			log.info("Pending insertions on {" + indexName + "}:" + needInsertionInES.size());
-			log.info("Pending removals on {" + indexName + "}:" + needRemovalInES.size());
-			log.info("Pending updates on {" + indexName + "}:" + needUpdate.size());
-
-			metric.incInsert(needInsertionInES.size());
-			metric.incDelete(needRemovalInES.size());
-			metric.incUpdate(needUpdate.size());
-
-			String versionUuid = version.getUuid();
-			String projectUuid = project.getUuid();
-			String branchUuid = branch.getUuid();
+		return syncScheduler.schedule(indexName, metric, Completable.fromAction(() -> {
+			log.info("Handling index sync of {" + indexName + "} on handler {" + getClass().getName() + "}");
 
-			// 4. Create the SQB's
-			SearchQueueBatch storeBatch = searchQueue.create();
-			for (String uuidLang : needInsertionInES) {
+			SyncBatchHandler handler = new SyncBatchHandler(searchQueue, metric, getSyncBatchSize(), (uuidLang, action) -> {
 				String uuid = uuidLang.substring(0, uuidLang.indexOf("-"));
 				String lang = uuidLang.substring(uuidLang.indexOf("-") + 1);
 				GenericEntryContext context = new GenericEntryContextImpl();
@@ -294,44 +286,29 @@ public class NodeIndexHandler extends AbstractIndexHandler<Node> {
 				context.setBranchUuid(branchUuid);
 				context.setLanguageTag(lang);
 				context.setSchemaContainerVersionUuid(versionUuid);
-				UpdateDocumentEntry entry = new UpdateDocumentEntryImpl(this, uuid, context, STORE_ACTION);
-				entry.setOnProcessAction(metric::decInsert);
-				storeBatch.addEntry(entry);
-			}
-			SearchQueueBatch removalBatch = searchQueue.create();
-			for (String uuidLang : needRemovalInES) {
-				String uuid = uuidLang.substring(0, uuidLang.indexOf("-"));
-				String lang = uuidLang.substring(uuidLang.indexOf("-") + 1);
-				GenericEntryContext context = new GenericEntryContextImpl();
-				context.setContainerType(type);
-				context.setProjectUuid(projectUuid);
-				context.setBranchUuid(branchUuid);
-				context.setSchemaContainerVersionUuid(versionUuid);
-				context.setLanguageTag(lang);
-				UpdateDocumentEntry entry = new UpdateDocumentEntryImpl(this, uuid, context, DELETE_ACTION);
-				entry.setOnProcessAction(metric::decDelete);
-				removalBatch.addEntry(entry);
-			}
-			SearchQueueBatch updateBatch = searchQueue.create();
-			for (String uuidLang : needUpdate) {
-				String uuid = uuidLang.substring(0, uuidLang.indexOf("-"));
-				String lang = uuidLang.substring(uuidLang.indexOf("-") + 1);
-				GenericEntryContext context = new GenericEntryContextImpl();
-				context.setContainerType(type);
-				context.setProjectUuid(projectUuid);
-				context.setBranchUuid(branchUuid);
-				context.setSchemaContainerVersionUuid(versionUuid);
-				context.setLanguageTag(lang);
-				UpdateDocumentEntry entry = new UpdateDocumentEntryImpl(this, uuid, context, STORE_ACTION);
-				entry.setOnProcessAction(metric::decUpdate);
-				updateBatch.addEntry(entry);
-			}
+				return new UpdateDocumentEntryImpl(this, uuid, context, action);
+			});
 
-			// 5. Process the SQB's
-			return Completable.mergeArray(removalBatch.processAsync(), storeBatch.processAsync(), updateBatch.processAsync());
+			// The containers are split into buckets by the uuid of their node
+			long count = db.tx(() -> findFieldContainers(branchUuid, schemaUuid, versionUuid, type).count());
+			for (String prefix : UuidBuckets.prefixes(count, SYNC_BUCKET_SIZE)) {
+				// 1. Load the sorted versions of the bucket from the local graph (source of truth). Each bucket uses a dedicated transaction.
+				SortedMap<String, String> sourceVersions;
+				try (Tx tx = db.tx()) {
+					sourceVersions = loadVersionsFromGraph(projectUuid, branchUuid, schemaUuid, versionUuid, type, prefix);
+				}
 
-		}
+				// 2. Stream the versions from the elasticsearch index (sink) and diff them. The id of the document contains the uuid and the language.
+				try (IndexVersionIterator sinkVersions = loadVersionsFromIndex(indexName, prefix, Arrays.asList("uuid", "language"),
+					hit -> hit.getString("_id"))) {
+					VersionDiff.diff(sourceVersions.entrySet().iterator(), sinkVersions, handler);
+				}
+			}
 
+			// 3. Process the remaining entries
+			handler.flush();
+			logSyncResult(indexName, handler);
+		}));
 	}
 
 	@Override
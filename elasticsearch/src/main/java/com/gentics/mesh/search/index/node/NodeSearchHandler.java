@@ -6,10 +6,14 @@ import static com.gentics.mesh.search.impl.ElasticsearchErrorHelper.mapToMeshErr
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -21,7 +25,6 @@ import com.gentics.elasticsearch.client.okhttp.RequestBuilder;
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.ContainerType;
-import com.gentics.mesh.core.data.Language;
 import com.gentics.mesh.core.data.NodeGraphFieldContainer;
 import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.node.NodeContent;
@@ -38,8 +41,10 @@ import com.gentics.mesh.parameter.PagingParameters;
 import com.gentics.mesh.search.SearchProvider;
 import com.gentics.mesh.search.impl.SearchClient;
 import com.gentics.mesh.search.index.AbstractSearchHandler;
+import com.gentics.mesh.util.Tuple;
 
 import io.netty.handler.codec.http.HttpResponseStatus;
+import io.reactivex.Single;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
@@ -55,11 +60,39 @@ public class NodeSearchHandler extends AbstractSearchHandler<Node, NodeResponse>
 
 	private BootstrapInitializer boot;
 
+	private NodeIndexHandler nodeIndexHandler;
+
 	@Inject
 	public NodeSearchHandler(SearchProvider searchProvider, Database db, NodeIndexHandler nodeIndexHandler, HandlerUtilities utils,
 		BootstrapInitializer boot) {
 		super(db, searchProvider, nodeIndexHandler);
 		this.boot = boot;
+		this.nodeIndexHandler = nodeIndexHandler;
+	}
+
+	/**
+	 * Create the node responses directly from the indexed documents when the source projection was requested. The graph will not be accessed in this case.
+	 * The read permissions have already been checked by the role filter of the search query.
+	 */
+	@Override
+	protected Single<List<NodeResponse>> processHits(InternalActionContext ac, Supplier<RootVertex<Node>> rootVertex, JsonArray hits) {
+		if (!ac.getSearchParameters().isSourceProjection()) {
+			return super.processHits(ac, rootVertex, hits);
+		}
+		return Single.fromCallable(() -> {
+			NodeContainerTransformer transformer = nodeIndexHandler.getTransformer();
+			List<NodeResponse> models = new ArrayList<>(hits.size());
+			for (int i = 0; i < hits.size(); i++) {
+				JsonObject hit = hits.getJsonObject(i);
+				JsonObject source = hit.getJsonObject("_source");
+				if (source == null) {
+					log.warn("The hit {" + hit.getString("_id") + "} contains no source. The element will be omitted.");
+					continue;
+				}
+				models.add(transformer.toProjection(source));
+			}
+			return models;
+		});
 	}
 
 	/**
@@ -121,28 +154,36 @@ public class NodeSearchHandler extends AbstractSearchHandler<Node, NodeResponse>
 			// The scrolling iterator will wrap the current response and query ES for more data if needed.
 			Page<? extends NodeContent> page = db.tx(() -> {
 				long totalCount = hitsInfo.getLong("total");
-				List<NodeContent> elementList = new ArrayList<>();
 				JsonArray hits = hitsInfo.getJsonArray("hits");
+				List<Tuple<String, String>> uuidLanguages = new ArrayList<>(hits.size());
 				for (int i = 0; i < hits.size(); i++) {
-					JsonObject hit = hits.getJsonObject(i);
-
-					String id = hit.getString("_id");
+					String id = hits.getJsonObject(i).getString("_id");
 					int pos = id.indexOf("-");
-
 					String languageTag = pos > 0 ? id.substring(pos + 1) : null;
 					String uuid = pos > 0 ? id.substring(0, pos) : id;
+					uuidLanguages.add(Tuple.tuple(uuid, languageTag));
+				}
+
+				// Locate all nodes of the page at once
+				RootVertex<Node> root = getIndexHandler().getRootVertex();
+				Map<String, Node> nodes = root.findByUuids(uuidLanguages.stream().map(Tuple::v1).collect(Collectors.toSet()));
+				ContainerType type = ContainerType.forVersion(ac.getVersioningParameters().getVersion());
+				Map<String, Boolean> knownLanguages = new HashMap<>();
+
+				List<NodeContent> elementList = new ArrayList<>();
+				for (Tuple<String, String> uuidLanguage : uuidLanguages) {
+					String uuid = uuidLanguage.v1();
+					String languageTag = uuidLanguage.v2();
 
-					RootVertex<Node> root = getIndexHandler().getRootVertex();
-					Node element = root.findByUuid(uuid);
+					Node element = nodes.get(uuid);
 					if (element == null) {
 						log.warn("Object could not be found for uuid {" + uuid + "} in root vertex {" + root.getRootLabel() + "}");
 						totalCount--;
 						continue;
 					}
 
-					ContainerType type = ContainerType.forVersion(ac.getVersioningParameters().getVersion());
-					Language language = boot.languageRoot().findByLanguageTag(languageTag);
-					if (language== null) {
+					boolean languageExists = knownLanguages.computeIfAbsent(languageTag, tag -> boot.languageRoot().findByLanguageTag(tag) != null);
+					if (!languageExists) {
 						log.warn("Could not find language {" + languageTag + "}");
 						totalCount--;
 						continue;
@@ -0,0 +1,217 @@
+package com.gentics.mesh.search.index.sync;
+
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.Mesh;
+import com.gentics.mesh.cli.BootstrapInitializer;
+import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.search.index.metric.SyncMetric;
+import com.gentics.mesh.util.UUIDUtil;
+import com.syncleus.ferma.tx.Tx;
+
+import io.reactivex.Completable;
+import io.reactivex.Scheduler;
+import io.reactivex.schedulers.Schedulers;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Scheduler for the index sync. Each index is handled as a separate partition. The partitions are synced concurrently using a bounded thread pool whose
+ * size is defined by the configured sync parallelism.
+ * 
+ * While a sync run is active the names of the completely synced partitions are stored as a checkpoint in the graph. The checkpoint is bound to the id and
+ * the start time of the run. A sync which has been interrupted (e.g. due to a crash) can be resumed by passing its id to the next run, which will skip the
+ * partitions that were already completed. The index sync job and the sync on startup resume the run whose checkpoint is stored. Any other run will replace
+ * the checkpoint. The checkpoint is removed once a sync run finished successfully.
+ */
+@Singleton
+public class IndexSyncScheduler {
+
+	private static final Logger log = LoggerFactory.getLogger(IndexSyncScheduler.class);
+
+	private static final String SYNC_ID_KEY = "syncId";
+
+	private static final String STARTED_KEY = "started";
+
+	private static final String PARTITIONS_KEY = "partitions";
+
+	private final Database db;
+
+	private final BootstrapInitializer boot;
+
+	private final Set<String> completedPartitions = ConcurrentHashMap.newKeySet();
+
+	private volatile boolean running = false;
+
+	private String syncId;
+
+	private long started;
+
+	private Scheduler scheduler;
+
+	@Inject
+	public IndexSyncScheduler(Database db, BootstrapInitializer boot) {
+		this.db = db;
+		this.boot = boot;
+	}
+
+	/**
+	 * Start a sync run. The checkpoint of the run with the given id will be loaded so that the already synced partitions can be skipped. A new run will be
+	 * started and any stored checkpoint will be replaced if no id was given or if the checkpoint belongs to a different run.
+	 * 
+	 * @param resumeSyncId
+	 *            Id of the interrupted run which should be resumed or null to start a new run
+	 * @return Id of the run
+	 */
+	public synchronized String begin(String resumeSyncId) {
+		completedPartitions.clear();
+		try (Tx tx = db.tx()) {
+			JsonObject checkpoint = loadCheckpoint();
+			if (resumeSyncId != null && checkpoint != null && resumeSyncId.equals(checkpoint.getString(SYNC_ID_KEY))) {
+				syncId = resumeSyncId;
+				started = checkpoint.getLong(STARTED_KEY, System.currentTimeMillis());
+				for (Object partition : checkpoint.getJsonArray(PARTITIONS_KEY, new JsonArray())) {
+					completedPartitions.add(String.valueOf(partition));
+				}
+				log.info("Resuming interrupted index sync {" + syncId + "}. {" + completedPartitions.size() + "} partitions were already synced.");
+			} else {
+				if (checkpoint != null) {
+					log.info("Discarding checkpoint of index sync {" + checkpoint.getString(SYNC_ID_KEY) + "}");
+				}
+				syncId = UUIDUtil.randomUUID();
+				started = System.currentTimeMillis();
+				storeCheckpoint();
+			}
+			tx.success();
+		}
+		running = true;
+		return syncId;
+	}
+
+	/**
+	 * Finish the current sync run and remove the checkpoint.
+	 */
+	public synchronized void finish() {
+		running = false;
+		completedPartitions.clear();
+		try (Tx tx = db.tx()) {
+			JsonObject checkpoint = loadCheckpoint();
+			// Only remove the checkpoint of this run
+			if (checkpoint == null || checkpoint.getString(SYNC_ID_KEY, "").equals(syncId)) {
+				boot.meshRoot().setIndexSyncCheckpoint(null);
+			}
+			tx.success();
+		}
+	}
+
+	/**
+	 * Return the id of the sync run whose checkpoint is currently stored. This is either the currently running or the last interrupted run.
+	 * 
+	 * @return Id of the run or null if no checkpoint is stored
+	 */
+	public String getCheckpointSyncId() {
+		try (Tx tx = db.tx()) {
+			JsonObject checkpoint = loadCheckpoint();
+			return checkpoint == null ? null : checkpoint.getString(SYNC_ID_KEY);
+		}
+	}
+
+	/**
+	 * Abort the current sync run. The checkpoint will be kept so that the next run can resume.
+	 */
+	public synchronized void abort() {
+		running = false;
+		completedPartitions.clear();
+	}
+
+	/**
+	 * Schedule the sync of a single partition. The returned completable will execute the sync on the sync thread pool. Partitions which were already completed
+	 * by an interrupted run will be skipped.
+	 * 
+	 * @param partition
+	 *            Name of the partition (usually the index name)
+	 * @param metric
+	 *            Metric which tracks the progress of the partitions
+	 * @param sync
+	 *            Blocking sync action for the partition
+	 * @return
+	 */
+	public Completable schedule(String partition, SyncMetric metric, Completable sync) {
+		metric.incPartition();
+		return Completable.defer(() -> {
+			if (running && completedPartitions.contains(partition)) {
+				log.info("Skipping partition {" + partition + "} since it was already synced.");
+				metric.skipPartition();
+				return Completable.complete();
+			}
+			return sync.subscribeOn(getScheduler()).doOnComplete(() -> {
+				metric.completePartition();
+				log.info("Synced partition {" + partition + "} (" + metric.getPartitionDone() + "/" + metric.getPartitionTotal() + ")");
+				checkpoint(partition);
+			});
+		});
+	}
+
+	private synchronized void checkpoint(String partition) {
+		if (!running) {
+			return;
+		}
+		completedPartitions.add(partition);
+		try (Tx tx = db.tx()) {
+			storeCheckpoint();
+			tx.success();
+		}
+	}
+
+	private JsonObject loadCheckpoint() {
+		String checkpoint = boot.meshRoot().getIndexSyncCheckpoint();
+		if (checkpoint == null) {
+			return null;
+		}
+		try {
+			return new JsonObject(checkpoint);
+		} catch (DecodeException e) {
+			log.warn("Ignoring invalid index sync checkpoint", e);
+			return null;
+		}
+	}
+
+	private void storeCheckpoint() {
+		JsonObject checkpoint = new JsonObject()
+			.put(SYNC_ID_KEY, syncId)
+			.put(STARTED_KEY, started)
+			.put(PARTITIONS_KEY, new JsonArray(new ArrayList<>(completedPartitions)));
+		boot.meshRoot().setIndexSyncCheckpoint(checkpoint.encode());
+	}
+
+	private synchronized Scheduler getScheduler() {
+		if (scheduler == null) {
+			int parallelism = Math.max(1, Mesh.mesh().getOptions().getSearchOptions().getSyncParallelism());
+			AtomicInteger threadCount = new AtomicInteger();
+			ThreadFactory factory = r -> {
+				Thread thread = new Thread(r, "mesh-index-sync-" + threadCount.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			};
+			ThreadPoolExecutor executor = new ThreadPoolExecutor(parallelism, parallelism, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), factory);
+			// Idle threads are not needed in between sync runs
+			executor.allowCoreThreadTimeOut(true);
+			scheduler = Schedulers.from(executor);
+		}
+		return scheduler;
+	}
+
+}
@@ -0,0 +1,138 @@
+package com.gentics.mesh.search.index.sync;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+import com.gentics.elasticsearch.client.HttpErrorException;
+import com.gentics.mesh.search.impl.SearchClient;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Iterator which loads the document versions of an index sorted by the given fields. The scroll API is used to load the documents page by page so that
+ * only a single page is held in memory. The iterator must be closed in order to release the scroll context in Elasticsearch.
+ */
+public class IndexVersionIterator implements Iterator<Entry<String, String>>, AutoCloseable {
+
+	private static final Logger log = LoggerFactory.getLogger(IndexVersionIterator.class);
+
+	private static final String SCROLL_TIMEOUT = "1m";
+
+	private final SearchClient client;
+
+	private final String indexName;
+
+	private final Function<JsonObject, String> keyMapper;
+
+	private Iterator<Object> currentHits = Collections.emptyIterator();
+
+	private String scrollId;
+
+	private boolean exhausted = false;
+
+	/**
+	 * Create a new iterator.
+	 * 
+	 * @param client
+	 *            Client which is used to load the documents
+	 * @param fullIndexName
+	 *            Name of the index including the installation prefix
+	 * @param uuidPrefix
+	 *            Only documents with an uuid which starts with the given prefix will be loaded. No filtering will be applied when the prefix is empty
+	 * @param sortFields
+	 *            Fields which are used to sort the documents. The resulting order must match the order of the keys
+	 * @param keyMapper
+	 *            Function which extracts the key from a hit
+	 * @param pageSize
+	 *            Amount of documents per page
+	 */
+	public IndexVersionIterator(SearchClient client, String fullIndexName, String uuidPrefix, List<String> sortFields,
+		Function<JsonObject, String> keyMapper, int pageSize) {
+		this.client = client;
+		this.indexName = fullIndexName;
+		this.keyMapper = keyMapper;
+
+		JsonObject query = new JsonObject();
+		query.put("size", pageSize);
+		query.put("_source", new JsonArray().add("uuid").add("version"));
+		if (uuidPrefix == null || uuidPrefix.isEmpty()) {
+			query.put("query", new JsonObject().put("match_all", new JsonObject()));
+		} else {
+			query.put("query", new JsonObject().put("prefix", new JsonObject().put("uuid", uuidPrefix)));
+		}
+		JsonArray sort = new JsonArray();
+		for (String field : sortFields) {
+			sort.add(new JsonObject().put(field, "asc"));
+		}
+		query.put("sort", sort);
+
+		try {
+			if (log.isDebugEnabled()) {
+				log.debug("Loading sorted document versions from index {" + fullIndexName + "} with prefix {" + uuidPrefix + "}");
+			}
+			handleResponse(client.searchScroll(query, SCROLL_TIMEOUT, fullIndexName).sync());
+		} catch (HttpErrorException e) {
+			log.error("Error while loading version information from index {" + fullIndexName + "}", e);
+			throw new RuntimeException("Error while loading version information from index {" + fullIndexName + "}", e);
+		}
+	}
+
+	private void handleResponse(JsonObject response) {
+		scrollId = response.getString("_scroll_id");
+		JsonArray hits = response.getJsonObject("hits").getJsonArray("hits");
+		if (hits.size() == 0) {
+			exhausted = true;
+		}
+		currentHits = hits.iterator();
+	}
+
+	@Override
+	public boolean hasNext() {
+		if (currentHits.hasNext()) {
+			return true;
+		}
+		if (exhausted) {
+			return false;
+		}
+		try {
+			handleResponse(client.scroll(scrollId, SCROLL_TIMEOUT).sync());
+		} catch (HttpErrorException e) {
+			log.error("Error while scrolling through index {" + indexName + "}", e);
+			throw new RuntimeException("Error while scrolling through index {" + indexName + "}", e);
+		}
+		return currentHits.hasNext();
+	}
+
+	@Override
+	public Entry<String, String> next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		JsonObject hit = (JsonObject) currentHits.next();
+		String version = hit.getJsonObject("_source").getString("version");
+		return new SimpleImmutableEntry<>(keyMapper.apply(hit), version);
+	}
+
+	@Override
+	public void close() {
+		if (scrollId == null) {
+			return;
+		}
+		try {
+			// Clearing used scroll in order to free memory in ES
+			client.clearScroll(scrollId).sync();
+		} catch (HttpErrorException e) {
+			log.warn("Could not clear scroll of index {" + indexName + "}", e);
+		}
+		scrollId = null;
+	}
+
+}
@@ -0,0 +1,130 @@
+package com.gentics.mesh.search.index.sync;
+
+import static com.gentics.mesh.core.data.search.SearchQueueEntryAction.DELETE_ACTION;
+import static com.gentics.mesh.core.data.search.SearchQueueEntryAction.STORE_ACTION;
+
+import com.gentics.mesh.core.data.search.SearchQueue;
+import com.gentics.mesh.core.data.search.SearchQueueBatch;
+import com.gentics.mesh.core.data.search.SearchQueueEntryAction;
+import com.gentics.mesh.core.data.search.UpdateDocumentEntry;
+import com.gentics.mesh.search.index.metric.SyncMetric;
+
+/**
+ * {@link VersionDiff.Handler} which turns the found differences into search queue entries. The entries are collected in a batch which is processed once
+ * it reaches the given size. This way the amount of pending entries is bounded regardless of the amount of differences.
+ */
+public class SyncBatchHandler implements VersionDiff.Handler {
+
+	/**
+	 * Factory which creates the search queue entry for a document key.
+	 */
+	@FunctionalInterface
+	public interface EntryFactory {
+
+		/**
+		 * Create the entry for the given document key.
+		 * 
+		 * @param key
+		 *            Key of the document
+		 * @param action
+		 *            Action of the entry
+		 * @return
+		 */
+		UpdateDocumentEntry create(String key, SearchQueueEntryAction action);
+	}
+
+	private final SearchQueue searchQueue;
+
+	private final SyncMetric metric;
+
+	private final EntryFactory factory;
+
+	private final int batchSize;
+
+	private SearchQueueBatch batch;
+
+	private int pending = 0;
+
+	private long inserts = 0;
+
+	private long deletes = 0;
+
+	private long updates = 0;
+
+	/**
+	 * Create a new handler.
+	 * 
+	 * @param searchQueue
+	 * @param metric
+	 * @param batchSize
+	 *            Amount of entries after which the batch is processed
+	 * @param factory
+	 */
+	public SyncBatchHandler(SearchQueue searchQueue, SyncMetric metric, int batchSize, EntryFactory factory) {
+		this.searchQueue = searchQueue;
+		this.metric = metric;
+		this.batchSize = Math.max(1, batchSize);
+		this.factory = factory;
+		this.batch = searchQueue.create();
+	}
+
+	@Override
+	public void onlyInSource(String key) {
+		metric.incInsert(1);
+		inserts++;
+		UpdateDocumentEntry entry = factory.create(key, STORE_ACTION);
+		entry.setOnProcessAction(metric::decInsert);
+		add(entry);
+	}
+
+	@Override
+	public void onlyInSink(String key) {
+		metric.incDelete(1);
+		deletes++;
+		UpdateDocumentEntry entry = factory.create(key, DELETE_ACTION);
+		entry.setOnProcessAction(metric::decDelete);
+		add(entry);
+	}
+
+	@Override
+	public void differing(String key) {
+		metric.incUpdate(1);
+		updates++;
+		UpdateDocumentEntry entry = factory.create(key, STORE_ACTION);
+		entry.setOnProcessAction(metric::decUpdate);
+		add(entry);
+	}
+
+	private void add(UpdateDocumentEntry entry) {
+		batch.addEntry(entry);
+		pending++;
+		if (pending >= batchSize) {
+			flush();
+		}
+	}
+
+	/**
+	 * Process the currently collected entries and block until they have been applied.
+	 */
+	public void flush() {
+		if (pending == 0) {
+			return;
+		}
+		batch.processSync();
+		batch = searchQueue.create();
+		pending = 0;
+	}
+
+	public long getInserts() {
+		return inserts;
+	}
+
+	public long getDeletes() {
+		return deletes;
+	}
+
+	public long getUpdates() {
+		return updates;
+	}
+
+}
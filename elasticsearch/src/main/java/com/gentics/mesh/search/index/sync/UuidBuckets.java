@@ -0,0 +1,54 @@
+package com.gentics.mesh.search.index.sync;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Helper which splits the uuid key space into buckets of uuid prefixes. The buckets are used to limit the amount of versions which need to be loaded from
+ * the graph at once during the index sync.
+ */
+public final class UuidBuckets {
+
+	public static final int MAX_PREFIX_LENGTH = 4;
+
+	private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+	private UuidBuckets() {
+	}
+
+	/**
+	 * Return the sorted uuid prefixes which split the given amount of elements into buckets which contain roughly the given maximum amount of elements.
+	 * 
+	 * @param count
+	 *            Total amount of elements
+	 * @param maxBucketSize
+	 *            Maximum amount of elements per bucket
+	 * @return Sorted list of prefixes. A list which only contains the empty prefix is returned if no split is needed
+	 */
+	public static List<String> prefixes(long count, int maxBucketSize) {
+		int length = 0;
+		long buckets = 1;
+		while (count > buckets * maxBucketSize && length < MAX_PREFIX_LENGTH) {
+			length++;
+			buckets *= HEX.length;
+		}
+		if (length == 0) {
+			return Collections.singletonList("");
+		}
+		List<String> prefixes = new ArrayList<>((int) buckets);
+		addPrefixes(prefixes, "", length);
+		return prefixes;
+	}
+
+	private static void addPrefixes(List<String> prefixes, String prefix, int remaining) {
+		if (remaining == 0) {
+			prefixes.add(prefix);
+			return;
+		}
+		for (char c : HEX) {
+			addPrefixes(prefixes, prefix + c, remaining - 1);
+		}
+	}
+
+}
@@ -0,0 +1,92 @@
+package com.gentics.mesh.search.index.sync;
+
+import java.util.Iterator;
+import java.util.Map.Entry;
+import java.util.Objects;
+
+/**
+ * Merge diff for two streams of document versions. Both streams must be sorted by the document key in ascending order. The diff only holds the current
+ * element of each stream and thus needs constant memory regardless of the size of the streams.
+ */
+public final class VersionDiff {
+
+	/**
+	 * Handler which is invoked for each difference that was found.
+	 */
+	public interface Handler {
+
+		/**
+		 * Invoked for keys which only exist in the source (graph) and need to be inserted into the sink (index).
+		 * 
+		 * @param key
+		 */
+		void onlyInSource(String key);
+
+		/**
+		 * Invoked for keys which only exist in the sink and need to be removed.
+		 * 
+		 * @param key
+		 */
+		void onlyInSink(String key);
+
+		/**
+		 * Invoked for keys which exist in both streams but have different versions.
+		 * 
+		 * @param key
+		 */
+		void differing(String key);
+	}
+
+	private VersionDiff() {
+	}
+
+	/**
+	 * Diff the given sorted streams of key/version entries.
+	 * 
+	 * @param source
+	 *            Sorted versions of the source of truth
+	 * @param sink
+	 *            Sorted versions of the sink
+	 * @param handler
+	 *            Handler which will be invoked for the found differences
+	 * @return Amount of found differences
+	 */
+	public static long diff(Iterator<? extends Entry<String, String>> source, Iterator<? extends Entry<String, String>> sink, Handler handler) {
+		long differences = 0;
+		Entry<String, String> left = next(source);
+		Entry<String, String> right = next(sink);
+		while (left != null || right != null) {
+			int cmp;
+			if (left == null) {
+				cmp = 1;
+			} else if (right == null) {
+				cmp = -1;
+			} else {
+				cmp = left.getKey().compareTo(right.getKey());
+			}
+
+			if (cmp < 0) {
+				handler.onlyInSource(left.getKey());
+				differences++;
+				left = next(source);
+			} else if (cmp > 0) {
+				handler.onlyInSink(right.getKey());
+				differences++;
+				right = next(sink);
+			} else {
+				if (!Objects.equals(left.getValue(), right.getValue())) {
+					handler.differing(left.getKey());
+					differences++;
+				}
+				left = next(source);
+				right = next(sink);
+			}
+		}
+		return differences;
+	}
+
+	private static <T> T next(Iterator<? extends T> it) {
+		return it.hasNext() ? it.next() : null;
+	}
+
+}
@@ -13,6 +13,7 @@ import com.gentics.mesh.core.data.search.IndexHandler;
 import com.gentics.mesh.search.IndexHandlerRegistry;
 import com.gentics.mesh.search.SearchProvider;
 import com.gentics.mesh.search.index.metric.SyncMetric;
+import com.gentics.mesh.search.index.sync.IndexSyncScheduler;
 import com.gentics.mesh.verticle.AbstractJobVerticle;
 
 import dagger.Lazy;
@@ -33,21 +34,52 @@ public class ElasticsearchSyncVerticle extends AbstractJobVerticle {
 
 	public static final String GLOBAL_SYNC_LOCK_NAME = "mesh.internal.synclock";
 
+	/**
+	 * Key of the sync event payload which contains the id of the interrupted sync run which should be resumed.
+	 */
+	public static final String SYNC_ID_KEY = "syncId";
+
 	private Lazy<IndexHandlerRegistry> registry;
 
 	private SearchProvider provider;
 
+	private IndexSyncScheduler syncScheduler;
+
 	/**
-	 * Send the index sync event which will trigger the index sync job.
+	 * Key of the sync event payload which defines whether an interrupted sync run may be resumed. Interrupted runs are resumed by default.
+	 */
+	public static final String RESUME_KEY = "resume";
+
+	/**
+	 * Send the index sync event which will trigger the index sync job. The job will resume the last sync run if it has been interrupted.
 	 */
 	public static void invokeSync() {
 		Mesh.mesh().getVertx().eventBus().send(INDEX_SYNC_WORKER_ADDRESS, null);
 	}
 
+	/**
+	 * Send the index sync event which will trigger the index sync job. The job will start a new sync run which syncs all indices even if the last sync run
+	 * has been interrupted.
+	 */
+	public static void invokeFullSync() {
+		Mesh.mesh().getVertx().eventBus().send(INDEX_SYNC_WORKER_ADDRESS, new JsonObject().put(RESUME_KEY, false));
+	}
+
+	/**
+	 * Send the index sync event which will resume the interrupted sync run with the given id. A new sync run will be started if the checkpoint of the run is
+	 * no longer available.
+	 * 
+	 * @param syncId
+	 */
+	public static void resumeSync(String syncId) {
+		Mesh.mesh().getVertx().eventBus().send(INDEX_SYNC_WORKER_ADDRESS, new JsonObject().put(SYNC_ID_KEY, syncId));
+	}
+
 	@Inject
-	public ElasticsearchSyncVerticle(Lazy<IndexHandlerRegistry> registry, SearchProvider provider) {
+	public ElasticsearchSyncVerticle(Lazy<IndexHandlerRegistry> registry, SearchProvider provider, IndexSyncScheduler syncScheduler) {
 		this.registry = registry;
 		this.provider = provider;
+		this.syncScheduler = syncScheduler;
 	}
 
 	public String getJobAdress() {
@@ -60,19 +92,31 @@ public class ElasticsearchSyncVerticle extends AbstractJobVerticle {
 	}
 
 	/**
-	 * Execute the index sync job.
+	 * Execute the index sync job. The indices are synced concurrently via the {@link IndexSyncScheduler}. A job which resumes an interrupted sync run will only
+	 * sync the indices which were not yet synced by that run. The run whose checkpoint is stored will be resumed unless the event requests a specific run or
+	 * a new run.
 	 */
 	public Completable executeJob(Message<Object> message) {
 		return Completable.fromAction(() -> {
-			log.info("Processing index sync job.");
+			Object body = message.body();
+			JsonObject payload = body instanceof JsonObject ? (JsonObject) body : new JsonObject();
+			String resumeSyncId = payload.getString(SYNC_ID_KEY);
+			if (resumeSyncId == null && payload.getBoolean(RESUME_KEY, true)) {
+				// The checkpoint is only stored while a run has not yet finished
+				resumeSyncId = syncScheduler.getCheckpointSyncId();
+			}
 			SyncMetric.reset();
+			String syncId = syncScheduler.begin(resumeSyncId);
+			log.info("Processing index sync job {" + syncId + "}.");
 		})
 			.andThen(purgeOldIndices())
 			.andThen(syncIndices())
 			.andThen(provider.refreshIndex()).doOnComplete(() -> {
+				syncScheduler.finish();
 				log.info("Sync completed");
 				vertx.eventBus().publish(Events.INDEX_SYNC_EVENT, new JsonObject().put("status", "completed"));
 			}).doOnError(error -> {
+				syncScheduler.abort();
 				log.error("Sync failed", error);
 				vertx.eventBus().publish(Events.INDEX_SYNC_EVENT, new JsonObject().put("status", "failed"));
 			});
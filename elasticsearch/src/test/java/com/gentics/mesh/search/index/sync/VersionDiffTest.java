@@ -0,0 +1,73 @@
+package com.gentics.mesh.search.index.sync;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeMap;
+
+import org.junit.Test;
+
+public class VersionDiffTest {
+
+	@Test
+	public void testDiff() {
+		TreeMap<String, String> source = new TreeMap<>();
+		source.put("a", "1");
+		source.put("b", "1");
+		source.put("d", "2");
+		source.put("f", "1");
+
+		TreeMap<String, String> sink = new TreeMap<>();
+		sink.put("b", "1");
+		sink.put("c", "1");
+		sink.put("d", "1");
+		sink.put("g", "1");
+
+		List<String> inserts = new ArrayList<>();
+		List<String> deletes = new ArrayList<>();
+		List<String> updates = new ArrayList<>();
+		long differences = VersionDiff.diff(source.entrySet().iterator(), sink.entrySet().iterator(), new VersionDiff.Handler() {
+			@Override
+			public void onlyInSource(String key) {
+				inserts.add(key);
+			}
+
+			@Override
+			public void onlyInSink(String key) {
+				deletes.add(key);
+			}
+
+			@Override
+			public void differing(String key) {
+				updates.add(key);
+			}
+		});
+
+		assertEquals(5, differences);
+		assertEquals(Arrays.asList("a", "f"), inserts);
+		assertEquals(Arrays.asList("c", "g"), deletes);
+		assertEquals(Arrays.asList("d"), updates);
+	}
+
+	@Test
+	public void testBuckets() {
+		assertEquals(Arrays.asList(""), UuidBuckets.prefixes(0, 100));
+		assertEquals(Arrays.asList(""), UuidBuckets.prefixes(100, 100));
+
+		List<String> prefixes = UuidBuckets.prefixes(101, 100);
+		assertEquals(16, prefixes.size());
+		assertEquals("0", prefixes.get(0));
+		assertEquals("f", prefixes.get(15));
+
+		prefixes = UuidBuckets.prefixes(1601, 100);
+		assertEquals(256, prefixes.size());
+		assertEquals("00", prefixes.get(0));
+		assertEquals("ff", prefixes.get(255));
+
+		// The prefix length is limited
+		assertEquals(65536, UuidBuckets.prefixes(Long.MAX_VALUE, 1).size());
+	}
+
+}
@@ -0,0 +1,61 @@
+package com.gentics.mesh.core.node;
+
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
+import static com.gentics.mesh.test.performance.StopWatch.loggingStopWatch;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import com.gentics.mesh.core.cache.PermissionStore;
+import com.gentics.mesh.core.data.relationship.GraphPermission;
+import com.gentics.mesh.test.performance.StopWatchLogger;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Compares the lookup performance of the {@link PermissionStore} with the previously used string based cache keys.
+ */
+public class PermissionStorePerformanceTest {
+
+	private static final int ELEMENT_COUNT = 50_000;
+
+	private static final int LOOKUP_STEPS = 200;
+
+	private StopWatchLogger logger = StopWatchLogger.logger(getClass());
+
+	@Test
+	public void testPerformance() {
+		String userId = "#10:1";
+		String[] elementIds = new String[ELEMENT_COUNT];
+		for (int i = 0; i < ELEMENT_COUNT; i++) {
+			elementIds[i] = "#20:" + i;
+		}
+
+		Cache<String, Boolean> stringCache = Caffeine.newBuilder().maximumSize(100_000).expireAfterWrite(30, TimeUnit.MINUTES).build();
+		PermissionStore.invalidate(false);
+		for (String elementId : elementIds) {
+			stringCache.put(stringKey(userId, READ_PERM, elementId), true);
+			PermissionStore.store(userId, READ_PERM, elementId);
+		}
+
+		loggingStopWatch(logger, "permissionstore.string-key-lookup", LOOKUP_STEPS, (step) -> {
+			for (String elementId : elementIds) {
+				Boolean perm = stringCache.getIfPresent(stringKey(userId, READ_PERM, elementId));
+				assertTrue(perm != null && perm);
+			}
+		});
+
+		loggingStopWatch(logger, "permissionstore.composite-key-lookup", LOOKUP_STEPS, (step) -> {
+			for (String elementId : elementIds) {
+				assertTrue(PermissionStore.hasPermission(userId, READ_PERM, elementId));
+			}
+		});
+		PermissionStore.invalidate(false);
+	}
+
+	private static String stringKey(Object userId, GraphPermission permission, Object elementId) {
+		return userId + "-" + permission.ordinal() + "-" + elementId;
+	}
+}
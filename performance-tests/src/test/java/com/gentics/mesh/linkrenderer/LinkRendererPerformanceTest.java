@@ -0,0 +1,67 @@
+package com.gentics.mesh.linkrenderer;
+
+import static com.gentics.mesh.test.TestSize.FULL;
+import static com.gentics.mesh.test.performance.StopWatch.loggingStopWatch;
+
+import org.junit.Test;
+
+import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.data.ContainerType;
+import com.gentics.mesh.core.link.WebRootLinkReplacer;
+import com.gentics.mesh.parameter.LinkType;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+import com.gentics.mesh.test.performance.StopWatchLogger;
+import com.syncleus.ferma.tx.Tx;
+
+@MeshTestSetting(useElasticsearch = false, testSize = FULL, startServer = false)
+public class LinkRendererPerformanceTest extends AbstractMeshTest {
+
+	private StopWatchLogger logger = StopWatchLogger.logger(getClass());
+
+	/**
+	 * Create HTML content which contains the given amount of links. The links reference the given nodes in turn.
+	 * 
+	 * @param linkCount
+	 * @param uuids
+	 * @return
+	 */
+	private String createContent(int linkCount, String... uuids) {
+		StringBuilder builder = new StringBuilder();
+		builder.append("<html><body>");
+		for (int i = 0; i < linkCount; i++) {
+			builder.append("<p>Some text in front of link ").append(i).append(" <a href=\"{{mesh.link('").append(uuids[i % uuids.length])
+				.append("', 'en')}}\">Link</a></p>");
+		}
+		builder.append("</body></html>");
+		return builder.toString();
+	}
+
+	@Test
+	public void testReplace() {
+		WebRootLinkReplacer replacer = meshDagger().webRootLinkReplacer();
+		try (Tx tx = tx()) {
+			String branchUuid = project().getLatestBranch().getUuid();
+			String[] uuids = new String[] { content("news overview").getUuid(), folder("2015").getUuid(), folder("deals").getUuid() };
+			String small = createContent(3, uuids);
+			String large = createContent(2000, uuids);
+			String noLinks = large.replaceAll("\\{\\{mesh\\.link\\([^)]*\\)\\}\\}", "/static");
+
+			loggingStopWatch(logger, "linkrenderer.replace-small", 10_000, (step) -> {
+				InternalActionContext ac = mockActionContext();
+				replacer.replace(ac, branchUuid, ContainerType.DRAFT, small, LinkType.FULL, null, null);
+			});
+
+			loggingStopWatch(logger, "linkrenderer.replace-large", 100, (step) -> {
+				InternalActionContext ac = mockActionContext();
+				replacer.replace(ac, branchUuid, ContainerType.DRAFT, large, LinkType.FULL, null, null);
+			});
+
+			loggingStopWatch(logger, "linkrenderer.replace-large-without-links", 1000, (step) -> {
+				InternalActionContext ac = mockActionContext();
+				replacer.replace(ac, branchUuid, ContainerType.DRAFT, noLinks, LinkType.FULL, null, null);
+			});
+		}
+	}
+
+}
@@ -0,0 +1,7 @@
+package com.gentics.mesh.parameter.client;
+
+import com.gentics.mesh.parameter.SearchParameters;
+
+public class SearchParametersImpl extends AbstractParameters implements SearchParameters {
+
+}
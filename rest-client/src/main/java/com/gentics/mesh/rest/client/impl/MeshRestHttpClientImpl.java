@@ -13,6 +13,7 @@ import java.util.stream.Collectors;
 import com.gentics.mesh.core.rest.MeshServerInfoModel;
 import com.gentics.mesh.core.rest.admin.cluster.ClusterStatusResponse;
 import com.gentics.mesh.core.rest.admin.consistency.ConsistencyCheckResponse;
+import com.gentics.mesh.core.rest.admin.metric.TransactionMetricsResponse;
 import com.gentics.mesh.core.rest.admin.status.MeshStatusResponse;
 import com.gentics.mesh.core.rest.branch.BranchCreateRequest;
 import com.gentics.mesh.core.rest.branch.BranchListResponse;
@@ -1026,6 +1027,11 @@ public class MeshRestHttpClientImpl extends AbstractMeshRestHttpClient {
 		return prepareRequest(GET, "/admin/cluster/status", ClusterStatusResponse.class);
 	}
 
+	@Override
+	public MeshRequest<TransactionMetricsResponse> transactionMetrics() {
+		return prepareRequest(GET, "/admin/metrics/transactions", TransactionMetricsResponse.class);
+	}
+
 	@Override
 	public MeshRequest<NodeResponse> updateNodeBinaryField(String projectName, String nodeUuid, String languageTag, String version, String fieldKey,
 		Buffer fileData, String fileName, String contentType, ParameterProvider... parameters) {
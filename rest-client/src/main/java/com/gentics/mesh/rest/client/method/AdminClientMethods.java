@@ -2,6 +2,7 @@ package com.gentics.mesh.rest.client.method;
 
 import com.gentics.mesh.core.rest.admin.cluster.ClusterStatusResponse;
 import com.gentics.mesh.core.rest.admin.consistency.ConsistencyCheckResponse;
+import com.gentics.mesh.core.rest.admin.metric.TransactionMetricsResponse;
 import com.gentics.mesh.core.rest.admin.status.MeshStatusResponse;
 import com.gentics.mesh.core.rest.common.GenericMessageResponse;
 import com.gentics.mesh.rest.client.MeshRequest;
@@ -25,6 +26,13 @@ public interface AdminClientMethods {
 	 */
 	MeshRequest<ClusterStatusResponse> clusterStatus();
 
+	/**
+	 * Return the transaction metrics of the graph database.
+	 * 
+	 * @return
+	 */
+	MeshRequest<TransactionMetricsResponse> transactionMetrics();
+
 	/**
 	 * Invoke a graph database backup.
 	 * 
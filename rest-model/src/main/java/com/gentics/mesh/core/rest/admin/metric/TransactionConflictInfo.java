@@ -0,0 +1,47 @@
+package com.gentics.mesh.core.rest.admin.metric;
+
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import com.gentics.mesh.core.rest.common.RestModel;
+
+/**
+ * Information about an element which caused transaction conflicts.
+ */
+public class TransactionConflictInfo implements RestModel {
+
+	@JsonPropertyDescription("Id of the graph element which caused the conflicts.")
+	private String elementId;
+
+	@JsonPropertyDescription("Type of the graph element.")
+	private String type;
+
+	@JsonPropertyDescription("Amount of conflicts which were caused by the element.")
+	private long conflicts;
+
+	public String getElementId() {
+		return elementId;
+	}
+
+	public TransactionConflictInfo setElementId(String elementId) {
+		this.elementId = elementId;
+		return this;
+	}
+
+	public String getType() {
+		return type;
+	}
+
+	public TransactionConflictInfo setType(String type) {
+		this.type = type;
+		return this;
+	}
+
+	public long getConflicts() {
+		return conflicts;
+	}
+
+	public TransactionConflictInfo setConflicts(long conflicts) {
+		this.conflicts = conflicts;
+		return this;
+	}
+
+}
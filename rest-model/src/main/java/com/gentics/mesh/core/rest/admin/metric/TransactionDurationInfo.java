@@ -0,0 +1,59 @@
+package com.gentics.mesh.core.rest.admin.metric;
+
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import com.gentics.mesh.core.rest.common.RestModel;
+
+/**
+ * Duration statistics of a transaction metric. All values are in milliseconds.
+ */
+public class TransactionDurationInfo implements RestModel {
+
+	@JsonPropertyDescription("Mean duration in milliseconds.")
+	private double mean;
+
+	@JsonPropertyDescription("95th percentile of the duration in milliseconds.")
+	private double p95;
+
+	@JsonPropertyDescription("99th percentile of the duration in milliseconds.")
+	private double p99;
+
+	@JsonPropertyDescription("Maximum duration in milliseconds.")
+	private double max;
+
+	public double getMean() {
+		return mean;
+	}
+
+	public TransactionDurationInfo setMean(double mean) {
+		this.mean = mean;
+		return this;
+	}
+
+	public double getP95() {
+		return p95;
+	}
+
+	public TransactionDurationInfo setP95(double p95) {
+		this.p95 = p95;
+		return this;
+	}
+
+	public double getP99() {
+		return p99;
+	}
+
+	public TransactionDurationInfo setP99(double p99) {
+		this.p99 = p99;
+		return this;
+	}
+
+	public double getMax() {
+		return max;
+	}
+
+	public TransactionDurationInfo setMax(double max) {
+		this.max = max;
+		return this;
+	}
+
+}
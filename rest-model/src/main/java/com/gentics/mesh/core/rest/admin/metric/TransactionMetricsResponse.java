@@ -0,0 +1,138 @@
+package com.gentics.mesh.core.rest.admin.metric;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import com.gentics.mesh.core.rest.common.RestModel;
+
+/**
+ * Response which contains the transaction metrics of the graph database.
+ */
+public class TransactionMetricsResponse implements RestModel {
+
+	@JsonPropertyDescription("Amount of transactions which were executed.")
+	private long count;
+
+	@JsonPropertyDescription("Duration of the transactions including all retries.")
+	private TransactionDurationInfo duration;
+
+	@JsonPropertyDescription("Duration of the transaction commits.")
+	private TransactionDurationInfo commit;
+
+	@JsonPropertyDescription("Amount of asynchronous transactions which were executed.")
+	private long asyncCount;
+
+	@JsonPropertyDescription("Duration of the asynchronous transactions including the time which was spent waiting for a worker thread.")
+	private TransactionDurationInfo asyncDuration;
+
+	@JsonPropertyDescription("Total amount of retries.")
+	private long retries;
+
+	@JsonPropertyDescription("Maximum amount of retries which a single transaction needed.")
+	private long maxRetries;
+
+	@JsonPropertyDescription("Amount of transactions which failed because the retry limit was reached.")
+	private long retriesExhausted;
+
+	@JsonPropertyDescription("Total amount of conflicts which were caused by concurrent modifications.")
+	private long conflicts;
+
+	@JsonPropertyDescription("Amount of recorded conflicts per element type.")
+	private Map<String, Long> conflictsPerType = new LinkedHashMap<>();
+
+	@JsonPropertyDescription("Elements which caused the most conflicts.")
+	private List<TransactionConflictInfo> hotspots = new ArrayList<>();
+
+	public long getCount() {
+		return count;
+	}
+
+	public TransactionMetricsResponse setCount(long count) {
+		this.count = count;
+		return this;
+	}
+
+	public TransactionDurationInfo getDuration() {
+		return duration;
+	}
+
+	public TransactionMetricsResponse setDuration(TransactionDurationInfo duration) {
+		this.duration = duration;
+		return this;
+	}
+
+	public TransactionDurationInfo getCommit() {
+		return commit;
+	}
+
+	public TransactionMetricsResponse setCommit(TransactionDurationInfo commit) {
+		this.commit = commit;
+		return this;
+	}
+
+	public long getAsyncCount() {
+		return asyncCount;
+	}
+
+	public TransactionMetricsResponse setAsyncCount(long asyncCount) {
+		this.asyncCount = asyncCount;
+		return this;
+	}
+
+	public TransactionDurationInfo getAsyncDuration() {
+		return asyncDuration;
+	}
+
+	public TransactionMetricsResponse setAsyncDuration(TransactionDurationInfo asyncDuration) {
+		this.asyncDuration = asyncDuration;
+		return this;
+	}
+
+	public long getRetries() {
+		return retries;
+	}
+
+	public TransactionMetricsResponse setRetries(long retries) {
+		this.retries = retries;
+		return this;
+	}
+
+	public long getMaxRetries() {
+		return maxRetries;
+	}
+
+	public TransactionMetricsResponse setMaxRetries(long maxRetries) {
+		this.maxRetries = maxRetries;
+		return this;
+	}
+
+	public long getRetriesExhausted() {
+		return retriesExhausted;
+	}
+
+	public TransactionMetricsResponse setRetriesExhausted(long retriesExhausted) {
+		this.retriesExhausted = retriesExhausted;
+		return this;
+	}
+
+	public long getConflicts() {
+		return conflicts;
+	}
+
+	public TransactionMetricsResponse setConflicts(long conflicts) {
+		this.conflicts = conflicts;
+		return this;
+	}
+
+	public Map<String, Long> getConflictsPerType() {
+		return conflictsPerType;
+	}
+
+	public List<TransactionConflictInfo> getHotspots() {
+		return hotspots;
+	}
+
+}
@@ -20,6 +20,10 @@ public class GraphQLRequest implements RestModel {
 	@JsonPropertyDescription("JSON object which contains the variables.")
 	private JsonObject variables;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Flag which enables the cost analysis. The estimated cost and the resolver timings of the query will be returned in the extensions of the response.")
+	private Boolean analyzeCost;
+
 	/**
 	 * Return the GraphQL query.
 	 * 
@@ -77,4 +81,24 @@ public class GraphQLRequest implements RestModel {
 		this.variables = variables;
 		return this;
 	}
+
+	/**
+	 * Return the cost analysis flag.
+	 * 
+	 * @return
+	 */
+	public Boolean getAnalyzeCost() {
+		return analyzeCost;
+	}
+
+	/**
+	 * Set the cost analysis flag. The estimated cost and the resolver timings will be returned in the extensions of the response when enabled.
+	 * 
+	 * @param analyzeCost
+	 * @return Fluent API
+	 */
+	public GraphQLRequest setAnalyzeCost(Boolean analyzeCost) {
+		this.analyzeCost = analyzeCost;
+		return this;
+	}
 }
@@ -21,6 +21,10 @@ public class GraphQLResponse implements RestModel {
 	@JsonPropertyDescription("Array of errors which were encoutered when handling the query.")
 	private List<GraphQLError> errors;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("JSON object which contains the estimated cost and the resolver timings of the query. The object is only set when the cost analysis was requested.")
+	private JsonObject extensions;
+
 	/**
 	 * Return the response data.
 	 * 
@@ -58,4 +62,24 @@ public class GraphQLResponse implements RestModel {
 	public void setErrors(List<GraphQLError> errors) {
 		this.errors = errors;
 	}
+
+	/**
+	 * Return the extensions of the response.
+	 * 
+	 * @return
+	 */
+	public JsonObject getExtensions() {
+		return extensions;
+	}
+
+	/**
+	 * Set the extensions of the response.
+	 * 
+	 * @param extensions
+	 * @return Fluent API
+	 */
+	public GraphQLResponse setExtensions(JsonObject extensions) {
+		this.extensions = extensions;
+		return this;
+	}
 }
@@ -58,6 +58,10 @@ public class JobResponse extends AbstractResponse {
 	@JsonPropertyDescription("The completion count of the job. This indicates how many items the job has processed.")
 	private long completionCount;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Amount of items which the job has processed per second.")
+	private Double throughput;
+
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("Name of the Gentics Mesh instance on which the job was executed.")
 	private String nodeName;
@@ -203,6 +207,24 @@ public class JobResponse extends AbstractResponse {
 
 	}
 
+	/**
+	 * Return the amount of elements which were processed per second.
+	 * 
+	 * @return
+	 */
+	public Double getThroughput() {
+		return throughput;
+	}
+
+	/**
+	 * Set the amount of elements which were processed per second.
+	 * 
+	 * @param throughput
+	 */
+	public void setThroughput(Double throughput) {
+		this.throughput = throughput;
+	}
+
 	/**
 	 * Return the name of the Gentics Mesh node on which the job was executed.
 	 * 
@@ -15,6 +15,11 @@ public interface GenericParameters extends ParameterProvider {
 	 */
 	public static final String ETAG_PARAM_KEY = "etag";
 
+	/**
+	 * Query parameter key: {@value #WAIT_FOR_INDEX_PARAM_KEY}
+	 */
+	public static final String WAIT_FOR_INDEX_PARAM_KEY = "waitForIndex";
+
 	/**
 	 * Return the fields which should be included in the response.
 	 * 
@@ -63,4 +68,25 @@ public interface GenericParameters extends ParameterProvider {
 		setParameter(ETAG_PARAM_KEY, String.valueOf(includeEtag));
 		return this;
 	}
+
+	/**
+	 * Return whether the request should wait until the search index has been updated. This is only relevant if asynchronous indexing has been enabled.
+	 * 
+	 * @return
+	 */
+	default boolean isWaitForIndex() {
+		String value = getParameter(WAIT_FOR_INDEX_PARAM_KEY);
+		return Boolean.valueOf(value);
+	}
+
+	/**
+	 * Set the wait for index flag.
+	 * 
+	 * @param waitForIndex
+	 * @return Fluent API
+	 */
+	default GenericParameters setWaitForIndex(boolean waitForIndex) {
+		setParameter(WAIT_FOR_INDEX_PARAM_KEY, String.valueOf(waitForIndex));
+		return this;
+	}
 }
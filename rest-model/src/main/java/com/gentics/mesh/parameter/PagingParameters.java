@@ -9,6 +9,9 @@ public interface PagingParameters extends ParameterProvider {
 	public static final String PER_PAGE_PARAMETER_KEY = "perPage";
 	public static final String SORT_BY_PARAMETER_KEY = "sortBy";
 	public static final String SORT_ORDER_PARAMETER_KEY = "order";
+	public static final String AFTER_PARAMETER_KEY = "after";
+	public static final String COUNT_TOTAL_PARAMETER_KEY = "countTotal";
+	public static final String ESTIMATE_TOTAL_PARAMETER_KEY = "estimateTotal";
 
 	public static final int DEFAULT_PAGE = 1;
 
@@ -56,6 +59,71 @@ public interface PagingParameters extends ParameterProvider {
 		return this;
 	}
 
+	/**
+	 * Return the uuid of the element after which the page should start. The page number will be ignored when a cursor has been set.
+	 * 
+	 * @return Uuid of the last element of the previous page or null if no cursor has been set
+	 */
+	default String getAfter() {
+		return getParameter(AFTER_PARAMETER_KEY);
+	}
+
+	/**
+	 * Set the uuid of the element after which the page should start. This way the elements of the previous pages don't need to be checked again.
+	 * 
+	 * @param uuid
+	 *            Uuid of the last element of the previous page
+	 * @return Fluent API
+	 */
+	default PagingParameters setAfter(String uuid) {
+		setParameter(AFTER_PARAMETER_KEY, uuid);
+		return this;
+	}
+
+	/**
+	 * Check whether the total amount of elements should be determined. The total count and page count are not available if the counting has been disabled
+	 * or if a cursor has been set.
+	 * 
+	 * @return
+	 */
+	default boolean isCountTotal() {
+		String value = getParameter(COUNT_TOTAL_PARAMETER_KEY);
+		return value == null || Boolean.valueOf(value);
+	}
+
+	/**
+	 * Set the flag which controls whether the total amount of elements should be determined. Disabling the count avoids iterating over all elements.
+	 * 
+	 * @param flag
+	 * @return Fluent API
+	 */
+	default PagingParameters setCountTotal(boolean flag) {
+		setParameter(COUNT_TOTAL_PARAMETER_KEY, String.valueOf(flag));
+		return this;
+	}
+
+	/**
+	 * Check whether the total amount of elements may be estimated. Estimates are only used for listings for which a persisted count of the unfiltered
+	 * elements exists.
+	 * 
+	 * @return
+	 */
+	default boolean isEstimateTotal() {
+		return Boolean.valueOf(getParameter(ESTIMATE_TOTAL_PARAMETER_KEY));
+	}
+
+	/**
+	 * Set the flag which controls whether the total amount of elements may be estimated. The estimate is derived from the ratio of visible elements which
+	 * were found while loading the page and avoids iterating over all elements.
+	 * 
+	 * @param flag
+	 * @return Fluent API
+	 */
+	default PagingParameters setEstimateTotal(boolean flag) {
+		setParameter(ESTIMATE_TOTAL_PARAMETER_KEY, String.valueOf(flag));
+		return this;
+	}
+
 	/**
 	 * Return the sort by parameter value.
 	 * 
@@ -107,4 +175,14 @@ public interface PagingParameters extends ParameterProvider {
 		return this;
 	}
 
+	/**
+	 * Return the point in time (see {@link System#nanoTime()}) after which the elements of the page should no longer be iterated. The deadline is not a query
+	 * parameter and can only be set by the server.
+	 * 
+	 * @return Deadline or 0 if no deadline has been set
+	 */
+	default long getDeadline() {
+		return 0;
+	}
+
 }
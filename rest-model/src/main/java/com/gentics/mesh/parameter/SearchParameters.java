@@ -0,0 +1,31 @@
+package com.gentics.mesh.parameter;
+
+public interface SearchParameters extends ParameterProvider {
+
+	/**
+	 * Query parameter key: {@value #SOURCE_PROJECTION_PARAM_KEY}
+	 */
+	public static final String SOURCE_PROJECTION_PARAM_KEY = "sourceProjection";
+
+	/**
+	 * Return whether the search results should directly be created from the indexed documents instead of loading the elements from the graph.
+	 * 
+	 * @return
+	 */
+	default boolean isSourceProjection() {
+		String value = getParameter(SOURCE_PROJECTION_PARAM_KEY);
+		return Boolean.valueOf(value);
+	}
+
+	/**
+	 * Set the source projection flag. When enabled the search results will be created from the indexed documents. This avoids loading the found elements
+	 * but the results will only contain the information which is stored in the search index.
+	 * 
+	 * @param flag
+	 * @return Fluent API
+	 */
+	default SearchParameters setSourceProjection(boolean flag) {
+		setParameter(SOURCE_PROJECTION_PARAM_KEY, String.valueOf(flag));
+		return this;
+	}
+}
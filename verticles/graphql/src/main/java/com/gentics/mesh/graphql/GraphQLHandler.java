@@ -3,25 +3,41 @@ package com.gentics.mesh.graphql;
 import static graphql.GraphQL.newGraphQL;
 import static io.netty.handler.codec.http.HttpResponseStatus.OK;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.syncleus.ferma.tx.Tx;
+import com.gentics.mesh.Mesh;
 import com.gentics.mesh.core.rest.error.PermissionException;
+import com.gentics.mesh.etc.config.GraphQLOptions;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.graphql.context.GraphQLContext;
+import com.gentics.mesh.graphql.instrumentation.QueryBudgetInstrumentation;
+import com.gentics.mesh.graphql.instrumentation.QueryCostCalculator;
+import com.gentics.mesh.graphql.instrumentation.QueryCostCalculator.QueryCost;
 import com.gentics.mesh.graphql.type.QueryTypeProvider;
 import graphql.ExceptionWhileDataFetching;
 import graphql.ExecutionInput;
 import graphql.ExecutionResult;
 import graphql.GraphQL;
 import graphql.GraphQLError;
+import graphql.execution.instrumentation.ChainedInstrumentation;
+import graphql.execution.instrumentation.dataloader.DataLoaderDispatcherInstrumentation;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.language.Document;
 import graphql.language.SourceLocation;
+import graphql.parser.Parser;
+import graphql.schema.GraphQLSchema;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
@@ -32,6 +48,12 @@ public class GraphQLHandler {
 
 	private static final Logger log = LoggerFactory.getLogger(GraphQLHandler.class);
 
+	/**
+	 * Cache for the built GraphQL schemas. The schemas are keyed by the project and the schema versions which were used to build the GraphQL schema.
+	 * Outdated schemas will no longer be used once a schema changes and are eventually evicted.
+	 */
+	private final Cache<String, CachedSchema> graphQLCache = Caffeine.newBuilder().maximumSize(100).expireAfterAccess(1, TimeUnit.HOURS).build();
+
 	@Inject
 	public QueryTypeProvider typeProvider;
 
@@ -54,12 +76,45 @@ public class GraphQLHandler {
 		try (Tx tx = db.tx()) {
 			JsonObject queryJson = new JsonObject(body);
 			String query = queryJson.getString("query");
-			GraphQL graphQL = newGraphQL(typeProvider.getRootSchema(gc)).build();
-			ExecutionInput executionInput = ExecutionInput.newExecutionInput().query(query).context(gc).variables(extractVariables(queryJson))
-					.build();
+			Map<String, Object> variables = extractVariables(queryJson);
+			boolean analyzeCost = Boolean.TRUE.equals(queryJson.getBoolean("analyzeCost"));
+			GraphQLOptions options = Mesh.mesh().getOptions().getGraphQLOptions();
+			if (options == null) {
+				options = new GraphQLOptions();
+			}
+			CachedSchema cachedSchema = getCachedSchema(gc);
+			JsonObject response = new JsonObject();
+
+			// Reject expensive queries before they are executed
+			QueryCost cost = estimateCost(cachedSchema, query, variables);
+			String limitError = checkLimits(cost, options);
+			if (limitError != null) {
+				log.warn("Rejecting query {" + query + "}: " + limitError);
+				response.put("errors", new JsonArray().add(new JsonObject().put("message", limitError).put("type", "QueryLimitExceeded")));
+				if (analyzeCost) {
+					response.put("extensions", createExtensions(cost, null, 0));
+				}
+				gc.send(response.encodePrettily(), OK);
+				return;
+			}
+
+			QueryBudgetInstrumentation budget = new QueryBudgetInstrumentation(options.getExecutionTimeout(), analyzeCost);
+			gc.setDeadline(budget.getDeadline());
+			GraphQL graphQL = newGraphQL(cachedSchema.schema)
+				.preparsedDocumentProvider(cachedSchema.documentCache::get)
+				.instrumentation(new ChainedInstrumentation(Arrays.asList(new DataLoaderDispatcherInstrumentation(gc.getDataLoaderRegistry()), budget)))
+				.build();
+			ExecutionInput executionInput = ExecutionInput.newExecutionInput().query(query).context(gc).variables(variables).build();
+			long start = System.nanoTime();
 			ExecutionResult result = graphQL.execute(executionInput);
+			long duration = System.nanoTime() - start;
 			List<GraphQLError> errors = result.getErrors();
-			JsonObject response = new JsonObject();
+			if (budget.isAborted()) {
+				log.warn("Execution of query {" + query + "} exceeded the time limit of {" + options.getExecutionTimeout() + "} ms");
+				String message = "The execution exceeded the time limit of " + options.getExecutionTimeout()
+					+ " ms. Fields which were not yet resolved have been omitted and lists may be incomplete.";
+				response.put("errors", new JsonArray().add(new JsonObject().put("message", message).put("type", "ExecutionTimeout")));
+			}
 			if (!errors.isEmpty()) {
 				addErrors(errors, response);
 				log.warn("Encountered {" + errors.size() + "} errors while executing query {" + query + "}");
@@ -77,11 +132,103 @@ public class GraphQLHandler {
 				Map<String, Object> data = (Map<String, Object>) result.getData();
 				response.put("data", new JsonObject(data));
 			}
+			if (analyzeCost) {
+				response.put("extensions", createExtensions(cost, budget, duration));
+			}
 			gc.send(response.encodePrettily(), OK);
 		}
 
 	}
 
+	/**
+	 * Return the GraphQL schema for the given context. The schema will be loaded from the cache if it has not changed. Each cached schema also caches the
+	 * parsed and validated documents of the executed queries.
+	 * 
+	 * @param gc
+	 * @return
+	 */
+	private CachedSchema getCachedSchema(GraphQLContext gc) {
+		String key = typeProvider.getRootSchemaKey(gc);
+		return graphQLCache.get(key, k -> {
+			if (log.isDebugEnabled()) {
+				log.debug("Building GraphQL schema for key {" + k + "}");
+			}
+			return new CachedSchema(typeProvider.getRootSchema(gc));
+		});
+	}
+
+	/**
+	 * Estimate the cost of the query. The parsed document will be taken from the document cache if possible.
+	 * 
+	 * @param cachedSchema
+	 * @param query
+	 * @param variables
+	 * @return Estimated cost or null if the query is invalid. Invalid queries will be reported by the execution.
+	 */
+	private QueryCost estimateCost(CachedSchema cachedSchema, String query, Map<String, Object> variables) {
+		if (query == null) {
+			return null;
+		}
+		Document document;
+		PreparsedDocumentEntry entry = cachedSchema.documentCache.getIfPresent(query);
+		if (entry != null) {
+			document = entry.getDocument();
+		} else {
+			try {
+				document = new Parser().parseDocument(query);
+			} catch (Exception e) {
+				return null;
+			}
+		}
+		if (document == null) {
+			return null;
+		}
+		return QueryCostCalculator.calculate(cachedSchema.schema, document, null, variables);
+	}
+
+	/**
+	 * Check whether the estimated cost of the query exceeds the configured limits.
+	 * 
+	 * @param cost
+	 * @param options
+	 * @return Error message or null if the query is within the limits
+	 */
+	private String checkLimits(QueryCost cost, GraphQLOptions options) {
+		if (cost == null) {
+			return null;
+		}
+		if (options.getMaxQueryDepth() > 0 && cost.getDepth() > options.getMaxQueryDepth()) {
+			return "The query depth of " + cost.getDepth() + " exceeds the limit of " + options.getMaxQueryDepth() + ".";
+		}
+		if (options.getMaxQueryCost() > 0 && cost.getCost() > options.getMaxQueryCost()) {
+			return "The estimated query cost of " + cost.getCost() + " exceeds the limit of " + options.getMaxQueryCost() + ".";
+		}
+		return null;
+	}
+
+	/**
+	 * Create the extensions block which contains the estimated cost and the recorded timings of the query.
+	 * 
+	 * @param cost
+	 * @param budget
+	 *            Instrumentation which recorded the timings or null if the query was not executed
+	 * @param duration
+	 *            Execution time in nanoseconds
+	 * @return
+	 */
+	private JsonObject createExtensions(QueryCost cost, QueryBudgetInstrumentation budget, long duration) {
+		JsonObject costInfo = new JsonObject();
+		if (cost != null) {
+			costInfo.put("estimated", cost.getCost());
+			costInfo.put("depth", cost.getDepth());
+		}
+		if (budget != null) {
+			costInfo.put("executionTime", TimeUnit.NANOSECONDS.toMicros(duration) / 1000.0);
+			costInfo.put("fields", budget.getTimings());
+		}
+		return new JsonObject().put("cost", costInfo);
+	}
+
 	/**
 	 * Extracts the variables of a query as a map. Returns empty map if no variables are found.
 	 *
@@ -105,14 +252,22 @@ public class GraphQLHandler {
 	 * @param response
 	 */
 	private void addErrors(List<GraphQLError> errors, JsonObject response) {
-		JsonArray jsonErrors = new JsonArray();
-		response.put("errors", jsonErrors);
+		JsonArray jsonErrors = response.getJsonArray("errors");
+		if (jsonErrors == null) {
+			jsonErrors = new JsonArray();
+			response.put("errors", jsonErrors);
+		}
 		for (GraphQLError error : errors) {
 			JsonObject jsonError = new JsonObject();
 			if (error instanceof ExceptionWhileDataFetching) {
 				ExceptionWhileDataFetching dataError = (ExceptionWhileDataFetching) error;
-				if (dataError.getException() instanceof PermissionException) {
-					PermissionException restException = (PermissionException) dataError.getException();
+				Throwable exception = dataError.getException();
+				// Errors of batched fetchers are wrapped by the future
+				if (exception instanceof CompletionException && exception.getCause() != null) {
+					exception = exception.getCause();
+				}
+				if (exception instanceof PermissionException) {
+					PermissionException restException = (PermissionException) exception;
 					// TODO translate error
 					// TODO add i18n parameters
 					jsonError.put("message", restException.getI18nKey());
@@ -120,7 +275,7 @@ public class GraphQLHandler {
 					jsonError.put("elementId", restException.getElementId());
 					jsonError.put("elementType", restException.getElementType());
 				} else {
-					log.error("Error while fetching data.", dataError.getException());
+					log.error("Error while fetching data.", exception);
 					jsonError.put("message", dataError.getMessage());
 					jsonError.put("type", dataError.getErrorType());
 				}
@@ -141,4 +296,19 @@ public class GraphQLHandler {
 			jsonErrors.add(jsonError);
 		}
 	}
+
+	/**
+	 * Built GraphQL schema and the documents which were parsed and validated against the schema.
+	 */
+	private static class CachedSchema {
+
+		private final GraphQLSchema schema;
+
+		// The validation of the documents depends on the schema and thus the document cache must not be shared
+		private final Cache<String, PreparsedDocumentEntry> documentCache = Caffeine.newBuilder().maximumSize(1000).build();
+
+		CachedSchema(GraphQLSchema schema) {
+			this.schema = schema;
+		}
+	}
 }
@@ -4,6 +4,10 @@ import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.MeshCoreVertex;
 import com.gentics.mesh.core.data.relationship.GraphPermission;
 import com.gentics.mesh.core.rest.error.PermissionException;
+import com.gentics.mesh.graphql.dataloader.NodeDataLoader;
+
+import org.dataloader.DataLoader;
+import org.dataloader.DataLoaderRegistry;
 
 import java.util.function.Supplier;
 
@@ -12,6 +16,8 @@ import java.util.function.Supplier;
  */
 public interface GraphQLContext extends InternalActionContext {
 
+	String DEADLINE_KEY = "deadline";
+
 	/**
 	 * Check whether at least one of the provided permissions is granted. Otherwise a failure {@link PermissionException} will be thrown.
 	 * 
@@ -38,4 +44,45 @@ public interface GraphQLContext extends InternalActionContext {
 		}
 		return value;
 	}
+
+	/**
+	 * Return the registry of the data loaders which are used to batch the loading of referenced nodes for this request.
+	 * 
+	 * @return
+	 */
+	default DataLoaderRegistry getDataLoaderRegistry() {
+		return getOrStore("dataLoaderRegistry", () -> NodeDataLoader.createRegistry(this));
+	}
+
+	/**
+	 * Return the data loader with the given key.
+	 * 
+	 * @param key
+	 *            Key of the loader (e.g. {@link NodeDataLoader#CONTENT_LOADER_KEY})
+	 * @return
+	 */
+	default <K, V> DataLoader<K, V> getDataLoader(String key) {
+		return getDataLoaderRegistry().getDataLoader(key);
+	}
+
+	/**
+	 * Return the point in time (see {@link System#nanoTime()}) at which the execution of the query should be stopped.
+	 * 
+	 * @return Deadline or 0 if no deadline has been set
+	 */
+	default long getDeadline() {
+		Long deadline = get(DEADLINE_KEY);
+		return deadline == null ? 0 : deadline;
+	}
+
+	/**
+	 * Set the point in time (see {@link System#nanoTime()}) at which the execution of the query should be stopped. The deadline will also be used to stop
+	 * the iteration of the loaded pages.
+	 * 
+	 * @param deadline
+	 *            Deadline or 0 to disable the deadline
+	 */
+	default void setDeadline(long deadline) {
+		put(DEADLINE_KEY, deadline);
+	}
 }
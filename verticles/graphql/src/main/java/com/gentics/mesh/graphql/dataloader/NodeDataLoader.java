@@ -0,0 +1,172 @@
+package com.gentics.mesh.graphql.dataloader;
+
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PUBLISHED_PERM;
+import static com.gentics.mesh.core.rest.error.Errors.missingPerm;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.dataloader.DataLoader;
+import org.dataloader.DataLoaderRegistry;
+
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.data.node.NodeContent;
+import com.gentics.mesh.graphql.context.GraphQLContext;
+
+/**
+ * Batch loaders for the contents of nodes which are referenced by other nodes (e.g. parents, breadcrumbs, node fields and node list items). The loaders
+ * are created per request. Loads which are issued while resolving one execution level are collected and resolved together once the level has been
+ * fetched. Each content is only loaded once per request even if it is referenced by many nodes.
+ *
+ * The permissions of the nodes of a batch are checked at once. The content loader does not check permissions. The readable content loader and the parent
+ * loader complete the loads of nodes which can't be read with a permission error. The contents of those nodes are not loaded.
+ */
+public final class NodeDataLoader {
+
+	/**
+	 * Key of the loader which loads the content of a node.
+	 */
+	public static final String CONTENT_LOADER_KEY = "contentLoader";
+
+	/**
+	 * Key of the loader which loads the content of a node if the node can be read by the user.
+	 */
+	public static final String READABLE_CONTENT_LOADER_KEY = "readableContentLoader";
+
+	/**
+	 * Key of the loader which loads the content of the parent node of a node if the parent can be read by the user. The loader returns null for nodes
+	 * without a parent.
+	 */
+	public static final String PARENT_LOADER_KEY = "parentLoader";
+
+	private NodeDataLoader() {
+	}
+
+	/**
+	 * Create a new registry which contains the node loaders for the given request.
+	 *
+	 * @param gc
+	 * @return
+	 */
+	public static DataLoaderRegistry createRegistry(GraphQLContext gc) {
+		DataLoaderRegistry registry = new DataLoaderRegistry();
+		registry.register(CONTENT_LOADER_KEY, new DataLoader<Key, NodeContent>(keys -> completedFuture(loadContents(gc, keys, false))));
+		registry.register(READABLE_CONTENT_LOADER_KEY, new DataLoader<Key, NodeContent>(keys -> completedFuture(loadContents(gc, keys, true))));
+		registry.register(PARENT_LOADER_KEY, new DataLoader<Key, NodeContent>(keys -> completedFuture(loadParents(gc, keys))));
+		return registry;
+	}
+
+	private static List<NodeContent> loadContents(GraphQLContext gc, List<Key> keys, boolean checkPerm) {
+		List<Node> nodes = keys.stream().map(key -> key.node).collect(Collectors.toList());
+		return load(gc, nodes, keys, checkPerm);
+	}
+
+	private static List<NodeContent> loadParents(GraphQLContext gc, List<Key> keys) {
+		String branchUuid = gc.getBranch().getUuid();
+		List<Node> parents = keys.stream().map(key -> key.node.getParentNode(branchUuid)).collect(Collectors.toList());
+		return load(gc, parents, keys, true);
+	}
+
+	/**
+	 * Load the contents of the given nodes. The language fallback of each node is taken from the key at the same position. Siblings share the same parent.
+	 * The content of each node is thus only loaded once per language fallback.
+	 *
+	 * @param gc
+	 * @param nodes
+	 *            Nodes to be loaded. The list may contain null values for which null will be returned.
+	 * @param keys
+	 * @param checkPerm
+	 *            Whether to complete the loads of nodes which can't be read with a permission error
+	 * @return
+	 */
+	private static List<NodeContent> load(GraphQLContext gc, List<Node> nodes, List<Key> keys, boolean checkPerm) {
+		String branchUuid = gc.getBranch().getUuid();
+		String version = gc.getVersioningParameters().getVersion();
+
+		Set<Object> readableIds = null;
+		if (checkPerm) {
+			// Read published permission also includes nodes with read permission
+			List<Object> nodeIds = nodes.stream().filter(Objects::nonNull).map(Node::id).distinct().collect(Collectors.toList());
+			readableIds = gc.getUser().hasPermissionForIds(nodeIds, READ_PUBLISHED_PERM);
+		}
+
+		Map<Key, Object> loaded = new HashMap<>();
+		List<Object> values = new ArrayList<>(keys.size());
+		for (int i = 0; i < keys.size(); i++) {
+			Node node = nodes.get(i);
+			if (node == null) {
+				values.add(null);
+				continue;
+			}
+			List<String> languageTags = keys.get(i).languageTags;
+			Set<Object> readable = readableIds;
+			values.add(loaded.computeIfAbsent(new Key(node, languageTags), nodeKey -> {
+				if (readable != null && !readable.contains(node.id())) {
+					return missingPerm(node.getTypeInfo().getType(), node.getUuid());
+				}
+				return new NodeContent(node, node.findVersion(languageTags, branchUuid, version), languageTags);
+			}));
+		}
+		return withErrors(values);
+	}
+
+	/**
+	 * The data loader completes the load of a key exceptionally if the batch function returns a {@link Throwable} for the key.
+	 *
+	 * @param values
+	 *            Loaded contents or errors
+	 * @return
+	 */
+	@SuppressWarnings("unchecked")
+	private static List<NodeContent> withErrors(List<Object> values) {
+		return (List<NodeContent>) (List<?>) values;
+	}
+
+	/**
+	 * Key of the loaders which references the node and the language fallback that should be used to load the content.
+	 */
+	public static final class Key {
+
+		private final Node node;
+
+		private final String nodeUuid;
+
+		private final List<String> languageTags;
+
+		/**
+		 * Create a new key.
+		 *
+		 * @param node
+		 * @param languageTags
+		 *            Language fallback which is used to load the content
+		 */
+		public Key(Node node, List<String> languageTags) {
+			this.node = node;
+			this.nodeUuid = node.getUuid();
+			this.languageTags = languageTags;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(nodeUuid, languageTags);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return nodeUuid.equals(other.nodeUuid) && Objects.equals(languageTags, other.languageTags);
+		}
+	}
+}
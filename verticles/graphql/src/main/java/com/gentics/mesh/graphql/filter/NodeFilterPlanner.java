@@ -0,0 +1,216 @@
+package com.gentics.mesh.graphql.filter;
+
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
+import static com.gentics.mesh.core.data.relationship.GraphRelationships.ASSIGNED_TO_PROJECT;
+import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_CREATOR;
+import static com.syncleus.ferma.typeresolvers.PolymorphicTypeResolver.TYPE_RESOLUTION_KEY;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.gentics.mesh.core.data.MeshAuthUser;
+import com.gentics.mesh.core.data.Project;
+import com.gentics.mesh.core.data.User;
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.data.node.impl.NodeImpl;
+import com.gentics.mesh.core.data.root.SchemaContainerRoot;
+import com.gentics.mesh.core.data.schema.SchemaContainer;
+import com.gentics.mesh.dagger.MeshInternal;
+import com.gentics.mesh.graphql.context.GraphQLContext;
+import com.syncleus.ferma.FramedGraph;
+import com.syncleus.ferma.tx.Tx;
+import com.tinkerpop.blueprints.Direction;
+import com.tinkerpop.blueprints.Vertex;
+
+/**
+ * Planner which determines the nodes that need to be checked for a {@link NodeFilter}. Selective parts of the filter are resolved via the graph indices
+ * and the edges of the referenced elements so that not all nodes of the project have to be loaded. The planner only reduces the amount of candidates. The
+ * complete filter still needs to be applied to the returned nodes.
+ *
+ * The parts are checked in the following order and the first one that can be used is chosen:
+ * <ol>
+ * <li>uuid (equals, oneOf)</li>
+ * <li>creator (uuid equals)</li>
+ * <li>schema (is, uuid equals, name equals)</li>
+ * </ol>
+ * Only the top level filter and filters nested in <code>and</code> operators are considered since these are combined by a logical and.
+ */
+public final class NodeFilterPlanner {
+
+	private NodeFilterPlanner() {
+	}
+
+	/**
+	 * Return the nodes of the project which could match the given filter. Only nodes for which the user has read permission are returned.
+	 *
+	 * @param gc
+	 * @param filter
+	 *            Filter argument which may be null
+	 * @return Candidate nodes or null if no part of the filter can be resolved via an index
+	 */
+	public static Stream<? extends Node> findCandidates(GraphQLContext gc, Map<String, ?> filter) {
+		if (filter == null) {
+			return null;
+		}
+		List<Map<String, ?>> parts = new ArrayList<>();
+		collectParts(filter, parts);
+
+		for (Map<String, ?> part : parts) {
+			Collection<String> uuids = getStringValues(part.get("uuid"));
+			if (uuids != null) {
+				return findByUuids(gc, uuids);
+			}
+		}
+		for (Map<String, ?> part : parts) {
+			Map<String, ?> creatorFilter = getMap(part.get("creator"));
+			String creatorUuid = creatorFilter == null ? null : getEqualsValue(creatorFilter.get("uuid"));
+			if (creatorUuid != null) {
+				return findByCreator(gc, creatorUuid);
+			}
+		}
+		for (Map<String, ?> part : parts) {
+			Stream<? extends Node> nodes = findBySchema(gc, getMap(part.get("schema")));
+			if (nodes != null) {
+				return nodes;
+			}
+		}
+		return null;
+	}
+
+	private static Stream<? extends Node> findByUuids(GraphQLContext gc, Collection<String> uuids) {
+		MeshAuthUser user = gc.getUser();
+		return uuids.stream()
+			.map(gc.getProject().getNodeRoot()::findByUuid)
+			.filter(Objects::nonNull)
+			.filter(node -> user.hasPermissionForId(node.id(), READ_PERM));
+	}
+
+	private static Stream<? extends Node> findByCreator(GraphQLContext gc, String creatorUuid) {
+		User creator = MeshInternal.get().boot().userRoot().findByUuid(creatorUuid);
+		if (creator == null) {
+			return Stream.empty();
+		}
+		Project project = gc.getProject();
+		MeshAuthUser user = gc.getUser();
+		FramedGraph graph = Tx.getActive().getGraph();
+		String nodeType = NodeImpl.class.getSimpleName();
+		// The creator edge is used by all kinds of elements. Thus the type needs to be checked.
+		return StreamSupport.stream(creator.getVertex().getVertices(Direction.IN, HAS_CREATOR).spliterator(), false)
+			.filter(vertex -> nodeType.equals(vertex.getProperty(TYPE_RESOLUTION_KEY)))
+			.filter(vertex -> isAssignedTo(vertex, project))
+			.filter(vertex -> user.hasPermissionForId(vertex.getId(), READ_PERM))
+			.map(vertex -> graph.frameElementExplicit(vertex, NodeImpl.class));
+	}
+
+	private static Stream<? extends Node> findBySchema(GraphQLContext gc, Map<String, ?> schemaFilter) {
+		if (schemaFilter == null) {
+			return null;
+		}
+		Project project = gc.getProject();
+		SchemaContainerRoot schemaRoot = project.getSchemaContainerRoot();
+		SchemaContainer schema;
+		String uuid = schemaFilter.get("is") instanceof String ? (String) schemaFilter.get("is") : getEqualsValue(schemaFilter.get("uuid"));
+		String name = getEqualsValue(schemaFilter.get("name"));
+		if (uuid != null) {
+			schema = schemaRoot.findByUuid(uuid);
+		} else if (name != null) {
+			schema = schemaRoot.findByName(name);
+		} else {
+			return null;
+		}
+		if (schema == null) {
+			return Stream.empty();
+		}
+		MeshAuthUser user = gc.getUser();
+		// Schemas are shared across projects. Thus the project of the nodes needs to be checked.
+		return StreamSupport.stream(schema.getNodes().spliterator(), false)
+			.filter(node -> isAssignedTo(node.getVertex(), project))
+			.filter(node -> user.hasPermissionForId(node.id(), READ_PERM));
+	}
+
+	/**
+	 * Check whether the node vertex is assigned to the given project.
+	 *
+	 * @param vertex
+	 * @param project
+	 * @return
+	 */
+	private static boolean isAssignedTo(Vertex vertex, Project project) {
+		for (Vertex projectVertex : vertex.getVertices(Direction.OUT, ASSIGNED_TO_PROJECT)) {
+			if (projectVertex.getId().equals(project.id())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Collect the filter and all filters which are nested in <code>and</code> operators.
+	 *
+	 * @param filter
+	 * @param parts
+	 */
+	private static void collectParts(Map<String, ?> filter, List<Map<String, ?>> parts) {
+		parts.add(filter);
+		Object and = filter.get("and");
+		if (and instanceof Collection) {
+			for (Object nested : (Collection<?>) and) {
+				Map<String, ?> nestedFilter = getMap(nested);
+				if (nestedFilter != null) {
+					collectParts(nestedFilter, parts);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Return the values to which the given string filter restricts the result.
+	 *
+	 * @param stringFilter
+	 * @return Values or null if the filter does not restrict the result to a fixed set of values
+	 */
+	private static Collection<String> getStringValues(Object stringFilter) {
+		String equals = getEqualsValue(stringFilter);
+		if (equals != null) {
+			return Collections.singleton(equals);
+		}
+		Map<String, ?> filter = getMap(stringFilter);
+		if (filter != null && filter.get("oneOf") instanceof Collection) {
+			Set<String> values = new LinkedHashSet<>();
+			for (Object value : (Collection<?>) filter.get("oneOf")) {
+				if (value != null) {
+					values.add(value.toString());
+				}
+			}
+			return values;
+		}
+		return null;
+	}
+
+	/**
+	 * Return the value of the equals operation of the given string filter.
+	 *
+	 * @param stringFilter
+	 * @return Value or null if the filter does not use the equals operation
+	 */
+	private static String getEqualsValue(Object stringFilter) {
+		Map<String, ?> filter = getMap(stringFilter);
+		if (filter != null && filter.get("equals") instanceof String) {
+			return (String) filter.get("equals");
+		}
+		return null;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Map<String, ?> getMap(Object value) {
+		return value instanceof Map ? (Map<String, ?>) value : null;
+	}
+}
@@ -0,0 +1,117 @@
+package com.gentics.mesh.graphql.instrumentation;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import graphql.execution.instrumentation.SimpleInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationFieldFetchParameters;
+import graphql.schema.DataFetcher;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Instrumentation which enforces the execution time budget of a query and optionally records the time which was spent in the data fetchers.
+ *
+ * Once the budget has been used up the remaining data fetchers will no longer be invoked and return null instead. This way the execution of an expensive
+ * query is aborted early while the already resolved data is still returned. Pages which are created using the deadline of the budget (see
+ * {@link #getDeadline()}) also stop iterating their elements once the budget has been used up.
+ */
+public class QueryBudgetInstrumentation extends SimpleInstrumentation {
+
+	private final long deadline;
+
+	private final boolean recordTimings;
+
+	private final Map<String, FieldTiming> timings = new ConcurrentHashMap<>();
+
+	private volatile boolean aborted = false;
+
+	/**
+	 * Create a new instrumentation.
+	 *
+	 * @param timeout
+	 *            Execution timeout in milliseconds. No timeout will be applied when set to 0
+	 * @param recordTimings
+	 *            Whether the time spent in the data fetchers should be recorded
+	 */
+	public QueryBudgetInstrumentation(long timeout, boolean recordTimings) {
+		this.deadline = timeout > 0 ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout) : 0;
+		this.recordTimings = recordTimings;
+	}
+
+	@Override
+	public DataFetcher<?> instrumentDataFetcher(DataFetcher<?> dataFetcher, InstrumentationFieldFetchParameters parameters) {
+		if (deadline == 0 && !recordTimings) {
+			return dataFetcher;
+		}
+		return env -> {
+			if (deadline != 0 && System.nanoTime() > deadline) {
+				aborted = true;
+				return null;
+			}
+			if (!recordTimings) {
+				return dataFetcher.get(env);
+			}
+			long start = System.nanoTime();
+			try {
+				return dataFetcher.get(env);
+			} finally {
+				String key = env.getParentType().getName() + "." + parameters.getField().getName();
+				timings.computeIfAbsent(key, k -> new FieldTiming()).record(System.nanoTime() - start);
+			}
+		};
+	}
+
+	/**
+	 * Return the point in time (see {@link System#nanoTime()}) at which the budget is used up.
+	 *
+	 * @return Deadline or 0 if no timeout has been set
+	 */
+	public long getDeadline() {
+		return deadline;
+	}
+
+	/**
+	 * Check whether the execution was aborted because the time budget was used up. The budget is also regarded as used up when the deadline passed during
+	 * the execution since pages may have stopped the iteration of their elements.
+	 *
+	 * @return
+	 */
+	public boolean isAborted() {
+		return aborted || (deadline != 0 && System.nanoTime() > deadline);
+	}
+
+	/**
+	 * Return the recorded timings. The timings are grouped by the type and name of the fields.
+	 *
+	 * @return JSON object which contains the invocation count and the total time in milliseconds per field
+	 */
+	public JsonObject getTimings() {
+		JsonObject json = new JsonObject();
+		timings.entrySet().stream()
+			.sorted((a, b) -> Long.compare(b.getValue().time.get(), a.getValue().time.get()))
+			.forEach(entry -> {
+				FieldTiming timing = entry.getValue();
+				json.put(entry.getKey(), new JsonObject()
+					.put("count", timing.count.get())
+					.put("time", TimeUnit.NANOSECONDS.toMicros(timing.time.get()) / 1000.0));
+			});
+		return json;
+	}
+
+	/**
+	 * Accumulated invocations of a data fetcher.
+	 */
+	private static class FieldTiming {
+
+		private final AtomicLong count = new AtomicLong();
+
+		private final AtomicLong time = new AtomicLong();
+
+		void record(long nanos) {
+			count.incrementAndGet();
+			time.addAndGet(nanos);
+		}
+	}
+}
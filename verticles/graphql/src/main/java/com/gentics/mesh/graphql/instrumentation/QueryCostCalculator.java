@@ -0,0 +1,251 @@
+package com.gentics.mesh.graphql.instrumentation;
+
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import graphql.language.Argument;
+import graphql.language.Definition;
+import graphql.language.Document;
+import graphql.language.Field;
+import graphql.language.FragmentDefinition;
+import graphql.language.FragmentSpread;
+import graphql.language.InlineFragment;
+import graphql.language.IntValue;
+import graphql.language.OperationDefinition;
+import graphql.language.Selection;
+import graphql.language.SelectionSet;
+import graphql.language.Value;
+import graphql.language.VariableReference;
+import graphql.schema.GraphQLFieldDefinition;
+import graphql.schema.GraphQLFieldsContainer;
+import graphql.schema.GraphQLList;
+import graphql.schema.GraphQLModifiedType;
+import graphql.schema.GraphQLOutputType;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.GraphQLType;
+
+/**
+ * Estimates the cost of a GraphQL query before it is executed. The cost model is based on the amount of fields which need to be resolved:
+ * <ul>
+ * <li>Each scalar field costs {@link #SCALAR_FIELD_WEIGHT} and each field which resolves an element costs {@link #ELEMENT_FIELD_WEIGHT}.</li>
+ * <li>The cost of the sub selection of a paging field (a field with a <code>perPage</code> argument) is multiplied by the requested page size or by
+ * {@link #DEFAULT_PAGE_SIZE} if no page size was requested.</li>
+ * <li>The cost of the sub selection of other list fields is multiplied by {@link #DEFAULT_LIST_SIZE}.</li>
+ * </ul>
+ * Introspection fields are counted as a single field.
+ */
+public final class QueryCostCalculator {
+
+	public static final long SCALAR_FIELD_WEIGHT = 1;
+
+	public static final long ELEMENT_FIELD_WEIGHT = 2;
+
+	public static final long DEFAULT_PAGE_SIZE = 100;
+
+	public static final long DEFAULT_LIST_SIZE = 10;
+
+	private static final String PER_PAGE_ARGUMENT = "perPage";
+
+	private final GraphQLSchema schema;
+
+	private final Map<String, Object> variables;
+
+	private final Map<String, FragmentDefinition> fragments = new HashMap<>();
+
+	private final Set<String> visitingFragments = new HashSet<>();
+
+	private int maxDepth = 0;
+
+	private QueryCostCalculator(GraphQLSchema schema, Document document, Map<String, Object> variables) {
+		this.schema = schema;
+		this.variables = variables;
+		for (Definition definition : document.getDefinitions()) {
+			if (definition instanceof FragmentDefinition) {
+				FragmentDefinition fragment = (FragmentDefinition) definition;
+				fragments.put(fragment.getName(), fragment);
+			}
+		}
+	}
+
+	/**
+	 * Estimate the cost of the operation of the given document.
+	 *
+	 * @param schema
+	 *            Schema which is used to determine the types of the fields
+	 * @param document
+	 *            Parsed query
+	 * @param operationName
+	 *            Name of the operation to be executed. The first operation will be used if no name has been specified
+	 * @param variables
+	 *            Variables of the query which may contain the requested page sizes
+	 * @return Estimated cost or null if the document contains no matching operation
+	 */
+	public static QueryCost calculate(GraphQLSchema schema, Document document, String operationName, Map<String, Object> variables) {
+		for (Definition definition : document.getDefinitions()) {
+			if (definition instanceof OperationDefinition) {
+				OperationDefinition operation = (OperationDefinition) definition;
+				if (operationName == null || operationName.equals(operation.getName())) {
+					QueryCostCalculator calculator = new QueryCostCalculator(schema, document, variables);
+					GraphQLFieldsContainer rootType = operation.getOperation() == OperationDefinition.Operation.MUTATION ? schema.getMutationType()
+						: schema.getQueryType();
+					long cost = calculator.cost(operation.getSelectionSet(), rootType, false, 1);
+					return new QueryCost(cost, calculator.maxDepth);
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Calculate the cost of the selection set.
+	 *
+	 * @param selectionSet
+	 * @param parentType
+	 *            Type which contains the selected fields
+	 * @param inPage
+	 *            Whether the selection set belongs to a paging field. The lists of a page are already covered by the page size.
+	 * @param depth
+	 *            Depth of the selected fields
+	 * @return
+	 */
+	private long cost(SelectionSet selectionSet, GraphQLType parentType, boolean inPage, int depth) {
+		if (selectionSet == null) {
+			return 0;
+		}
+		long cost = 0;
+		for (Selection selection : selectionSet.getSelections()) {
+			if (selection instanceof Field) {
+				cost = add(cost, fieldCost((Field) selection, parentType, inPage, depth));
+			} else if (selection instanceof InlineFragment) {
+				InlineFragment fragment = (InlineFragment) selection;
+				GraphQLType type = fragment.getTypeCondition() == null ? parentType : schema.getType(fragment.getTypeCondition().getName());
+				cost = add(cost, cost(fragment.getSelectionSet(), type, inPage, depth));
+			} else if (selection instanceof FragmentSpread) {
+				String name = ((FragmentSpread) selection).getName();
+				FragmentDefinition fragment = fragments.get(name);
+				// Cyclic fragments are invalid and will be rejected by the validation
+				if (fragment != null && visitingFragments.add(name)) {
+					GraphQLType type = schema.getType(fragment.getTypeCondition().getName());
+					cost = add(cost, cost(fragment.getSelectionSet(), type, inPage, depth));
+					visitingFragments.remove(name);
+				}
+			}
+		}
+		return cost;
+	}
+
+	private long fieldCost(Field field, GraphQLType parentType, boolean inPage, int depth) {
+		if (field.getName().startsWith("__") || !(parentType instanceof GraphQLFieldsContainer)) {
+			return SCALAR_FIELD_WEIGHT;
+		}
+		GraphQLFieldDefinition definition = ((GraphQLFieldsContainer) parentType).getFieldDefinition(field.getName());
+		if (definition == null) {
+			// Unknown fields will be rejected by the validation
+			return SCALAR_FIELD_WEIGHT;
+		}
+		maxDepth = Math.max(maxDepth, depth);
+		if (field.getSelectionSet() == null) {
+			return SCALAR_FIELD_WEIGHT;
+		}
+
+		boolean isPage = definition.getArgument(PER_PAGE_ARGUMENT) != null;
+		long multiplier = 1;
+		if (isPage) {
+			multiplier = getPageSize(field);
+		} else if (!inPage && isList(definition.getType())) {
+			multiplier = DEFAULT_LIST_SIZE;
+		}
+		long childCost = cost(field.getSelectionSet(), unwrap(definition.getType()), isPage, depth + 1);
+		return add(ELEMENT_FIELD_WEIGHT, multiply(multiplier, childCost));
+	}
+
+	/**
+	 * Return the requested page size of the paging field.
+	 *
+	 * @param field
+	 * @return
+	 */
+	private long getPageSize(Field field) {
+		for (Argument argument : field.getArguments()) {
+			if (PER_PAGE_ARGUMENT.equals(argument.getName())) {
+				Value value = argument.getValue();
+				if (value instanceof IntValue) {
+					BigInteger perPage = ((IntValue) value).getValue();
+					return Math.max(1, perPage.min(BigInteger.valueOf(Long.MAX_VALUE)).longValue());
+				} else if (value instanceof VariableReference) {
+					Object perPage = variables.get(((VariableReference) value).getName());
+					if (perPage instanceof Number) {
+						return Math.max(1, ((Number) perPage).longValue());
+					}
+				}
+			}
+		}
+		return DEFAULT_PAGE_SIZE;
+	}
+
+	private static boolean isList(GraphQLType type) {
+		while (type instanceof GraphQLModifiedType) {
+			if (type instanceof GraphQLList) {
+				return true;
+			}
+			type = ((GraphQLModifiedType) type).getWrappedType();
+		}
+		return false;
+	}
+
+	private static GraphQLType unwrap(GraphQLOutputType type) {
+		GraphQLType unwrapped = type;
+		while (unwrapped instanceof GraphQLModifiedType) {
+			unwrapped = ((GraphQLModifiedType) unwrapped).getWrappedType();
+		}
+		return unwrapped;
+	}
+
+	private static long add(long a, long b) {
+		long sum = a + b;
+		return sum < 0 ? Long.MAX_VALUE : sum;
+	}
+
+	private static long multiply(long a, long b) {
+		if (a != 0 && b > Long.MAX_VALUE / a) {
+			return Long.MAX_VALUE;
+		}
+		return a * b;
+	}
+
+	/**
+	 * Estimated cost and nesting depth of a query.
+	 */
+	public static final class QueryCost {
+
+		private final long cost;
+
+		private final int depth;
+
+		QueryCost(long cost, int depth) {
+			this.cost = cost;
+			this.depth = depth;
+		}
+
+		/**
+		 * Return the estimated cost.
+		 *
+		 * @return
+		 */
+		public long getCost() {
+			return cost;
+		}
+
+		/**
+		 * Return the maximum nesting depth of the fields.
+		 *
+		 * @return
+		 */
+		public int getDepth() {
+			return depth;
+		}
+	}
+}
@@ -6,6 +6,7 @@ import com.gentics.mesh.core.data.Branch;
 import com.gentics.mesh.core.data.GraphFieldContainer;
 import com.gentics.mesh.core.data.MeshCoreVertex;
 import com.gentics.mesh.core.data.MeshVertex;
+import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.node.NodeContent;
 import com.gentics.mesh.core.data.page.Page;
 import com.gentics.mesh.core.data.page.impl.DynamicStreamPageImpl;
@@ -17,6 +18,7 @@ import com.gentics.mesh.core.rest.common.RestModel;
 import com.gentics.mesh.error.MeshConfigurationException;
 import com.gentics.mesh.graphql.context.GraphQLContext;
 import com.gentics.mesh.graphql.filter.NodeFilter;
+import com.gentics.mesh.graphql.filter.NodeFilterPlanner;
 import com.gentics.mesh.parameter.LinkType;
 import com.gentics.mesh.parameter.PagingParameters;
 import com.gentics.mesh.parameter.impl.PagingParametersImpl;
@@ -37,6 +39,7 @@ import java.util.Map;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -77,6 +80,11 @@ public abstract class AbstractTypeProvider {
 
 		// #perPage
 		arguments.add(newArgument().name("perPage").description("Max count of elements per page").type(GraphQLLong).build());
+
+		// #after
+		arguments.add(newArgument().name("after").description(
+			"Uuid of the last element of the previous page. The page will start after this element and the page argument will be ignored. The total count will not be determined in this case.")
+			.type(GraphQLString).build());
 		return arguments;
 	}
 
@@ -390,7 +398,9 @@ public abstract class AbstractTypeProvider {
 	 * @return Loaded paging parameters
 	 */
 	protected PagingParameters getPagingInfo(DataFetchingEnvironment env) {
-		PagingParameters parameters = new PagingParametersImpl();
+		GraphQLContext gc = env.getContext();
+		// The deadline of the query also stops the iteration of the page
+		PagingParametersImpl parameters = new PagingParametersImpl().setDeadline(gc.getDeadline());
 		Long page = env.getArgument("page");
 		if (page != null) {
 			parameters.setPage(page);
@@ -399,6 +409,10 @@ public abstract class AbstractTypeProvider {
 		if (perPage != null) {
 			parameters.setPerPage(perPage);
 		}
+		String after = env.getArgument("after");
+		if (after != null) {
+			parameters.setAfter(after);
+		}
 		parameters.validate();
 		return parameters;
 	}
@@ -416,24 +430,38 @@ public abstract class AbstractTypeProvider {
 
 		List<String> languageTags = getLanguageArgument(env);
 
-		Stream<NodeContent> contents = nodeRoot.findAllStream(gc)
-			// Now lets try to load the containers for those found nodes - apply the language fallback
-			.map(node -> new NodeContent(node, node.findVersion(gc, languageTags), languageTags))
-			// Filter nodes without a container
-			.filter(content -> content.getContainer() != null);
+		// Use the indices to narrow down the nodes for selective filters. The filter is still applied to all found nodes.
+		Stream<? extends Node> nodes = NodeFilterPlanner.findCandidates(gc, env.getArgument("filter"));
+		if (nodes == null) {
+			nodes = nodeRoot.findAllStream(gc);
+		}
 
-		return applyNodeFilter(env, contents);
+		return applyNodeFilter(env, nodes, languageTags);
 	}
 
-	protected DynamicStreamPageImpl<NodeContent> applyNodeFilter(DataFetchingEnvironment env, Stream<? extends NodeContent> stream) {
+	/**
+	 * Load the containers of the nodes and apply the filter of the request. The language fallback is applied when loading the containers and nodes without
+	 * a matching container are omitted. The containers are only loaded for the nodes after the paging cursor.
+	 *
+	 * @param env
+	 *            the environment of the request
+	 * @param nodes
+	 *            the nodes to be paged
+	 * @param languageTags
+	 *            the languages of the containers
+	 * @return the filtered nodes
+	 */
+	protected DynamicStreamPageImpl<NodeContent> applyNodeFilter(DataFetchingEnvironment env, Stream<? extends Node> nodes, List<String> languageTags) {
 		Map<String, ?> filterArgument = env.getArgument("filter");
 		PagingParameters pagingInfo = getPagingInfo(env);
 		GraphQLContext gc = env.getContext();
 
+		// Filter nodes without a container
+		Predicate<NodeContent> filter = content -> content.getContainer() != null;
 		if (filterArgument != null) {
-			return new DynamicStreamPageImpl<>(stream, pagingInfo, NodeFilter.filter(gc).createPredicate(filterArgument));
-		} else {
-			return new DynamicStreamPageImpl<>(stream, pagingInfo);
+			filter = filter.and(NodeFilter.filter(gc).createPredicate(filterArgument));
 		}
+		Function<Node, NodeContent> toContent = node -> new NodeContent(node, node.findVersion(gc, languageTags), languageTags);
+		return new DynamicStreamPageImpl<>(nodes, toContent, pagingInfo, filter);
 	}
 }
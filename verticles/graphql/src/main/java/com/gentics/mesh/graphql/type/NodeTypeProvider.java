@@ -35,6 +35,7 @@ import com.gentics.mesh.core.data.page.Page;
 import com.gentics.mesh.core.rest.error.GenericRestException;
 import com.gentics.mesh.error.MeshConfigurationException;
 import com.gentics.mesh.graphql.context.GraphQLContext;
+import com.gentics.mesh.graphql.dataloader.NodeDataLoader;
 import com.gentics.mesh.graphql.filter.NodeFilter;
 import com.gentics.mesh.graphql.type.field.NodeFieldTypeProvider;
 import com.gentics.mesh.parameter.PagingParameters;
@@ -48,6 +49,8 @@ import graphql.schema.GraphQLObjectType;
 import graphql.schema.GraphQLObjectType.Builder;
 import graphql.schema.GraphQLTypeReference;
 
+import org.dataloader.DataLoader;
+
 /**
  * Type provider for the node type. Internally this will map partially to {@link Node} and {@link NodeGraphFieldContainer} vertices.
  */
@@ -89,16 +92,10 @@ public class NodeTypeProvider extends AbstractTypeProvider {
 			return null;
 		}
 		GraphQLContext gc = env.getContext();
-		String uuid = gc.getBranch().getUuid();
-		Node parentNode = content.getNode().getParentNode(uuid);
-		// The project root node can have no parent. Lets check this and exit early.
-		if (parentNode == null) {
-			return null;
-		}
-		gc.requiresPerm(parentNode, READ_PERM, READ_PUBLISHED_PERM);
-
-		List<String> languageTags =  getLanguageArgument(env, content);
-		return new NodeContent(parentNode, parentNode.findVersion(gc, languageTags), languageTags);
+		List<String> languageTags = getLanguageArgument(env, content);
+		DataLoader<NodeDataLoader.Key, NodeContent> parentLoader = gc.getDataLoader(NodeDataLoader.PARENT_LOADER_KEY);
+		// The project root node can have no parent. The loader checks the permissions of the parents.
+		return parentLoader.load(new NodeDataLoader.Key(content.getNode(), languageTags));
 	}
 
 	public Object nodeLanguageFetcher(DataFetchingEnvironment env) {
@@ -135,10 +132,13 @@ public class NodeTypeProvider extends AbstractTypeProvider {
 			return null;
 		}
 
-		return content.getNode().getBreadcrumbNodes(gc).stream().map(node -> {
-			List<String> languageTags =  getLanguageArgument(env, content);
-			return new NodeContent(node, node.findVersion(gc, languageTags), languageTags);
-		}).collect(Collectors.toList());
+		List<String> languageTags = getLanguageArgument(env, content);
+		List<NodeDataLoader.Key> keys = content.getNode().getBreadcrumbNodes(gc).stream()
+			.map(node -> new NodeDataLoader.Key(node, languageTags))
+			.collect(Collectors.toList());
+		// The ancestors are shared by many nodes and are thus only loaded once
+		DataLoader<NodeDataLoader.Key, NodeContent> contentLoader = gc.getDataLoader(NodeDataLoader.CONTENT_LOADER_KEY);
+		return contentLoader.loadMany(keys);
 	}
 
 	public Object languagesFetcher(DataFetchingEnvironment env) {
@@ -247,11 +247,7 @@ public class NodeTypeProvider extends AbstractTypeProvider {
 
 			List<String> languageTags = getLanguageArgument(env, content);
 
-			Stream<NodeContent> nodes = content.getNode().getChildrenStream(gc)
-				.map(item -> new NodeContent(item, item.findVersion(gc, languageTags), languageTags))
-				.filter(item -> item.getContainer() != null);
-
-			return applyNodeFilter(env, nodes);
+			return applyNodeFilter(env, content.getNode().getChildrenStream(gc), languageTags);
 		}, NODE_PAGE_TYPE_NAME)
 			.argument(createLanguageTagArg(false))
 			.argument(NodeFilter.filter(context).createFilterArgument()));
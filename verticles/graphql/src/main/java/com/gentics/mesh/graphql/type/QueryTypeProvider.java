@@ -34,6 +34,7 @@ import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.StreamSupport;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -397,7 +398,8 @@ public class QueryTypeProvider extends AbstractTypeProvider {
 			return env.getSource();
 		}));
 
-		type.field(newFieldDefinition().name("totalCount").description("Return the total item count which the resource could provide.")
+		type.field(newFieldDefinition().name("totalCount").description(
+			"Return the total item count which the resource could provide. The count is -1 if the page was loaded using the after argument.")
 			.dataFetcher(env -> {
 				Page<?> page = env.getSource();
 				return page.getTotalElements();
@@ -408,7 +410,8 @@ public class QueryTypeProvider extends AbstractTypeProvider {
 			return page.getNumber();
 		}).type(GraphQLLong));
 
-		type.field(newFieldDefinition().name("pageCount").description("Return the total amount of pages which the resource can provide.")
+		type.field(newFieldDefinition().name("pageCount").description(
+			"Return the total amount of pages which the resource can provide. The count is -1 if the page was loaded using the after argument.")
 			.dataFetcher(env -> {
 				Page<?> page = env.getSource();
 				return page.getPageCount();
@@ -442,6 +445,29 @@ public class QueryTypeProvider extends AbstractTypeProvider {
 		return type.build();
 	}
 
+	/**
+	 * Return the key which identifies the schema that {@link #getRootSchema(GraphQLContext)} builds for the given context. The schema only depends on the
+	 * project and the latest versions of the schemas and microschemas which are assigned to the project. Schema changes thus result in a different key.
+	 * 
+	 * @param context
+	 * @return
+	 */
+	public String getRootSchemaKey(GraphQLContext context) {
+		Project project = context.getProject();
+		StringBuilder key = new StringBuilder(project.getUuid());
+		key.append(":");
+		StreamSupport.stream(project.getSchemaContainerRoot().findAll().spliterator(), false)
+			.map(schema -> schema.getLatestVersion().getUuid())
+			.sorted()
+			.forEachOrdered(uuid -> key.append(uuid).append(","));
+		key.append(":");
+		StreamSupport.stream(project.getMicroschemaContainerRoot().findAll().spliterator(), false)
+			.map(microschema -> microschema.getLatestVersion().getUuid())
+			.sorted()
+			.forEachOrdered(uuid -> key.append(uuid).append(","));
+		return key.toString();
+	}
+
 	/**
 	 * Construct the root schema.
 	 * 
@@ -2,8 +2,7 @@ package com.gentics.mesh.graphql.type;
 
 import com.gentics.mesh.core.data.ContainerType;
 import com.gentics.mesh.core.data.NamedElement;
-import com.gentics.mesh.core.data.NodeGraphFieldContainer;
-import com.gentics.mesh.core.data.node.NodeContent;
+import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.schema.SchemaContainer;
 import com.gentics.mesh.core.data.schema.SchemaContainerVersion;
 import com.gentics.mesh.core.rest.schema.SchemaModel;
@@ -88,17 +87,13 @@ public class SchemaTypeProvider extends AbstractTypeProvider {
 			GraphQLContext gc = env.getContext();
 			List<String> languageTags = getLanguageArgument(env);
 
-			Stream<? extends NodeContent> nodes = StreamSupport.stream(getSchemaContainerVersion(env).getNodes(
+			Stream<? extends Node> nodes = StreamSupport.stream(getSchemaContainerVersion(env).getNodes(
 					gc.getBranch().getUuid(),
 					gc.getUser(),
 					ContainerType.forVersion(gc.getVersioningParameters().getVersion())
-			).spliterator(), false)
-			.map(node -> {
-				NodeGraphFieldContainer container = node.findVersion(gc, languageTags);
-				return new NodeContent(node, container, languageTags);
-			});
+			).spliterator(), false);
 
-			return applyNodeFilter(env, nodes);
+			return applyNodeFilter(env, nodes, languageTags);
 		}, NODE_PAGE_TYPE_NAME).argument(NodeFilter.filter(context).createFilterArgument()));
 
 		Builder fieldListBuilder = newObject().name(SCHEMA_FIELD_TYPE).description("List of schema fields");
@@ -13,7 +13,6 @@ import java.util.stream.Collectors;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
-import com.gentics.mesh.core.data.NodeGraphFieldContainer;
 import com.gentics.mesh.core.data.Tag;
 import com.gentics.mesh.core.data.TagFamily;
 import com.gentics.mesh.core.data.node.Node;
@@ -21,11 +20,14 @@ import com.gentics.mesh.core.data.node.NodeContent;
 import com.gentics.mesh.core.data.page.TransformablePage;
 import com.gentics.mesh.core.data.page.impl.WrappedPageImpl;
 import com.gentics.mesh.graphql.context.GraphQLContext;
+import com.gentics.mesh.graphql.dataloader.NodeDataLoader;
 
 import graphql.schema.GraphQLObjectType;
 import graphql.schema.GraphQLObjectType.Builder;
 import graphql.schema.GraphQLTypeReference;
 
+import org.dataloader.DataLoader;
+
 @Singleton
 public class TagTypeProvider extends AbstractTypeProvider {
 
@@ -75,11 +77,11 @@ public class TagTypeProvider extends AbstractTypeProvider {
 					List<String> languageTags = getLanguageArgument(env);
 
 					// Transform the found nodes into contents
-					List<NodeContent> contents = nodes.getWrappedList().stream().map(node -> {
-						NodeGraphFieldContainer container = node.findVersion(gc, languageTags);
-						return new NodeContent(node, container, languageTags);
-					}).collect(Collectors.toList());
-					return new WrappedPageImpl<NodeContent>(contents, nodes);
+					List<NodeDataLoader.Key> keys = nodes.getWrappedList().stream()
+						.map(node -> new NodeDataLoader.Key(node, languageTags))
+						.collect(Collectors.toList());
+					DataLoader<NodeDataLoader.Key, NodeContent> contentLoader = gc.getDataLoader(NodeDataLoader.CONTENT_LOADER_KEY);
+					return contentLoader.loadMany(keys).thenApply(contents -> new WrappedPageImpl<NodeContent>(contents, nodes));
 				}));
 
 		return tagType.build();
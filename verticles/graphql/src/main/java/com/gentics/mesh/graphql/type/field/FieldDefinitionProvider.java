@@ -27,6 +27,7 @@ import com.gentics.mesh.core.rest.node.field.image.FocalPoint;
 import com.gentics.mesh.core.rest.schema.FieldSchema;
 import com.gentics.mesh.core.rest.schema.ListFieldSchema;
 import com.gentics.mesh.graphql.context.GraphQLContext;
+import com.gentics.mesh.graphql.dataloader.NodeDataLoader;
 import com.gentics.mesh.graphql.filter.NodeFilter;
 import com.gentics.mesh.graphql.type.AbstractTypeProvider;
 import com.gentics.mesh.parameter.LinkType;
@@ -37,18 +38,17 @@ import graphql.schema.GraphQLObjectType;
 import graphql.schema.GraphQLObjectType.Builder;
 import graphql.schema.GraphQLType;
 import graphql.schema.GraphQLTypeReference;
+import org.dataloader.DataLoader;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
-import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PUBLISHED_PERM;
 import static com.gentics.mesh.graphql.type.NodeTypeProvider.NODE_TYPE_NAME;
 import static com.gentics.mesh.graphql.type.field.MicronodeFieldTypeProvider.MICRONODE_TYPE_NAME;
 import static graphql.Scalars.GraphQLBigDecimal;
@@ -240,7 +240,6 @@ public class FieldDefinitionProvider extends AbstractTypeProvider {
 		GraphQLType type = getElementTypeOfList(schema);
 		graphql.schema.GraphQLFieldDefinition.Builder fieldType = newFieldDefinition().name(schema.getName()).description(schema.getLabel())
 			.type(new GraphQLList(type)).argument(createPagingArgs());
-		NodeFilter nodeFilter = NodeFilter.filter(context);
 
 		// Add link resolving arg to html and string lists
 		switch (schema.getListType()) {
@@ -249,7 +248,7 @@ public class FieldDefinitionProvider extends AbstractTypeProvider {
 			fieldType.argument(createLinkTypeArg());
 			break;
 		case "node":
-			fieldType.argument(nodeFilter.createFilterArgument());
+			fieldType.argument(NodeFilter.filter(context).createFilterArgument());
 			break;
 		}
 
@@ -302,25 +301,29 @@ public class FieldDefinitionProvider extends AbstractTypeProvider {
 					return null;
 				}
 				Map<String, ?> filterArgument = env.getArgument("filter");
-				Stream<NodeContent> nodes = nodeList.getList().stream().map(item -> {
-					Node node = item.getNode();
-					List<String> languageTags = Collections.emptyList();
-					if (container instanceof NodeGraphFieldContainer) {
-						languageTags = Arrays.asList(container.getLanguageTag());
-					} else {
-						// Other containers (e.g. micronodes do not have a language thus we can't use that language to define the loaded language variant. We
-						// thus fallback to the default mesh language.
-						String defaultLanguage = Mesh.mesh().getOptions().getDefaultLanguage();
-						languageTags = Arrays.asList(defaultLanguage);
+				// The schema is shared by multiple requests. The filter must thus be created for the context of the current request.
+				Predicate<NodeContent> filter = filterArgument != null ? NodeFilter.filter(gc).createPredicate(filterArgument) : null;
+				List<String> languageTags;
+				if (container instanceof NodeGraphFieldContainer) {
+					languageTags = Arrays.asList(container.getLanguageTag());
+				} else {
+					// Other containers (e.g. micronodes do not have a language thus we can't use that language to define the loaded language variant. We
+					// thus fallback to the default mesh language.
+					String defaultLanguage = Mesh.mesh().getOptions().getDefaultLanguage();
+					languageTags = Arrays.asList(defaultLanguage);
+				}
+				List<NodeDataLoader.Key> keys = nodeList.getList().stream()
+					.map(item -> new NodeDataLoader.Key(item.getNode(), languageTags))
+					.collect(Collectors.toList());
+				// TODO we need to add more assertions and check what happens if the itemContainer is null
+				DataLoader<NodeDataLoader.Key, NodeContent> contentLoader = gc.getDataLoader(NodeDataLoader.CONTENT_LOADER_KEY);
+				return contentLoader.loadMany(keys).thenApply(contents -> {
+					Stream<NodeContent> nodes = contents.stream();
+					if (filter != null) {
+						nodes = nodes.filter(filter);
 					}
-					// TODO we need to add more assertions and check what happens if the itemContainer is null
-					NodeGraphFieldContainer itemContainer = node.findVersion(gc, languageTags);
-					return new NodeContent(node, itemContainer, languageTags);
+					return nodes.collect(Collectors.toList());
 				});
-				if (filterArgument != null) {
-					nodes = nodes.filter(nodeFilter.createPredicate(filterArgument));
-				}
-				return nodes.collect(Collectors.toList());
 			case "micronode":
 				MicronodeGraphFieldList micronodeList = container.getMicronodeList(schema.getName());
 				if (micronodeList == null) {
@@ -391,10 +394,9 @@ public class FieldDefinitionProvider extends AbstractTypeProvider {
 					if (node != null) {
 						//Note that we would need to check for micronodes which are not language specific!
 						List<String> languageTags = getLanguageArgument(env, source);
-						// Check permissions for the linked node
-						gc.requiresPerm(node, READ_PERM, READ_PUBLISHED_PERM);
-						NodeGraphFieldContainer container = node.findVersion(gc, languageTags);
-						return new NodeContent(node, container, languageTags);
+						// The loader checks the permissions of the linked nodes
+						DataLoader<NodeDataLoader.Key, NodeContent> contentLoader = gc.getDataLoader(NodeDataLoader.READABLE_CONTENT_LOADER_KEY);
+						return contentLoader.load(new NodeDataLoader.Key(node, languageTags));
 					}
 				}
 				return null;